@@ -2,7 +2,7 @@ grammar JDQL;
 
 statement : select_statement | update_statement | delete_statement;
 
-select_statement : select_clause? from_clause? where_clause? orderby_clause?;
+select_statement : select_clause? from_clause? where_clause? groupby_clause? orderby_clause?;
 update_statement : UPDATE entity_name set_clause where_clause?;
 delete_statement : DELETE from_clause where_clause?;
 
@@ -14,14 +14,18 @@ set_clause : SET update_item (',' update_item)*;
 update_item : state_field_path_expression '=' (scalar_expression | 'NULL');
 
 select_clause : SELECT select_list;
-select_list
-    : state_field_path_expression (',' state_field_path_expression)*
-    | aggregate_expression
+select_list : select_item (',' select_item)*;
+select_item : aggregate_expression | state_field_path_expression;
+aggregate_expression
+    : COUNT '(' THIS ')'
+    | aggregate_function '(' state_field_path_expression ')'
     ;
-aggregate_expression : COUNT '(' THIS ')';
+aggregate_function : COUNT | SUM | AVG | MIN | MAX;
+
+groupby_clause : GROUP BY state_field_path_expression (',' state_field_path_expression)*;
 
 orderby_clause : ORDER BY orderby_item (',' orderby_item)*;
-orderby_item : state_field_path_expression (ASC | DESC);
+orderby_item : (aggregate_expression | state_field_path_expression) (ASC | DESC)?;
 
 conditional_expression
     // highest to lowest precedence
@@ -81,13 +85,15 @@ special_expression
     | 'FALSE'
     ;
 
-state_field_path_expression : IDENTIFIER ('.' IDENTIFIER)*;
+state_field_path_expression : identifier ('.' identifier)*;
+
+entity_name : identifier; // no ambiguity
 
-entity_name : IDENTIFIER; // no ambiguity
+enum_literal : identifier ('.' identifier)*; // ambiguity with state_field_path_expression resolvable semantically
 
-enum_literal : IDENTIFIER ('.' IDENTIFIER)*; // ambiguity with state_field_path_expression resolvable semantically
+input_parameter : ':' identifier | '?' INTEGER;
 
-input_parameter : ':' IDENTIFIER | '?' INTEGER;
+identifier : IDENTIFIER | SUM | AVG | MIN | MAX | GROUP; // the aggregate keywords are common names
 
 literal : STRING | INTEGER | DOUBLE;
 
@@ -99,12 +105,17 @@ FROM            : [fF][rR][oO][mM];
 WHERE           : [wW][hH][eE][rR][eE];
 SET             : [sS][eE][tT];
 ORDER           : [oO][rR][dD][eE][rR];
+GROUP           : [gG][rR][oO][uU][pP];
 BY              : [bB][yY];
 NOT             : [nN][oO][tT];
 IN              : [iI][nN];
 IS              : [iI][sS];
 NULL            : [nN][uU][lL][lL];
 COUNT           : [cC][oO][uU][nN][tT];
+SUM             : [sS][uU][mM];
+AVG             : [aA][vV][gG];
+MIN             : [mM][iI][nN];
+MAX             : [mM][aA][xX];
 TRUE            : [tT][rR][uU][eE];
 FALSE           : [fF][aA][lL][sS][eE];
 ASC             : [aA][sS][cC];
@@ -17,13 +17,17 @@
 module org.eclipse.jnosql.communication.core {
     requires microprofile.config.api;
     requires jakarta.json;
+    requires static jdk.jfr;
     exports org.eclipse.jnosql.communication;
+    exports org.eclipse.jnosql.communication.metrics;
     opens org.eclipse.jnosql.communication;
     opens org.eclipse.jnosql.communication.reader;
     opens org.eclipse.jnosql.communication.writer;
+    opens org.eclipse.jnosql.communication.metrics;
     uses org.eclipse.jnosql.communication.TypeReferenceReader;
     uses org.eclipse.jnosql.communication.ValueReader;
     uses org.eclipse.jnosql.communication.ValueWriter;
+    uses org.eclipse.jnosql.communication.metrics.DatabaseMetrics;
     provides org.eclipse.jnosql.communication.TypeReferenceReader with org.eclipse.jnosql.communication.reader.ListTypeReferenceReader,
             org.eclipse.jnosql.communication.reader.SetTypeReferenceReader,
             org.eclipse.jnosql.communication.reader.MapTypeReferenceReader,
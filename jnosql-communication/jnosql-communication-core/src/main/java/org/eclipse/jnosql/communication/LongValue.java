@@ -0,0 +1,67 @@
+/*
+ *
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication;
+
+import java.util.Objects;
+
+/**
+ * The {@link Value} of a {@code long} that keeps it unboxed, created by {@link Value#ofLong(long)}.
+ */
+record LongValue(long value) implements PrimitiveValue {
+
+    @Override
+    public Object get() {
+        return Long.valueOf(value);
+    }
+
+    @Override
+    public long getAsLong() {
+        return value;
+    }
+
+    @Override
+    public double getAsDouble() {
+        return value;
+    }
+
+    @Override
+    public int getAsInt() {
+        return (int) value;
+    }
+
+    @Override
+    public boolean isInstanceOf(Class<?> type) {
+        Objects.requireNonNull(type, "type is required");
+        return type.isAssignableFrom(Long.class);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof LongValue that) {
+            return value == that.value;
+        }
+        return o instanceof Value that && Long.valueOf(value).equals(that.get());
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+}
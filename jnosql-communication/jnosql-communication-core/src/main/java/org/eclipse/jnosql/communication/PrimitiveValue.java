@@ -0,0 +1,50 @@
+/*
+ *
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication;
+
+import java.util.Objects;
+
+/**
+ * The base of the {@link Value} implementations that hold a primitive without boxing it. The conversions to
+ * another type box the primitive and go through the same readers as {@link DefaultValue}.
+ */
+interface PrimitiveValue extends Value {
+
+    ValueReader SERVICE_PROVIDER = ValueReaderDecorator.getInstance();
+
+    TypeReferenceReader REFERENCE_READER = TypeReferenceReaderDecorator.getInstance();
+
+    @Override
+    default <T> T get(Class<T> type) {
+        Objects.requireNonNull(type, "type is required");
+        return SERVICE_PROVIDER.read(type, get());
+    }
+
+    @Override
+    default <T> T get(TypeSupplier<T> supplier) {
+        Objects.requireNonNull(supplier, "supplier is required");
+        if (REFERENCE_READER.test(supplier)) {
+            return REFERENCE_READER.convert(supplier, get());
+        }
+        throw new UnsupportedOperationException("The type " + supplier + " is not supported");
+    }
+
+    @Override
+    default boolean isNull() {
+        return false;
+    }
+}
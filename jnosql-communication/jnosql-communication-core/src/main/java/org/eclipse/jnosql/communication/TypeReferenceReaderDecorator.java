@@ -17,12 +17,19 @@
 package org.eclipse.jnosql.communication;
 
 
+import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.WeakHashMap;
 
 /**
- * Decorators of all {@link TypeReferenceReader}
+ * Decorators of all {@link TypeReferenceReader}. The reader of each {@link Type} is selected once and then kept
+ * by the type.
  *
  * @see ValueReader
  */
@@ -32,6 +39,12 @@ public final class TypeReferenceReaderDecorator implements TypeReferenceReader {
 
     private final List<TypeReferenceReader> readers = new ArrayList<>();
 
+    /**
+     * The reader of each type. The keys are weak, so the types of a class loader that is gone, e.g., of a redeployed
+     * application, do not stay in the cache.
+     */
+    private final Map<Type, Optional<TypeReferenceReader>> cache = Collections.synchronizedMap(new WeakHashMap<>());
+
     {
         ServiceLoader.load(TypeReferenceReader.class).stream()
                 .map(ServiceLoader.Provider::get)
@@ -44,17 +57,34 @@ public final class TypeReferenceReaderDecorator implements TypeReferenceReader {
 
     @Override
     public boolean test(TypeSupplier type) {
-        return readers.stream().anyMatch(r -> r.test(type));
+        return reader(type).isPresent();
     }
 
     @Override
     public <T> T convert(TypeSupplier<T> typeReference, Object value) {
 
-        TypeReferenceReader valueReader = readers.stream().filter(r -> r.test(typeReference)).findFirst().
-                orElseThrow(() -> new UnsupportedOperationException("The type " + typeReference + " is not supported yet"));
+        TypeReferenceReader valueReader = reader(typeReference).orElseThrow(
+                () -> new UnsupportedOperationException("The type " + typeReference + " is not supported yet"));
         return valueReader.convert(typeReference, value);
     }
 
+    /**
+     * Returns the first reader that supports the type, so a caller that converts the same type many times, such
+     * as the metadata of a field, can select it once instead of at each {@link #convert(TypeSupplier, Object)}.
+     *
+     * @param type the type
+     * @return the reader or {@link Optional#empty()} when no reader supports the type
+     * @throws NullPointerException when type is null
+     */
+    public Optional<TypeReferenceReader> reader(TypeSupplier<?> type) {
+        Objects.requireNonNull(type, "type is required");
+        Type key = type.get();
+        if (key == null) {
+            return readers.stream().filter(r -> r.test(type)).findFirst();
+        }
+        return cache.computeIfAbsent(key, k -> readers.stream().filter(r -> r.test(type)).findFirst());
+    }
+
     @Override
     public String toString() {
         return "TypeReferenceReaderDecorator{" + "readers=" + readers +
@@ -78,6 +78,54 @@ public interface Value {
      */
     boolean isNull();
 
+    /**
+     * Returns the value as a {@code long}, without boxing it when the value holds a primitive.
+     *
+     * @return the value converted to {@code long}
+     * @throws NullPointerException          when the value is null
+     * @throws UnsupportedOperationException when the value cannot be converted
+     * @see Value#ofLong(long)
+     */
+    default long getAsLong() {
+        return get(Long.class);
+    }
+
+    /**
+     * Returns the value as a {@code double}, without boxing it when the value holds a primitive.
+     *
+     * @return the value converted to {@code double}
+     * @throws NullPointerException          when the value is null
+     * @throws UnsupportedOperationException when the value cannot be converted
+     * @see Value#ofDouble(double)
+     */
+    default double getAsDouble() {
+        return get(Double.class);
+    }
+
+    /**
+     * Returns the value as an {@code int}, without boxing it when the value holds a primitive.
+     *
+     * @return the value converted to {@code int}
+     * @throws NullPointerException          when the value is null
+     * @throws UnsupportedOperationException when the value cannot be converted
+     * @see Value#ofInt(int)
+     */
+    default int getAsInt() {
+        return get(Integer.class);
+    }
+
+    /**
+     * Returns the value as a {@code boolean}, without boxing it when the value holds a primitive.
+     *
+     * @return the value converted to {@code boolean}
+     * @throws NullPointerException          when the value is null
+     * @throws UnsupportedOperationException when the value cannot be converted
+     * @see Value#ofBoolean(boolean)
+     */
+    default boolean getAsBoolean() {
+        return get(Boolean.class);
+    }
+
 
     /**
      * Creates a new {@link Value} instance.
@@ -92,6 +140,49 @@ public interface Value {
         return new DefaultValue(value);
     }
 
+    /**
+     * Creates a new {@link Value} that holds the {@code long} without boxing it, e.g., for the numeric fields of
+     * time series. It is equal to {@code Value.of(value)}.
+     *
+     * @param value the value
+     * @return a {@link Value} instance of the primitive
+     */
+    static Value ofLong(long value) {
+        return new LongValue(value);
+    }
+
+    /**
+     * Creates a new {@link Value} that holds the {@code double} without boxing it. It is equal to
+     * {@code Value.of(value)}.
+     *
+     * @param value the value
+     * @return a {@link Value} instance of the primitive
+     */
+    static Value ofDouble(double value) {
+        return new DoubleValue(value);
+    }
+
+    /**
+     * Creates a new {@link Value} that holds the {@code int} without boxing it. It is equal to
+     * {@code Value.of(value)}.
+     *
+     * @param value the value
+     * @return a {@link Value} instance of the primitive
+     */
+    static Value ofInt(int value) {
+        return new IntValue(value);
+    }
+
+    /**
+     * Creates a new {@link Value} that holds the {@code boolean}. It is equal to {@code Value.of(value)}.
+     *
+     * @param value the value
+     * @return a {@link Value} instance of the primitive
+     */
+    static Value ofBoolean(boolean value) {
+        return new BooleanValue(value);
+    }
+
     /**
      * Creates and returns a {@link Value} instance representing a null value.
      * This method provides a convenient way to obtain a {@link Value} instance that encapsulates a null value.
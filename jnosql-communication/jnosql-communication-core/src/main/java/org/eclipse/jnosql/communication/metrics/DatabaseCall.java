@@ -0,0 +1,70 @@
+/*
+ *
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.metrics;
+
+/**
+ * A started call into a database, recorded as a {@link DatabaseCallEvent} when the JDK Flight Recorder is
+ * available. This type does not depend on the {@code jdk.jfr} module, so the callers keep working on a runtime
+ * without it.
+ *
+ * <pre>{@code
+ * DatabaseCall call = DatabaseCall.start();
+ * var result = manager.insert(entity);
+ * call.commit(manager.name(), entity.name(), DatabaseOperation.INSERT, 1);
+ * }</pre>
+ */
+public interface DatabaseCall {
+
+    /**
+     * The call that records nothing, returned by {@link #start()} when the JDK Flight Recorder is not available.
+     */
+    DatabaseCall NONE = (database, entity, operation, rows, failed) -> {
+    };
+
+    /**
+     * Commits the call when it is recorded.
+     *
+     * @param database  the database name
+     * @param entity    the entity name
+     * @param operation the operation
+     * @param rows      either the rows returned or the batch size
+     * @param failed    true when the call threw an exception
+     */
+    void commit(String database, String entity, DatabaseOperation operation, long rows, boolean failed);
+
+    /**
+     * Commits a call that succeeded when it is recorded.
+     *
+     * @param database  the database name
+     * @param entity    the entity name
+     * @param operation the operation
+     * @param rows      either the rows returned or the batch size
+     */
+    default void commit(String database, String entity, DatabaseOperation operation, long rows) {
+        commit(database, entity, operation, rows, false);
+    }
+
+    /**
+     * Starts a call: either a {@link DatabaseCallEvent} or {@link #NONE} when the JDK Flight Recorder is not
+     * available.
+     *
+     * @return the started call
+     */
+    static DatabaseCall start() {
+        return FlightRecorderEvents.isAvailable() ? DatabaseCallEvent.start() : NONE;
+    }
+}
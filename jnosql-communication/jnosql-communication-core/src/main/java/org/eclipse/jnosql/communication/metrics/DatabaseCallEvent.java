@@ -0,0 +1,92 @@
+/*
+ *
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The JDK Flight Recorder event of a call into a database. The event is started before the call and committed
+ * once it is done; when the event is disabled, the fields are never filled, so it costs only the
+ * {@link #shouldCommit()} check. The callers start it through {@link DatabaseCall#start()}, so this class is
+ * never loaded when the {@code jdk.jfr} module is missing.
+ */
+@Name(DatabaseCallEvent.NAME)
+@Label("Database Call")
+@Category({"Eclipse JNoSQL", "Database"})
+@Description("A call into the database through a manager")
+@StackTrace(false)
+public final class DatabaseCallEvent extends Event implements DatabaseCall {
+
+    /**
+     * The event name, as used at the JFR configuration.
+     */
+    public static final String NAME = "org.eclipse.jnosql.DatabaseCall";
+
+    @Label("Database")
+    private String database;
+
+    @Label("Entity")
+    private String entity;
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Rows")
+    @Description("Either the rows returned or the batch size")
+    private long rows;
+
+    @Label("Failed")
+    @Description("Whether the call threw an exception, e.g. a timeout")
+    private boolean failed;
+
+    /**
+     * Commits the event when it is enabled and above its threshold.
+     *
+     * @param database  the database name
+     * @param entity    the entity name
+     * @param operation the operation
+     * @param rows      either the rows returned or the batch size
+     * @param failed    true when the call threw an exception
+     */
+    @Override
+    public void commit(String database, String entity, DatabaseOperation operation, long rows, boolean failed) {
+        if (shouldCommit()) {
+            this.database = database;
+            this.entity = entity;
+            this.operation = operation.name();
+            this.rows = rows;
+            this.failed = failed;
+            commit();
+        }
+    }
+
+    /**
+     * Creates the event and begins its timing.
+     *
+     * @return the started event
+     */
+    public static DatabaseCallEvent start() {
+        DatabaseCallEvent event = new DatabaseCallEvent();
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ *
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.metrics;
+
+import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The SPI that receives the measures of the calls into a database. Exporters, such as Micrometer or
+ * MicroProfile Metrics, implement this interface and register it through {@link ServiceLoader}.
+ *
+ * <p>The {@link #record(String, String, DatabaseOperation, long, long)} method is called in the request path,
+ * so the implementations should neither block nor allocate.</p>
+ *
+ * @see HistogramDatabaseMetrics
+ */
+public interface DatabaseMetrics {
+
+    /**
+     * Checks whether the measures should be taken. The managers are not decorated when it returns false.
+     *
+     * @return true when enabled
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Records a call into the database.
+     *
+     * @param database      the database name
+     * @param entity        the entity name, or the bucket name on key-value databases
+     * @param operation     the operation
+     * @param durationNanos the duration of the call in nanoseconds
+     * @param rows          either the number of rows returned or the batch size, see {@link DatabaseOperation}
+     */
+    void record(String database, String entity, DatabaseOperation operation, long durationNanos, long rows);
+
+    /**
+     * Records a call into the database that either succeeded or failed, e.g. the driver threw an exception or
+     * timed out. By default, a failed call is recorded as any other, so the latency includes the failures;
+     * implementations that track the failures apart override this method.
+     *
+     * @param database      the database name
+     * @param entity        the entity name, or the bucket name on key-value databases
+     * @param operation     the operation
+     * @param durationNanos the duration of the call in nanoseconds
+     * @param rows          either the number of rows returned or the batch size, see {@link DatabaseOperation}
+     * @param failed        true when the call threw an exception
+     */
+    default void record(String database, String entity, DatabaseOperation operation, long durationNanos, long rows,
+                        boolean failed) {
+        record(database, entity, operation, durationNanos, rows);
+    }
+
+    /**
+     * Decorates a lazy result, so the call is recorded once the stream is either exhausted or closed, whichever
+     * comes first, using the time since {@code start} as the duration and the consumed elements as the rows.
+     * When reading the stream throws an exception, the call is recorded as failed.
+     * A stream that is neither exhausted nor closed is not recorded, so a caller that stops reading early, e.g.
+     * with an iterator, should close it.
+     *
+     * @param stream    the result
+     * @param start     the {@link System#nanoTime()} at the beginning of the call
+     * @param database  the database name
+     * @param entity    the entity name
+     * @param operation the operation
+     * @param <T>       the element type
+     * @return the measured stream
+     * @throws NullPointerException when stream is null
+     */
+    default <T> Stream<T> measure(Stream<T> stream, long start, String database, String entity,
+                                  DatabaseOperation operation) {
+        Objects.requireNonNull(stream, "stream is required");
+        var spliterator = new MeasuredSpliterator<>(stream.spliterator(),
+                (rows, failed) -> record(database, entity, operation, System.nanoTime() - start, rows, failed));
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            spliterator.finish();
+            stream.close();
+        });
+    }
+
+    /**
+     * Returns the first {@link DatabaseMetrics} found by {@link ServiceLoader}, or a no-op instance when there is none.
+     *
+     * @return the {@link DatabaseMetrics} instance
+     */
+    static DatabaseMetrics getMetrics() {
+        return ServiceLoader.load(DatabaseMetrics.class)
+                .stream()
+                .map(ServiceLoader.Provider::get)
+                .findFirst()
+                .orElse(NoopDatabaseMetrics.INSTANCE);
+    }
+
+    /**
+     * Returns a {@link DatabaseMetrics} that ignores every measure.
+     *
+     * @return the no-op instance
+     */
+    static DatabaseMetrics noop() {
+        return NoopDatabaseMetrics.INSTANCE;
+    }
+}
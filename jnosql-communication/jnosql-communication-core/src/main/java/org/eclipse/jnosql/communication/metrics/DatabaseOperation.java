@@ -0,0 +1,55 @@
+/*
+ *
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.metrics;
+
+/**
+ * The operations recorded by a {@link DatabaseMetrics}.
+ */
+public enum DatabaseOperation {
+    /**
+     * An insert of one or more entities; the rows are the batch size.
+     */
+    INSERT,
+    /**
+     * An update of one or more entities; the rows are the batch size.
+     */
+    UPDATE,
+    /**
+     * A delete either by query or by keys; the rows are the number of keys, or zero for a query.
+     */
+    DELETE,
+    /**
+     * A select; the rows are the number of entities the caller consumed from the result.
+     */
+    SELECT,
+    /**
+     * A count query.
+     */
+    COUNT,
+    /**
+     * An exists query.
+     */
+    EXISTS,
+    /**
+     * A put of one or more key-value entities; the rows are the batch size.
+     */
+    PUT,
+    /**
+     * A get of one or more keys; the rows are the number of values found.
+     */
+    GET
+}
@@ -0,0 +1,58 @@
+/*
+ *
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.metrics;
+
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Checks, once, whether the JDK Flight Recorder events can be created. The {@code jdk.jfr} module is optional:
+ * a runtime image might not include it, and then loading any event class fails. So the callers start events
+ * through a neutral type, such as {@link DatabaseCall#start()}, that only touches the event class when this
+ * check succeeds.
+ */
+public final class FlightRecorderEvents {
+
+    private static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent()
+            && FlightRecorderCheck.isAvailable();
+
+    private FlightRecorderEvents() {
+    }
+
+    /**
+     * Checks whether the {@code jdk.jfr} module is in the runtime and the JDK Flight Recorder is available in
+     * this JVM.
+     *
+     * @return true when available
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * Loaded only when the module is present, so {@link FlightRecorder} is never resolved otherwise.
+     */
+    private static final class FlightRecorderCheck {
+
+        private static boolean isAvailable() {
+            try {
+                return FlightRecorder.isAvailable();
+            } catch (RuntimeException | LinkageError exception) {
+                return false;
+            }
+        }
+    }
+}
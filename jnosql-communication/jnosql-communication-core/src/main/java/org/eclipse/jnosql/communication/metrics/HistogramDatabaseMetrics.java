@@ -0,0 +1,111 @@
+/*
+ *
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.metrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * A {@link DatabaseMetrics} that keeps the measures in memory as {@link OperationStatistics}, one per database,
+ * entity and operation. An exporter might either register it through {@link java.util.ServiceLoader} and read
+ * {@link #statistics()} periodically, or use it as a delegate of its own implementation.
+ *
+ * <p>After the first call of each entity and operation, recording does not allocate.</p>
+ */
+public class HistogramDatabaseMetrics implements DatabaseMetrics {
+
+    private static final int OPERATIONS = DatabaseOperation.values().length;
+
+    private final Map<String, Map<String, OperationStatistics[]>> databases = new ConcurrentHashMap<>();
+
+    @Override
+    public void record(String database, String entity, DatabaseOperation operation, long durationNanos, long rows) {
+        record(database, entity, operation, durationNanos, rows, false);
+    }
+
+    @Override
+    public void record(String database, String entity, DatabaseOperation operation, long durationNanos, long rows,
+                       boolean failed) {
+        Objects.requireNonNull(operation, "operation is required");
+        String databaseName = Objects.requireNonNullElse(database, "");
+        String entityName = Objects.requireNonNullElse(entity, "");
+        OperationStatistics[] statistics = databases
+                .computeIfAbsent(databaseName, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(entityName, k -> new OperationStatistics[OPERATIONS]);
+        OperationStatistics current = statistics[operation.ordinal()];
+        if (current == null) {
+            synchronized (statistics) {
+                current = statistics[operation.ordinal()];
+                if (current == null) {
+                    current = new OperationStatistics(databaseName, entityName, operation);
+                    statistics[operation.ordinal()] = current;
+                }
+            }
+        }
+        current.record(durationNanos, rows, failed);
+    }
+
+    /**
+     * Returns the statistics of an operation on an entity.
+     *
+     * @param database  the database name
+     * @param entity    the entity name
+     * @param operation the operation
+     * @return the statistics, or {@link Optional#empty()} when there was no call
+     * @throws NullPointerException when any parameter is null
+     */
+    public Optional<OperationStatistics> statistics(String database, String entity, DatabaseOperation operation) {
+        Objects.requireNonNull(database, "database is required");
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(operation, "operation is required");
+        return Optional.ofNullable(databases.get(database))
+                .map(m -> m.get(entity))
+                .map(s -> {
+                    synchronized (s) {
+                        return s[operation.ordinal()];
+                    }
+                });
+    }
+
+    /**
+     * Returns the statistics of every operation recorded so far.
+     *
+     * @return the statistics
+     */
+    public List<OperationStatistics> statistics() {
+        return databases.values().stream()
+                .flatMap(m -> m.values().stream())
+                .flatMap(s -> {
+                    synchronized (s) {
+                        return Stream.of(s.clone());
+                    }
+                })
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Removes every statistic.
+     */
+    public void reset() {
+        databases.clear();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ *
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.metrics;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A sequential {@link Spliterator} that counts the elements consumed and reports the count once,
+ * either at the end of the elements, when {@link #finish()} is called or, as failed, when the source throws.
+ */
+final class MeasuredSpliterator<T> implements Spliterator<T> {
+
+    private final Spliterator<T> spliterator;
+
+    private final Recorder recorder;
+
+    private long rows;
+
+    private boolean finished;
+
+    MeasuredSpliterator(Spliterator<T> spliterator, Recorder recorder) {
+        this.spliterator = spliterator;
+        this.recorder = recorder;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        boolean advanced;
+        try {
+            advanced = spliterator.tryAdvance(action);
+        } catch (RuntimeException exception) {
+            finish(true);
+            throw exception;
+        }
+        if (advanced) {
+            rows++;
+            return true;
+        }
+        finish();
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        try {
+            spliterator.forEachRemaining(t -> {
+                rows++;
+                action.accept(t);
+            });
+        } catch (RuntimeException exception) {
+            finish(true);
+            throw exception;
+        }
+        finish();
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return spliterator.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return spliterator.characteristics() & ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+    }
+
+    void finish() {
+        finish(false);
+    }
+
+    private void finish(boolean failed) {
+        if (!finished) {
+            finished = true;
+            recorder.record(rows, failed);
+        }
+    }
+
+    /**
+     * Receives the rows consumed and whether the source failed.
+     */
+    @FunctionalInterface
+    interface Recorder {
+
+        void record(long rows, boolean failed);
+    }
+}
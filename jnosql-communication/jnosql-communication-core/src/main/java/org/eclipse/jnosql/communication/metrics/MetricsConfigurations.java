@@ -0,0 +1,39 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.metrics;
+
+import java.util.function.Supplier;
+
+/**
+ * The properties used to configure the instrumentation of the database managers.
+ * It implements {@link Supplier} which returns the property value on the arrangement.
+ */
+public enum MetricsConfigurations implements Supplier<String> {
+
+    /**
+     * Decorates the managers to report each call as a {@link DatabaseCallEvent} even when no
+     * {@link DatabaseMetrics} is enabled. It is ignored when the JDK Flight Recorder is not available.
+     * By default, it is false.
+     */
+    JFR_ENABLED("jnosql.jfr.enabled");
+
+    private final String value;
+
+    MetricsConfigurations(String value) {
+        this.value = value;
+    }
+
+    @Override
+    public String get() {
+        return value;
+    }
+
+}
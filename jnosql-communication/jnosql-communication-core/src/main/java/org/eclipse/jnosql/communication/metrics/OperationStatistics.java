@@ -0,0 +1,139 @@
+/*
+ *
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The live statistics of an operation on an entity, recorded by {@link HistogramDatabaseMetrics}.
+ */
+public final class OperationStatistics {
+
+    private final String database;
+
+    private final String entity;
+
+    private final DatabaseOperation operation;
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    private final LatencyHistogram rows = new LatencyHistogram();
+
+    private final LongAdder totalRows = new LongAdder();
+
+    private final LongAdder failures = new LongAdder();
+
+    OperationStatistics(String database, String entity, DatabaseOperation operation) {
+        this.database = database;
+        this.entity = entity;
+        this.operation = operation;
+    }
+
+    void record(long durationNanos, long rows, boolean failed) {
+        this.latency.record(durationNanos);
+        this.rows.record(rows);
+        this.totalRows.add(rows);
+        if (failed) {
+            this.failures.increment();
+        }
+    }
+
+    /**
+     * Returns the database name.
+     *
+     * @return the database name
+     */
+    public String database() {
+        return database;
+    }
+
+    /**
+     * Returns the entity name.
+     *
+     * @return the entity name
+     */
+    public String entity() {
+        return entity;
+    }
+
+    /**
+     * Returns the operation.
+     *
+     * @return the operation
+     */
+    public DatabaseOperation operation() {
+        return operation;
+    }
+
+    /**
+     * Returns the number of calls, including the failed ones.
+     *
+     * @return the number of calls
+     */
+    public long count() {
+        return latency.count();
+    }
+
+    /**
+     * Returns the number of calls that threw an exception, e.g. a timeout.
+     *
+     * @return the number of failed calls
+     */
+    public long failures() {
+        return failures.sum();
+    }
+
+    /**
+     * Returns the sum of rows of every call, either returned or written.
+     *
+     * @return the total of rows
+     */
+    public long totalRows() {
+        return totalRows.sum();
+    }
+
+    /**
+     * Returns the latency histogram in nanoseconds.
+     *
+     * @return the latency histogram
+     */
+    public LatencyHistogram latency() {
+        return latency;
+    }
+
+    /**
+     * Returns the histogram of rows per call, which is the batch size for writes.
+     *
+     * @return the rows histogram
+     */
+    public LatencyHistogram rows() {
+        return rows;
+    }
+
+    @Override
+    public String toString() {
+        return "OperationStatistics{" +
+                "database='" + database + '\'' +
+                ", entity='" + entity + '\'' +
+                ", operation=" + operation +
+                ", count=" + count() +
+                ", totalRows=" + totalRows() +
+                ", failures=" + failures() +
+                ", latency=" + latency +
+                '}';
+    }
+}
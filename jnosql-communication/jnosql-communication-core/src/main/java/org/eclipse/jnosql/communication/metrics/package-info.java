@@ -0,0 +1,24 @@
+/*
+ *
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+
+/**
+ * The metrics SPI of the communication layer. The managers might be decorated to record, per entity and
+ * {@link org.eclipse.jnosql.communication.metrics.DatabaseOperation}, the latency and the number of rows of each
+ * call into a {@link org.eclipse.jnosql.communication.metrics.DatabaseMetrics} loaded from {@link java.util.ServiceLoader};
+ * when there is no provider, a no-op implementation is used.
+ */
+package org.eclipse.jnosql.communication.metrics;
@@ -26,20 +26,28 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
-
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.StreamSupport.stream;
+import java.util.function.Function;
 
 
 /**
- * The {@link TypeReferenceReader} to {@link java.util.List} and {@link java.lang.Iterable}
+ * The {@link TypeReferenceReader} to {@link java.util.List} and {@link java.lang.Iterable}. The reader of the
+ * element is selected once per {@link Type}.
  */
 public class ListTypeReferenceReader implements TypeReferenceReader {
 
     private static final ValueReader SERVICE_PROVIDER = ValueReaderDecorator.getInstance();
 
+    /**
+     * The converter of each element class; a {@link ClassValue} does not keep the class from being unloaded.
+     */
+    private static final ClassValue<Function<Object, Object>> CONVERTERS = new ClassValue<>() {
+        @Override
+        protected Function<Object, Object> computeValue(Class<?> type) {
+            return value -> SERVICE_PROVIDER.read(type, value);
+        }
+    };
+
     @Override
     public boolean test(TypeSupplier<?> typeReference) {
         Type type = typeReference.get();
@@ -53,16 +61,22 @@ public class ListTypeReferenceReader implements TypeReferenceReader {
         return false;
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <T> T convert(TypeSupplier<T> typeReference, Object value) {
         Type type = typeReference.get();
-        ParameterizedType parameterizedType = (ParameterizedType) type;
-        Class<?> classType = (Class<?>) parameterizedType.getActualTypeArguments()[0];
-        if (value instanceof Iterable iterable) {
-            return (T) stream(iterable.spliterator(), false).map(o -> SERVICE_PROVIDER.read(classType, o)).collect(toList());
+        Function<Object, Object> converter = CONVERTERS.get(
+                (Class<?>) ((ParameterizedType) type).getActualTypeArguments()[0]);
+        if (value instanceof Iterable<?> iterable) {
+            List<Object> elements = iterable instanceof Collection<?> collection ?
+                    new ArrayList<>(collection.size()) : new ArrayList<>();
+            for (Object element : iterable) {
+                elements.add(converter.apply(element));
+            }
+            return (T) elements;
         }
-        return (T) new ArrayList<>(Collections.singletonList(SERVICE_PROVIDER.read(classType, value)));
+        List<Object> elements = new ArrayList<>(1);
+        elements.add(converter.apply(value));
+        return (T) elements;
     }
-
-
 }
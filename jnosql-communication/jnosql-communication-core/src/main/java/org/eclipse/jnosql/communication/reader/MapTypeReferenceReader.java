@@ -25,25 +25,30 @@ import org.eclipse.jnosql.communication.ValueReaderDecorator;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
+import java.util.Iterator;
 import java.util.Map;
-import java.util.Optional;
 import java.util.function.Function;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 /**
- * The {@link TypeReferenceReader} to {@link Map}
+ * The {@link TypeReferenceReader} to {@link Map}. The readers of the key and of the value are selected once per
+ * {@link Type} and kept in a {@link MapConverter}, so each conversion is a single pass over the source.
  */
 @SuppressWarnings("unchecked")
 public class MapTypeReferenceReader implements TypeReferenceReader {
 
     private static final ValueReader SERVICE_PROVIDER = ValueReaderDecorator.getInstance();
-    private static final Predicate<Type> IS_CLASS = c -> c instanceof Class;
+
+    /**
+     * The converter of each key or value class; a {@link ClassValue} does not keep the class from being unloaded.
+     */
+    private static final ClassValue<Function<Object, Object>> ELEMENTS = new ClassValue<>() {
+        @Override
+        protected Function<Object, Object> computeValue(Class<?> type) {
+            return element(type);
+        }
+    };
 
     @Override
     public boolean test(TypeSupplier<?> typeReference) {
@@ -59,75 +64,89 @@ public class MapTypeReferenceReader implements TypeReferenceReader {
 
     @Override
     public <T> T convert(TypeSupplier<T> typeReference, Object value) {
-        Type type = typeReference.get();
-        ParameterizedType parameterizedType = (ParameterizedType) type;
-        Class<?> keyType = (Class<?>) parameterizedType.getActualTypeArguments()[0];
-        Class<?> valueType = (Class<?>) Optional.of(parameterizedType.getActualTypeArguments()[1])
-                .filter(IS_CLASS).orElse(Object.class);
-        return (T) getMap(keyType, valueType, value);
-
+        MapConverter converter = MapConverter.of(typeReference.get());
+        return (T) converter.apply(value);
     }
 
-    private <K, V> Map<K, V> getMap(Class<K> keyClass, Class<V> valueClass, Object value) {
-
-        if (Map.class.isInstance(value)) {
-            return convertToMap(keyClass, valueClass, value);
-        }
-        if (value instanceof Iterable<?> iterable) {
-            List<Object> collection = new ArrayList<>();
-            iterable.forEach(collection::add);
-            if (collection.isEmpty()) {
-                return Collections.emptyMap();
-            } else if (collection.stream().allMatch(Map.class::isInstance)) {
-                return collection.stream().map(m -> convertToMap(keyClass, valueClass, m)).map(Map::entrySet)
-                        .flatMap(Collection::stream)
-                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-            } else if (collection.stream().allMatch(Entry.class::isInstance)) {
-                Map<K, V> map = new HashMap<>();
-                collection.stream().forEach(e -> convertEntryToMap(e, map));
-                return map;
-            }
-        }
-        throw new UnsupportedOperationException("There is not supported convert" + value + " a not Map type.");
-    }
-
-    private <K, V> void convertEntryToMap(Object value, Map<K, V> map) {
+    private static void convertEntryToMap(Object value, Map<Object, Object> map) {
         Entry entry = Entry.class.cast(value);
         Object entryValue = entry.value().get();
         if (entryValue instanceof Entry) {
-            Map<String, Object> subMap = new HashMap<>();
-            Entry subEntry = Entry.class.cast(entryValue);
-            convertEntryToMap(subEntry, subMap);
-            map.put((K) entry.name(), (V) subMap);
+            Map<Object, Object> subMap = new HashMap<>();
+            convertEntryToMap(entryValue, subMap);
+            map.put(entry.name(), subMap);
         } else {
-            map.put((K) entry.name(), (V) entryValue);
+            map.put(entry.name(), entryValue);
         }
     }
 
-    private <K, V> Map<K, V> convertToMap(Class<K> keyClass, Class<V> valueClass, Object value) {
-        Map mapValue = Map.class.cast(value);
-        return (Map<K, V>) mapValue.keySet().stream()
-                .collect(Collectors.toMap(mapKeyElement(keyClass), mapValueElement(valueClass, mapValue)));
+    private static Function<Object, Object> element(Class<?> type) {
+        if (SERVICE_PROVIDER.test(type)) {
+            return value -> SERVICE_PROVIDER.read(type, value);
+        }
+        return Function.identity();
     }
 
-    private <K> Function mapKeyElement(Class<K> keyClass) {
-        return (keyElement) -> {
-            if (SERVICE_PROVIDER.test(keyClass)) {
-                return SERVICE_PROVIDER.read(keyClass, keyElement);
-            }
-            return keyElement;
-        };
+    private static UnsupportedOperationException unsupported(Object value) {
+        return new UnsupportedOperationException("There is not supported convert" + value + " a not Map type.");
     }
 
-    private <V> Function mapValueElement(Class<V> valueClass, Map mapValue) {
-        return (keyElement) -> {
-            Object valueElement = mapValue.get(keyElement);
-            if (SERVICE_PROVIDER.test(valueClass)) {
-                return SERVICE_PROVIDER.read(valueClass, valueElement);
+    /**
+     * The conversion into a {@code Map<K, V>}: either from a {@link Map}, from an {@link Iterable} of maps, that are
+     * merged, or from an {@link Iterable} of {@link Entry}.
+     */
+    private record MapConverter(Function<Object, Object> key, Function<Object, Object> value) {
+
+        static MapConverter of(Type type) {
+            Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+            Class<?> valueType = arguments[1] instanceof Class<?> valueClass ? valueClass : Object.class;
+            return new MapConverter(ELEMENTS.get((Class<?>) arguments[0]), ELEMENTS.get(valueType));
+        }
+
+        Map<Object, Object> apply(Object source) {
+            if (source instanceof Map<?, ?> map) {
+                return convert(map, new HashMap<>(capacity(map.size())));
             }
-            return valueElement;
-        };
-    }
+            if (source instanceof Iterable<?> iterable) {
+                Iterator<?> iterator = iterable.iterator();
+                if (!iterator.hasNext()) {
+                    return Collections.emptyMap();
+                }
+                Object first = iterator.next();
+                Map<Object, Object> result = new HashMap<>();
+                if (first instanceof Map<?, ?> map) {
+                    convert(map, result);
+                    while (iterator.hasNext()) {
+                        if (!(iterator.next() instanceof Map<?, ?> next)) {
+                            throw unsupported(source);
+                        }
+                        convert(next, result);
+                    }
+                    return result;
+                } else if (first instanceof Entry) {
+                    convertEntryToMap(first, result);
+                    while (iterator.hasNext()) {
+                        Object next = iterator.next();
+                        if (!(next instanceof Entry)) {
+                            throw unsupported(source);
+                        }
+                        convertEntryToMap(next, result);
+                    }
+                    return result;
+                }
+            }
+            throw unsupported(source);
+        }
 
+        private Map<Object, Object> convert(Map<?, ?> source, Map<Object, Object> target) {
+            for (Map.Entry<?, ?> entry : source.entrySet()) {
+                target.put(key.apply(entry.getKey()), value.apply(entry.getValue()));
+            }
+            return target;
+        }
 
+        private static int capacity(int size) {
+            return (int) (size / 0.75F) + 1;
+        }
+    }
 }
@@ -0,0 +1,93 @@
+/*
+ *
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class PrimitiveValueTest {
+
+    @Test
+    void shouldReturnLong() {
+        Value value = Value.ofLong(10L);
+        assertSoftly(soft -> {
+            soft.assertThat(value.get()).isEqualTo(10L);
+            soft.assertThat(value.getAsLong()).isEqualTo(10L);
+            soft.assertThat(value.getAsInt()).isEqualTo(10);
+            soft.assertThat(value.getAsDouble()).isEqualTo(10D);
+            soft.assertThat(value.get(String.class)).isEqualTo("10");
+            soft.assertThat(value.isInstanceOf(Number.class)).isTrue();
+            soft.assertThat(value.isInstanceOf(Integer.class)).isFalse();
+            soft.assertThat(value.isNull()).isFalse();
+        });
+    }
+
+    @Test
+    void shouldReturnDouble() {
+        Value value = Value.ofDouble(10.5);
+        assertSoftly(soft -> {
+            soft.assertThat(value.get()).isEqualTo(10.5);
+            soft.assertThat(value.getAsDouble()).isEqualTo(10.5);
+            soft.assertThat(value.getAsLong()).isEqualTo(10L);
+            soft.assertThat(value.get(Double.class)).isEqualTo(10.5);
+        });
+    }
+
+    @Test
+    void shouldReturnInt() {
+        Value value = Value.ofInt(10);
+        assertSoftly(soft -> {
+            soft.assertThat(value.get()).isEqualTo(10);
+            soft.assertThat(value.getAsInt()).isEqualTo(10);
+            soft.assertThat(value.get(new TypeReference<List<Integer>>() {
+            })).containsExactly(10);
+        });
+    }
+
+    @Test
+    void shouldReturnBoolean() {
+        Value value = Value.ofBoolean(true);
+        assertSoftly(soft -> {
+            soft.assertThat(value.get()).isEqualTo(true);
+            soft.assertThat(value.getAsBoolean()).isTrue();
+            soft.assertThat(value.get(String.class)).isEqualTo("true");
+        });
+    }
+
+    @Test
+    void shouldBeEqualsToDefaultValue() {
+        assertSoftly(soft -> {
+            soft.assertThat(Value.ofLong(10L)).isEqualTo(Value.of(10L)).hasSameHashCodeAs(Value.of(10L));
+            soft.assertThat(Value.of(10L)).isEqualTo(Value.ofLong(10L));
+            soft.assertThat(Value.ofDouble(1.5)).isEqualTo(Value.of(1.5)).hasSameHashCodeAs(Value.of(1.5));
+            soft.assertThat(Value.ofInt(1)).isEqualTo(Value.of(1)).isNotEqualTo(Value.ofLong(1L));
+            soft.assertThat(Value.ofBoolean(false)).isEqualTo(Value.of(false));
+        });
+    }
+
+    @Test
+    void shouldConvertDefaultValueToPrimitive() {
+        assertSoftly(soft -> {
+            soft.assertThat(Value.of("10").getAsLong()).isEqualTo(10L);
+            soft.assertThat(Value.of(10).getAsDouble()).isEqualTo(10D);
+            soft.assertThat(Value.of("true").getAsBoolean()).isTrue();
+        });
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ *
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class TypeReferenceReaderDecoratorTest {
+
+    private final TypeReferenceReaderDecorator decorator = TypeReferenceReaderDecorator.getInstance();
+
+    @Test
+    void shouldConvert() {
+        List<Integer> values = decorator.convert(new TypeReference<>() {
+        }, List.of("1", "2"));
+
+        assertThat(values).containsExactly(1, 2);
+    }
+
+    @Test
+    void shouldSelectReaderOncePerType() {
+        var first = decorator.reader(new TypeReference<Map<String, Integer>>() {
+        });
+        var second = decorator.reader(new TypeReference<Map<String, Integer>>() {
+        });
+
+        assertSoftly(softly -> {
+            softly.assertThat(first).isPresent();
+            softly.assertThat(second).containsSame(first.orElseThrow());
+        });
+    }
+
+    @Test
+    void shouldReturnEmptyWhenTypeIsNotSupported() {
+        TypeReference<Bean> type = new TypeReference<>() {
+        };
+
+        assertSoftly(softly -> {
+            softly.assertThat(decorator.reader(type)).isEmpty();
+            softly.assertThat(decorator.test(type)).isFalse();
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenTypeIsNotSupported() {
+        assertThatThrownBy(() -> decorator.convert(new TypeReference<Bean>() {
+        }, "name")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    static class Bean {
+    }
+}
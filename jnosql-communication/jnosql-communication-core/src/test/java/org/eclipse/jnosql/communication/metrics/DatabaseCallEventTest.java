@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.metrics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class DatabaseCallEventTest {
+
+    @Test
+    void shouldRecordEvent() throws IOException {
+        Path file = Files.createTempFile("jnosql", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(DatabaseCallEvent.NAME);
+            recording.start();
+            DatabaseCallEvent.start().commit("db", "person", DatabaseOperation.SELECT, 10, true);
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().equals(DatabaseCallEvent.NAME))
+                    .toList();
+            assertThat(events).hasSize(1);
+            RecordedEvent event = events.get(0);
+            assertSoftly(softly -> {
+                softly.assertThat(event.getString("database")).isEqualTo("db");
+                softly.assertThat(event.getString("entity")).isEqualTo("person");
+                softly.assertThat(event.getString("operation")).isEqualTo("SELECT");
+                softly.assertThat(event.getLong("rows")).isEqualTo(10L);
+                softly.assertThat(event.getBoolean("failed")).isTrue();
+            });
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void shouldIgnoreWhenDisabled() {
+        DatabaseCallEvent event = DatabaseCallEvent.start();
+        event.commit("db", "person", DatabaseOperation.SELECT, 10);
+        assertThat(event.isEnabled()).isFalse();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class HistogramDatabaseMetricsTest {
+
+    @Test
+    void shouldRecordByEntityAndOperation() {
+        HistogramDatabaseMetrics metrics = new HistogramDatabaseMetrics();
+        metrics.record("db", "person", DatabaseOperation.SELECT, 1_000, 10);
+        metrics.record("db", "person", DatabaseOperation.SELECT, 3_000, 20);
+        metrics.record("db", "book", DatabaseOperation.INSERT, 2_000, 1);
+
+        OperationStatistics statistics = metrics.statistics("db", "person", DatabaseOperation.SELECT).orElseThrow();
+        assertSoftly(softly -> {
+            softly.assertThat(statistics.count()).isEqualTo(2L);
+            softly.assertThat(statistics.totalRows()).isEqualTo(30L);
+            softly.assertThat(statistics.latency().max()).isEqualTo(3_000L);
+            softly.assertThat(statistics.rows().mean()).isEqualTo(15D);
+            softly.assertThat(metrics.statistics("db", "person", DatabaseOperation.INSERT)).isEmpty();
+            softly.assertThat(metrics.statistics()).hasSize(2);
+        });
+    }
+
+    @Test
+    void shouldMeasureStreamWhenConsumed() {
+        HistogramDatabaseMetrics metrics = new HistogramDatabaseMetrics();
+        Stream<String> stream = metrics.measure(Stream.of("a", "b", "c"), System.nanoTime(), "db", "person",
+                DatabaseOperation.SELECT);
+
+        assertThat(metrics.statistics()).isEmpty();
+        assertThat(stream.toList()).containsExactly("a", "b", "c");
+        assertThat(metrics.statistics("db", "person", DatabaseOperation.SELECT))
+                .get().extracting(OperationStatistics::totalRows).isEqualTo(3L);
+    }
+
+    @Test
+    void shouldMeasureStreamWhenClosed() {
+        HistogramDatabaseMetrics metrics = new HistogramDatabaseMetrics();
+        try (Stream<String> stream = metrics.measure(Stream.of("a", "b", "c"), System.nanoTime(), "db",
+                "person", DatabaseOperation.SELECT)) {
+            assertThat(stream.findFirst()).contains("a");
+        }
+        OperationStatistics statistics = metrics.statistics("db", "person", DatabaseOperation.SELECT).orElseThrow();
+        assertSoftly(softly -> {
+            softly.assertThat(statistics.count()).isEqualTo(1L);
+            softly.assertThat(statistics.totalRows()).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    void shouldCountFailures() {
+        HistogramDatabaseMetrics metrics = new HistogramDatabaseMetrics();
+        metrics.record("db", "person", DatabaseOperation.UPDATE, 1_000, 1);
+        metrics.record("db", "person", DatabaseOperation.UPDATE, 5_000, 1, true);
+
+        OperationStatistics statistics = metrics.statistics("db", "person", DatabaseOperation.UPDATE).orElseThrow();
+        assertSoftly(softly -> {
+            softly.assertThat(statistics.count()).isEqualTo(2L);
+            softly.assertThat(statistics.failures()).isEqualTo(1L);
+            softly.assertThat(statistics.latency().max()).isEqualTo(5_000L);
+        });
+    }
+
+    @Test
+    void shouldMeasureStreamWhenFails() {
+        HistogramDatabaseMetrics metrics = new HistogramDatabaseMetrics();
+        Stream<String> stream = metrics.measure(Stream.of("a", "b").map(s -> {
+            if (s.equals("b")) {
+                throw new IllegalStateException("timeout");
+            }
+            return s;
+        }), System.nanoTime(), "db", "person", DatabaseOperation.SELECT);
+
+        assertThatThrownBy(stream::toList).isInstanceOf(IllegalStateException.class);
+        OperationStatistics statistics = metrics.statistics("db", "person", DatabaseOperation.SELECT).orElseThrow();
+        assertSoftly(softly -> {
+            softly.assertThat(statistics.count()).isEqualTo(1L);
+            softly.assertThat(statistics.failures()).isEqualTo(1L);
+            softly.assertThat(statistics.totalRows()).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    void shouldReset() {
+        HistogramDatabaseMetrics metrics = new HistogramDatabaseMetrics();
+        metrics.record("db", "person", DatabaseOperation.COUNT, 1_000, 1);
+        metrics.reset();
+        assertThat(metrics.statistics()).isEmpty();
+    }
+
+    @Test
+    void shouldReturnNoopWhenThereIsNoProvider() {
+        assertThat(DatabaseMetrics.getMetrics().isEnabled()).isFalse();
+        assertThat(DatabaseMetrics.noop().isEnabled()).isFalse();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class LatencyHistogramTest {
+
+    @Test
+    void shouldReturnZeroWhenEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertSoftly(softly -> {
+            softly.assertThat(histogram.count()).isZero();
+            softly.assertThat(histogram.mean()).isZero();
+            softly.assertThat(histogram.percentile(99)).isZero();
+        });
+    }
+
+    @Test
+    void shouldRecordValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+        assertSoftly(softly -> {
+            softly.assertThat(histogram.count()).isEqualTo(100L);
+            softly.assertThat(histogram.sum()).isEqualTo(5050L);
+            softly.assertThat(histogram.max()).isEqualTo(100L);
+            softly.assertThat(histogram.mean()).isEqualTo(50.5D);
+            softly.assertThat(histogram.percentile(50)).isBetween(50L, 51L);
+            softly.assertThat(histogram.percentile(100)).isEqualTo(100L);
+        });
+    }
+
+    @Test
+    void shouldKeepPercentileError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000_000L);
+        histogram.record(10_000_000L);
+        long percentile = histogram.percentile(50);
+        assertThat(percentile).isGreaterThanOrEqualTo(1_000_000L).isLessThanOrEqualTo(1_031_250L);
+    }
+
+    @Test
+    void shouldMapEveryValueToItsBucket() {
+        for (long value : new long[]{0, 31, 32, 33, 63, 64, 1_000, 123_456_789, Long.MAX_VALUE}) {
+            int index = LatencyHistogram.index(value);
+            assertThat(LatencyHistogram.highestEquivalent(index)).isGreaterThanOrEqualTo(value);
+        }
+    }
+
+    @Test
+    void shouldReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(10);
+        histogram.reset();
+        assertSoftly(softly -> {
+            softly.assertThat(histogram.count()).isZero();
+            softly.assertThat(histogram.max()).isZero();
+            softly.assertThat(histogram.percentile(50)).isZero();
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenPercentileIsInvalid() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThatThrownBy(() -> histogram.percentile(101)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
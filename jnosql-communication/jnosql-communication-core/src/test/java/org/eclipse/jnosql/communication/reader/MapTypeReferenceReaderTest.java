@@ -33,6 +33,7 @@ import java.util.stream.Stream;
 
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
@@ -150,6 +151,35 @@ class MapTypeReferenceReaderTest {
         });
     }
 
+    @Test
+    @DisplayName("Should return an empty Map from an empty Iterable")
+    void shouldConvertEmptyIterable() {
+        Map<String, String> map = referenceReader.convert(new TypeReference<>() {
+        }, List.of());
+
+        assertThat(map).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should throw UnsupportedOperationException when the Iterable mixes Maps and values")
+    void shouldReturnErrorWhenIterableMixesMapsAndValues() {
+        List<Object> values = List.of(Map.of(1, 234L), "value");
+
+        assertThatThrownBy(() -> referenceReader.convert(new TypeReference<Map<String, String>>() {
+        }, values)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Should reuse the converter of the same type")
+    void shouldReuseConverter() {
+        for (int index = 0; index < 3; index++) {
+            Map<String, Integer> map = referenceReader.convert(new TypeReference<>() {
+            }, Map.of(index, String.valueOf(index)));
+
+            assertThat(map).containsOnly(entry(String.valueOf(index), index));
+        }
+    }
+
     static Stream<Arguments> compatibleTypeReferences() {
         return Stream.of(
                 arguments(new TypeReference<Map<String, String>>() {
@@ -0,0 +1,246 @@
+/*
+ *
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.metrics.DatabaseCall;
+import org.eclipse.jnosql.communication.metrics.DatabaseCallEvent;
+import org.eclipse.jnosql.communication.metrics.DatabaseMetrics;
+import org.eclipse.jnosql.communication.metrics.DatabaseOperation;
+import org.eclipse.jnosql.communication.metrics.FlightRecorderEvents;
+import org.eclipse.jnosql.communication.metrics.MetricsConfigurations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A {@link BucketManager} decorator that records the duration and the rows of every call into a
+ * {@link DatabaseMetrics}, using the bucket name as both the database and the entity name. Each call is also
+ * reported as a {@link DatabaseCallEvent} to the JDK Flight Recorder, and a call that fails, e.g. the driver
+ * throws or times out, is recorded as failed.
+ *
+ * @see DatabaseMetrics
+ */
+public final class InstrumentedBucketManager implements BucketManager {
+
+    private final BucketManager manager;
+
+    private final DatabaseMetrics metrics;
+
+    private InstrumentedBucketManager(BucketManager manager, DatabaseMetrics metrics) {
+        this.manager = manager;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public String name() {
+        return manager.name();
+    }
+
+    @Override
+    public <K, V> void put(K key, V value) {
+        DatabaseCall event = DatabaseCall.start();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            manager.put(key, value);
+            failed = false;
+        } finally {
+            record(event, DatabaseOperation.PUT, start, 1, failed);
+        }
+    }
+
+    @Override
+    public void put(KeyValueEntity entity) {
+        DatabaseCall event = DatabaseCall.start();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            manager.put(entity);
+            failed = false;
+        } finally {
+            record(event, DatabaseOperation.PUT, start, 1, failed);
+        }
+    }
+
+    @Override
+    public void put(KeyValueEntity entity, Duration ttl) {
+        DatabaseCall event = DatabaseCall.start();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            manager.put(entity, ttl);
+            failed = false;
+        } finally {
+            record(event, DatabaseOperation.PUT, start, 1, failed);
+        }
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities) {
+        Collection<KeyValueEntity> values = toCollection(entities);
+        DatabaseCall event = DatabaseCall.start();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            manager.put(values);
+            failed = false;
+        } finally {
+            record(event, DatabaseOperation.PUT, start, values.size(), failed);
+        }
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities, Duration ttl) {
+        Collection<KeyValueEntity> values = toCollection(entities);
+        DatabaseCall event = DatabaseCall.start();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            manager.put(values, ttl);
+            failed = false;
+        } finally {
+            record(event, DatabaseOperation.PUT, start, values.size(), failed);
+        }
+    }
+
+    @Override
+    public <K> Optional<Value> get(K key) {
+        DatabaseCall event = DatabaseCall.start();
+        long start = System.nanoTime();
+        boolean failed = true;
+        long rows = 0;
+        try {
+            Optional<Value> value = manager.get(key);
+            rows = value.isPresent() ? 1 : 0;
+            failed = false;
+            return value;
+        } finally {
+            record(event, DatabaseOperation.GET, start, rows, failed);
+        }
+    }
+
+    @Override
+    public <K> Iterable<Value> get(Iterable<K> keys) {
+        DatabaseCall event = DatabaseCall.start();
+        long start = System.nanoTime();
+        boolean failed = true;
+        long rows = 0;
+        try {
+            Collection<Value> values = toCollection(manager.get(keys));
+            rows = values.size();
+            failed = false;
+            return values;
+        } finally {
+            record(event, DatabaseOperation.GET, start, rows, failed);
+        }
+    }
+
+    @Override
+    public <K> void delete(K key) {
+        DatabaseCall event = DatabaseCall.start();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            manager.delete(key);
+            failed = false;
+        } finally {
+            record(event, DatabaseOperation.DELETE, start, 1, failed);
+        }
+    }
+
+    @Override
+    public <K> void delete(Iterable<K> keys) {
+        Collection<K> values = toCollection(keys);
+        DatabaseCall event = DatabaseCall.start();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            manager.delete(values);
+            failed = false;
+        } finally {
+            record(event, DatabaseOperation.DELETE, start, values.size(), failed);
+        }
+    }
+
+    @Override
+    public void close() {
+        manager.close();
+    }
+
+    @Override
+    public String toString() {
+        return "InstrumentedBucketManager{" +
+                "manager=" + manager +
+                ", metrics=" + metrics +
+                '}';
+    }
+
+    private void record(DatabaseCall event, DatabaseOperation operation, long start, long rows, boolean failed) {
+        metrics.record(manager.name(), manager.name(), operation, System.nanoTime() - start, rows, failed);
+        event.commit(manager.name(), manager.name(), operation, rows, failed);
+    }
+
+    private static <T> Collection<T> toCollection(Iterable<T> values) {
+        Objects.requireNonNull(values, "values is required");
+        if (values instanceof Collection<T> collection) {
+            return collection;
+        }
+        List<T> list = new ArrayList<>();
+        values.forEach(list::add);
+        return list;
+    }
+
+    /**
+     * Decorates the manager when the metrics are enabled; otherwise, it returns the manager itself.
+     *
+     * @param manager the manager
+     * @param metrics the metrics
+     * @return either the decorated or the same manager
+     * @throws NullPointerException when any parameter is null
+     */
+    public static BucketManager of(BucketManager manager, DatabaseMetrics metrics) {
+        return of(manager, metrics, Settings.settings());
+    }
+
+    /**
+     * Decorates the manager when either the metrics are enabled or the {@link MetricsConfigurations#JFR_ENABLED}
+     * property is true and the JDK Flight Recorder is available; otherwise, it returns the manager itself.
+     *
+     * @param manager  the manager
+     * @param metrics  the metrics
+     * @param settings the settings
+     * @return either the decorated or the same manager
+     * @throws NullPointerException when any parameter is null
+     */
+    public static BucketManager of(BucketManager manager, DatabaseMetrics metrics, Settings settings) {
+        Objects.requireNonNull(manager, "manager is required");
+        Objects.requireNonNull(metrics, "metrics is required");
+        Objects.requireNonNull(settings, "settings is required");
+        boolean events = FlightRecorderEvents.isAvailable()
+                && settings.get(MetricsConfigurations.JFR_ENABLED, Boolean.class).orElse(false);
+        if (!metrics.isEnabled() && !events) {
+            return manager;
+        }
+        return new InstrumentedBucketManager(manager, metrics);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ *
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import org.assertj.core.api.Assertions;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.metrics.DatabaseMetrics;
+import org.eclipse.jnosql.communication.metrics.DatabaseOperation;
+import org.eclipse.jnosql.communication.metrics.FlightRecorderEvents;
+import org.eclipse.jnosql.communication.metrics.HistogramDatabaseMetrics;
+import org.eclipse.jnosql.communication.metrics.MetricsConfigurations;
+import org.eclipse.jnosql.communication.metrics.OperationStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.Mockito.when;
+
+class InstrumentedBucketManagerTest {
+
+    private BucketManager delegate;
+
+    private HistogramDatabaseMetrics metrics;
+
+    private BucketManager manager;
+
+    @BeforeEach
+    void setUp() {
+        this.delegate = Mockito.mock(BucketManager.class);
+        this.metrics = new HistogramDatabaseMetrics();
+        this.manager = InstrumentedBucketManager.of(delegate, metrics);
+        when(delegate.name()).thenReturn("bucket");
+    }
+
+    @Test
+    void shouldReturnSameManagerWhenDisabled() {
+        Assertions.assertThat(InstrumentedBucketManager.of(delegate, DatabaseMetrics.noop())).isSameAs(delegate);
+    }
+
+    @Test
+    void shouldDecorateWhenFlightRecorderIsEnabled() {
+        Settings settings = Settings.builder().put(MetricsConfigurations.JFR_ENABLED, true).build();
+        BucketManager decorated = InstrumentedBucketManager.of(delegate, DatabaseMetrics.noop(), settings);
+        if (FlightRecorderEvents.isAvailable()) {
+            Assertions.assertThat(decorated).isInstanceOf(InstrumentedBucketManager.class);
+        } else {
+            Assertions.assertThat(decorated).isSameAs(delegate);
+        }
+    }
+
+    @Test
+    void shouldRecordGet() {
+        when(delegate.get("ada")).thenReturn(Optional.of(Value.of("Ada")));
+
+        Assertions.assertThat(manager.get("ada")).isPresent();
+
+        OperationStatistics statistics = statistics(DatabaseOperation.GET);
+        assertSoftly(soft -> {
+            soft.assertThat(statistics.count()).isEqualTo(1L);
+            soft.assertThat(statistics.totalRows()).isEqualTo(1L);
+            soft.assertThat(statistics.failures()).isZero();
+        });
+    }
+
+    @Test
+    void shouldRecordWhenFails() {
+        Mockito.doThrow(new IllegalStateException("timeout")).when(delegate).put("ada", "Ada");
+
+        Assertions.assertThatThrownBy(() -> manager.put("ada", "Ada")).isInstanceOf(IllegalStateException.class);
+
+        OperationStatistics statistics = statistics(DatabaseOperation.PUT);
+        assertSoftly(soft -> {
+            soft.assertThat(statistics.count()).isEqualTo(1L);
+            soft.assertThat(statistics.failures()).isEqualTo(1L);
+        });
+    }
+
+    private OperationStatistics statistics(DatabaseOperation operation) {
+        return metrics.statistics("bucket", "bucket", operation).orElseThrow();
+    }
+}
@@ -16,6 +16,7 @@ module org.eclipse.jnosql.communication.query {
     requires jakarta.data;
     requires java.management;
     requires java.logging;
+    requires static jdk.jfr;
 
     exports org.eclipse.jnosql.communication.query;
     exports org.eclipse.jnosql.communication.query.data;
@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Represents an aggregate expression in the select list of a query, e.g., {@code SUM(salary)} or
+ * {@code COUNT(THIS)}. Each aggregate becomes a column of the result, named by {@link #alias()}.
+ *
+ * @param function the aggregate function
+ * @param field    the field to aggregate; it is null for {@code COUNT(THIS)}, which counts the entities
+ */
+public record Aggregate(AggregateFunction function, String field) {
+
+    private static final String THIS = "this";
+
+    /**
+     * Creates an aggregate expression.
+     *
+     * @param function the aggregate function
+     * @param field    the field to aggregate; it is null for {@code COUNT(THIS)}
+     * @throws NullPointerException     when the function is null
+     * @throws IllegalArgumentException when the field is null and the function is not {@link AggregateFunction#COUNT}
+     */
+    public Aggregate {
+        Objects.requireNonNull(function, "function is required");
+        if (field == null && !AggregateFunction.COUNT.equals(function)) {
+            throw new IllegalArgumentException("The field is required to the aggregate function: " + function);
+        }
+    }
+
+    /**
+     * Returns the name of the column of this aggregate in the result, the lower-case function followed by the field
+     * between parentheses, e.g., {@code sum(salary)} or {@code count(this)}.
+     *
+     * @return the alias of the aggregate
+     */
+    public String alias() {
+        return function.name().toLowerCase(Locale.US) + '(' + (field == null ? THIS : field) + ')';
+    }
+
+    /**
+     * Checks whether it is {@code COUNT(THIS)}, the number of entities.
+     *
+     * @return true when it counts the entities
+     */
+    public boolean isCountAll() {
+        return field == null;
+    }
+
+    /**
+     * Creates the {@code COUNT(THIS)} aggregate.
+     *
+     * @return the aggregate that counts the entities
+     */
+    public static Aggregate count() {
+        return new Aggregate(AggregateFunction.COUNT, null);
+    }
+
+    /**
+     * Creates an aggregate of a field.
+     *
+     * @param function the aggregate function
+     * @param field    the field to aggregate
+     * @return the aggregate
+     * @throws NullPointerException when any parameter is null
+     */
+    public static Aggregate of(AggregateFunction function, String field) {
+        Objects.requireNonNull(field, "field is required");
+        return new Aggregate(function, field);
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+/**
+ * The aggregate functions of a select statement, such as {@code SUM(salary)}. The functions ignore the entities
+ * where the field is either absent or null, except {@link #COUNT} over the whole entity, {@code COUNT(THIS)}.
+ */
+public enum AggregateFunction {
+
+    /**
+     * The number of entities, or of the non-null values of a field.
+     */
+    COUNT,
+    /**
+     * The sum of the numeric values of a field.
+     */
+    SUM,
+    /**
+     * The average of the numeric values of a field.
+     */
+    AVG,
+    /**
+     * The lowest value of a field.
+     */
+    MIN,
+    /**
+     * The highest value of a field.
+     */
+    MAX
+}
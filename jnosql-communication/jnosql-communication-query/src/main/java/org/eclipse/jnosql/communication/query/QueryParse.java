@@ -0,0 +1,48 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+
+package org.eclipse.jnosql.communication.query;
+
+import org.eclipse.jnosql.communication.metrics.FlightRecorderEvents;
+
+/**
+ * A started parse of a query, recorded as a {@link QueryParseEvent} when the JDK Flight Recorder is available.
+ * This type does not depend on the {@code jdk.jfr} module, so the parsers keep working on a runtime without it.
+ */
+public interface QueryParse {
+
+    /**
+     * The parse that records nothing, returned by {@link #start()} when the JDK Flight Recorder is not
+     * available.
+     */
+    QueryParse NONE = (language, query, provider) -> {
+    };
+
+    /**
+     * Commits the parse when it is recorded.
+     *
+     * @param language either {@link QueryParseEvent#JDQL} or {@link QueryParseEvent#METHOD}
+     * @param query    the query
+     * @param provider the provider class
+     */
+    void commit(String language, String query, Class<?> provider);
+
+    /**
+     * Starts a parse: either a {@link QueryParseEvent} or {@link #NONE} when the JDK Flight Recorder is not
+     * available.
+     *
+     * @return the started parse
+     */
+    static QueryParse start() {
+        return FlightRecorderEvents.isAvailable() ? QueryParseEvent.start() : NONE;
+    }
+}
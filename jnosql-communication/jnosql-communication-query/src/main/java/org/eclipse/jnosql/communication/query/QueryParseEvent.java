@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+
+package org.eclipse.jnosql.communication.query;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The JDK Flight Recorder event of the parse of either a Jakarta Data Query Language query or a method query.
+ * When the event is disabled, the fields are never filled, so it costs only the {@link #shouldCommit()} check.
+ * The parsers start it through {@link QueryParse#start()}, so this class is never loaded when the {@code jdk.jfr}
+ * module is missing.
+ */
+@Name(QueryParseEvent.NAME)
+@Label("Query Parse")
+@Category({"Eclipse JNoSQL", "Query"})
+@Description("The parse of a query into its query model")
+@StackTrace(false)
+public final class QueryParseEvent extends Event implements QueryParse {
+
+    /**
+     * The event name, as used at the JFR configuration.
+     */
+    public static final String NAME = "org.eclipse.jnosql.QueryParse";
+
+    /**
+     * The language of the Jakarta Data Query Language queries.
+     */
+    public static final String JDQL = "JDQL";
+
+    /**
+     * The language of the method queries, such as {@code findByName}.
+     */
+    public static final String METHOD = "METHOD";
+
+    @Label("Language")
+    private String language;
+
+    @Label("Query")
+    private String query;
+
+    @Label("Provider")
+    @Description("The provider that parsed the query, such as select or delete")
+    private String provider;
+
+    /**
+     * Commits the event when it is enabled and above its threshold.
+     *
+     * @param language either {@link #JDQL} or {@link #METHOD}
+     * @param query    the query
+     * @param provider the provider class
+     */
+    @Override
+    public void commit(String language, String query, Class<?> provider) {
+        if (shouldCommit()) {
+            this.language = language;
+            this.query = query;
+            this.provider = provider.getSimpleName();
+            commit();
+        }
+    }
+
+    /**
+     * Creates the event and begins its timing.
+     *
+     * @return the started event
+     */
+    public static QueryParseEvent start() {
+        QueryParseEvent event = new QueryParseEvent();
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+
+package org.eclipse.jnosql.communication.query;
+
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.query.data.DeleteProvider;
+import org.eclipse.jnosql.communication.query.data.SelectProvider;
+import org.eclipse.jnosql.communication.query.data.UpdateProvider;
+import org.eclipse.jnosql.communication.query.method.DeleteByMethodQueryProvider;
+import org.eclipse.jnosql.communication.query.method.SelectMethodQueryProvider;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The parse strategy shared by the Jakarta Data Query Language and the method query providers.
+ *
+ * <p>{@link #parse(Parser, Function)} runs the parser in two stages: first with the {@link PredictionMode#SLL}
+ * prediction, that is much cheaper and enough for almost every query, and that gives up at the first error; then,
+ * only when the first stage fails, with the full {@link PredictionMode#LL} prediction and the error reporting of
+ * {@link QueryErrorListener}. A query with a syntax error is therefore parsed twice, and still fails with the same
+ * {@link QueryException}.</p>
+ *
+ * <p>The prediction DFA of a generated parser is shared by all its instances, and it is built while the parser
+ * runs, which makes the first parses after the start up slow. {@link #warmUp()} parses a set of representative
+ * queries once to fill it in; it is called by the repository extensions.</p>
+ */
+public final class QueryParsers {
+
+    private static final Logger LOGGER = Logger.getLogger(QueryParsers.class.getName());
+
+    private static final AtomicBoolean WARMED_UP = new AtomicBoolean();
+
+    private static final List<String> SELECT_QUERIES = List.of(
+            "FROM Person",
+            "FROM Person WHERE name = :name",
+            "FROM Person WHERE name = ?1 AND age > ?2 ORDER BY name ASC, age DESC",
+            "FROM Person WHERE age BETWEEN 10 AND 20 OR name LIKE 'Ada%' ORDER BY age ASC",
+            "FROM Person WHERE NOT (age < 10) AND name IN ('Ada', 'Grace') AND active = TRUE",
+            "SELECT name, age FROM Person WHERE address.city = :city ORDER BY name DESC",
+            "SELECT COUNT(THIS) FROM Person WHERE age >= 18",
+            "SELECT city, SUM(salary) FROM Person GROUP BY city",
+            "WHERE name <> 'Ada' AND age <= 10.5");
+
+    private static final List<String> DELETE_QUERIES = List.of(
+            "DELETE FROM Person WHERE id = :id",
+            "DELETE FROM Person WHERE age > ?1 OR name IN ('Ada', 'Grace')");
+
+    private static final List<String> UPDATE_QUERIES = List.of(
+            "UPDATE Person SET name = :name WHERE id = :id",
+            "UPDATE Person SET age = :age, active = FALSE WHERE age BETWEEN ?1 AND ?2");
+
+    private static final List<String> SELECT_METHODS = List.of(
+            "findByName",
+            "findByNameAndAgeGreaterThanOrderByNameDesc",
+            "findByAgeBetweenAndNameLikeOrderByAgeAsc",
+            "findByNameInAndActiveTrue",
+            "findByAddress_CityIgnoreCaseOrAgeLessThanEqual",
+            "findFirst10ByNameNotNull",
+            "countByName",
+            "existsByAgeGreaterThanEqual");
+
+    private static final List<String> DELETE_METHODS = List.of(
+            "deleteByName",
+            "deleteByNameAndAgeLessThan");
+
+    private QueryParsers() {
+    }
+
+    /**
+     * Parses the rule of the parser with the {@link PredictionMode#SLL} prediction and, only if it fails, again
+     * with the {@link PredictionMode#LL} one. The token stream of the parser must be seekable, as
+     * {@link org.antlr.v4.runtime.CommonTokenStream} is.
+     *
+     * @param parser the parser, with its token stream already set
+     * @param rule   the start rule, e.g. {@code JDQLParser::select_statement}
+     * @param <P>    the parser type
+     * @param <T>    the tree type
+     * @return the parse tree
+     * @throws NullPointerException when any parameter is null
+     * @throws QueryException       when the query is not valid
+     */
+    public static <P extends Parser, T extends ParseTree> T parse(P parser, Function<P, T> rule) {
+        Objects.requireNonNull(parser, "parser is required");
+        Objects.requireNonNull(rule, "rule is required");
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        try {
+            return rule.apply(parser);
+        } catch (ParseCancellationException exception) {
+            parser.reset();
+            parser.addErrorListener(QueryErrorListener.INSTANCE);
+            parser.setErrorHandler(new DefaultErrorStrategy());
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            return rule.apply(parser);
+        }
+    }
+
+    /**
+     * Parses a set of representative queries of each provider once, to build the shared prediction DFA of the
+     * parsers before the first query of the application. The queries skip the fast path of the providers, so even
+     * the simple ones reach the ANTLR parser. Only the first call does it; the next ones return at once.
+     */
+    public static void warmUp() {
+        if (!WARMED_UP.compareAndSet(false, true)) {
+            return;
+        }
+        long start = System.nanoTime();
+        SELECT_QUERIES.forEach(q -> warmUp(q, query -> SelectProvider.withoutFastPath().apply(query, "Person")));
+        DELETE_QUERIES.forEach(q -> warmUp(q, query -> DeleteProvider.withoutFastPath().apply(query)));
+        UPDATE_QUERIES.forEach(q -> warmUp(q, query -> new UpdateProvider().apply(query)));
+        SELECT_METHODS.forEach(q -> warmUp(q, query -> new SelectMethodQueryProvider().apply(query, "Person")));
+        DELETE_METHODS.forEach(q -> warmUp(q, query -> new DeleteByMethodQueryProvider().apply(query, "Person")));
+        LOGGER.fine(() -> "The query parsers warm up took " + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+
+    private static void warmUp(String query, Function<String, ?> provider) {
+        try {
+            provider.apply(query);
+        } catch (RuntimeException exception) {
+            LOGGER.log(Level.FINEST, exception, () -> "The query " + query + " failed at the warm up");
+        }
+    }
+}
@@ -84,4 +84,35 @@ public interface SelectQuery extends Query {
      *         retrieve the entities
      */
     boolean isCount();
+
+    /**
+     * Retrieves the aggregate expressions of the select list, e.g., {@code SUM(salary)}. The query then returns one
+     * entity per group, with the {@link #groupBy()} fields and a column per aggregate, named by
+     * {@link Aggregate#alias()}. The single {@code COUNT(THIS)} without grouping is reported by {@link #isCount()}
+     * instead.
+     *
+     * @return the aggregates; never null but may be empty
+     */
+    default List<Aggregate> aggregates() {
+        return List.of();
+    }
+
+    /**
+     * Retrieves the fields of the GROUP BY clause. When empty, but there are {@link #aggregates()}, the whole
+     * result is a single group.
+     *
+     * @return the fields that define the groups; never null but may be empty
+     */
+    default List<String> groupBy() {
+        return List.of();
+    }
+
+    /**
+     * Checks whether the query either has aggregates or groups its result.
+     *
+     * @return true when it is an aggregate query
+     */
+    default boolean isAggregate() {
+        return !aggregates().isEmpty() || !groupBy().isEmpty();
+    }
 }
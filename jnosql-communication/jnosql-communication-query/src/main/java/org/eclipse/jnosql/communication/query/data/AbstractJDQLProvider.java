@@ -11,12 +11,14 @@
  */
 package org.eclipse.jnosql.communication.query.data;
 
-import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.eclipse.jnosql.communication.query.QueryErrorListener;
+import org.eclipse.jnosql.communication.query.QueryParse;
+import org.eclipse.jnosql.communication.query.QueryParseEvent;
+import org.eclipse.jnosql.communication.query.QueryParsers;
 import org.eclipse.jnosql.query.grammar.data.JDQLBaseListener;
 import org.eclipse.jnosql.query.grammar.data.JDQLLexer;
 import org.eclipse.jnosql.query.grammar.data.JDQLParser;
@@ -25,19 +27,17 @@ import org.eclipse.jnosql.query.grammar.data.JDQLParser;
 abstract class AbstractJDQLProvider extends JDQLBaseListener {
 
     protected void runQuery(String query) {
+        QueryParse event = QueryParse.start();
 
-        CharStream stream = CharStreams.fromString(query);
-        JDQLLexer lexer = new JDQLLexer(stream);
+        JDQLLexer lexer = new JDQLLexer(CharStreams.fromString(query));
         CommonTokenStream tokens = new CommonTokenStream(lexer);
-
         JDQLParser parser = new JDQLParser(tokens);
         lexer.removeErrorListeners();
-        parser.removeErrorListeners();
         lexer.addErrorListener(QueryErrorListener.INSTANCE);
-        parser.addErrorListener(QueryErrorListener.INSTANCE);
 
-        var tree = getTree(parser);
+        var tree = QueryParsers.parse(parser, this::getTree);
         ParseTreeWalker.DEFAULT.walk(this, tree);
+        event.commit(QueryParseEvent.JDQL, query, getClass());
     }
 
     abstract ParserRuleContext getTree(JDQLParser parser);
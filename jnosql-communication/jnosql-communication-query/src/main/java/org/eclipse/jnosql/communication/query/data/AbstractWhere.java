@@ -12,41 +12,54 @@
 package org.eclipse.jnosql.communication.query.data;
 
 import org.eclipse.jnosql.communication.Condition;
-import org.eclipse.jnosql.communication.query.ConditionQueryValue;
-import org.eclipse.jnosql.communication.query.QueryCondition;
+import org.eclipse.jnosql.communication.query.QueryParse;
+import org.eclipse.jnosql.communication.query.QueryParseEvent;
 import org.eclipse.jnosql.communication.query.QueryValue;
 import org.eclipse.jnosql.communication.query.StringQueryValue;
 import org.eclipse.jnosql.communication.query.Where;
 import org.eclipse.jnosql.query.grammar.data.JDQLParser;
 
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 
-import static org.eclipse.jnosql.communication.Condition.AND;
 import static org.eclipse.jnosql.communication.Condition.EQUALS;
-import static org.eclipse.jnosql.communication.Condition.NOT;
-import static org.eclipse.jnosql.communication.Condition.OR;
 
 abstract class AbstractWhere extends AbstractJDQLProvider {
 
     protected Where where;
 
-    protected QueryCondition condition;
-
-    protected boolean and = true;
-
     protected String entity;
 
+    private final WhereBuilder builder = new WhereBuilder();
+
     @Override
     protected void runQuery(String query) {
         super.runQuery(query);
+        this.where = builder.where();
+    }
 
-        if (Objects.nonNull(condition)) {
-            this.where = Where.of(condition);
+    /**
+     * Parses the query with the {@link JDQLFastParser} and, only when it does not support the query, with ANTLR.
+     *
+     * @param query      the query
+     * @param fastParser the fast parser of the statement, e.g. {@code JDQLFastParser::select}
+     * @return the result of the fast parser, or null when the query was parsed with ANTLR
+     */
+    JDQLFastParser.Result runQuery(String query, Function<String, JDQLFastParser.Result> fastParser) {
+        QueryParse event = QueryParse.start();
+        JDQLFastParser.Result result = fastParser.apply(query);
+        if (result == null) {
+            runQuery(query);
+            return null;
         }
+        if (result.entity() != null) {
+            this.entity = result.entity();
+        }
+        this.where = result.where();
+        event.commit(QueryParseEvent.JDQL, query, getClass());
+        return result;
     }
 
     @Override
@@ -69,11 +82,7 @@ abstract class AbstractWhere extends AbstractJDQLProvider {
         var name = contexts.get(0).getText();
         var value = contexts.get(1);
         var literal = PrimaryFunction.INSTANCE.apply(value.primary_expression());
-        if (this.condition != null && this.condition.value() instanceof ConditionQueryValue) {
-            and = andCondition;
-        }
-        checkCondition(new DefaultQueryCondition(name, contextCondition, literal), hasNot);
-        and = andCondition;
+        builder.add(new DefaultQueryCondition(name, contextCondition, literal), hasNot, andCondition);
     }
 
     @Override
@@ -93,11 +102,7 @@ abstract class AbstractWhere extends AbstractJDQLProvider {
         var likeValueIndex = ctx.getChildCount() -1 ;
         var likeValue = contexts.getParent().getChild(likeValueIndex).getText();
         var literal = StringQueryValue.of(likeValue.substring(1, likeValue.length() -1));
-        if (this.condition != null && this.condition.value() instanceof ConditionQueryValue) {
-            and = andCondition;
-        }
-        checkCondition(new DefaultQueryCondition(name, contextCondition, literal), hasNot);
-        and = andCondition;
+        builder.add(new DefaultQueryCondition(name, contextCondition, literal), hasNot, andCondition);
     }
 
     @Override
@@ -116,12 +121,8 @@ abstract class AbstractWhere extends AbstractJDQLProvider {
         var firstValue = PrimaryFunction.INSTANCE.apply(contexts.get(1).primary_expression());
         var secondValue = PrimaryFunction.INSTANCE.apply(contexts.get(2).primary_expression());
         var contextCondition = Condition.BETWEEN;
-        if (this.condition != null && this.condition.value() instanceof ConditionQueryValue) {
-            and = andCondition;
-        }
         DataArrayQueryValue value = new DataArrayQueryValue(List.of(firstValue, secondValue));
-        checkCondition(new DefaultQueryCondition(name, contextCondition, value), hasNot);
-        and = andCondition;
+        builder.add(new DefaultQueryCondition(name, contextCondition, value), hasNot, andCondition);
     }
 
     @Override
@@ -142,12 +143,8 @@ abstract class AbstractWhere extends AbstractJDQLProvider {
             values.add(InItemFunction.INSTANCE.apply(item));
         }
 
-        if (this.condition != null && this.condition.value() instanceof ConditionQueryValue) {
-            and = andCondition;
-        }
         DataArrayQueryValue value = new DataArrayQueryValue(values);
-        checkCondition(new DefaultQueryCondition(name, contextCondition, value), hasNot);
-        and = andCondition;
+        builder.add(new DefaultQueryCondition(name, contextCondition, value), hasNot, andCondition);
     }
 
     @Override
@@ -169,74 +166,4 @@ abstract class AbstractWhere extends AbstractJDQLProvider {
         }
         throw new UnsupportedOperationException("The operation does not support: " + ctx.getText());
     }
-
-    private void checkCondition(QueryCondition condition, boolean hasNot) {
-        QueryCondition newCondition = checkNotCondition(condition, hasNot);
-        if (Objects.isNull(this.condition)) {
-            this.condition = newCondition;
-            return;
-        }
-        if (and) {
-            appendCondition(AND, newCondition);
-        } else {
-            appendCondition(OR, newCondition);
-        }
-
-    }
-
-    private void appendCondition(Condition operator, QueryCondition newCondition) {
-
-        if (operator.equals(this.condition.condition())) {
-            ConditionQueryValue conditionValue = ConditionQueryValue.class.cast(this.condition.value());
-            List<QueryCondition> conditions = new ArrayList<>(conditionValue.get());
-            conditions.add(newCondition);
-            this.condition = new DefaultQueryCondition("_" + operator.name(), operator, ConditionQueryValue.of(conditions));
-        } else if (isNotAppendable()) {
-            List<QueryCondition> conditions = Arrays.asList(this.condition, newCondition);
-            this.condition = new DefaultQueryCondition("_" + operator.name(), operator, ConditionQueryValue.of(conditions));
-        } else {
-            List<QueryCondition> conditions = ConditionQueryValue.class.cast(this.condition.value()).get();
-            QueryCondition lastCondition = conditions.get(conditions.size() - 1);
-
-            if (isAppendable(lastCondition) && operator.equals(lastCondition.condition())) {
-                List<QueryCondition> lastConditions = new ArrayList<>(ConditionQueryValue.class
-                        .cast(lastCondition.value()).get());
-                lastConditions.add(newCondition);
-
-                QueryCondition newAppendable = new DefaultQueryCondition("_" + operator.name(),
-                        operator, ConditionQueryValue.of(lastConditions));
-
-                List<QueryCondition> newConditions = new ArrayList<>(conditions.subList(0, conditions.size() - 1));
-                newConditions.add(newAppendable);
-                this.condition = new DefaultQueryCondition(this.condition.name(), this.condition.condition(),
-                        ConditionQueryValue.of(newConditions));
-            } else {
-                QueryCondition newAppendable = new DefaultQueryCondition("_" + operator.name(),
-                        operator, ConditionQueryValue.of(Collections.singletonList(newCondition)));
-
-                List<QueryCondition> newConditions = new ArrayList<>(conditions);
-                newConditions.add(newAppendable);
-                this.condition = new DefaultQueryCondition(this.condition.name(), this.condition.condition(),
-                        ConditionQueryValue.of(newConditions));
-            }
-
-        }
-    }
-
-    private boolean isAppendable(QueryCondition condition) {
-        return (AND.equals(condition.condition()) || OR.equals(condition.condition()));
-    }
-
-    private boolean isNotAppendable() {
-        return !isAppendable(this.condition);
-    }
-
-    private QueryCondition checkNotCondition(QueryCondition condition, boolean hasNot) {
-        if (hasNot) {
-            ConditionQueryValue conditions = ConditionQueryValue.of(Collections.singletonList(condition));
-            return new DefaultQueryCondition("_NOT", NOT, conditions);
-        } else {
-            return condition;
-        }
-    }
 }
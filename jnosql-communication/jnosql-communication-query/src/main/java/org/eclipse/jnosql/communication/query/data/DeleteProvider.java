@@ -28,10 +28,30 @@ import java.util.function.Function;
  */
 public final class DeleteProvider extends AbstractWhere implements Function<String, DeleteQuery> {
 
+    private final Function<String, JDQLFastParser.Result> fastParser;
+
+    public DeleteProvider() {
+        this(JDQLFastParser::delete);
+    }
+
+    DeleteProvider(Function<String, JDQLFastParser.Result> fastParser) {
+        this.fastParser = fastParser;
+    }
+
+    /**
+     * Creates a provider that parses every query with the ANTLR grammar, without the fast path for the simple
+     * queries, e.g., to build the prediction DFA of the parser at the warm up.
+     *
+     * @return a {@link DeleteProvider} instance
+     */
+    public static DeleteProvider withoutFastPath() {
+        return new DeleteProvider(query -> null);
+    }
+
     @Override
     public DeleteQuery apply(String query) {
         Objects.requireNonNull(query, " query is required");
-        runQuery(query);
+        runQuery(query, fastParser);
         if(this.entity == null) {
             throw new IllegalArgumentException("The entity is required in the query");
         }
@@ -0,0 +1,444 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query.data;
+
+import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.query.BooleanQueryValue;
+import org.eclipse.jnosql.communication.query.EnumQueryValue;
+import org.eclipse.jnosql.communication.query.NumberQueryValue;
+import org.eclipse.jnosql.communication.query.QueryValue;
+import org.eclipse.jnosql.communication.query.StringQueryValue;
+import org.eclipse.jnosql.communication.query.Where;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * A hand-written parser of the most common Jakarta Data Query Language shapes, used before the ANTLR parser:
+ * <ul>
+ *     <li>{@code [SELECT field, ...] [FROM Entity] [WHERE condition] [ORDER BY field ASC|DESC, ...]}</li>
+ *     <li>{@code DELETE FROM Entity [WHERE condition]}</li>
+ * </ul>
+ * where a condition combines, with {@code AND}, {@code OR}, {@code NOT} and parentheses, comparisons
+ * ({@code =, >, >=, <, <=}), {@code [NOT] IN}, {@code [NOT] BETWEEN} and {@code [NOT] LIKE} of a field against
+ * literals, parameters, {@code TRUE}, {@code FALSE} and enum values.
+ *
+ * <p>It builds the same query as the ANTLR providers, with the same {@link WhereBuilder}, and returns null for
+ * anything else, such as functions, arithmetic, aggregates, {@code GROUP BY}, {@code IS NULL}, comments or a
+ * syntax error, so the caller falls back to ANTLR, which either parses the query or reports the error.</p>
+ */
+final class JDQLFastParser {
+
+    /**
+     * The tokens of the grammar that cannot be identifiers; {@code GROUP}, {@code SUM}, {@code AVG}, {@code MIN} and
+     * {@code MAX} are not here, as the grammar accepts them as identifiers too.
+     */
+    private static final Set<String> KEYWORDS = Set.of("SELECT", "UPDATE", "DELETE", "FROM", "WHERE", "SET", "ORDER",
+            "BY", "NOT", "IN", "IS", "NULL", "COUNT", "TRUE", "FALSE", "ASC", "DESC", "AND", "OR", "ABS", "LENGTH",
+            "LOWER", "UPPER", "LEFT", "RIGHT", "LOCALDATE", "LOCALDATETIME", "LOCALTIME", "BETWEEN", "LIKE", "THIS");
+
+    /**
+     * The tokens of the grammar that are case-sensitive, and so are identifiers in any other case.
+     */
+    private static final Set<String> CASE_SENSITIVE_KEYWORDS = Set.of("LOCAL", "DATE", "DATETIME", "TIME");
+
+    private static final Set<String> ARITHMETIC = Set.of("+", "-", "*", "/", "||");
+
+    private static final Unsupported UNSUPPORTED = new Unsupported();
+
+    private final List<Token> tokens;
+
+    private int position;
+
+    private JDQLFastParser(List<Token> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Parses a select query.
+     *
+     * @param query the query
+     * @return the result or null when the query is not supported
+     */
+    static Result select(String query) {
+        try {
+            return new JDQLFastParser(tokenize(query)).selectStatement();
+        } catch (RuntimeException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses a delete query.
+     *
+     * @param query the query
+     * @return the result or null when the query is not supported
+     */
+    static Result delete(String query) {
+        try {
+            return new JDQLFastParser(tokenize(query)).deleteStatement();
+        } catch (RuntimeException exception) {
+            return null;
+        }
+    }
+
+    private Result selectStatement() {
+        List<String> fields = new ArrayList<>();
+        if (keyword("SELECT")) {
+            do {
+                fields.add(path());
+            } while (symbol(","));
+        }
+        String entity = keyword("FROM") ? identifier() : null;
+        Where where = keyword("WHERE") ? where() : null;
+        List<Sort<?>> sorts = new ArrayList<>();
+        if (keyword("ORDER")) {
+            expectKeyword("BY");
+            do {
+                String field = path();
+                if (keyword("DESC")) {
+                    sorts.add(Sort.desc(field));
+                } else {
+                    keyword("ASC");
+                    sorts.add(Sort.asc(field));
+                }
+            } while (symbol(","));
+        }
+        next(Type.EOF);
+        return new Result(fields, entity, sorts, where);
+    }
+
+    private Result deleteStatement() {
+        expectKeyword("DELETE");
+        expectKeyword("FROM");
+        String entity = identifier();
+        Where where = keyword("WHERE") ? where() : null;
+        next(Type.EOF);
+        return new Result(List.of(), entity, List.of(), where);
+    }
+
+    private Where where() {
+        WhereBuilder builder = new WhereBuilder();
+        or().walk(builder, null);
+        return builder.where();
+    }
+
+    private Node or() {
+        Node node = and();
+        while (keyword("OR")) {
+            node = new Composite(Condition.OR, node, and());
+        }
+        return node;
+    }
+
+    private Node and() {
+        Node node = unary();
+        while (keyword("AND")) {
+            node = new Composite(Condition.AND, node, unary());
+        }
+        return node;
+    }
+
+    private Node unary() {
+        if (keyword("NOT")) {
+            return new Composite(Condition.NOT, unary(), null);
+        }
+        if (symbol("(")) {
+            Node node = or();
+            expectSymbol(")");
+            return new Composite(null, node, null);
+        }
+        return leaf();
+    }
+
+    private Node leaf() {
+        String name = path();
+        boolean not = keyword("NOT");
+        if (keyword("IN")) {
+            expectSymbol("(");
+            List<QueryValue<?>> values = new ArrayList<>();
+            do {
+                values.add(inItem());
+            } while (symbol(","));
+            expectSymbol(")");
+            return new Leaf(name, Condition.IN, new DataArrayQueryValue(values), not);
+        } else if (keyword("BETWEEN")) {
+            QueryValue<?> first = primary();
+            expectKeyword("AND");
+            QueryValue<?> second = primary();
+            return new Leaf(name, Condition.BETWEEN, new DataArrayQueryValue(List.of(first, second)), not);
+        } else if (keyword("LIKE")) {
+            return new Leaf(name, Condition.LIKE, StringQueryValue.of(unquote(next(Type.STRING).text)), not);
+        } else if (not) {
+            throw UNSUPPORTED;
+        }
+        Condition condition = switch (next(Type.SYMBOL).text) {
+            case "=" -> Condition.EQUALS;
+            case ">" -> Condition.GREATER_THAN;
+            case ">=" -> Condition.GREATER_EQUALS_THAN;
+            case "<" -> Condition.LESSER_THAN;
+            case "<=" -> Condition.LESSER_EQUALS_THAN;
+            default -> throw UNSUPPORTED;
+        };
+        return new Leaf(name, condition, primary(), null);
+    }
+
+    private QueryValue<?> primary() {
+        Token token = peek();
+        QueryValue<?> value;
+        if (token.type == Type.WORD && token.text.equals("TRUE")) {
+            position++;
+            value = BooleanQueryValue.TRUE;
+        } else if (token.type == Type.WORD && token.text.equals("FALSE")) {
+            position++;
+            value = BooleanQueryValue.FALSE;
+        } else {
+            value = inItem();
+        }
+        if (peek().type == Type.SYMBOL && ARITHMETIC.contains(peek().text)) {
+            throw UNSUPPORTED;
+        }
+        return value;
+    }
+
+    private QueryValue<?> inItem() {
+        Token token = peek();
+        return switch (token.type) {
+            case STRING -> {
+                position++;
+                yield StringQueryValue.of(unquote(token.text));
+            }
+            case INTEGER -> {
+                position++;
+                yield NumberQueryValue.of(Integer.valueOf(token.text));
+            }
+            case DOUBLE -> {
+                position++;
+                yield NumberQueryValue.of(Double.valueOf(token.text));
+            }
+            case WORD -> EnumQueryValue.of(EnumConverter.INSTANCE.apply(path()));
+            case SYMBOL -> {
+                if (symbol(":")) {
+                    yield DefaultQueryValue.of(":" + identifier());
+                } else if (symbol("?")) {
+                    yield DefaultQueryValue.of("?" + next(Type.INTEGER).text);
+                }
+                throw UNSUPPORTED;
+            }
+            default -> throw UNSUPPORTED;
+        };
+    }
+
+    private String path() {
+        String path = identifier();
+        if (!symbol(".")) {
+            return path;
+        }
+        StringBuilder builder = new StringBuilder(path);
+        do {
+            builder.append('.').append(identifier());
+        } while (symbol("."));
+        return builder.toString();
+    }
+
+    private String identifier() {
+        String text = next(Type.WORD).text;
+        if (KEYWORDS.contains(text.toUpperCase(Locale.US)) || CASE_SENSITIVE_KEYWORDS.contains(text)) {
+            throw UNSUPPORTED;
+        }
+        return text;
+    }
+
+    private boolean keyword(String keyword) {
+        Token token = peek();
+        if (token.type == Type.WORD && token.text.equalsIgnoreCase(keyword)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expectKeyword(String keyword) {
+        if (!keyword(keyword)) {
+            throw UNSUPPORTED;
+        }
+    }
+
+    private boolean symbol(String symbol) {
+        Token token = peek();
+        if (token.type == Type.SYMBOL && token.text.equals(symbol)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expectSymbol(String symbol) {
+        if (!symbol(symbol)) {
+            throw UNSUPPORTED;
+        }
+    }
+
+    private Token peek() {
+        return tokens.get(position);
+    }
+
+    private Token next(Type type) {
+        Token token = tokens.get(position);
+        if (token.type != type) {
+            throw UNSUPPORTED;
+        }
+        position++;
+        return token;
+    }
+
+    private static String unquote(String text) {
+        return text.substring(1, text.length() - 1);
+    }
+
+    private static List<Token> tokenize(String query) {
+        List<Token> tokens = new ArrayList<>();
+        int length = query.length();
+        int index = 0;
+        while (index < length) {
+            char character = query.charAt(index);
+            int start = index;
+            if (character == ' ' || character == '\t' || character == '\r' || character == '\n') {
+                index++;
+                continue;
+            } else if (isIdentifierStart(character)) {
+                do {
+                    index++;
+                } while (index < length && (isIdentifierStart(query.charAt(index)) || isDigit(query.charAt(index))));
+                tokens.add(new Token(Type.WORD, query.substring(start, index)));
+            } else if (isNumberStart(query, index)) {
+                if (character == '-') {
+                    index++;
+                }
+                boolean integer = true;
+                while (index < length && isDigit(query.charAt(index))) {
+                    index++;
+                }
+                if (index < length && query.charAt(index) == '.') {
+                    integer = false;
+                    do {
+                        index++;
+                    } while (index < length && isDigit(query.charAt(index)));
+                }
+                tokens.add(new Token(integer ? Type.INTEGER : Type.DOUBLE, query.substring(start, index)));
+            } else if (character == '\'' || character == '"') {
+                index++;
+                while (index < length && query.charAt(index) != character) {
+                    index += query.charAt(index) == '\\' ? 2 : 1;
+                }
+                if (index >= length) {
+                    throw UNSUPPORTED;
+                }
+                index++;
+                tokens.add(new Token(Type.STRING, query.substring(start, index)));
+            } else if (query.startsWith(">=", index) || query.startsWith("<=", index)
+                    || query.startsWith("<>", index) || query.startsWith("||", index)) {
+                index += 2;
+                tokens.add(new Token(Type.SYMBOL, query.substring(start, index)));
+            } else if (query.startsWith("//", index) || query.startsWith("/*", index)
+                    || "=<>+-*/,.():?".indexOf(character) < 0) {
+                throw UNSUPPORTED;
+            } else {
+                index++;
+                tokens.add(new Token(Type.SYMBOL, String.valueOf(character)));
+            }
+        }
+        tokens.add(new Token(Type.EOF, ""));
+        return tokens;
+    }
+
+    private static boolean isNumberStart(String query, int index) {
+        int digit = query.charAt(index) == '-' ? index + 1 : index;
+        if (digit < query.length() && isDigit(query.charAt(digit))) {
+            return true;
+        }
+        return digit + 1 < query.length() && query.charAt(digit) == '.' && isDigit(query.charAt(digit + 1));
+    }
+
+    private static boolean isIdentifierStart(char character) {
+        return (character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z') || character == '_';
+    }
+
+    private static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+
+    /**
+     * The parts of a query that the fast parser reads.
+     *
+     * @param fields the fields of the select clause
+     * @param entity the entity, or null when the query has no from clause
+     * @param sorts  the sorts of the order by clause
+     * @param where  the condition, or null when the query has no where clause
+     */
+    record Result(List<String> fields, String entity, List<Sort<?>> sorts, Where where) {
+    }
+
+    private enum Type {
+        WORD, STRING, INTEGER, DOUBLE, SYMBOL, EOF
+    }
+
+    private record Token(Type type, String text) {
+    }
+
+    /**
+     * A node of the condition tree. The conditions are added to the {@link WhereBuilder} as {@link AbstractWhere}
+     * adds them from the ANTLR tree, where whether a condition is negated or joined with {@code OR} depends on the
+     * node that contains it.
+     */
+    private interface Node {
+
+        void walk(WhereBuilder builder, Condition parent);
+    }
+
+    /**
+     * An {@code AND}, {@code OR} or {@code NOT} node, or a parenthesized condition when the operator is null.
+     */
+    private record Composite(Condition operator, Node left, Node right) implements Node {
+
+        @Override
+        public void walk(WhereBuilder builder, Condition parent) {
+            left.walk(builder, operator);
+            if (right != null) {
+                right.walk(builder, operator);
+            }
+        }
+    }
+
+    /**
+     * A condition. The negation of a comparison comes from the {@code NOT} node that contains it, and the one of the
+     * other conditions from their own {@code NOT}, as in {@code [NOT] IN}.
+     */
+    private record Leaf(String name, Condition condition, QueryValue<?> value, Boolean not) implements Node {
+
+        @Override
+        public void walk(WhereBuilder builder, Condition parent) {
+            boolean hasNot = not == null ? Condition.NOT.equals(parent) : not;
+            builder.add(new DefaultQueryCondition(name, condition, value), hasNot, !Condition.OR.equals(parent));
+        }
+    }
+
+    private static final class Unsupported extends RuntimeException {
+
+        private Unsupported() {
+            super("The query is not supported by the fast parser", null, false, false);
+        }
+    }
+}
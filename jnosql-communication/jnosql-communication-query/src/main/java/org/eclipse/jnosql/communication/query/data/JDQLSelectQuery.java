@@ -12,13 +12,19 @@
 package org.eclipse.jnosql.communication.query.data;
 
 import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.query.Aggregate;
 import org.eclipse.jnosql.communication.query.SelectQuery;
 import org.eclipse.jnosql.communication.query.Where;
 
 import java.util.List;
 import java.util.Optional;
 
-record JDQLSelectQuery(List<String> fields, String entity, List<Sort<?>> orderBy, Where condition, boolean count) implements SelectQuery {
+record JDQLSelectQuery(List<String> fields, String entity, List<Sort<?>> orderBy, Where condition, boolean count,
+                       List<Aggregate> aggregates, List<String> groupBy) implements SelectQuery {
+
+    JDQLSelectQuery(List<String> fields, String entity, List<Sort<?>> orderBy, Where condition, boolean count) {
+        this(fields, entity, orderBy, condition, count, List.of(), List.of());
+    }
 
     @Override
     public Optional<Where> where() {
@@ -13,13 +13,17 @@ package org.eclipse.jnosql.communication.query.data;
 
 import jakarta.data.Sort;
 import org.antlr.v4.runtime.tree.ParseTree;
+import org.eclipse.jnosql.communication.query.Aggregate;
+import org.eclipse.jnosql.communication.query.AggregateFunction;
 import org.eclipse.jnosql.communication.query.SelectQuery;
 import org.eclipse.jnosql.query.grammar.data.JDQLParser;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  * Implements the selection logic for a NoSQL query processing system by extending {@link AbstractWhere}.
@@ -33,44 +37,91 @@ public final class SelectProvider extends AbstractWhere implements BiFunction<St
 
     private final List<String> fields = new ArrayList<>();
 
+    private final List<Aggregate> aggregates = new ArrayList<>();
+
+    private final List<String> groupBy = new ArrayList<>();
+
     private boolean count = false;
 
+    private final Function<String, JDQLFastParser.Result> fastParser;
+
+    public SelectProvider() {
+        this(JDQLFastParser::select);
+    }
+
+    SelectProvider(Function<String, JDQLFastParser.Result> fastParser) {
+        this.fastParser = fastParser;
+    }
+
+    /**
+     * Creates a provider that parses every query with the ANTLR grammar, without the fast path for the simple
+     * queries, e.g., to build the prediction DFA of the parser at the warm up.
+     *
+     * @return a {@link SelectProvider} instance
+     */
+    public static SelectProvider withoutFastPath() {
+        return new SelectProvider(query -> null);
+    }
+
     @Override
     public SelectQuery apply(String query, String entity) {
         Objects.requireNonNull(query, " query is required");
         this.entity = entity;
-        runQuery(query);
+        JDQLFastParser.Result result = runQuery(query, fastParser);
+        if (result != null) {
+            fields.addAll(result.fields());
+            sorts.addAll(result.sorts());
+        }
         if(this.entity == null) {
             throw new IllegalArgumentException("The entity is required in the query");
         }
-        return new JDQLSelectQuery(fields, this.entity, sorts, where, count);
-    }
-
-    @Override
-    public void exitAggregate_expression(JDQLParser.Aggregate_expressionContext ctx) {
-        super.exitAggregate_expression(ctx);
-        this.count = true;
+        if (groupBy.isEmpty() && fields.isEmpty() && aggregates.equals(List.of(Aggregate.count()))) {
+            this.count = true;
+            this.aggregates.clear();
+        }
+        if (!aggregates.isEmpty() || !groupBy.isEmpty()) {
+            fields.stream().filter(f -> !groupBy.contains(f)).findFirst().ifPresent(f -> {
+                throw new IllegalArgumentException("The field " + f + " must either be in the GROUP BY clause or" +
+                        " be used in an aggregate function");
+            });
+        }
+        return new JDQLSelectQuery(fields, this.entity, sorts, where, count, aggregates, groupBy);
     }
 
     @Override
     public void exitOrderby_clause(JDQLParser.Orderby_clauseContext ctx) {
      ctx.orderby_item().stream().forEach(o -> {
-         String field = o.state_field_path_expression().getText();
-         boolean desc = o.getChild(1).getText().equals("DESC");
+         var aggregate = o.aggregate_expression();
+         String field = aggregate == null ? o.state_field_path_expression().getText() : aggregate(aggregate).alias();
+         boolean desc = o.DESC() != null;
          sorts.add(desc ? Sort.desc(field) : Sort.asc(field));
      });
     }
 
     @Override
     public void exitSelect_list(JDQLParser.Select_listContext ctx) {
-        var stateField = ctx.state_field_path_expression();
-        var aggregate = ctx.aggregate_expression();
+        for (var item : ctx.select_item()) {
+            var aggregate = item.aggregate_expression();
+            if (aggregate != null) {
+                aggregates.add(aggregate(aggregate));
+            } else {
+                fields.add(item.state_field_path_expression().getText());
+            }
+        }
+    }
+
+    @Override
+    public void exitGroupby_clause(JDQLParser.Groupby_clauseContext ctx) {
+        ctx.state_field_path_expression().stream().map(ParseTree::getText).forEach(groupBy::add);
+    }
 
-        if (stateField != null) {
-            stateField.stream().map(ParseTree::getText).forEach(fields::add);
-        } else if (aggregate != null) {
-           this.count = true;
+    private static Aggregate aggregate(JDQLParser.Aggregate_expressionContext ctx) {
+        var field = ctx.state_field_path_expression();
+        if (field == null) {
+            return Aggregate.count();
         }
+        var function = AggregateFunction.valueOf(ctx.aggregate_function().getText().toUpperCase(Locale.US));
+        return Aggregate.of(function, field.getText());
     }
 
     @Override
@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query.data;
+
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.query.ConditionQueryValue;
+import org.eclipse.jnosql.communication.query.QueryCondition;
+import org.eclipse.jnosql.communication.query.Where;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import static org.eclipse.jnosql.communication.Condition.AND;
+import static org.eclipse.jnosql.communication.Condition.NOT;
+import static org.eclipse.jnosql.communication.Condition.OR;
+
+/**
+ * Builds the {@link Where} of a query from its conditions, in the order they appear at the query. It is shared by
+ * {@link AbstractWhere}, that walks the ANTLR tree, and {@link JDQLFastParser}, so both build the same conditions.
+ */
+final class WhereBuilder {
+
+    private QueryCondition condition;
+
+    private boolean and = true;
+
+    /**
+     * Appends a condition.
+     *
+     * @param newCondition the condition
+     * @param hasNot       whether the condition is negated
+     * @param andCondition whether the condition is joined to the previous ones with {@code AND}, otherwise with
+     *                     {@code OR}
+     */
+    void add(QueryCondition newCondition, boolean hasNot, boolean andCondition) {
+        if (this.condition != null && this.condition.value() instanceof ConditionQueryValue) {
+            and = andCondition;
+        }
+        checkCondition(newCondition, hasNot);
+        and = andCondition;
+    }
+
+    /**
+     * Returns the {@link Where} of the conditions added so far.
+     *
+     * @return the where or null when there is no condition
+     */
+    Where where() {
+        return Objects.isNull(condition) ? null : Where.of(condition);
+    }
+
+    private void checkCondition(QueryCondition condition, boolean hasNot) {
+        QueryCondition newCondition = checkNotCondition(condition, hasNot);
+        if (Objects.isNull(this.condition)) {
+            this.condition = newCondition;
+            return;
+        }
+        if (and) {
+            appendCondition(AND, newCondition);
+        } else {
+            appendCondition(OR, newCondition);
+        }
+
+    }
+
+    private void appendCondition(Condition operator, QueryCondition newCondition) {
+
+        if (operator.equals(this.condition.condition())) {
+            ConditionQueryValue conditionValue = ConditionQueryValue.class.cast(this.condition.value());
+            List<QueryCondition> conditions = new ArrayList<>(conditionValue.get());
+            conditions.add(newCondition);
+            this.condition = new DefaultQueryCondition("_" + operator.name(), operator, ConditionQueryValue.of(conditions));
+        } else if (isNotAppendable()) {
+            List<QueryCondition> conditions = Arrays.asList(this.condition, newCondition);
+            this.condition = new DefaultQueryCondition("_" + operator.name(), operator, ConditionQueryValue.of(conditions));
+        } else {
+            List<QueryCondition> conditions = ConditionQueryValue.class.cast(this.condition.value()).get();
+            QueryCondition lastCondition = conditions.get(conditions.size() - 1);
+
+            if (isAppendable(lastCondition) && operator.equals(lastCondition.condition())) {
+                List<QueryCondition> lastConditions = new ArrayList<>(ConditionQueryValue.class
+                        .cast(lastCondition.value()).get());
+                lastConditions.add(newCondition);
+
+                QueryCondition newAppendable = new DefaultQueryCondition("_" + operator.name(),
+                        operator, ConditionQueryValue.of(lastConditions));
+
+                List<QueryCondition> newConditions = new ArrayList<>(conditions.subList(0, conditions.size() - 1));
+                newConditions.add(newAppendable);
+                this.condition = new DefaultQueryCondition(this.condition.name(), this.condition.condition(),
+                        ConditionQueryValue.of(newConditions));
+            } else {
+                QueryCondition newAppendable = new DefaultQueryCondition("_" + operator.name(),
+                        operator, ConditionQueryValue.of(Collections.singletonList(newCondition)));
+
+                List<QueryCondition> newConditions = new ArrayList<>(conditions);
+                newConditions.add(newAppendable);
+                this.condition = new DefaultQueryCondition(this.condition.name(), this.condition.condition(),
+                        ConditionQueryValue.of(newConditions));
+            }
+
+        }
+    }
+
+    private boolean isAppendable(QueryCondition condition) {
+        return (AND.equals(condition.condition()) || OR.equals(condition.condition()));
+    }
+
+    private boolean isNotAppendable() {
+        return !isAppendable(this.condition);
+    }
+
+    private QueryCondition checkNotCondition(QueryCondition condition, boolean hasNot) {
+        if (hasNot) {
+            ConditionQueryValue conditions = ConditionQueryValue.of(Collections.singletonList(condition));
+            return new DefaultQueryCondition("_NOT", NOT, conditions);
+        } else {
+            return condition;
+        }
+    }
+}
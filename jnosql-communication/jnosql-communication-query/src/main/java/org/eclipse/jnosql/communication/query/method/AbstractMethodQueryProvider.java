@@ -11,7 +11,6 @@
  */
 package org.eclipse.jnosql.communication.query.method;
 
-import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.tree.ParseTree;
@@ -23,6 +22,9 @@ import org.eclipse.jnosql.communication.query.ConditionQueryValue;
 import org.eclipse.jnosql.communication.query.ParamQueryValue;
 import org.eclipse.jnosql.communication.query.QueryCondition;
 import org.eclipse.jnosql.communication.query.QueryErrorListener;
+import org.eclipse.jnosql.communication.query.QueryParse;
+import org.eclipse.jnosql.communication.query.QueryParseEvent;
+import org.eclipse.jnosql.communication.query.QueryParsers;
 import org.eclipse.jnosql.communication.query.StringQueryValue;
 import org.eclipse.jnosql.communication.query.Where;
 import org.eclipse.jnosql.query.grammar.method.MethodBaseListener;
@@ -63,23 +65,21 @@ abstract class AbstractMethodQueryProvider extends MethodBaseListener {
     protected boolean shouldCount = false;
 
     protected void runQuery(String query) {
+        QueryParse event = QueryParse.start();
 
-        CharStream stream = CharStreams.fromString(query);
-        MethodLexer lexer = new MethodLexer(stream);
+        MethodLexer lexer = new MethodLexer(CharStreams.fromString(query));
         CommonTokenStream tokens = new CommonTokenStream(lexer);
         MethodParser parser = new MethodParser(tokens);
         lexer.removeErrorListeners();
-        parser.removeErrorListeners();
         lexer.addErrorListener(QueryErrorListener.INSTANCE);
-        parser.addErrorListener(QueryErrorListener.INSTANCE);
 
-        ParseTree tree = getParserTree().apply(parser);
-        ParseTreeWalker walker = new ParseTreeWalker();
-        walker.walk(this, tree);
+        ParseTree tree = QueryParsers.parse(parser, getParserTree());
+        ParseTreeWalker.DEFAULT.walk(this, tree);
 
         if (Objects.nonNull(condition)) {
             this.where = Where.of(condition);
         }
+        event.commit(QueryParseEvent.METHOD, query, getClass());
     }
 
     abstract Function<MethodParser, ParseTree> getParserTree();
@@ -26,7 +26,11 @@ public final class DeleteByMethodQueryProvider extends AbstractMethodQueryProvid
     public DeleteQuery apply(String query, String entity) {
         Objects.requireNonNull(query, " query is required");
         Objects.requireNonNull(entity, " entity is required");
-        runQuery(MethodQuery.of(query).get());
+        return apply(MethodQuery.of(query), entity);
+    }
+
+    DeleteQuery apply(MethodQuery query, String entity) {
+        runQuery(query.get());
         return DeleteQuery.of(entity, where);
     }
 
@@ -33,6 +33,6 @@ public enum DeleteMethodProvider implements BiFunction<Method, String, DeleteQue
         Objects.requireNonNull(method, "method is required");
         Objects.requireNonNull(entity, "entity is required");
         DeleteByMethodQueryProvider supplier = new DeleteByMethodQueryProvider();
-        return supplier.apply(method.getName(), entity);
+        return supplier.apply(MethodQuery.from(method), entity);
     }
 }
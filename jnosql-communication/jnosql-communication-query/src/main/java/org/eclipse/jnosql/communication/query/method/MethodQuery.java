@@ -11,21 +11,46 @@
  */
 package org.eclipse.jnosql.communication.query.method;
 
-import java.util.Collections;
+import java.lang.reflect.Method;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
+/**
+ * The method name of a repository split into the tokens of the method query grammar, e.g. {@code findByNameAndAge}
+ * into {@code findBy Name And Age}.
+ *
+ * <p>The names of the methods of a repository are normalized all at once, the first time any of them is used with
+ * {@link #from(Method)}, and then kept with the repository class. The names given by {@link #of(String)} are kept in a
+ * bounded cache of {@value #CACHE_SIZE} entries; beyond that, they are normalized on each call.</p>
+ */
 public final class MethodQuery implements Supplier<String> {
 
+    /**
+     * The maximum number of method names kept by {@link #of(String)}.
+     */
+    static final int CACHE_SIZE = 1_000;
+
     private final String value;
     private static final Pattern PATTERN = Pattern.compile("findBy|deleteBy|countAll|countBy|existsBy|"
             + "OrderBy|First(?=\\d+By)|(?<=First\\d{1,})By|IgnoreCase|"
             + "And|Or(?!der)|Null|Not|Equals|GreaterThanEqual|True|False|Contains|EndsWith|StartsWith|" +
             "LessThanEqual|GreaterThan|LessThan|Between|In|Like|Asc|Desc");
-    private static final Map<String, String> CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+    private static final ClassValue<Map<String, String>> REPOSITORIES = new ClassValue<>() {
+        @Override
+        protected Map<String, String> computeValue(Class<?> type) {
+            Map<String, String> queries = new HashMap<>();
+            for (Method method : type.getDeclaredMethods()) {
+                queries.computeIfAbsent(method.getName(), MethodQuery::normalize);
+            }
+            return Map.copyOf(queries);
+        }
+    };
+
     private MethodQuery(String value) {
         this.value = value;
     }
@@ -57,13 +82,40 @@ public final class MethodQuery implements Supplier<String> {
         return value.hashCode();
     }
 
+    /**
+     * Creates a {@link MethodQuery} from a method name.
+     *
+     * @param query the method name
+     * @return a {@link MethodQuery} instance
+     * @throws NullPointerException when query is null
+     */
     public static MethodQuery of(String query) {
         Objects.requireNonNull(query, "query is required");
         String value = CACHE.get(query);
         if (Objects.isNull(value)) {
-            value = PATTERN.matcher(query).replaceAll(" $0 ").trim();
-            CACHE.put(query, value);
+            value = normalize(query);
+            if (CACHE.size() < CACHE_SIZE) {
+                CACHE.putIfAbsent(query, value);
+            }
         }
         return new MethodQuery(value);
     }
+
+    /**
+     * Creates a {@link MethodQuery} from the name of a repository method. The names of all the methods declared by
+     * the same class are normalized together, once.
+     *
+     * @param method the repository method
+     * @return a {@link MethodQuery} instance
+     * @throws NullPointerException when method is null
+     */
+    public static MethodQuery from(Method method) {
+        Objects.requireNonNull(method, "method is required");
+        String value = REPOSITORIES.get(method.getDeclaringClass()).get(method.getName());
+        return new MethodQuery(Objects.requireNonNullElseGet(value, () -> normalize(method.getName())));
+    }
+
+    private static String normalize(String query) {
+        return PATTERN.matcher(query).replaceAll(" $0 ").trim();
+    }
 }
@@ -28,6 +28,6 @@ public enum SelectMethodProvider implements BiFunction<Method, String, SelectQue
         Objects.requireNonNull(method, "method is required");
         Objects.requireNonNull(entity, "entity is required");
         SelectMethodQueryProvider supplier = new SelectMethodQueryProvider();
-        return supplier.apply(method.getName(), entity);
+        return supplier.apply(MethodQuery.from(method), entity);
     }
 }
@@ -33,7 +33,11 @@ public final class SelectMethodQueryProvider extends AbstractMethodQueryProvider
     public SelectQuery apply(String query, String entity) {
         Objects.requireNonNull(query, " query is required");
         Objects.requireNonNull(entity, " entity is required");
-        runQuery(MethodQuery.of(query).get());
+        return apply(MethodQuery.of(query), entity);
+    }
+
+    SelectQuery apply(MethodQuery query, String entity) {
+        runQuery(query.get());
         return new MethodSelectQuery(entity, sorts, where, limit, shouldCount);
     }
 
@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.query.data.DeleteProvider;
+import org.eclipse.jnosql.communication.query.data.SelectProvider;
+import org.eclipse.jnosql.communication.query.method.SelectMethodQueryProvider;
+import org.eclipse.jnosql.query.grammar.data.JDQLLexer;
+import org.eclipse.jnosql.query.grammar.data.JDQLParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class QueryParsersTest {
+
+    @Test
+    void shouldParseWithSLL() {
+        JDQLParser parser = parser("FROM entity WHERE name = :name AND age > 10 ORDER BY name ASC");
+
+        JDQLParser.Select_statementContext tree = QueryParsers.parse(parser, JDQLParser::select_statement);
+
+        assertSoftly(softly -> {
+            softly.assertThat(tree.where_clause()).isNotNull();
+            softly.assertThat(tree.orderby_clause()).isNotNull();
+            softly.assertThat(parser.getInterpreter().getPredictionMode()).isEqualTo(PredictionMode.SLL);
+        });
+    }
+
+    @Test
+    void shouldFallBackToLLWhenQueryIsInvalid() {
+        JDQLParser parser = parser("FROM entity WHERE name = = :name");
+
+        assertThatThrownBy(() -> QueryParsers.parse(parser, JDQLParser::select_statement))
+                .isInstanceOf(QueryException.class);
+        assertThat(parser.getInterpreter().getPredictionMode()).isEqualTo(PredictionMode.LL);
+    }
+
+    @ParameterizedTest(name = "Should return error at the query {0}")
+    @ValueSource(strings = {"FROM entity WHERE", "FROM entity WHERE age >", "FROM entity ORDER BY"})
+    void shouldReturnErrorWhenQueryIsInvalid(String query) {
+        assertThatThrownBy(() -> new SelectProvider().apply(query, null))
+                .isInstanceOf(QueryException.class);
+    }
+
+    @Test
+    void shouldParseConsecutiveQueries() {
+        SelectQuery first = new SelectProvider().apply("FROM entity WHERE age > 10", null);
+        DeleteQuery second = new DeleteProvider().apply("DELETE FROM other WHERE id = :id");
+        SelectQuery third = new SelectMethodQueryProvider().apply("findByName", "entity");
+
+        assertSoftly(softly -> {
+            softly.assertThat(first.entity()).isEqualTo("entity");
+            softly.assertThat(first.where()).isPresent();
+            softly.assertThat(second.entity()).isEqualTo("other");
+            softly.assertThat(third.where()).isPresent();
+        });
+    }
+
+    @Test
+    void shouldParseWithoutFastPath() {
+        String select = "FROM entity WHERE age > 10 ORDER BY name ASC";
+        String delete = "DELETE FROM entity WHERE id = :id";
+
+        assertSoftly(softly -> {
+            softly.assertThat(SelectProvider.withoutFastPath().apply(select, null))
+                    .isEqualTo(new SelectProvider().apply(select, null));
+            softly.assertThat(DeleteProvider.withoutFastPath().apply(delete))
+                    .isEqualTo(new DeleteProvider().apply(delete));
+        });
+    }
+
+    @Test
+    void shouldWarmUp() {
+        assertThatCode(() -> {
+            QueryParsers.warmUp();
+            QueryParsers.warmUp();
+        }).doesNotThrowAnyException();
+    }
+
+    private static JDQLParser parser(String query) {
+        JDQLLexer lexer = new JDQLLexer(CharStreams.fromString(query));
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(QueryErrorListener.INSTANCE);
+        return new JDQLParser(new CommonTokenStream(lexer));
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query.data;
+
+import org.eclipse.jnosql.communication.query.QueryParsers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the fast path of {@link SelectProvider} and {@link DeleteProvider} with the ANTLR parser on queries that
+ * both accept. The timings depend on the machine, so it only runs on demand:
+ * {@code mvn test -Dtest=JDQLFastParserBenchmarkTest -Djnosql.benchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "jnosql.benchmark", matches = "true")
+class JDQLFastParserBenchmarkTest {
+
+    private static final Logger LOGGER = Logger.getLogger(JDQLFastParserBenchmarkTest.class.getName());
+
+    private static final int WARM_UP = 5_000;
+
+    private static final int ITERATIONS = 50_000;
+
+    private static final List<String> SELECT_QUERIES = List.of(
+            "FROM entity",
+            "FROM entity WHERE name = :name",
+            "FROM entity WHERE name = ?1 AND age > ?2 ORDER BY name ASC, age DESC",
+            "SELECT name, address.city FROM entity WHERE age BETWEEN 10 AND 20 OR name LIKE 'Ada%'",
+            "FROM entity WHERE NOT (age < 10) AND name IN ('Ada', 'Grace') AND active = TRUE");
+
+    private static final List<String> DELETE_QUERIES = List.of(
+            "DELETE FROM entity WHERE id = :id",
+            "DELETE FROM entity WHERE age > ?1 OR name IN ('Ada', 'Grace')");
+
+    private int sink;
+
+    @Test
+    void shouldSelectFasterThanANTLR() {
+        QueryParsers.warmUp();
+        double fast = nanosPerQuery(SELECT_QUERIES, q -> new SelectProvider().apply(q, "entity"));
+        double antlr = nanosPerQuery(SELECT_QUERIES, q -> SelectProvider.withoutFastPath().apply(q, "entity"));
+        LOGGER.info(() -> String.format("select: fast path %.0f ns, ANTLR %.0f ns per query", fast, antlr));
+        assertThat(fast).isLessThan(antlr);
+        assertThat(sink).isNotZero();
+    }
+
+    @Test
+    void shouldDeleteFasterThanANTLR() {
+        QueryParsers.warmUp();
+        double fast = nanosPerQuery(DELETE_QUERIES, q -> new DeleteProvider().apply(q));
+        double antlr = nanosPerQuery(DELETE_QUERIES, q -> DeleteProvider.withoutFastPath().apply(q));
+        LOGGER.info(() -> String.format("delete: fast path %.0f ns, ANTLR %.0f ns per query", fast, antlr));
+        assertThat(fast).isLessThan(antlr);
+        assertThat(sink).isNotZero();
+    }
+
+    private double nanosPerQuery(List<String> queries, Function<String, ?> provider) {
+        run(queries, provider, WARM_UP);
+        long start = System.nanoTime();
+        run(queries, provider, ITERATIONS);
+        return (double) (System.nanoTime() - start) / ((long) ITERATIONS * queries.size());
+    }
+
+    private void run(List<String> queries, Function<String, ?> provider, int iterations) {
+        for (int index = 0; index < iterations; index++) {
+            for (String query : queries) {
+                sink += provider.apply(query).hashCode();
+            }
+        }
+    }
+}
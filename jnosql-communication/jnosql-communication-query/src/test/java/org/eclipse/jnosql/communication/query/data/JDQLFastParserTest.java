@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query.data;
+
+import org.eclipse.jnosql.communication.query.DeleteQuery;
+import org.eclipse.jnosql.communication.query.SelectQuery;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JDQLFastParserTest {
+
+    @ParameterizedTest(name = "Should parse the query {0} as the ANTLR parser")
+    @ValueSource(strings = {"", "FROM entity", "FROM other", "WHERE age = 10", "FROM entity WHERE age = 10",
+            "SELECT name, address.city FROM entity WHERE name = :name ORDER BY name ASC, age DESC",
+            "FROM entity WHERE age > 10 AND salary >= 10.15 AND name < 'Ada' AND nickname <= \"Ada\"",
+            "FROM entity WHERE age = 10 OR salary = 10.15 OR name = ?1",
+            "FROM entity WHERE age = 10 OR salary = 10.15 AND name = ?1",
+            "FROM entity WHERE age = 10 AND salary = 10.15 OR name = ?1 AND active = TRUE",
+            "FROM entity WHERE NOT age = 10 AND NOT active = FALSE",
+            "FROM entity WHERE NOT (age = 10 OR salary = -.5) AND name = :name",
+            "FROM entity WHERE (age = -10 OR salary = 1.) AND (name = :name OR nickname = :nickname)",
+            "FROM entity WHERE age BETWEEN 10 AND 20 AND name NOT BETWEEN :start AND ?2",
+            "FROM entity WHERE name LIKE 'Ada%' OR name NOT LIKE \"Gr\\\"ace%\"",
+            "FROM entity WHERE age IN (10, 20.5, 'Ada', :age, ?1) OR age NOT IN (java.time.DayOfWeek.MONDAY)",
+            "FROM entity WHERE day = java.time.DayOfWeek.MONDAY ORDER BY day asc",
+            "from entity where age = 10 and name = :name order by name ASC",
+            "WHERE local = 10 AND date = 10 AND _time1 = 10", "FROM Product WHERE min > 10 AND max < 20",
+            "FROM Group", "FROM entity ORDER BY max ASC, sum DESC", "FROM entity ORDER BY name desc",
+            "FROM entity ORDER BY name", "FROM entity ORDER BY name, age DeSc", "WHERE x = :sum AND avg IN (:group)",
+            "SELECT min, max FROM entity"})
+    void shouldSelectAsANTLR(String query) {
+        assertThat(JDQLFastParser.select(query)).isNotNull();
+        SelectQuery fast = new SelectProvider().apply(query, "entity");
+        SelectQuery antlr = new SelectProvider(q -> null).apply(query, "entity");
+        assertThat(fast).isEqualTo(antlr);
+    }
+
+    @ParameterizedTest(name = "Should parse the query {0} as the ANTLR parser")
+    @ValueSource(strings = {"DELETE FROM entity", "DELETE FROM entity WHERE id = :id",
+            "delete from entity where age > ?1 OR name IN ('Ada', 'Grace')", "DELETE FROM Group WHERE sum = :max",
+            "DELETE FROM entity WHERE NOT age = 10 AND name NOT LIKE 'Ada%'"})
+    void shouldDeleteAsANTLR(String query) {
+        assertThat(JDQLFastParser.delete(query)).isNotNull();
+        DeleteQuery fast = new DeleteProvider().apply(query);
+        DeleteQuery antlr = new DeleteProvider(q -> null).apply(query);
+        assertThat(fast).isEqualTo(antlr);
+    }
+
+    @ParameterizedTest(name = "Should leave the query {0} to the ANTLR parser")
+    @ValueSource(strings = {"SELECT COUNT(THIS) FROM entity", "SELECT name, SUM(salary) FROM entity GROUP BY name",
+            "FROM entity WHERE age <> 10", "FROM entity WHERE age = 10 + 1", "FROM entity WHERE (age) = 10",
+            "FROM entity WHERE name IS NULL", "FROM entity WHERE LOWER(name) = 'ada'",
+            "FROM entity WHERE date = LOCAL DATE", "FROM entity WHERE active = true", "FROM entity ORDER BY name up",
+            "FROM entity WHERE", "FROM entity WHERE age >", "FROM entity age",
+            "FROM order", "FROM entity WHERE name = 'Ada", "FROM entity // comment", "FROM entity WHERE name = :order",
+            "FROM entity WHERE age = 10000000000", "FROM entity WHERE day = MONDAY", "UPDATE entity SET age = 10",
+            "SELECT MAX(age) FROM entity", "FROM entity GROUP BY name"})
+    void shouldReturnNullWhenSelectIsNotSupported(String query) {
+        assertThat(JDQLFastParser.select(query)).isNull();
+    }
+
+    @ParameterizedTest(name = "Should leave the query {0} to the ANTLR parser")
+    @ValueSource(strings = {"DELETE entity", "DELETE FROM", "DELETE FROM entity WHERE age = ABS(10)",
+            "FROM entity WHERE age = 10", "DELETE FROM entity ORDER BY name ASC"})
+    void shouldReturnNullWhenDeleteIsNotSupported(String query) {
+        assertThat(JDQLFastParser.delete(query)).isNull();
+    }
+
+    @Test
+    void shouldReportTheErrorFromANTLR() {
+        assertThatThrownBy(() -> new SelectProvider().apply("FROM entity WHERE age <> 10", "entity"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
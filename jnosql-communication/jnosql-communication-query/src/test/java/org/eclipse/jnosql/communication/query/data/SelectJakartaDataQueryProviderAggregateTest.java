@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query.data;
+
+import jakarta.data.Sort;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.query.Aggregate;
+import org.eclipse.jnosql.communication.query.AggregateFunction;
+import org.eclipse.jnosql.communication.query.SelectQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SelectJakartaDataQueryProviderAggregateTest {
+
+    private SelectProvider selectProvider;
+
+    @BeforeEach
+    void setUp() {
+        selectProvider = new SelectProvider();
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"SELECT COUNT(THIS) FROM entity", "select count(this) from entity"})
+    void shouldKeepCountOfEntities(String query) {
+        SelectQuery selectQuery = selectProvider.apply(query, null);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(selectQuery.isCount()).isTrue();
+            soft.assertThat(selectQuery.isAggregate()).isFalse();
+            soft.assertThat(selectQuery.aggregates()).isEmpty();
+        });
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"SELECT SUM(salary), AVG(age), MIN(name), MAX(age), COUNT(age) FROM entity"})
+    void shouldReturnAggregates(String query) {
+        SelectQuery selectQuery = selectProvider.apply(query, null);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(selectQuery.isCount()).isFalse();
+            soft.assertThat(selectQuery.isAggregate()).isTrue();
+            soft.assertThat(selectQuery.fields()).isEmpty();
+            soft.assertThat(selectQuery.groupBy()).isEmpty();
+            soft.assertThat(selectQuery.aggregates()).containsExactly(
+                    Aggregate.of(AggregateFunction.SUM, "salary"),
+                    Aggregate.of(AggregateFunction.AVG, "age"),
+                    Aggregate.of(AggregateFunction.MIN, "name"),
+                    Aggregate.of(AggregateFunction.MAX, "age"),
+                    Aggregate.of(AggregateFunction.COUNT, "age"));
+        });
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"SELECT department, address.city, COUNT(THIS), SUM(salary) FROM entity WHERE age > 10 " +
+            "GROUP BY department, address.city ORDER BY SUM(salary) DESC, department ASC"})
+    void shouldReturnGroupBy(String query) {
+        SelectQuery selectQuery = selectProvider.apply(query, null);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(selectQuery.isCount()).isFalse();
+            soft.assertThat(selectQuery.fields()).containsExactly("department", "address.city");
+            soft.assertThat(selectQuery.groupBy()).containsExactly("department", "address.city");
+            soft.assertThat(selectQuery.aggregates()).containsExactly(Aggregate.count(),
+                    Aggregate.of(AggregateFunction.SUM, "salary"));
+            soft.assertThat(selectQuery.orderBy()).containsExactly(Sort.desc("sum(salary)"), Sort.asc("department"));
+            soft.assertThat(selectQuery.where()).isPresent();
+        });
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"SELECT COUNT(THIS) FROM entity GROUP BY department"})
+    void shouldCountByGroup(String query) {
+        SelectQuery selectQuery = selectProvider.apply(query, null);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(selectQuery.isCount()).isFalse();
+            soft.assertThat(selectQuery.aggregates()).containsExactly(Aggregate.count());
+            soft.assertThat(selectQuery.groupBy()).containsExactly("department");
+        });
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"SELECT name, SUM(salary) FROM entity GROUP BY department",
+            "SELECT name, SUM(salary) FROM entity"})
+    void shouldReturnErrorWhenFieldIsNotGrouped(String query) {
+        Assertions.assertThatThrownBy(() -> selectProvider.apply(query, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
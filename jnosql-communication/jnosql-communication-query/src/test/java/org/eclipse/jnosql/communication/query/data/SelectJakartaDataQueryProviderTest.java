@@ -25,6 +25,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.time.DayOfWeek;
+import java.util.List;
 
 class SelectJakartaDataQueryProviderTest {
 
@@ -393,4 +394,44 @@ class SelectJakartaDataQueryProviderTest {
             soft.assertThat(selectQuery.isCount()).isTrue();
         });
     }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"FROM Product WHERE min > 10", "FROM Product WHERE MIN > 10"})
+    void shouldUseAggregateFunctionNameAsField(String query) {
+        SelectQuery selectQuery = new SelectProvider(q -> null).apply(query, "entity");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(selectQuery.entity()).isEqualTo("Product");
+            var condition = selectQuery.where().orElseThrow().condition();
+            soft.assertThat(condition.condition()).isEqualTo(Condition.GREATER_THAN);
+            soft.assertThat(condition.name()).isEqualToIgnoringCase("min");
+            soft.assertThat(condition.value()).isEqualTo(NumberQueryValue.of(10));
+        });
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = "FROM Group")
+    void shouldUseGroupAsEntity(String query) {
+        SelectQuery selectQuery = new SelectProvider(q -> null).apply(query, "entity");
+        Assertions.assertEquals("Group", selectQuery.entity());
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = "ORDER BY max ASC")
+    void shouldOrderByAggregateFunctionName(String query) {
+        SelectQuery selectQuery = new SelectProvider(q -> null).apply(query, "entity");
+        Assertions.assertEquals(List.of(Sort.asc("max")), selectQuery.orderBy());
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = "WHERE x = :sum")
+    void shouldUseAggregateFunctionNameAsParameter(String query) {
+        SelectQuery selectQuery = new SelectProvider(q -> null).apply(query, "entity");
+
+        SoftAssertions.assertSoftly(soft -> {
+            var condition = selectQuery.where().orElseThrow().condition();
+            soft.assertThat(condition.name()).isEqualTo("x");
+            soft.assertThat(condition.value()).isEqualTo(DefaultQueryValue.of(":sum"));
+        });
+    }
 }
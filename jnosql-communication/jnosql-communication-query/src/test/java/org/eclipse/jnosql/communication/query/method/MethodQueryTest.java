@@ -16,6 +16,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.lang.reflect.Method;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -325,5 +327,28 @@ class MethodQueryTest {
         assertEquals("findBy Salary_Currency And Name", methodQuery.get());
     }
 
+    @Test
+    void shouldReturnErrorWhenMethodIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> MethodQuery.from(null));
+    }
+
+    @Test
+    void shouldCreateFromMethod() throws NoSuchMethodException {
+        Method method = PersonRepository.class.getDeclaredMethod("findByNameAndAge", String.class, int.class);
+        MethodQuery methodQuery = MethodQuery.from(method);
+        assertEquals("findBy Name And Age", methodQuery.get());
+        assertEquals(MethodQuery.of("findByNameAndAge"), methodQuery);
+    }
+
+    @Test
+    void shouldNormalizeBeyondCacheSize() {
+        for (int index = 0; index <= MethodQuery.CACHE_SIZE; index++) {
+            assertEquals("findBy Name" + index + " And Age", MethodQuery.of("findByName" + index + "AndAge").get());
+        }
+    }
+
+    interface PersonRepository {
 
-}
\ No newline at end of file
+        void findByNameAndAge(String name, int age);
+    }
+}
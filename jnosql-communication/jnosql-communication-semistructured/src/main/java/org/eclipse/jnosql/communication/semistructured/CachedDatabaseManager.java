@@ -0,0 +1,440 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import jakarta.data.page.CursoredPage;
+import jakarta.data.page.PageRequest;
+import org.eclipse.jnosql.communication.Settings;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A {@link DatabaseManager} decorator that keeps the results of {@link DatabaseManager#select(SelectQuery)}
+ * in memory, keyed by the canonical form of the query: entity name, condition, sorts, skip, limit and columns.
+ *
+ * <p>The cache has both a size-based, least recently used, and a time-based eviction. Any insert, update or delete
+ * through this manager invalidates every cached result of the same entity name. Writes done through other
+ * managers or directly in the database are not seen, so the time-to-live defines how stale a result might be.</p>
+ *
+ * <p>A result with more entities than the maximum rows per entry is not cached: its entities are streamed to the
+ * caller as the driver returns them, so a large result is never held in memory by the cache.</p>
+ *
+ * <p>The cached entities are copies: the caller might change the returned {@link CommunicationEntity}
+ * instances without affecting the cache.</p>
+ *
+ * @see QueryCacheConfigurations
+ * @see QueryCacheMetrics
+ */
+public final class CachedDatabaseManager implements DatabaseManager {
+
+    private static final long DEFAULT_MAX_SIZE = 1_000L;
+
+    private static final int DEFAULT_MAX_ROWS = 1_000;
+
+    private static final Duration DEFAULT_TTL = Duration.ofSeconds(60);
+
+    private final DatabaseManager manager;
+
+    private final long maxSize;
+
+    private final int maxRows;
+
+    private final long ttl;
+
+    private final Set<String> entities;
+
+    private final LongSupplier clock;
+
+    private final Map<QueryKey, CachedResult> results;
+
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final LongAdder invalidations = new LongAdder();
+
+    CachedDatabaseManager(DatabaseManager manager, long maxSize, int maxRows, Duration ttl, Set<String> entities,
+                          LongSupplier clock) {
+        this.manager = manager;
+        this.maxSize = maxSize;
+        this.maxRows = maxRows;
+        this.ttl = ttl.toNanos();
+        this.entities = entities;
+        this.clock = clock;
+        this.results = new LinkedHashMap<>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<QueryKey, CachedResult> eldest) {
+                boolean remove = size() > CachedDatabaseManager.this.maxSize;
+                if (remove) {
+                    evictions.increment();
+                }
+                return remove;
+            }
+        };
+    }
+
+    @Override
+    public String name() {
+        return manager.name();
+    }
+
+    @Override
+    public CommunicationEntity insert(CommunicationEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        try {
+            return manager.insert(entity);
+        } finally {
+            invalidate(entity.name());
+        }
+    }
+
+    @Override
+    public CommunicationEntity insert(CommunicationEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        try {
+            return manager.insert(entity, ttl);
+        } finally {
+            invalidate(entity.name());
+        }
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities) {
+        List<CommunicationEntity> values = toList(entities);
+        try {
+            return manager.insert(values);
+        } finally {
+            invalidate(values);
+        }
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities, Duration ttl) {
+        List<CommunicationEntity> values = toList(entities);
+        try {
+            return manager.insert(values, ttl);
+        } finally {
+            invalidate(values);
+        }
+    }
+
+    @Override
+    public CommunicationEntity update(CommunicationEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        try {
+            return manager.update(entity);
+        } finally {
+            invalidate(entity.name());
+        }
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> update(Iterable<CommunicationEntity> entities) {
+        List<CommunicationEntity> values = toList(entities);
+        try {
+            return manager.update(values);
+        } finally {
+            invalidate(values);
+        }
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> update(UpdateQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        try {
+            return manager.update(query);
+        } finally {
+            invalidate(query.name());
+        }
+    }
+
+    @Override
+    public long executeUpdate(UpdateQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        try {
+            return manager.executeUpdate(query);
+        } finally {
+            invalidate(query.name());
+        }
+    }
+
+    @Override
+    public void delete(DeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        try {
+            manager.delete(query);
+        } finally {
+            invalidate(query.name());
+        }
+    }
+
+    @Override
+    public Stream<CommunicationEntity> select(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return cache(query, manager::select);
+    }
+
+    @Override
+    public Stream<CommunicationEntity> aggregate(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return cache(query, manager::aggregate);
+    }
+
+    private Stream<CommunicationEntity> cache(SelectQuery query,
+                                              Function<SelectQuery, Stream<CommunicationEntity>> loader) {
+        if (!isCacheable(query.name())) {
+            return loader.apply(query);
+        }
+        QueryKey key = QueryKey.of(query);
+        List<CommunicationEntity> cached = get(key);
+        if (cached != null) {
+            hits.increment();
+            return cached.stream().map(CommunicationEntity::copy);
+        }
+        misses.increment();
+        long generation = generation(query.name()).get();
+        Stream<CommunicationEntity> source = loader.apply(query);
+        List<CommunicationEntity> entities = new ArrayList<>();
+        try {
+            Iterator<CommunicationEntity> iterator = source.iterator();
+            while (iterator.hasNext()) {
+                if (entities.size() == maxRows) {
+                    // too large to cache: the rows read so far and the remaining ones go to the caller as they are
+                    Stream<CommunicationEntity> remaining = StreamSupport.stream(
+                            Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+                    return Stream.concat(entities.stream(), remaining).onClose(source::close);
+                }
+                entities.add(iterator.next());
+            }
+        } catch (RuntimeException exception) {
+            source.close();
+            throw exception;
+        }
+        source.close();
+        put(key, generation, entities.stream().map(CommunicationEntity::copy).toList());
+        return entities.stream();
+    }
+
+    @Override
+    public long count(SelectQuery query) {
+        return manager.count(query);
+    }
+
+    @Override
+    public boolean exists(SelectQuery query) {
+        return manager.exists(query);
+    }
+
+    @Override
+    public CursoredPage<CommunicationEntity> selectCursor(SelectQuery query, PageRequest pageRequest) {
+        return manager.selectCursor(query, pageRequest);
+    }
+
+    @Override
+    public long count(String entity) {
+        return manager.count(entity);
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     *
+     * @return the {@link QueryCacheMetrics}
+     */
+    public QueryCacheMetrics metrics() {
+        long size;
+        synchronized (results) {
+            size = results.size();
+        }
+        return new QueryCacheMetrics(hits.sum(), misses.sum(), evictions.sum(), invalidations.sum(), size);
+    }
+
+    /**
+     * Removes every cached result of the given entity name.
+     *
+     * @param entity the entity name
+     * @throws NullPointerException when the entity is null
+     */
+    public void invalidate(String entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        generation(entity).incrementAndGet();
+        synchronized (results) {
+            var iterator = results.keySet().iterator();
+            while (iterator.hasNext()) {
+                if (entity.equals(iterator.next().name())) {
+                    iterator.remove();
+                    invalidations.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes every cached result.
+     */
+    public void invalidateAll() {
+        generations.values().forEach(AtomicLong::incrementAndGet);
+        synchronized (results) {
+            invalidations.add(results.size());
+            results.clear();
+        }
+    }
+
+    @Override
+    public void close() {
+        invalidateAll();
+        manager.close();
+    }
+
+    @Override
+    public String toString() {
+        return "CachedDatabaseManager{" +
+                "manager=" + manager +
+                ", maxSize=" + maxSize +
+                ", maxRows=" + maxRows +
+                ", ttl=" + Duration.ofNanos(ttl) +
+                ", entities=" + entities +
+                '}';
+    }
+
+    private boolean isCacheable(String entity) {
+        return entities.isEmpty() || entities.contains(entity);
+    }
+
+    private AtomicLong generation(String entity) {
+        return generations.computeIfAbsent(entity, k -> new AtomicLong());
+    }
+
+    private List<CommunicationEntity> get(QueryKey key) {
+        synchronized (results) {
+            CachedResult result = results.get(key);
+            if (result == null) {
+                return null;
+            }
+            if (result.expiresAt() - clock.getAsLong() <= 0) {
+                results.remove(key);
+                evictions.increment();
+                return null;
+            }
+            return result.entities();
+        }
+    }
+
+    private void put(QueryKey key, long generation, List<CommunicationEntity> entities) {
+        synchronized (results) {
+            // a write on the entity happened while the query was running, so the result may already be stale
+            if (generation(key.name()).get() != generation) {
+                return;
+            }
+            results.put(key, new CachedResult(entities, clock.getAsLong() + ttl));
+        }
+    }
+
+    private void invalidate(List<CommunicationEntity> entities) {
+        entities.stream().map(CommunicationEntity::name).distinct().forEach(this::invalidate);
+    }
+
+    private static List<CommunicationEntity> toList(Iterable<CommunicationEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<CommunicationEntity> values = new ArrayList<>();
+        entities.forEach(values::add);
+        return values;
+    }
+
+    /**
+     * Creates a {@link CachedDatabaseManager} with the given limits, caching the results of up to 1000 rows.
+     *
+     * @param manager  the manager to decorate
+     * @param maxSize  the maximum number of cached queries
+     * @param ttl      the time-to-live of each cached result
+     * @param entities the entity names whose queries are cached; when empty, every entity is cached
+     * @return a new {@link CachedDatabaseManager} instance
+     * @throws NullPointerException     when any parameter is null
+     * @throws IllegalArgumentException when either maxSize or ttl is not positive
+     */
+    public static CachedDatabaseManager of(DatabaseManager manager, long maxSize, Duration ttl, Set<String> entities) {
+        return of(manager, maxSize, DEFAULT_MAX_ROWS, ttl, entities);
+    }
+
+    /**
+     * Creates a {@link CachedDatabaseManager} with the given limits.
+     *
+     * @param manager  the manager to decorate
+     * @param maxSize  the maximum number of cached queries
+     * @param maxRows  the maximum number of entities of a cached result; a larger result is streamed without caching
+     * @param ttl      the time-to-live of each cached result
+     * @param entities the entity names whose queries are cached; when empty, every entity is cached
+     * @return a new {@link CachedDatabaseManager} instance
+     * @throws NullPointerException     when any parameter is null
+     * @throws IllegalArgumentException when either maxSize, maxRows or ttl is not positive
+     */
+    public static CachedDatabaseManager of(DatabaseManager manager, long maxSize, int maxRows, Duration ttl,
+                                           Set<String> entities) {
+        Objects.requireNonNull(manager, "manager is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        Objects.requireNonNull(entities, "entities is required");
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("The maxSize must be positive, value: " + maxSize);
+        }
+        if (maxRows <= 0) {
+            throw new IllegalArgumentException("The maxRows must be positive, value: " + maxRows);
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("The ttl must be positive, value: " + ttl);
+        }
+        return new CachedDatabaseManager(manager, maxSize, maxRows, ttl, Set.copyOf(entities), System::nanoTime);
+    }
+
+    /**
+     * Creates a {@link CachedDatabaseManager} from the {@link QueryCacheConfigurations} properties in the settings.
+     *
+     * @param manager  the manager to decorate
+     * @param settings the settings
+     * @return a new {@link CachedDatabaseManager} instance
+     * @throws NullPointerException when any parameter is null
+     */
+    public static CachedDatabaseManager of(DatabaseManager manager, Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        long maxSize = settings.get(QueryCacheConfigurations.MAX_SIZE, Long.class).orElse(DEFAULT_MAX_SIZE);
+        int maxRows = settings.get(QueryCacheConfigurations.MAX_ROWS, Integer.class).orElse(DEFAULT_MAX_ROWS);
+        Duration ttl = settings.get(QueryCacheConfigurations.TTL, Long.class).map(Duration::ofSeconds)
+                .orElse(DEFAULT_TTL);
+        Set<String> entities = settings.get(QueryCacheConfigurations.ENTITIES, String.class)
+                .map(s -> Stream.of(s.split(",")).map(String::trim).filter(e -> !e.isBlank())
+                        .collect(Collectors.toUnmodifiableSet()))
+                .orElse(Collections.emptySet());
+        return of(manager, maxSize, maxRows, ttl, entities);
+    }
+
+    private record CachedResult(List<CommunicationEntity> entities, long expiresAt) {
+    }
+}
@@ -28,8 +28,6 @@ import java.util.Set;
 import static java.util.Collections.unmodifiableSet;
 import static java.util.Objects.requireNonNull;
 import static java.util.Optional.ofNullable;
-import static java.util.stream.Collectors.collectingAndThen;
-import static java.util.stream.Collectors.toList;
 
 /**
  * Represents a communication level entity in the Eclipse JNoSQL framework.
@@ -39,18 +37,36 @@ import static java.util.stream.Collectors.toList;
  * <p>{@code CommunicationEntity} provides methods to manipulate and retrieve data in a semistructured manner,
  * allowing for flexible handling of data that does not strictly adhere to a predefined schema.</p>
  *
+ * <p>An entity created with an {@link EntityShape} is compact: it keeps the shared shape and an array with one
+ * value per slot, and it creates the {@link Element} of a field once, when it is first read. The equality and the
+ * hash code compare the values of the slots, without creating any element. The first change to its elements,
+ * e.g., an {@code add} or a {@code remove}, copies the values to the map form.</p>
+ *
  * @see Element
  * @see CommunicationEntity#elements()
  * @see CommunicationEntity#name()
  */
 public class CommunicationEntity {
 
-    private final Map<String, Element> elements = new HashMap<>();
+    private Map<String, Element> elements;
+
+    private EntityShape shape;
+
+    private Object[] slots;
+
+    private Element[] cache;
 
     private final String name;
 
     CommunicationEntity(String name) {
         this.name = name;
+        this.elements = new HashMap<>();
+    }
+
+    private CommunicationEntity(String name, EntityShape shape, Object[] slots) {
+        this.name = name;
+        this.shape = shape;
+        this.slots = slots;
     }
 
 
@@ -73,7 +89,7 @@ public class CommunicationEntity {
      */
     public void add(Element element) {
         Objects.requireNonNull(element, "Column is required");
-        this.elements.put(element.name(), element);
+        map().put(element.name(), element);
     }
 
     /**
@@ -85,7 +101,7 @@ public class CommunicationEntity {
      */
     public void add(String name, Object value) {
         requireNonNull(name, "name is required");
-        this.elements.put(name, Element.of(name, Value.of(value)));
+        map().put(name, Element.of(name, Value.of(value)));
     }
 
     /**
@@ -97,7 +113,7 @@ public class CommunicationEntity {
      */
     public void add(String name, Value value) {
         requireNonNull(name, "name is required");
-        this.elements.put(name, Element.of(name, value));
+        map().put(name, Element.of(name, value));
     }
 
     /**
@@ -108,7 +124,7 @@ public class CommunicationEntity {
      */
     public void addNull(String name){
         requireNonNull(name, "name is required");
-        this.elements.put(name, Element.of(name, Value.ofNull()));
+        map().put(name, Element.of(name, Value.ofNull()));
     }
 
     /**
@@ -119,6 +135,12 @@ public class CommunicationEntity {
      */
     public Map<String, Object> toMap() {
         Map<String, Object> map = new HashMap<>();
+        if (slots != null) {
+            for (int index = 0; index < slots.length; index++) {
+                map.put(shape.names().get(index), convert(element(index).get()));
+            }
+            return Collections.unmodifiableMap(map);
+        }
         for (Map.Entry<String, Element> entry : elements.entrySet()) {
             Element element = entry.getValue();
             map.put(entry.getKey(), convert(element.get()));
@@ -133,9 +155,14 @@ public class CommunicationEntity {
      * @return an unmodifiable list containing all elements
      */
     public List<Element> elements() {
-        return elements.values()
-                .stream()
-                .collect(collectingAndThen(toList(), Collections::unmodifiableList));
+        if (slots != null) {
+            Element[] values = new Element[slots.length];
+            for (int index = 0; index < slots.length; index++) {
+                values[index] = element(index);
+            }
+            return List.of(values);
+        }
+        return Collections.unmodifiableList(new ArrayList<>(elements.values()));
     }
 
     /**
@@ -156,7 +183,10 @@ public class CommunicationEntity {
      */
     public boolean remove(String name) {
         requireNonNull(name, "name is required");
-        return elements.remove(name) != null;
+        if (slots != null && shape.index(name) < 0) {
+            return false;
+        }
+        return map().remove(name) != null;
     }
 
     /**
@@ -168,8 +198,7 @@ public class CommunicationEntity {
      */
     public Optional<Element> find(String columnName) {
         requireNonNull(columnName, "columnName is required");
-        Element element = elements.get(columnName);
-        return ofNullable(element);
+        return ofNullable(get(columnName));
     }
 
     /**
@@ -185,7 +214,7 @@ public class CommunicationEntity {
     public <T> Optional<T> find(String elementName, Class<T> type) {
         Objects.requireNonNull(elementName, "elementName is required");
         Objects.requireNonNull(type, "type is required");
-        return ofNullable(elements.get(elementName))
+        return ofNullable(get(elementName))
                 .map(c -> c.get(type));
     }
 
@@ -202,7 +231,7 @@ public class CommunicationEntity {
     public <T> Optional<T> find(String elementName, TypeSupplier<T> type) {
         Objects.requireNonNull(elementName, "elementName is required");
         Objects.requireNonNull(type, "type is required");
-        return ofNullable(elements.get(elementName))
+        return ofNullable(get(elementName))
                 .map(v -> v.get(type));
     }
 
@@ -212,7 +241,7 @@ public class CommunicationEntity {
      * @return the number of elements in this communication entity
      */
     public int size() {
-        return elements.size();
+        return slots != null ? slots.length : elements.size();
     }
 
     /**
@@ -221,7 +250,7 @@ public class CommunicationEntity {
      * @return {@code true} if this communication entity contains no elements, {@code false} otherwise
      */
     public boolean isEmpty() {
-        return elements.isEmpty();
+        return size() == 0;
     }
 
     /**
@@ -230,6 +259,9 @@ public class CommunicationEntity {
      * @return a new instance of CommunicationEntity with the same elements and name
      */
     public CommunicationEntity copy() {
+        if (slots != null) {
+            return new CommunicationEntity(this.name, shape, slots);
+        }
         CommunicationEntity entity = new CommunicationEntity(this.name);
         entity.elements.putAll(new HashMap<>(this.elements));
         return entity;
@@ -241,6 +273,9 @@ public class CommunicationEntity {
      * @return an unmodifiable set containing the names of all elements
      */
     public Set<String> elementNames() {
+        if (slots != null) {
+            return Set.copyOf(shape.names());
+        }
         return unmodifiableSet(elements.keySet());
     }
 
@@ -250,11 +285,15 @@ public class CommunicationEntity {
      * @return an unmodifiable collection containing the values of all elements
      */
     public Collection<Value> values() {
-        return elements
-                .values()
-                .stream()
-                .map(Element::value)
-                .collect(collectingAndThen(toList(), Collections::unmodifiableList));
+        List<Value> values = new ArrayList<>(size());
+        if (slots != null) {
+            for (int index = 0; index < slots.length; index++) {
+                values.add(element(index).value());
+            }
+        } else {
+            elements.values().forEach(e -> values.add(e.value()));
+        }
+        return Collections.unmodifiableList(values);
     }
 
     /**
@@ -266,14 +305,14 @@ public class CommunicationEntity {
      */
     public boolean contains(String name) {
         requireNonNull(name, "name is required");
-        return elements.containsKey(name);
+        return slots != null ? shape.index(name) >= 0 : elements.containsKey(name);
     }
 
     /**
      * Removes all elements from this communication entity.
      */
     public void clear() {
-        elements.clear();
+        map().clear();
     }
 
     @Override
@@ -285,13 +324,38 @@ public class CommunicationEntity {
             return false;
         }
         CommunicationEntity that = (CommunicationEntity) o;
-        return Objects.equals(elements, that.elements) &&
-                Objects.equals(name, that.name);
+        if (!Objects.equals(name, that.name) || size() != that.size()) {
+            return false;
+        }
+        if (slots == null && that.slots == null) {
+            return elements.equals(that.elements);
+        }
+        CommunicationEntity compact = slots != null ? this : that;
+        CommunicationEntity other = compact == this ? that : this;
+        List<String> names = compact.shape.names();
+        for (int index = 0; index < compact.slots.length; index++) {
+            if (!other.hasValue(names.get(index), compact.slots[index])) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(elements, name);
+        int hash;
+        if (slots == null) {
+            hash = elements.hashCode();
+        } else {
+            // the hash code of the map form: the sum of the name hash XOR the element hash of each entry
+            hash = 0;
+            List<String> names = shape.names();
+            for (int index = 0; index < slots.length; index++) {
+                String field = names.get(index);
+                hash += field.hashCode() ^ DefaultElement.hashCode(field, valueHashCode(slots[index]));
+            }
+        }
+        return 31 * (31 + hash) + Objects.hashCode(name);
     }
 
     @Override
@@ -327,6 +391,84 @@ public class CommunicationEntity {
         return communicationEntity;
     }
 
+    /**
+     * Creates a compact instance of CommunicationEntity with the specified name, shape and values, the value of
+     * each field being at the slot of its name. The values array is kept as is, so it must not be changed after
+     * the call; a value might be either the object or a {@link Value}.
+     *
+     * @param name   the name of the communication entity
+     * @param shape  the shape shared by the entities with the same fields
+     * @param values the value of each slot of the shape
+     * @return a new CommunicationEntity instance with the specified name and elements
+     * @throws NullPointerException     when any parameter is null
+     * @throws IllegalArgumentException when the number of values is not the size of the shape
+     */
+    public static CommunicationEntity of(String name, EntityShape shape, Object[] values) {
+        requireNonNull(name, "name is required");
+        requireNonNull(shape, "shape is required");
+        requireNonNull(values, "values is required");
+        if (values.length != shape.size()) {
+            throw new IllegalArgumentException("The shape " + shape + " requires " + shape.size()
+                    + " values, but it has " + values.length);
+        }
+        return new CommunicationEntity(name, shape, values);
+    }
+
+    private Element get(String name) {
+        if (slots != null) {
+            int index = shape.index(name);
+            return index < 0 ? null : element(index);
+        }
+        return elements.get(name);
+    }
+
+    private Element element(int index) {
+        if (cache == null) {
+            cache = new Element[slots.length];
+        }
+        Element element = cache[index];
+        if (element == null) {
+            element = Element.of(shape.names().get(index), slots[index]);
+            cache[index] = element;
+        }
+        return element;
+    }
+
+    private boolean hasValue(String field, Object value) {
+        Object expected = value instanceof Value wrapped ? wrapped.get() : value;
+        if (slots != null) {
+            int index = shape.index(field);
+            if (index < 0) {
+                return false;
+            }
+            Object slot = slots[index];
+            return Objects.equals(slot instanceof Value wrapped ? wrapped.get() : slot, expected);
+        }
+        Element element = elements.get(field);
+        return element != null && Objects.equals(element.get(), expected);
+    }
+
+    private static int valueHashCode(Object slot) {
+        return slot instanceof Value value ? value.hashCode() : Objects.hashCode(slot);
+    }
+
+    /**
+     * The elements by name to be changed, copying the compact values to the map form on the first change.
+     */
+    private Map<String, Element> map() {
+        if (slots != null) {
+            Map<String, Element> map = new HashMap<>(slots.length * 2);
+            for (int index = 0; index < slots.length; index++) {
+                map.put(shape.names().get(index), element(index));
+            }
+            this.elements = map;
+            this.slots = null;
+            this.shape = null;
+            this.cache = null;
+        }
+        return elements;
+    }
+
     @SuppressWarnings("unchecked")
     private Object convert(Object value) {
         if (value instanceof Element) {
@@ -49,6 +49,8 @@ public final class CommunicationPreparedStatement {
 
     private UnaryOperator<SelectQuery> selectMapper = SELECT_MAPPER_DEFAULT;
 
+    private UnaryOperator<SelectQuery> countMapper = SELECT_MAPPER_DEFAULT;
+
     private CommunicationPreparedStatement(SelectQuery selectQuery,
                                            DeleteQuery deleteQuery,
                                            UpdateQuery updateQuery,
@@ -132,10 +134,11 @@ public final class CommunicationPreparedStatement {
         }
         switch (type) {
             case SELECT -> {
-                return manager.select(operator().apply(selectQuery));
+                SelectQuery query = operator().apply(SelectQuery.normalize(selectQuery));
+                return query.isAggregate() ? manager.aggregate(query) : manager.select(query);
             }
             case DELETE -> {
-                manager.delete(deleteQuery);
+                manager.delete(DeleteQuery.normalize(deleteQuery));
                 return Stream.empty();
             }
             case UPDATE -> {
@@ -164,6 +167,17 @@ public final class CommunicationPreparedStatement {
         this.selectMapper = selectMapper;
     }
 
+    /**
+     * Sets the operator applied to the query of a count operation before it is given to
+     * {@link DatabaseManager#count(SelectQuery)}, e.g., to select only the id column.
+     *
+     * @param countMapper the operator
+     */
+    public void setCountMapper(UnaryOperator<SelectQuery> countMapper) {
+        Objects.requireNonNull(countMapper, "countMapper is required");
+        this.countMapper = countMapper;
+    }
+
     /**
      * Returns the number of elements in the result.
      *
@@ -176,7 +190,7 @@ public final class CommunicationPreparedStatement {
             throw new QueryException("Check all the parameters before execute the query, params left: " + paramsLeft);
         }
         if (PreparedStatementType.COUNT.equals(type)) {
-            return manager.count(selectQuery);
+            return manager.count(countMapper.apply(SelectQuery.normalize(selectQuery)));
         }
         throw new IllegalArgumentException("The count operation is only allowed for COUNT queries");
 
@@ -184,6 +198,33 @@ public final class CommunicationPreparedStatement {
 
 
 
+    /**
+     * Executes an update operation without returning the updated entities, through
+     * {@link DatabaseManager#executeUpdate(UpdateQuery)}.
+     *
+     * @return the number of updated entities
+     * @throws QueryException if there are parameters left to bind
+     * @throws IllegalArgumentException if the operation is not an update operation
+     */
+    public long executeUpdate() {
+        if (!paramsLeft.isEmpty()) {
+            throw new QueryException("Check all the parameters before execute the query, params left: " + paramsLeft);
+        }
+        if (isUpdate()) {
+            return manager.executeUpdate(updateQuery);
+        }
+        throw new IllegalArgumentException("The executeUpdate operation is only allowed for UPDATE queries");
+    }
+
+    /**
+     * Checks if the operation is an update operation.
+     *
+     * @return {@code true} if the operation is an update operation, otherwise {@code false}
+     */
+    public boolean isUpdate() {
+        return PreparedStatementType.UPDATE.equals(type);
+    }
+
     /**
      * Returns the single result as an optional entity.
      *
@@ -191,15 +232,16 @@ public final class CommunicationPreparedStatement {
      * @throws NonUniqueResultException if the result contains more than one entity
      */
     public Optional<CommunicationEntity> singleResult() {
-        Stream<CommunicationEntity> entities = result();
-        final Iterator<CommunicationEntity> iterator = entities.iterator();
+        try (Stream<CommunicationEntity> entities = result()) {
+            final Iterator<CommunicationEntity> iterator = entities.iterator();
 
-        if (!iterator.hasNext()) {
-            return Optional.empty();
-        }
-        final CommunicationEntity next = iterator.next();
-        if (!iterator.hasNext()) {
-            return Optional.of(next);
+            if (!iterator.hasNext()) {
+                return Optional.empty();
+            }
+            final CommunicationEntity next = iterator.next();
+            if (!iterator.hasNext()) {
+                return Optional.of(next);
+            }
         }
 
         throw new NonUniqueResultException("The select returns more than one entity, select: " + query);
@@ -0,0 +1,364 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.Value;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Compiles a {@link CriteriaCondition} tree into a {@link Predicate} that evaluates entities in memory. The tree is
+ * read once: the junctions become arrays of predicates, the element names are split into their paths, the
+ * {@code LIKE} patterns become {@link Pattern} instances and the {@code IN} values become hash sets. A constant is
+ * converted to the type of the entity value on the first comparison and the conversion is kept for the next ones.
+ *
+ * <p>The comparisons follow the database semantics: an absent or null value never matches, and numbers are
+ * compared by their numeric value whatever their type. A {@code NOT} is pushed down to the comparisons, so it negates
+ * the comparison of a present value: {@code NOT(age > 10)} matches neither an entity without {@code age} nor an
+ * entity where it is null.</p>
+ *
+ * @see CriteriaCondition#toPredicate()
+ */
+final class ConditionCompiler {
+
+    private ConditionCompiler() {
+    }
+
+    static Predicate<CommunicationEntity> compile(CriteriaCondition condition) {
+        return compile(condition, false);
+    }
+
+    private static Predicate<CommunicationEntity> compile(CriteriaCondition condition, boolean negated) {
+        Element element = condition.element();
+        return switch (condition.condition()) {
+            case AND -> negated ? or(junction(element, true)) : and(junction(element, false));
+            case OR -> negated ? and(junction(element, true)) : or(junction(element, false));
+            case NOT -> compile(element.get(CriteriaCondition.class), !negated);
+            case EQUALS -> comparison(element, c -> c == 0, true, negated);
+            case GREATER_THAN -> comparison(element, c -> c > 0, false, negated);
+            case GREATER_EQUALS_THAN -> comparison(element, c -> c >= 0, false, negated);
+            case LESSER_THAN -> comparison(element, c -> c < 0, false, negated);
+            case LESSER_EQUALS_THAN -> comparison(element, c -> c <= 0, false, negated);
+            case IN -> in(element, negated);
+            case LIKE -> like(element, negated);
+            case BETWEEN -> between(element, negated);
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Predicate<CommunicationEntity>[] junction(Element element, boolean negated) {
+        List<CriteriaCondition> conditions = element.get(new TypeReference<List<CriteriaCondition>>() {
+        });
+        return conditions.stream().map(c -> compile(c, negated)).toArray(Predicate[]::new);
+    }
+
+    private static Predicate<CommunicationEntity> and(Predicate<CommunicationEntity>[] predicates) {
+        return entity -> {
+            for (Predicate<CommunicationEntity> predicate : predicates) {
+                if (!predicate.test(entity)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private static Predicate<CommunicationEntity> or(Predicate<CommunicationEntity>[] predicates) {
+        return entity -> {
+            for (Predicate<CommunicationEntity> predicate : predicates) {
+                if (predicate.test(entity)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    private static Predicate<CommunicationEntity> comparison(Element element, Comparison comparison, boolean equals,
+                                                            boolean negated) {
+        Path path = Path.of(element.name());
+        Constant constant = new Constant(resolve(element.get()));
+        return entity -> {
+            Object value = path.read(entity);
+            if (value == null) {
+                return false;
+            } else if (equals && !(value instanceof Number) && !(value instanceof Comparable<?>)) {
+                return constant.to(value.getClass()).equals(value) != negated;
+            }
+            int result = constant.compare(value);
+            return result != Constant.INCOMPARABLE && comparison.test(result) != negated;
+        };
+    }
+
+    private static Predicate<CommunicationEntity> between(Element element, boolean negated) {
+        Path path = Path.of(element.name());
+        Iterator<?> values = ((Iterable<?>) resolve(element.get())).iterator();
+        Constant lower = new Constant(values.next());
+        Constant upper = new Constant(values.next());
+        return entity -> {
+            Object value = path.read(entity);
+            if (value == null) {
+                return false;
+            }
+            int fromLower = lower.compare(value);
+            int fromUpper = upper.compare(value);
+            return fromLower != Constant.INCOMPARABLE && fromUpper != Constant.INCOMPARABLE
+                    && (fromLower >= 0 && fromUpper <= 0) != negated;
+        };
+    }
+
+    private static Predicate<CommunicationEntity> in(Element element, boolean negated) {
+        Path path = Path.of(element.name());
+        Members members = new Members((Iterable<?>) resolve(element.get()));
+        return entity -> {
+            Object value = path.read(entity);
+            return value != null && members.contains(value) != negated;
+        };
+    }
+
+    private static Predicate<CommunicationEntity> like(Element element, boolean negated) {
+        Path path = Path.of(element.name());
+        Pattern pattern = pattern(String.valueOf(resolve(element.get())));
+        return entity -> {
+            Object value = path.read(entity);
+            return value != null && pattern.matcher(value.toString()).matches() != negated;
+        };
+    }
+
+    /**
+     * Converts a LIKE pattern, where {@code %} matches any sequence and {@code _} any single character, into a
+     * regular expression; the other characters are literal.
+     */
+    static Pattern pattern(String like) {
+        StringBuilder regex = new StringBuilder(like.length() + 8);
+        StringBuilder literal = new StringBuilder();
+        for (char character : like.toCharArray()) {
+            if (character == '%' || character == '_') {
+                if (!literal.isEmpty()) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(character == '%' ? ".*" : ".");
+            } else {
+                literal.append(character);
+            }
+        }
+        if (!literal.isEmpty()) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    private static Object resolve(Object value) {
+        if (value instanceof Value parameter) {
+            return resolve(parameter.get());
+        } else if (value instanceof Iterable<?> iterable) {
+            List<Object> values = new ArrayList<>();
+            iterable.forEach(v -> values.add(resolve(v)));
+            return values;
+        }
+        return value;
+    }
+
+    /**
+     * The number, when the value is a number, as either a {@link Long} or a {@link Double}, so that equal numbers of
+     * different types share the same key.
+     */
+    private static Object normalize(Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        } else if (value instanceof Number number && !(value instanceof BigDecimal || value instanceof BigInteger)) {
+            double decimal = number.doubleValue();
+            long integral = (long) decimal;
+            return integral == decimal ? (Object) integral : (Object) decimal;
+        } else if (value instanceof BigDecimal decimal) {
+            boolean integral = decimal.stripTrailingZeros().scale() <= 0 && decimal.toBigInteger().bitLength() < 64;
+            return integral ? (Object) decimal.longValue() : (Object) decimal.doubleValue();
+        } else if (value instanceof BigInteger integer) {
+            return integer.bitLength() < 64 ? (Object) integer.longValue() : (Object) integer.doubleValue();
+        }
+        return value;
+    }
+
+    @FunctionalInterface
+    private interface Comparison {
+        boolean test(int result);
+    }
+
+    /**
+     * The name of an element, split into the path of a sub-document when it has dots.
+     */
+    private record Path(String name, String[] path) {
+
+        static Path of(String name) {
+            return new Path(name, name.split("\\."));
+        }
+
+        Object read(CommunicationEntity entity) {
+            Object value = entity.find(name).map(Element::get).orElse(null);
+            if (value != null || path.length == 1) {
+                return value;
+            }
+            Object current = entity.find(path[0]).map(Element::get).orElse(null);
+            for (int index = 1; index < path.length && current != null; index++) {
+                current = child(current, path[index]);
+            }
+            return current;
+        }
+
+        private static Object child(Object value, String name) {
+            if (value instanceof Element element) {
+                return name.equals(element.name()) ? element.get() : null;
+            } else if (value instanceof Map<?, ?> map) {
+                return map.get(name);
+            } else if (value instanceof Iterable<?> iterable) {
+                for (Object item : iterable) {
+                    if (item instanceof Element element && name.equals(element.name())) {
+                        return element.get();
+                    }
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A comparison constant. The numbers are compared as primitives; any other constant is converted once to the
+     * type of the entity value, and the conversion is kept while the entities share that type.
+     */
+    private static final class Constant {
+
+        static final int INCOMPARABLE = Integer.MIN_VALUE;
+
+        private final Object value;
+
+        private final boolean number;
+
+        private final boolean integral;
+
+        private final long longValue;
+
+        private final double doubleValue;
+
+        private volatile Converted converted;
+
+        Constant(Object value) {
+            this.value = value;
+            Object normalized = normalize(value);
+            this.number = normalized instanceof Number;
+            this.integral = normalized instanceof Long;
+            this.longValue = number ? ((Number) normalized).longValue() : 0L;
+            this.doubleValue = number ? ((Number) normalized).doubleValue() : 0D;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        int compare(Object actual) {
+            if (number && actual instanceof Number) {
+                Object normalized = normalize(actual);
+                if (integral && normalized instanceof Long other) {
+                    return Long.compare(other, longValue);
+                }
+                return Double.compare(((Number) normalized).doubleValue(), doubleValue);
+            }
+            Object target = to(actual.getClass());
+            if (actual instanceof Comparable comparable && actual.getClass().isInstance(target)) {
+                return Integer.signum(comparable.compareTo(target));
+            }
+            return actual.equals(target) ? 0 : INCOMPARABLE;
+        }
+
+        Object to(Class<?> type) {
+            Converted current = converted;
+            if (current != null && current.type() == type) {
+                return current.value();
+            }
+            Object target;
+            if (value == null || type.isInstance(value)) {
+                target = value;
+            } else {
+                try {
+                    target = Value.of(value).get(type);
+                } catch (RuntimeException exception) {
+                    target = value;
+                }
+            }
+            converted = new Converted(type, target);
+            return target;
+        }
+    }
+
+    private record Converted(Class<?> type, Object value) {
+    }
+
+    /**
+     * The values of an {@code IN} condition as a hash set, keyed by the {@link #normalize(Object) normalized}
+     * value; the set of the values converted to the type of the entity value is built once per type.
+     */
+    private static final class Members {
+
+        private final List<Object> values;
+
+        private final Set<Object> normalized;
+
+        private volatile Converted converted;
+
+        Members(Iterable<?> values) {
+            this.values = new ArrayList<>();
+            this.normalized = new HashSet<>();
+            for (Object value : values) {
+                this.values.add(value);
+                this.normalized.add(normalize(value));
+            }
+        }
+
+        boolean contains(Object actual) {
+            Object key = normalize(actual);
+            if (normalized.contains(key)) {
+                return true;
+            } else if (actual instanceof Number) {
+                return false;
+            }
+            return converted(actual.getClass()).contains(actual);
+        }
+
+        @SuppressWarnings("unchecked")
+        private Set<Object> converted(Class<?> type) {
+            Converted current = converted;
+            if (current != null && current.type() == type) {
+                return (Set<Object>) current.value();
+            }
+            Set<Object> set = new HashSet<>();
+            for (Object value : values) {
+                if (value == null || type.isInstance(value)) {
+                    set.add(value);
+                    continue;
+                }
+                try {
+                    set.add(Value.of(value).get(type));
+                } catch (RuntimeException exception) {
+                    set.add(value);
+                }
+            }
+            converted = new Converted(type, set);
+            return set;
+        }
+    }
+}
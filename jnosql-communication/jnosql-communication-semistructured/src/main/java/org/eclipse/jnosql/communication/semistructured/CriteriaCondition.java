@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Predicate;
 import java.util.stream.StreamSupport;
 
 
@@ -118,6 +119,45 @@ public final class CriteriaCondition {
         return CriteriaCondition.or(this, condition);
     }
 
+    /**
+     * Compiles this condition into a {@link Predicate} that checks entities in memory, e.g., to filter the result of
+     * a cache or of a driver without the condition support. The condition tree is read once: the names, the
+     * constants, the {@code LIKE} patterns and the {@code IN} sets are prepared, so the predicate should be kept and
+     * reused for every entity. An absent or null value never matches, and numbers are compared by value whatever
+     * their type.
+     *
+     * <p>The parameters of the condition, if any, must be bound before the call.</p>
+     *
+     * @return the predicate of this condition
+     */
+    public Predicate<CommunicationEntity> toPredicate() {
+        return ConditionCompiler.compile(this);
+    }
+
+    /**
+     * Returns an equivalent and simpler condition with the same operators: nested AND and OR are flattened and their
+     * duplicates removed, a double negation is removed, and the duplicate values of an IN are dropped. A parameter
+     * that is not bound yet is not read. It returns this condition when there is nothing to simplify.
+     *
+     * @return the normalized condition
+     * @see #mergeRanges()
+     */
+    public CriteriaCondition normalize() {
+        return QueryNormalizer.normalize(this);
+    }
+
+    /**
+     * Returns the {@link #normalize() normalized} condition where, in an AND, only the tightest bounds of a field are
+     * kept and an inclusive pair becomes a BETWEEN. The bounds are compared as Java does, and the bounds of a text
+     * field are never dropped, so it is meant for a driver that supports BETWEEN and opts in to it; the parsers and
+     * the templates never apply it.
+     *
+     * @return the condition with its ranges merged
+     */
+    public CriteriaCondition mergeRanges() {
+        return QueryNormalizer.mergeRanges(this);
+    }
+
     private Element getConditions(CriteriaCondition criteriaCondition, Condition condition) {
         List<CriteriaCondition> conditions = new ArrayList<>(element.get(new TypeReference<List<CriteriaCondition>>() {
         }));
@@ -178,7 +178,7 @@ enum CursorExecutor {
     private static DefaultSelectQuery updateQuery(int limit, SelectQuery query, CriteriaCondition condition) {
         return new DefaultSelectQuery(limit, 0, query.name(), query.columns(), query.sorts(),
                 query.condition().map(c -> CriteriaCondition.and(c, condition))
-                        .orElse(condition),false);
+                        .orElse(condition).normalize(), false);
     }
 
     private static void checkCursorKeySizes(PageRequest.Cursor cursor, List<Sort<?>> sorts) {
@@ -16,7 +16,9 @@ import jakarta.data.page.CursoredPage;
 import jakarta.data.page.PageRequest;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -155,10 +157,11 @@ public interface DatabaseManager extends AutoCloseable {
     /**
      * Modifies an existing entity in the database based on the specified query.
      *
-     * <p>This default implementation of the update operation is executed in memory. It fetches the
-     * entities using a selection query, applies updates in memory, and then writes each updated entity
-     * back to the database. While this method provides a straightforward and universal approach, it may
-     * impact performance due to multiple database read and write operations.</p>
+     * <p>This default implementation of the update operation is executed in memory. It streams the
+     * entities of a selection query, applies updates in memory, and then writes them back to the database
+     * through {@link #update(Iterable)} in batches. While this method provides a straightforward and universal
+     * approach, it may impact performance due to multiple database read and write operations, and it keeps
+     * every updated entity to return them; use {@link #executeUpdate(UpdateQuery)} when they are not needed.</p>
      *
      * <p>To enhance performance, especially in production environments, it is recommended that this
      * method is overridden by the database driver to perform the update operation directly in the database.
@@ -176,8 +179,29 @@ public interface DatabaseManager extends AutoCloseable {
      */
     default Iterable<CommunicationEntity> update(UpdateQuery query) {
         Objects.requireNonNull(query, "query is required");
-        var entities = this.select(query.toSelectQuery());
-        return entities.peek(e -> e.addAll(query.set())).map(this::update).toList();
+        List<CommunicationEntity> entities = new ArrayList<>();
+        UpdateBatches.execute(this, query, UpdateBatches.BATCH_SIZE, entities::add);
+        return entities;
+    }
+
+    /**
+     * Modifies the existing entities in the database based on the specified query, returning only how many
+     * entities were updated.
+     *
+     * <p>A driver with native set-based update support declares it by overriding this method, together with
+     * {@link #update(UpdateQuery)}, to run the update in the database. The default implementation streams the
+     * matching entities and writes them back through {@link #update(Iterable)} in batches of 500 entities,
+     * without keeping them: the memory is bounded by a single batch whatever the number of matching entities.</p>
+     *
+     * @param query the query used to select entities to update
+     * @return the number of updated entities
+     * @throws NullPointerException if the query is null
+     */
+    default long executeUpdate(UpdateQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return UpdateBatches.execute(this, query, UpdateBatches.BATCH_SIZE, updated -> {
+            // the updated entities are not kept
+        });
     }
 
     /**
@@ -199,9 +223,34 @@ public interface DatabaseManager extends AutoCloseable {
      */
     Stream<CommunicationEntity> select(SelectQuery query);
 
+    /**
+     * Executes an aggregate query, one with {@link SelectQuery#aggregates()} or {@link SelectQuery#groupBy()}, and
+     * returns one entity per group: it has the group by columns and a column per aggregate, named by
+     * {@link org.eclipse.jnosql.communication.query.Aggregate#alias()}. The sorts, the skip and the limit apply to
+     * the groups.
+     *
+     * <p>Drivers whose database aggregates natively should override this method to push the query down. The
+     * default implementation selects only the group by and aggregated columns and evaluates the aggregates in a
+     * single pass over the stream, keeping only the groups in memory.</p>
+     *
+     * @param query the aggregate query
+     * @return a stream with an entity per group
+     * @throws NullPointerException when the query is null
+     */
+    default Stream<CommunicationEntity> aggregate(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return StreamAggregator.aggregate(this, query);
+    }
+
     /**
      * Returns the number of entities in the database that match the specified query.
      *
+     * <p>Together with {@link #exists(SelectQuery)}, this is the aggregate operation that drivers should
+     * implement natively. The default implementation streams the entities of
+     * {@link SelectQuery#countBy(SelectQuery, String...)}, without the sorts and the pagination: it fetches only the
+     * query columns or, when there are none, the {@link SelectQuery#keys()} that the mapping layer sets to the id, so
+     * the entities are counted without reading whole documents.</p>
+     *
      * @param query the query
      * @return the number of entities returned by the query
      * @throws NullPointerException when the query is null
@@ -214,6 +263,10 @@ public interface DatabaseManager extends AutoCloseable {
     /**
      * Checks if an entity matching the specified query exists in the database.
      *
+     * <p>The default implementation selects at most one entity of
+     * {@link SelectQuery#existsBy(SelectQuery, String...)}, fetching only the query columns or its
+     * {@link SelectQuery#keys()}, as {@link #count(SelectQuery)} does.</p>
+     *
      * @param query the query
      * @return true if an entity with the given query exists, false otherwise
      * @throws NullPointerException when the query is null
@@ -291,14 +344,15 @@ public interface DatabaseManager extends AutoCloseable {
      */
     default Optional<CommunicationEntity> singleResult(SelectQuery query) {
         Objects.requireNonNull(query, "query is required");
-        Stream<CommunicationEntity> entities = select(query);
-        final Iterator<CommunicationEntity> iterator = entities.iterator();
-        if (!iterator.hasNext()) {
-            return Optional.empty();
-        }
-        final CommunicationEntity entity = iterator.next();
-        if (!iterator.hasNext()) {
-            return Optional.of(entity);
+        try (Stream<CommunicationEntity> entities = select(query)) {
+            final Iterator<CommunicationEntity> iterator = entities.iterator();
+            if (!iterator.hasNext()) {
+                return Optional.empty();
+            }
+            final CommunicationEntity entity = iterator.next();
+            if (!iterator.hasNext()) {
+                return Optional.of(entity);
+            }
         }
         throw new NonUniqueResultException("More than one entity was returned by the query: " + query);
     }
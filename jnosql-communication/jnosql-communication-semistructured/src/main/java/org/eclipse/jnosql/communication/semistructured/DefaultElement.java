@@ -38,4 +38,29 @@ record DefaultElement(String name, Value value) implements Element {
         return value.get();
     }
 
+    /**
+     * Two elements are equal when they have the same name and equal values, so an element that holds a primitive
+     * value, e.g., {@code Value.ofLong(10)}, is equal to one that holds the boxed value.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof DefaultElement that && Objects.equals(name, that.name)
+                && Objects.equals(value, that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode(name, value.hashCode());
+    }
+
+    /**
+     * The hash code of an element, so a compact {@link CommunicationEntity} gets it without creating the element.
+     */
+    static int hashCode(String name, int valueHashCode) {
+        return 31 * name.hashCode() + valueHashCode;
+    }
+
 }
@@ -13,6 +13,7 @@ package org.eclipse.jnosql.communication.semistructured;
 
 
 import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.query.Aggregate;
 
 import java.util.Collections;
 import java.util.List;
@@ -26,9 +27,16 @@ import static java.util.Optional.ofNullable;
  * The default implementation of column query.
  */
 record DefaultSelectQuery(long limit, long skip, String name,
-                          List<String> columns, List<Sort<?>> sorts, CriteriaCondition criteriaCondition, boolean count)
+                          List<String> columns, List<Sort<?>> sorts, CriteriaCondition criteriaCondition, boolean count,
+                          List<Aggregate> aggregates, List<String> groupBy)
         implements SelectQuery {
 
+    DefaultSelectQuery(long limit, long skip, String name, List<String> columns, List<Sort<?>> sorts,
+                       CriteriaCondition criteriaCondition, boolean count) {
+        this(limit, skip, name, columns, sorts, criteriaCondition, count, Collections.emptyList(),
+                Collections.emptyList());
+    }
+
 
     @Override
     public Optional<CriteriaCondition> condition() {
@@ -45,6 +53,16 @@ record DefaultSelectQuery(long limit, long skip, String name,
         return unmodifiableList(sorts);
     }
 
+    @Override
+    public List<Aggregate> aggregates() {
+        return unmodifiableList(aggregates);
+    }
+
+    @Override
+    public List<String> groupBy() {
+        return unmodifiableList(groupBy);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -58,6 +76,8 @@ record DefaultSelectQuery(long limit, long skip, String name,
                 Objects.equals(name, that.name()) &&
                 Objects.equals(columns, that.columns()) &&
                 Objects.equals(sorts, that.sorts()) &&
+                Objects.equals(aggregates, that.aggregates()) &&
+                Objects.equals(groupBy, that.groupBy()) &&
                 Objects.equals(criteriaCondition, that.condition().orElse(null));
     }
 
@@ -68,17 +88,32 @@ record DefaultSelectQuery(long limit, long skip, String name,
 
     @Override
     public int hashCode() {
-        return Objects.hash(limit, skip, name, columns, sorts, criteriaCondition);
+        return Objects.hash(limit, skip, name, columns, sorts, criteriaCondition, aggregates, groupBy);
     }
 
 
     static SelectQuery countBy(SelectQuery query) {
-        return new DefaultSelectQuery(0, 0, query.name(), query.columns(),
+        return countBy(query, keys(query));
+    }
+
+    static SelectQuery countBy(SelectQuery query, List<String> columns) {
+        return new DefaultSelectQuery(0, 0, query.name(), columns,
                 Collections.emptyList(), query.condition().orElse(null), true);
     }
 
     static SelectQuery existsBy(SelectQuery query) {
-        return new DefaultSelectQuery(1, 0, query.name(), query.columns(),
+        return existsBy(query, keys(query));
+    }
+
+    static SelectQuery existsBy(SelectQuery query, List<String> columns) {
+        return new DefaultSelectQuery(1, 0, query.name(), columns,
                 Collections.emptyList(), query.condition().orElse(null), false);
     }
+
+    /**
+     * The columns to fetch to count the entities of a query: the query columns, or its keys when it selects none.
+     */
+    private static List<String> keys(SelectQuery query) {
+        return query.columns().isEmpty() ? query.keys() : query.columns();
+    }
 }
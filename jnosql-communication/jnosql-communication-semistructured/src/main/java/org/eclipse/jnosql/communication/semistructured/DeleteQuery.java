@@ -52,6 +52,19 @@ public interface DeleteQuery {
      */
     List<String> columns();
 
+    /**
+     * Returns the query with its condition normalized by {@link CriteriaCondition#normalize()}, or the same query
+     * when the condition is already normalized.
+     *
+     * @param query the query
+     * @return the normalized query
+     * @throws NullPointerException when the query is null
+     */
+    static DeleteQuery normalize(DeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return QueryNormalizer.normalize(query);
+    }
+
     /**
      * Starts the first step of the {@link EntityDelete} API using a fluent API.
      * This first step will inform the fields to delete in the query instead of the whole record.
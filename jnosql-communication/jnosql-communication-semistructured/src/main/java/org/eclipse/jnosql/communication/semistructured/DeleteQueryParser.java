@@ -33,7 +33,7 @@ public final class DeleteQueryParser implements BiFunction<org.eclipse.jnosql.co
     Stream<CommunicationEntity> query(String query, DatabaseManager manager, CommunicationObserverParser observer) {
 
         DeleteQuery deleteQuery = getQuery(query, observer);
-        manager.delete(deleteQuery);
+        manager.delete(DeleteQuery.normalize(deleteQuery));
         return Stream.empty();
     }
 
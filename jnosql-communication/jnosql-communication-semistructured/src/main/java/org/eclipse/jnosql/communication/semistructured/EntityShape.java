@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The ordered field names shared by the rows of an entity, or of a projection, each name at a fixed slot. A
+ * {@link CommunicationEntity} created with a shape holds only the name and an array with the value of each slot, so
+ * a row of a large result does not build its own hash table, nor an {@link Element} and a
+ * {@link org.eclipse.jnosql.communication.Value} per field, until they are read.
+ *
+ * <p>The shapes are interned: the same names return the same instance, so a driver can either keep the shape of
+ * its query or ask for it on every row.</p>
+ *
+ * @see CommunicationEntity#of(String, EntityShape, Object[])
+ */
+public final class EntityShape {
+
+    private static final int MAX_SHAPES = 1024;
+
+    private static final Map<List<String>, EntityShape> SHAPES = new ConcurrentHashMap<>();
+
+    private final List<String> names;
+
+    private final Map<String, Integer> indexes;
+
+    private EntityShape(List<String> names) {
+        this.names = names;
+        this.indexes = new HashMap<>(names.size() * 2);
+        for (int index = 0; index < names.size(); index++) {
+            if (indexes.put(names.get(index), index) != null) {
+                throw new IllegalArgumentException("The shape has a duplicated field: " + names.get(index));
+            }
+        }
+    }
+
+    /**
+     * Returns the field names in slot order.
+     *
+     * @return an unmodifiable list of the field names
+     */
+    public List<String> names() {
+        return names;
+    }
+
+    /**
+     * Returns the number of slots.
+     *
+     * @return the number of slots
+     */
+    public int size() {
+        return names.size();
+    }
+
+    /**
+     * Returns the slot of the field.
+     *
+     * @param name the field name
+     * @return the slot of the field, or -1 when the shape does not have it
+     * @throws NullPointerException when the name is null
+     */
+    public int index(String name) {
+        Objects.requireNonNull(name, "name is required");
+        Integer index = indexes.get(name);
+        return index == null ? -1 : index;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof EntityShape that && names.equals(that.names);
+    }
+
+    @Override
+    public int hashCode() {
+        return names.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "EntityShape{" + names + '}';
+    }
+
+    /**
+     * Returns the shape of the field names.
+     *
+     * @param names the field names in slot order
+     * @return the shape of the names
+     * @throws NullPointerException     when the names or any name is null
+     * @throws IllegalArgumentException when a name is duplicated
+     */
+    public static EntityShape of(List<String> names) {
+        Objects.requireNonNull(names, "names is required");
+        EntityShape shape = SHAPES.get(names);
+        if (shape != null) {
+            return shape;
+        }
+        List<String> copy = List.copyOf(names);
+        if (SHAPES.size() >= MAX_SHAPES) {
+            // the names are too many to be the fixed columns of queries, e.g., dynamic documents
+            return new EntityShape(copy);
+        }
+        return SHAPES.computeIfAbsent(copy, EntityShape::new);
+    }
+
+    /**
+     * Returns the shape of the field names.
+     *
+     * @param names the field names in slot order
+     * @return the shape of the names
+     * @throws NullPointerException     when the names or any name is null
+     * @throws IllegalArgumentException when a name is duplicated
+     */
+    public static EntityShape of(String... names) {
+        Objects.requireNonNull(names, "names is required");
+        return of(List.of(names));
+    }
+}
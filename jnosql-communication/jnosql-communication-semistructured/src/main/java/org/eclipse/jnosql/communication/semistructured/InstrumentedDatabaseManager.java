@@ -0,0 +1,436 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import jakarta.data.page.CursoredPage;
+import jakarta.data.page.PageRequest;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.metrics.DatabaseCall;
+import org.eclipse.jnosql.communication.metrics.DatabaseCallEvent;
+import org.eclipse.jnosql.communication.metrics.DatabaseMetrics;
+import org.eclipse.jnosql.communication.metrics.DatabaseOperation;
+import org.eclipse.jnosql.communication.metrics.FlightRecorderEvents;
+import org.eclipse.jnosql.communication.metrics.MetricsConfigurations;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * A {@link DatabaseManager} decorator that records, per entity name and {@link DatabaseOperation}, the duration
+ * and the rows of every call into a {@link DatabaseMetrics}. The select is measured until its stream is either
+ * exhausted or closed, whichever comes first, so the duration includes the time the driver spends fetching the
+ * rows. A select stream that is neither exhausted nor closed, e.g. one read with {@link Stream#findFirst()} and then
+ * dropped, is not recorded. The batches of the insert and update are given to the driver as they are, and their
+ * rows are counted while the driver reads them.
+ *
+ * <p>A call that fails, e.g. the driver throws or times out, is recorded as well, with the failed flag of
+ * {@link DatabaseMetrics#record(String, String, DatabaseOperation, long, long, boolean)}; its rows are the batch
+ * size for a write and zero for a read. A failed batch that the driver did not read has no entity name.</p>
+ *
+ * <p>Each call is also reported as a {@link DatabaseCallEvent} to the JDK Flight Recorder; to get these events
+ * without any enabled {@link DatabaseMetrics}, set the {@link MetricsConfigurations#JFR_ENABLED} property. The
+ * decorator only adds two {@link System#nanoTime()} calls, the {@link DatabaseMetrics#record} call and the event
+ * check to each operation.</p>
+ *
+ * @see DatabaseMetrics
+ */
+public class InstrumentedDatabaseManager implements DatabaseManager {
+
+    private final DatabaseManager manager;
+
+    private final DatabaseMetrics metrics;
+
+    protected InstrumentedDatabaseManager(DatabaseManager manager, DatabaseMetrics metrics) {
+        this.manager = Objects.requireNonNull(manager, "manager is required");
+        this.metrics = Objects.requireNonNull(metrics, "metrics is required");
+    }
+
+    @Override
+    public String name() {
+        return manager.name();
+    }
+
+    @Override
+    public CommunicationEntity insert(CommunicationEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        DatabaseCall event = DatabaseCall.start();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            CommunicationEntity result = manager.insert(entity);
+            failed = false;
+            return result;
+        } finally {
+            record(event, entity.name(), DatabaseOperation.INSERT, start, 1, failed);
+        }
+    }
+
+    @Override
+    public CommunicationEntity insert(CommunicationEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        DatabaseCall event = DatabaseCall.start();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            CommunicationEntity result = manager.insert(entity, ttl);
+            failed = false;
+            return result;
+        } finally {
+            record(event, entity.name(), DatabaseOperation.INSERT, start, 1, failed);
+        }
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities) {
+        CountingIterable values = new CountingIterable(entities);
+        DatabaseCall event = DatabaseCall.start();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            Iterable<CommunicationEntity> result = manager.insert(values);
+            failed = false;
+            return result;
+        } finally {
+            record(event, values, DatabaseOperation.INSERT, start, failed);
+        }
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities, Duration ttl) {
+        CountingIterable values = new CountingIterable(entities);
+        DatabaseCall event = DatabaseCall.start();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            Iterable<CommunicationEntity> result = manager.insert(values, ttl);
+            failed = false;
+            return result;
+        } finally {
+            record(event, values, DatabaseOperation.INSERT, start, failed);
+        }
+    }
+
+    @Override
+    public CommunicationEntity update(CommunicationEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        DatabaseCall event = DatabaseCall.start();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            CommunicationEntity result = manager.update(entity);
+            failed = false;
+            return result;
+        } finally {
+            record(event, entity.name(), DatabaseOperation.UPDATE, start, 1, failed);
+        }
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> update(Iterable<CommunicationEntity> entities) {
+        CountingIterable values = new CountingIterable(entities);
+        DatabaseCall event = DatabaseCall.start();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            Iterable<CommunicationEntity> result = manager.update(values);
+            failed = false;
+            return result;
+        } finally {
+            record(event, values, DatabaseOperation.UPDATE, start, failed);
+        }
+    }
+
+    @Override
+    public Iterable<CommunicationEntity> update(UpdateQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        DatabaseCall event = DatabaseCall.start();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            Iterable<CommunicationEntity> result = manager.update(query);
+            failed = false;
+            return result;
+        } finally {
+            record(event, query.name(), DatabaseOperation.UPDATE, start, 0, failed);
+        }
+    }
+
+    @Override
+    public long executeUpdate(UpdateQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        DatabaseCall event = DatabaseCall.start();
+        long start = System.nanoTime();
+        boolean failed = true;
+        long updated = 0;
+        try {
+            updated = manager.executeUpdate(query);
+            failed = false;
+            return updated;
+        } finally {
+            record(event, query.name(), DatabaseOperation.UPDATE, start, updated, failed);
+        }
+    }
+
+    @Override
+    public void delete(DeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        DatabaseCall event = DatabaseCall.start();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            manager.delete(query);
+            failed = false;
+        } finally {
+            record(event, query.name(), DatabaseOperation.DELETE, start, 0, failed);
+        }
+    }
+
+    @Override
+    public Stream<CommunicationEntity> select(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return measure(query, manager::select);
+    }
+
+    @Override
+    public Stream<CommunicationEntity> aggregate(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return measure(query, manager::aggregate);
+    }
+
+    @Override
+    public long count(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        DatabaseCall event = DatabaseCall.start();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            long count = manager.count(query);
+            failed = false;
+            return count;
+        } finally {
+            record(event, query.name(), DatabaseOperation.COUNT, start, failed ? 0 : 1, failed);
+        }
+    }
+
+    @Override
+    public boolean exists(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        DatabaseCall event = DatabaseCall.start();
+        long start = System.nanoTime();
+        boolean failed = true;
+        boolean exists = false;
+        try {
+            exists = manager.exists(query);
+            failed = false;
+            return exists;
+        } finally {
+            record(event, query.name(), DatabaseOperation.EXISTS, start, exists ? 1 : 0, failed);
+        }
+    }
+
+    @Override
+    public CursoredPage<CommunicationEntity> selectCursor(SelectQuery query, PageRequest pageRequest) {
+        Objects.requireNonNull(query, "query is required");
+        DatabaseCall event = DatabaseCall.start();
+        long start = System.nanoTime();
+        boolean failed = true;
+        long rows = 0;
+        try {
+            CursoredPage<CommunicationEntity> page = manager.selectCursor(query, pageRequest);
+            rows = page.numberOfElements();
+            failed = false;
+            return page;
+        } finally {
+            record(event, query.name(), DatabaseOperation.SELECT, start, rows, failed);
+        }
+    }
+
+    @Override
+    public long count(String entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        DatabaseCall event = DatabaseCall.start();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            long count = manager.count(entity);
+            failed = false;
+            return count;
+        } finally {
+            record(event, entity, DatabaseOperation.COUNT, start, failed ? 0 : 1, failed);
+        }
+    }
+
+    @Override
+    public void close() {
+        manager.close();
+    }
+
+    /**
+     * Returns the decorated manager.
+     *
+     * @return the decorated manager
+     */
+    protected DatabaseManager manager() {
+        return manager;
+    }
+
+    @Override
+    public String toString() {
+        return "InstrumentedDatabaseManager{" +
+                "manager=" + manager +
+                ", metrics=" + metrics +
+                '}';
+    }
+
+    private Stream<CommunicationEntity> measure(SelectQuery query,
+                                                Function<SelectQuery, Stream<CommunicationEntity>> select) {
+        DatabaseCall event = DatabaseCall.start();
+        long start = System.nanoTime();
+        Stream<CommunicationEntity> entities;
+        try {
+            entities = select.apply(query);
+        } catch (RuntimeException exception) {
+            record(event, query.name(), DatabaseOperation.SELECT, start, 0, true);
+            throw exception;
+        }
+        DatabaseMetrics recorder = new DatabaseMetrics() {
+            @Override
+            public void record(String database, String entity, DatabaseOperation operation, long duration, long rows) {
+                record(database, entity, operation, duration, rows, false);
+            }
+
+            @Override
+            public void record(String database, String entity, DatabaseOperation operation, long duration, long rows,
+                               boolean failed) {
+                metrics.record(database, entity, operation, duration, rows, failed);
+                event.commit(database, entity, operation, rows, failed);
+            }
+        };
+        return recorder.measure(entities, start, manager.name(), query.name(), DatabaseOperation.SELECT);
+    }
+
+    private void record(DatabaseCall event, String entity, DatabaseOperation operation, long start, long rows,
+                        boolean failed) {
+        metrics.record(manager.name(), entity, operation, System.nanoTime() - start, rows, failed);
+        event.commit(manager.name(), entity, operation, rows, failed);
+    }
+
+    private void record(DatabaseCall event, CountingIterable entities, DatabaseOperation operation,
+                        long start, boolean failed) {
+        long duration = System.nanoTime() - start;
+        if (entities.total == 0) {
+            if (failed) {
+                metrics.record(manager.name(), null, operation, duration, 0, true);
+                event.commit(manager.name(), null, operation, 0, true);
+            }
+            return;
+        }
+        if (entities.rows.size() == 1) {
+            String entity = entities.rows.keySet().iterator().next();
+            metrics.record(manager.name(), entity, operation, duration, entities.total, failed);
+            event.commit(manager.name(), entity, operation, entities.total, failed);
+            return;
+        }
+        event.commit(manager.name(), null, operation, entities.total, failed);
+        // a batch of several entities: the duration is shared in proportion to the rows of each one
+        entities.rows.forEach((name, size) -> metrics.record(manager.name(), name, operation,
+                duration * size / entities.total, size, failed));
+    }
+
+    /**
+     * Counts the entities of a batch per name while the driver reads them, so the batch is given to the driver as
+     * it is, neither copied nor read twice. When the driver reads the batch more than once, the counts are those
+     * of the last read; when it does not read it during the call, the call is not recorded.
+     */
+    private static final class CountingIterable implements Iterable<CommunicationEntity> {
+
+        private final Iterable<CommunicationEntity> entities;
+
+        private final Map<String, Long> rows = new LinkedHashMap<>();
+
+        private long total;
+
+        private CountingIterable(Iterable<CommunicationEntity> entities) {
+            this.entities = Objects.requireNonNull(entities, "entities is required");
+        }
+
+        @Override
+        public Iterator<CommunicationEntity> iterator() {
+            rows.clear();
+            total = 0;
+            Iterator<CommunicationEntity> iterator = entities.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public CommunicationEntity next() {
+                    CommunicationEntity entity = iterator.next();
+                    total++;
+                    rows.merge(entity.name(), 1L, Long::sum);
+                    return entity;
+                }
+            };
+        }
+    }
+
+    /**
+     * Decorates the manager when the metrics are enabled; otherwise, it returns the manager itself.
+     *
+     * @param manager the manager
+     * @param metrics the metrics
+     * @return either the decorated or the same manager
+     * @throws NullPointerException when any parameter is null
+     */
+    public static DatabaseManager of(DatabaseManager manager, DatabaseMetrics metrics) {
+        return of(manager, metrics, Settings.settings());
+    }
+
+    /**
+     * Decorates the manager when either the metrics are enabled or the {@link MetricsConfigurations#JFR_ENABLED}
+     * property is true and the JDK Flight Recorder is available; otherwise, it returns the manager itself.
+     *
+     * @param manager  the manager
+     * @param metrics  the metrics
+     * @param settings the settings
+     * @return either the decorated or the same manager
+     * @throws NullPointerException when any parameter is null
+     */
+    public static DatabaseManager of(DatabaseManager manager, DatabaseMetrics metrics, Settings settings) {
+        Objects.requireNonNull(manager, "manager is required");
+        if (!isInstrumented(metrics, settings)) {
+            return manager;
+        }
+        return new InstrumentedDatabaseManager(manager, metrics);
+    }
+
+    /**
+     * Checks whether a manager should be decorated, see {@link #of(DatabaseManager, DatabaseMetrics, Settings)}.
+     *
+     * @param metrics  the metrics
+     * @param settings the settings
+     * @return true when the manager should be decorated
+     * @throws NullPointerException when any parameter is null
+     */
+    protected static boolean isInstrumented(DatabaseMetrics metrics, Settings settings) {
+        Objects.requireNonNull(metrics, "metrics is required");
+        Objects.requireNonNull(settings, "settings is required");
+        return metrics.isEnabled() || (FlightRecorderEvents.isAvailable()
+                && settings.get(MetricsConfigurations.JFR_ENABLED, Boolean.class).orElse(false));
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.query.Aggregate;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A query with the key columns given by {@link SelectQuery#withKeys(SelectQuery, String...)}. Everything else is
+ * read from the wrapped query, which it is equal to.
+ */
+record KeyedSelectQuery(SelectQuery query, List<String> keys) implements SelectQuery {
+
+    @Override
+    public long limit() {
+        return query.limit();
+    }
+
+    @Override
+    public long skip() {
+        return query.skip();
+    }
+
+    @Override
+    public String name() {
+        return query.name();
+    }
+
+    @Override
+    public Optional<CriteriaCondition> condition() {
+        return query.condition();
+    }
+
+    @Override
+    public List<String> columns() {
+        return query.columns();
+    }
+
+    @Override
+    public List<Sort<?>> sorts() {
+        return query.sorts();
+    }
+
+    @Override
+    public boolean isCount() {
+        return query.isCount();
+    }
+
+    @Override
+    public List<Aggregate> aggregates() {
+        return query.aggregates();
+    }
+
+    @Override
+    public List<String> groupBy() {
+        return query.groupBy();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return query.equals(o instanceof KeyedSelectQuery keyed ? keyed.query : o);
+    }
+
+    @Override
+    public int hashCode() {
+        return query.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return query.toString();
+    }
+}
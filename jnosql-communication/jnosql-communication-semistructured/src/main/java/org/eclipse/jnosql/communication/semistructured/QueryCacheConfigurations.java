@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import java.util.function.Supplier;
+
+/**
+ * The properties used to configure the query result cache of a {@link CachedDatabaseManager}.
+ * It implements {@link Supplier} which returns the property value on the arrangement.
+ *
+ * @see CachedDatabaseManager#of(DatabaseManager, org.eclipse.jnosql.communication.Settings)
+ */
+public enum QueryCacheConfigurations implements Supplier<String> {
+
+    /**
+     * Activates the query result cache. By default, it is false.
+     */
+    ENABLED("jnosql.query.cache.enabled"),
+    /**
+     * The maximum number of queries kept in the cache; the least recently used is evicted first.
+     * By default, it is 1000.
+     */
+    MAX_SIZE("jnosql.query.cache.max.size"),
+    /**
+     * The maximum number of entities of a cached result; a query that returns more is streamed without caching.
+     * By default, it is 1000.
+     */
+    MAX_ROWS("jnosql.query.cache.max.rows"),
+    /**
+     * The time-to-live of a cached result, in seconds. By default, it is 60 seconds.
+     */
+    TTL("jnosql.query.cache.ttl"),
+    /**
+     * The entity names, separated by comma, whose queries are cached.
+     * When it is not defined, the queries of every entity are cached.
+     */
+    ENTITIES("jnosql.query.cache.entities");
+
+    private final String value;
+
+    QueryCacheConfigurations(String value) {
+        this.value = value;
+    }
+
+    @Override
+    public String get() {
+        return value;
+    }
+}
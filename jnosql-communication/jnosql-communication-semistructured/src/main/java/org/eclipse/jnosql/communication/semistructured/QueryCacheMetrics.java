@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+/**
+ * A snapshot of the statistics of a query result cache.
+ *
+ * @param hits          the number of queries answered from the cache
+ * @param misses        the number of queries that went to the database
+ * @param evictions     the number of results removed because of either size or time-to-live
+ * @param invalidations the number of results removed because of a write on the same entity
+ * @param size          the number of results currently in the cache
+ * @see CachedDatabaseManager#metrics()
+ */
+public record QueryCacheMetrics(long hits, long misses, long evictions, long invalidations, long size) {
+
+    /**
+     * Returns the ratio of queries answered from the cache, from zero to one.
+     *
+     * @return the hit ratio, or zero when there was no request yet
+     */
+    public double hitRatio() {
+        long requests = hits + misses;
+        if (requests == 0) {
+            return 0D;
+        }
+        return (double) hits / requests;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.query.Aggregate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The structural form of a {@link SelectQuery} or a {@link DeleteQuery}, usable as a key in hash-based structures
+ * such as a query cache.
+ *
+ * <p>Unlike the query itself, it does not depend on the query implementation, and it is built over the
+ * {@link CriteriaCondition#normalize() normalized} condition: the order of the conditions of an AND or an OR and
+ * the order of the values of an IN do not change the key. It holds the resolved values of the conditions, so two
+ * prepared statements bound to the same parameters share a key; a parameter that is not bound yet is kept by
+ * identity.</p>
+ */
+public final class QueryKey {
+
+    private final Key key;
+
+    private QueryKey(Key key) {
+        this.key = key;
+    }
+
+    /**
+     * Returns the entity name of the query.
+     *
+     * @return the entity name
+     */
+    public String name() {
+        return key.name();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        return other instanceof QueryKey that && key.equals(that.key);
+    }
+
+    @Override
+    public int hashCode() {
+        return key.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "QueryKey{" + key + '}';
+    }
+
+    /**
+     * Creates the key of a select query.
+     *
+     * @param query the query
+     * @return the key of the query
+     * @throws NullPointerException when the query is null
+     */
+    public static QueryKey of(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return new QueryKey(new Key(Type.SELECT, query.name(), condition(query.condition().orElse(null)),
+                List.copyOf(query.sorts()), query.skip(), query.limit(), List.copyOf(query.columns()),
+                query.isCount(), List.copyOf(query.aggregates()), List.copyOf(query.groupBy())));
+    }
+
+    /**
+     * Creates the key of a delete query.
+     *
+     * @param query the query
+     * @return the key of the query
+     * @throws NullPointerException when the query is null
+     */
+    public static QueryKey of(DeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return new QueryKey(new Key(Type.DELETE, query.name(), condition(query.condition().orElse(null)),
+                List.of(), 0, 0, List.copyOf(query.columns()), false, List.of(), List.of()));
+    }
+
+    private static Object condition(CriteriaCondition condition) {
+        return condition == null ? null : canonical(condition.normalize());
+    }
+
+    private static Object canonical(CriteriaCondition criteria) {
+        Condition condition = criteria.condition();
+        Element element = criteria.element();
+        return switch (condition) {
+            case AND, OR -> {
+                var conditions = new HashSet<>();
+                element.get(new TypeReference<List<CriteriaCondition>>() {
+                }).forEach(c -> conditions.add(canonical(c)));
+                yield new Junction(condition, conditions);
+            }
+            case NOT -> new Junction(condition, List.of(canonical(element.get(CriteriaCondition.class))));
+            case IN -> new Term(condition, element.name(), values(resolve(element.get())));
+            default -> new Term(condition, element.name(), resolve(element.get()));
+        };
+    }
+
+    private static Object values(Object value) {
+        return value instanceof List<?> values ? new HashSet<>(values) : value;
+    }
+
+    private static Object resolve(Object value) {
+        if (value instanceof Value parameter) {
+            try {
+                return resolve(parameter.get());
+            } catch (QueryException exception) {
+                return parameter;
+            }
+        } else if (value instanceof Iterable<?> iterable) {
+            List<Object> values = new ArrayList<>();
+            iterable.forEach(v -> values.add(resolve(v)));
+            return values;
+        }
+        return value;
+    }
+
+    private enum Type {
+        SELECT, DELETE
+    }
+
+    private record Key(Type type, String name, Object condition, List<Sort<?>> sorts, long skip, long limit,
+                       List<String> columns, boolean count, List<Aggregate> aggregates, List<String> groupBy) {
+    }
+
+    private record Junction(Condition condition, Object conditions) {
+    }
+
+    private record Term(Condition condition, String name, Object value) {
+    }
+}
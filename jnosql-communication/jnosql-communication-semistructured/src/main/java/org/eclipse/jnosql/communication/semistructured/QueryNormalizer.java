@@ -0,0 +1,326 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.Value;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Rewrites a {@link CriteriaCondition} into an equivalent and simpler one before it reaches the
+ * {@link DatabaseManager}. The structural rewrite:
+ * <ul>
+ *     <li>flattens nested AND and OR, drops their duplicate conditions and unwraps a junction of one condition;</li>
+ *     <li>removes a double negation;</li>
+ *     <li>removes the duplicate values of an IN, and turns an IN of one value, or a BETWEEN of two equal bounds,
+ *     into an equals.</li>
+ * </ul>
+ * The range merge, which a driver opts in to, also keeps, in an AND, only the tightest lower and upper bounds of a
+ * field, and merges an inclusive lower and upper bound into a BETWEEN. It compares numbers by their value and the
+ * other values as Java does, so the bounds of a text field, that a database orders by its collation, are never
+ * dropped.
+ * <p>A parameter that is not bound yet is never read, so its condition is only flattened. The condition is returned
+ * as is when nothing changes.</p>
+ */
+final class QueryNormalizer {
+
+    private QueryNormalizer() {
+    }
+
+    static CriteriaCondition normalize(CriteriaCondition condition) {
+        return normalize(condition, false);
+    }
+
+    static CriteriaCondition mergeRanges(CriteriaCondition condition) {
+        return normalize(condition, true);
+    }
+
+    private static CriteriaCondition normalize(CriteriaCondition condition, boolean ranges) {
+        return switch (condition.condition()) {
+            case AND, OR -> junction(condition, ranges);
+            case NOT -> not(condition, ranges);
+            case IN -> in(condition);
+            case BETWEEN -> between(condition);
+            default -> condition;
+        };
+    }
+
+    static SelectQuery normalize(SelectQuery query) {
+        return normalize(query, false);
+    }
+
+    static SelectQuery mergeRanges(SelectQuery query) {
+        return normalize(query, true);
+    }
+
+    private static SelectQuery normalize(SelectQuery query, boolean ranges) {
+        CriteriaCondition condition = query.condition().orElse(null);
+        CriteriaCondition normalized = condition == null ? null : normalize(condition, ranges);
+        if (normalized == condition) {
+            return query;
+        }
+        return new DefaultSelectQuery(query.limit(), query.skip(), query.name(), query.columns(), query.sorts(),
+                normalized, query.isCount(), query.aggregates(), query.groupBy());
+    }
+
+    static DeleteQuery normalize(DeleteQuery query) {
+        CriteriaCondition condition = query.condition().orElse(null);
+        CriteriaCondition normalized = condition == null ? null : normalize(condition);
+        if (normalized == condition) {
+            return query;
+        }
+        return new DefaultDeleteQuery(query.name(), normalized, query.columns());
+    }
+
+    private static CriteriaCondition not(CriteriaCondition condition, boolean ranges) {
+        CriteriaCondition negated = condition.element().get(CriteriaCondition.class);
+        CriteriaCondition normalized = normalize(negated, ranges);
+        if (Condition.NOT.equals(normalized.condition())) {
+            return normalized.element().get(CriteriaCondition.class);
+        } else if (normalized == negated) {
+            return condition;
+        }
+        return CriteriaCondition.of(Element.of(Condition.NOT.getNameField(), normalized), Condition.NOT);
+    }
+
+    private static CriteriaCondition junction(CriteriaCondition condition, boolean ranges) {
+        Condition type = condition.condition();
+        List<CriteriaCondition> conditions = conditions(condition);
+        LinkedHashSet<CriteriaCondition> flat = new LinkedHashSet<>();
+        boolean changed = false;
+        for (CriteriaCondition child : conditions) {
+            CriteriaCondition normalized = normalize(child, ranges);
+            changed |= normalized != child;
+            if (type.equals(normalized.condition())) {
+                flat.addAll(conditions(normalized));
+                changed = true;
+            } else {
+                flat.add(normalized);
+            }
+        }
+        changed |= flat.size() != conditions.size();
+        List<CriteriaCondition> result = new ArrayList<>(flat);
+        if (ranges && Condition.AND.equals(type)) {
+            List<CriteriaCondition> merged = ranges(result);
+            changed |= merged.size() != result.size() || !merged.equals(result);
+            result = merged;
+        }
+        if (result.size() == 1) {
+            return result.get(0);
+        } else if (!changed) {
+            return condition;
+        }
+        return CriteriaCondition.of(Element.of(type.getNameField(), result), type);
+    }
+
+    private static CriteriaCondition in(CriteriaCondition condition) {
+        Element element = condition.element();
+        Optional<Object> value = constant(element);
+        if (value.isEmpty() || !(value.get() instanceof Iterable<?> iterable)) {
+            return condition;
+        }
+        List<Object> values = new ArrayList<>();
+        iterable.forEach(values::add);
+        List<Object> distinct = new ArrayList<>(new LinkedHashSet<>(values));
+        if (distinct.size() == 1) {
+            return CriteriaCondition.of(Element.of(element.name(), distinct.get(0)), Condition.EQUALS);
+        } else if (distinct.size() == values.size()) {
+            return condition;
+        }
+        return CriteriaCondition.of(Element.of(element.name(), distinct), Condition.IN);
+    }
+
+    private static CriteriaCondition between(CriteriaCondition condition) {
+        Element element = condition.element();
+        Optional<Object> value = constant(element);
+        if (value.isEmpty() || !(value.get() instanceof Iterable<?> iterable)) {
+            return condition;
+        }
+        List<Object> bounds = new ArrayList<>();
+        iterable.forEach(bounds::add);
+        if (bounds.size() == 2 && Integer.valueOf(0).equals(compare(bounds.get(0), bounds.get(1)))) {
+            return CriteriaCondition.of(Element.of(element.name(), bounds.get(0)), Condition.EQUALS);
+        }
+        return condition;
+    }
+
+    /**
+     * Keeps the tightest lower and upper bound of each field in an AND, merging an inclusive pair into a BETWEEN.
+     * The other conditions keep their order; the bounds of a field take the place of its first bound.
+     */
+    private static List<CriteriaCondition> ranges(List<CriteriaCondition> conditions) {
+        Map<String, Range> ranges = new LinkedHashMap<>();
+        List<Object> slots = new ArrayList<>(conditions.size());
+        for (CriteriaCondition condition : conditions) {
+            Optional<Object> constant = isBound(condition.condition()) ? constant(condition.element())
+                    : Optional.empty();
+            if (constant.isEmpty()) {
+                slots.add(condition);
+                continue;
+            }
+            String name = condition.element().name();
+            Range range = ranges.get(name);
+            if (range == null) {
+                range = new Range(name);
+                ranges.put(name, range);
+                slots.add(range);
+            }
+            if (!range.add(condition, constant.get())) {
+                slots.add(condition);
+            }
+        }
+        if (ranges.isEmpty()) {
+            return conditions;
+        }
+        List<CriteriaCondition> result = new ArrayList<>(conditions.size());
+        for (Object slot : slots) {
+            if (slot instanceof Range range) {
+                result.addAll(range.conditions());
+            } else {
+                result.add((CriteriaCondition) slot);
+            }
+        }
+        return result;
+    }
+
+    private static boolean isBound(Condition condition) {
+        return switch (condition) {
+            case GREATER_THAN, GREATER_EQUALS_THAN, LESSER_THAN, LESSER_EQUALS_THAN -> true;
+            default -> false;
+        };
+    }
+
+    private static List<CriteriaCondition> conditions(CriteriaCondition condition) {
+        return condition.element().get(new TypeReference<List<CriteriaCondition>>() {
+        });
+    }
+
+    /**
+     * The value of the element, unless it is a parameter that is either not bound or nested in the value.
+     */
+    private static Optional<Object> constant(Element element) {
+        try {
+            Object value = element.get();
+            if (value instanceof Value) {
+                return Optional.empty();
+            } else if (value instanceof Iterable<?> iterable) {
+                for (Object item : iterable) {
+                    if (item instanceof Value) {
+                        return Optional.empty();
+                    }
+                }
+            }
+            return Optional.ofNullable(value);
+        } catch (QueryException exception) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Compares two constants: numbers by their value whatever their type, and the other values when they share a
+     * {@link Comparable} type. It returns null when they cannot be compared.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Integer compare(Object first, Object second) {
+        if (first instanceof Number && second instanceof Number) {
+            try {
+                return new BigDecimal(first.toString()).compareTo(new BigDecimal(second.toString()));
+            } catch (NumberFormatException exception) {
+                return null;
+            }
+        } else if (first instanceof Comparable comparable && first.getClass().equals(second.getClass())) {
+            return Integer.signum(comparable.compareTo(second));
+        }
+        return null;
+    }
+
+    private static final class Range {
+
+        private final String name;
+
+        private CriteriaCondition lower;
+
+        private Object lowerValue;
+
+        private CriteriaCondition upper;
+
+        private Object upperValue;
+
+        private Range(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Adds a bound, keeping the tightest one; it returns false when the bound cannot be compared with the
+         * current one, so the caller keeps it apart.
+         */
+        boolean add(CriteriaCondition condition, Object value) {
+            boolean isLower = Condition.GREATER_THAN.equals(condition.condition())
+                    || Condition.GREATER_EQUALS_THAN.equals(condition.condition());
+            CriteriaCondition current = isLower ? lower : upper;
+            if (current == null) {
+                set(isLower, condition, value);
+                return true;
+            }
+            // a database orders text by its collation, which Java does not know
+            Integer result = value instanceof CharSequence ? null : compare(value, isLower ? lowerValue : upperValue);
+            if (result == null) {
+                return false;
+            }
+            boolean exclusive = Condition.GREATER_THAN.equals(condition.condition())
+                    || Condition.LESSER_THAN.equals(condition.condition());
+            boolean tighter = isLower ? result > 0 : result < 0;
+            if (tighter || result == 0 && exclusive) {
+                set(isLower, condition, value);
+            }
+            return true;
+        }
+
+        List<CriteriaCondition> conditions() {
+            if (lower != null && upper != null && Condition.GREATER_EQUALS_THAN.equals(lower.condition())
+                    && Condition.LESSER_EQUALS_THAN.equals(upper.condition())) {
+                Integer result = compare(lowerValue, upperValue);
+                if (result != null && result == 0) {
+                    return List.of(CriteriaCondition.of(Element.of(name, lowerValue), Condition.EQUALS));
+                }
+                return List.of(CriteriaCondition.of(Element.of(name, List.of(lowerValue, upperValue)),
+                        Condition.BETWEEN));
+            }
+            List<CriteriaCondition> conditions = new ArrayList<>(2);
+            if (lower != null) {
+                conditions.add(lower);
+            }
+            if (upper != null) {
+                conditions.add(upper);
+            }
+            return conditions;
+        }
+
+        private void set(boolean isLower, CriteriaCondition condition, Object value) {
+            if (isLower) {
+                lower = condition;
+                lowerValue = value;
+            } else {
+                upper = condition;
+                upperValue = value;
+            }
+        }
+    }
+}
@@ -69,10 +69,11 @@ public final class QueryParser {
     }
 
     private String extractQueryCommand(String query){
-        if(query.length() < 6){
+        String command = query.stripLeading();
+        if(command.length() < 6){
            return "";
         }
-        return query.substring(0, 6).toUpperCase();
+        return command.substring(0, 6).toUpperCase();
     }
 
     private void validation(String query, DatabaseManager manager, CommunicationObserverParser observer) {
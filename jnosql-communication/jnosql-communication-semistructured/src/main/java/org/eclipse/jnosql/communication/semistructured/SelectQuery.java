@@ -12,6 +12,7 @@ package org.eclipse.jnosql.communication.semistructured;
 
 
 import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.query.Aggregate;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -87,6 +88,122 @@ public interface SelectQuery {
         return false;
     }
 
+    /**
+     * Returns the aggregates of the query, e.g., {@code SUM(salary)}. An aggregate query returns one entity per
+     * group, with the {@link #groupBy()} columns and a column per aggregate named by {@link Aggregate#alias()}.
+     *
+     * @return the aggregates, or an empty list when it is not an aggregate query
+     * @see DatabaseManager#aggregate(SelectQuery)
+     */
+    default List<Aggregate> aggregates() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Returns the columns that group the result of an aggregate query.
+     *
+     * @return the group by columns, or an empty list when the result is a single group
+     */
+    default List<String> groupBy() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Returns true if the query either has aggregates or groups its result, so it runs through
+     * {@link DatabaseManager#aggregate(SelectQuery)}.
+     *
+     * @return true if the query is an aggregate query
+     */
+    default boolean isAggregate() {
+        return !aggregates().isEmpty() || !groupBy().isEmpty();
+    }
+
+    /**
+     * Returns the columns that identify an entity of the query, e.g., the id. They are a hint for the default
+     * {@link DatabaseManager#count(SelectQuery)} and {@link DatabaseManager#exists(SelectQuery)}, which fetch only
+     * these columns when the query selects none; a driver that counts natively ignores them.
+     *
+     * @return the key columns, or an empty list when they are unknown
+     * @see #withKeys(SelectQuery, String...)
+     */
+    default List<String> keys() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Returns the query with the key columns returned by {@link #keys()}. The query is otherwise unchanged and equal
+     * to the given one, so a driver that counts natively receives the query as it was written.
+     *
+     * @param query the query
+     * @param keys  the columns that identify an entity, usually the id
+     * @return the query with the keys
+     * @throws NullPointerException when either the query or a key is null
+     */
+    static SelectQuery withKeys(SelectQuery query, String... keys) {
+        Objects.requireNonNull(query, "query is required");
+        Stream.of(keys).forEach(k -> Objects.requireNonNull(k, "A key in the query is null"));
+        SelectQuery original = query instanceof KeyedSelectQuery keyed ? keyed.query() : query;
+        return new KeyedSelectQuery(original, List.of(keys));
+    }
+
+    /**
+     * Creates the query given to {@link DatabaseManager#count(SelectQuery)}. It keeps the entity name and the
+     * condition, drops the sorts and the pagination, and selects only the key columns: a driver without native count
+     * support therefore fetches the keys of the matching entities instead of whole documents.
+     *
+     * @param query the query to count
+     * @param keys  the columns to fetch, usually the id; when empty, the query columns are kept
+     * @return the count query
+     * @throws NullPointerException when either the query or a key is null
+     */
+    static SelectQuery countBy(SelectQuery query, String... keys) {
+        Objects.requireNonNull(query, "query is required");
+        Stream.of(keys).forEach(k -> Objects.requireNonNull(k, "A key in the query is null"));
+        return DefaultSelectQuery.countBy(query, keys.length == 0 ? query.columns() : List.of(keys));
+    }
+
+    /**
+     * Creates the query given to {@link DatabaseManager#exists(SelectQuery)}. It works as
+     * {@link #countBy(SelectQuery, String...)}, with a limit of one entity as a hint to stop at the first match.
+     *
+     * @param query the query to check
+     * @param keys  the columns to fetch, usually the id; when empty, the query columns are kept
+     * @return the exists query
+     * @throws NullPointerException when either the query or a key is null
+     */
+    static SelectQuery existsBy(SelectQuery query, String... keys) {
+        Objects.requireNonNull(query, "query is required");
+        Stream.of(keys).forEach(k -> Objects.requireNonNull(k, "A key in the query is null"));
+        return DefaultSelectQuery.existsBy(query, keys.length == 0 ? query.columns() : List.of(keys));
+    }
+
+    /**
+     * Returns the query with its condition normalized by {@link CriteriaCondition#normalize()}, or the same query
+     * when the condition is already normalized. The parsers apply it before the query reaches the
+     * {@link DatabaseManager}.
+     *
+     * @param query the query
+     * @return the normalized query
+     * @throws NullPointerException when the query is null
+     */
+    static SelectQuery normalize(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return QueryNormalizer.normalize(query);
+    }
+
+    /**
+     * Returns the query with its condition rewritten by {@link CriteriaCondition#mergeRanges()}, or the same query
+     * when there is nothing to merge. A driver that supports BETWEEN may apply it to the queries it receives.
+     *
+     * @param query the query
+     * @return the query with its ranges merged
+     * @throws NullPointerException when the query is null
+     */
+    static SelectQuery mergeRanges(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return QueryNormalizer.mergeRanges(query);
+    }
+
     /**
      * Starts the first step of {@link SelectElements} creation using a fluent API.
      * This step informs the fields to return to the query, similar to "select field, fieldB from database" in a database query.
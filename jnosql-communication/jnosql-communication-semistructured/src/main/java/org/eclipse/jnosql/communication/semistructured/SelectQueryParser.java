@@ -15,6 +15,7 @@ import jakarta.data.Direction;
 import jakarta.data.Sort;
 import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.query.Aggregate;
 import org.eclipse.jnosql.communication.query.data.SelectProvider;
 
 import java.util.List;
@@ -36,7 +37,10 @@ public final class SelectQueryParser implements BiFunction<org.eclipse.jnosql.co
 
     Stream<CommunicationEntity> query(String query, String entity, DatabaseManager manager, CommunicationObserverParser observer) {
 
-        var selectQuery = query(query, entity, observer);
+        var selectQuery = SelectQuery.normalize(query(query, entity, observer));
+        if (selectQuery.isAggregate()) {
+            return manager.aggregate(selectQuery);
+        }
         return manager.select(selectQuery);
     }
 
@@ -73,8 +77,11 @@ public final class SelectQueryParser implements BiFunction<org.eclipse.jnosql.co
         var columns = selectQuery.fields().stream()
                 .map(f -> observer.fireField(entityName, f))
                 .collect(Collectors.toList());
-        List<Sort<?>> sorts = selectQuery.orderBy().stream().map(s -> toSort(s, observer, entityName))
+        List<Aggregate> aggregates = aggregates(selectQuery, observer, entityName);
+        List<Sort<?>> sorts = selectQuery.orderBy().stream()
+                .map(s -> toSort(s, observer, entityName, selectQuery, aggregates))
                 .collect(toList());
+        List<String> groupBy = selectQuery.groupBy().stream().map(f -> observer.fireField(entityName, f)).toList();
 
         var params = Params.newParams();
         var condition = selectQuery.where()
@@ -84,7 +91,7 @@ public final class SelectQueryParser implements BiFunction<org.eclipse.jnosql.co
             throw new QueryException("To run a query with a parameter use a PrepareStatement instead.");
         }
         boolean count = selectQuery.isCount();
-        return new DefaultSelectQuery(limit, skip, entityName, columns, sorts, condition, count);
+        return new DefaultSelectQuery(limit, skip, entityName, columns, sorts, condition, count, aggregates, groupBy);
     }
 
     private SelectQuery query(Params params, org.eclipse.jnosql.communication.query.SelectQuery selectQuery, CommunicationObserverParser observer) {
@@ -96,19 +103,34 @@ public final class SelectQueryParser implements BiFunction<org.eclipse.jnosql.co
                 .map(f -> observer.fireField(entity, f))
                 .collect(Collectors.toList());
 
-        List<Sort<?>> sorts = selectQuery.orderBy().stream().map(s -> toSort(s, observer, entity)).collect(toList());
+        List<Aggregate> aggregates = aggregates(selectQuery, observer, entity);
+        List<Sort<?>> sorts = selectQuery.orderBy().stream()
+                .map(s -> toSort(s, observer, entity, selectQuery, aggregates))
+                .collect(toList());
+        List<String> groupBy = selectQuery.groupBy().stream().map(f -> observer.fireField(entity, f)).toList();
         CriteriaCondition condition = selectQuery.where()
                 .map(c -> Conditions.getCondition(c, params, observer, entity))
                 .orElse(null);
 
         boolean count = selectQuery.isCount();
 
-        return new DefaultSelectQuery(limit, skip, entity, columns, sorts, condition, count);
+        return new DefaultSelectQuery(limit, skip, entity, columns, sorts, condition, count, aggregates, groupBy);
+    }
+
+    private List<Aggregate> aggregates(org.eclipse.jnosql.communication.query.SelectQuery selectQuery,
+                                       CommunicationObserverParser observer, String entity) {
+        return selectQuery.aggregates().stream()
+                .map(a -> a.isCountAll() ? a : Aggregate.of(a.function(), observer.fireField(entity, a.field())))
+                .toList();
     }
 
-    private Sort<?> toSort(Sort<?> sort, CommunicationObserverParser observer, String entity) {
-        return Sort.of(observer.fireField(entity, sort.property()),
-                sort.isAscending()? Direction.ASC: Direction.DESC, false);
+    private Sort<?> toSort(Sort<?> sort, CommunicationObserverParser observer, String entity,
+                           org.eclipse.jnosql.communication.query.SelectQuery selectQuery,
+                           List<Aggregate> aggregates) {
+        // a sort by an aggregate uses its alias, which follows the field name given by the observer
+        int index = selectQuery.aggregates().stream().map(Aggregate::alias).toList().indexOf(sort.property());
+        String property = index < 0 ? observer.fireField(entity, sort.property()) : aggregates.get(index).alias();
+        return Sort.of(property, sort.isAscending()? Direction.ASC: Direction.DESC, false);
     }
 
 
@@ -0,0 +1,258 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import jakarta.data.Sort;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.query.Aggregate;
+import org.eclipse.jnosql.communication.query.AggregateFunction;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * The in-memory evaluation of an aggregate {@link SelectQuery} used by
+ * {@link DatabaseManager#aggregate(SelectQuery)} when the driver does not push it down. It selects only the
+ * grouping and aggregated columns and folds the entities in a single pass: each group keeps one accumulator per
+ * aggregate, with primitive counters and sums, so only the groups are held in memory and never the selected
+ * entities. The {@link BigDecimal} and {@link BigInteger} values, and a long sum that overflows, are summed as a
+ * {@link BigDecimal}, so they keep their precision unless a floating-point value is mixed in. The sorts, the skip and the limit are then applied to the groups.
+ */
+final class StreamAggregator {
+
+    private StreamAggregator() {
+    }
+
+    /**
+     * Evaluates the aggregate query.
+     *
+     * @param manager the manager that selects the entities
+     * @param query   the aggregate query
+     * @return one entity per group, with the group fields and a column per aggregate alias
+     */
+    static Stream<CommunicationEntity> aggregate(DatabaseManager manager, SelectQuery query) {
+        List<String> groupBy = query.groupBy();
+        List<Aggregate> aggregates = query.aggregates();
+        Map<List<Object>, Accumulator[]> groups = new LinkedHashMap<>();
+        try (Stream<CommunicationEntity> entities = manager.select(source(query))) {
+            Iterator<CommunicationEntity> iterator = entities.iterator();
+            while (iterator.hasNext()) {
+                CommunicationEntity entity = iterator.next();
+                Object[] key = new Object[groupBy.size()];
+                for (int index = 0; index < key.length; index++) {
+                    key[index] = value(entity, groupBy.get(index));
+                }
+                Accumulator[] accumulators = groups.computeIfAbsent(Arrays.asList(key), k -> accumulators(aggregates));
+                for (Accumulator accumulator : accumulators) {
+                    accumulator.accept(entity);
+                }
+            }
+        }
+        if (groups.isEmpty() && groupBy.isEmpty()) {
+            // without GROUP BY, the aggregates of no entity are still a single row, e.g., a count of zero
+            groups.put(List.of(), accumulators(aggregates));
+        }
+        Set<String> names = new LinkedHashSet<>(groupBy);
+        aggregates.forEach(a -> names.add(a.alias()));
+        EntityShape shape = EntityShape.of(List.copyOf(names));
+        List<CommunicationEntity> result = new ArrayList<>(groups.size());
+        groups.forEach((key, accumulators) -> {
+            Object[] values = new Object[shape.size()];
+            for (int index = 0; index < key.size(); index++) {
+                values[shape.index(groupBy.get(index))] = key.get(index);
+            }
+            for (Accumulator accumulator : accumulators) {
+                values[shape.index(accumulator.aggregate.alias())] = accumulator.result();
+            }
+            result.add(CommunicationEntity.of(query.name(), shape, values));
+        });
+        return page(sort(result, query.sorts()), query.skip(), query.limit());
+    }
+
+    /**
+     * The query given to {@link DatabaseManager#select(SelectQuery)}: the condition, with only the grouping and
+     * aggregated columns, and neither sorts nor pagination, since they apply to the groups.
+     */
+    static SelectQuery source(SelectQuery query) {
+        Set<String> columns = new LinkedHashSet<>(query.groupBy());
+        query.aggregates().stream().filter(a -> !a.isCountAll()).map(Aggregate::field).forEach(columns::add);
+        return new DefaultSelectQuery(0, 0, query.name(), List.copyOf(columns), Collections.emptyList(),
+                query.condition().orElse(null), false);
+    }
+
+    private static Accumulator[] accumulators(List<Aggregate> aggregates) {
+        Accumulator[] accumulators = new Accumulator[aggregates.size()];
+        for (int index = 0; index < accumulators.length; index++) {
+            accumulators[index] = new Accumulator(aggregates.get(index));
+        }
+        return accumulators;
+    }
+
+    private static Object value(CommunicationEntity entity, String name) {
+        return entity.find(name).map(Element::get).orElse(null);
+    }
+
+    private static List<CommunicationEntity> sort(List<CommunicationEntity> entities, List<Sort<?>> sorts) {
+        if (sorts.isEmpty()) {
+            return entities;
+        }
+        Comparator<CommunicationEntity> comparator = null;
+        for (Sort<?> sort : sorts) {
+            Comparator<CommunicationEntity> next = Comparator.comparing(e -> value(e, sort.property()),
+                    StreamAggregator::compare);
+            next = sort.isAscending() ? next : next.reversed();
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        entities.sort(comparator);
+        return entities;
+    }
+
+    private static Stream<CommunicationEntity> page(List<CommunicationEntity> entities, long skip, long limit) {
+        Stream<CommunicationEntity> stream = entities.stream();
+        if (skip > 0) {
+            stream = stream.skip(skip);
+        }
+        if (limit > 0) {
+            stream = stream.limit(limit);
+        }
+        return stream;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(Object first, Object second) {
+        if (first == null || second == null) {
+            return first == null ? (second == null ? 0 : -1) : 1;
+        } else if (first instanceof Comparable comparable && first.getClass() == second.getClass()) {
+            return comparable.compareTo(second);
+        } else if (isIntegral(first) && isIntegral(second)) {
+            return Long.compare(((Number) first).longValue(), ((Number) second).longValue());
+        } else if (first instanceof Number number && second instanceof Number other) {
+            return Double.compare(number.doubleValue(), other.doubleValue());
+        } else if (first instanceof Comparable comparable && first.getClass().isInstance(second)) {
+            return comparable.compareTo(second);
+        }
+        return first.toString().compareTo(second.toString());
+    }
+
+    private static boolean isIntegral(Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+
+    private static final class Accumulator {
+
+        private final Aggregate aggregate;
+
+        private long count;
+
+        private long longSum;
+
+        private double doubleSum;
+
+        private BigDecimal bigSum;
+
+        private boolean floating;
+
+        private boolean fractional;
+
+        private Object extreme;
+
+        private Accumulator(Aggregate aggregate) {
+            this.aggregate = aggregate;
+        }
+
+        void accept(CommunicationEntity entity) {
+            if (aggregate.isCountAll()) {
+                count++;
+                return;
+            }
+            Object value = value(entity, aggregate.field());
+            if (value == null) {
+                return;
+            }
+            count++;
+            switch (aggregate.function()) {
+                case SUM, AVG -> add(value);
+                case MIN -> extreme = extreme == null || compare(value, extreme) < 0 ? value : extreme;
+                case MAX -> extreme = extreme == null || compare(value, extreme) > 0 ? value : extreme;
+                default -> {
+                }
+            }
+        }
+
+        Object result() {
+            AggregateFunction function = aggregate.function();
+            return switch (function) {
+                case COUNT -> count;
+                case SUM -> count == 0 ? null : sum();
+                case AVG -> count == 0 ? null : average();
+                case MIN, MAX -> extreme;
+            };
+        }
+
+        private Object sum() {
+            if (floating) {
+                return doubleSum();
+            } else if (bigSum == null) {
+                return longSum;
+            }
+            BigDecimal sum = bigSum.add(BigDecimal.valueOf(longSum));
+            return fractional ? sum : sum.toBigIntegerExact();
+        }
+
+        private Object average() {
+            if (floating || bigSum == null) {
+                return doubleSum() / count;
+            }
+            return bigSum.add(BigDecimal.valueOf(longSum)).divide(BigDecimal.valueOf(count), MathContext.DECIMAL128);
+        }
+
+        private double doubleSum() {
+            return doubleSum + longSum + (bigSum == null ? 0D : bigSum.doubleValue());
+        }
+
+        private void add(Object value) {
+            if (isIntegral(value)) {
+                long number = ((Number) value).longValue();
+                long sum = longSum + number;
+                if (((longSum ^ sum) & (number ^ sum)) < 0) {
+                    // the long sum overflows, so it goes on as a BigDecimal
+                    addBig(BigDecimal.valueOf(number));
+                } else {
+                    longSum = sum;
+                }
+            } else if (value instanceof BigDecimal number) {
+                fractional = true;
+                addBig(number);
+            } else if (value instanceof BigInteger number) {
+                addBig(new BigDecimal(number));
+            } else {
+                floating = true;
+                doubleSum += value instanceof Number number ? number.doubleValue() : Value.of(value).get(Double.class);
+            }
+        }
+
+        private void addBig(BigDecimal number) {
+            bigSum = bigSum == null ? number : bigSum.add(number);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * The in-memory execution of an {@link UpdateQuery} used by the {@link DatabaseManager} default methods. The
+ * matching entities are streamed from the select, changed, and written back through
+ * {@link DatabaseManager#update(Iterable)} in batches, so at most one batch is in memory at a time.
+ */
+final class UpdateBatches {
+
+    static final int BATCH_SIZE = 500;
+
+    private UpdateBatches() {
+    }
+
+    /**
+     * Executes the update query in batches.
+     *
+     * @param manager   the manager
+     * @param query     the update query
+     * @param batchSize the number of entities per {@link DatabaseManager#update(Iterable)} call
+     * @param updated   receives each entity returned by the batch updates
+     * @return the number of updated entities
+     */
+    static long execute(DatabaseManager manager, UpdateQuery query, int batchSize,
+                        Consumer<CommunicationEntity> updated) {
+        long count = 0;
+        try (Stream<CommunicationEntity> entities = manager.select(query.toSelectQuery())) {
+            Iterator<CommunicationEntity> iterator = entities.iterator();
+            List<CommunicationEntity> batch = new ArrayList<>(batchSize);
+            while (iterator.hasNext()) {
+                CommunicationEntity entity = iterator.next();
+                entity.addAll(query.set());
+                batch.add(entity);
+                if (batch.size() == batchSize) {
+                    count += write(manager, batch, updated);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                count += write(manager, batch, updated);
+            }
+        }
+        return count;
+    }
+
+    private static int write(DatabaseManager manager, List<CommunicationEntity> batch,
+                             Consumer<CommunicationEntity> updated) {
+        // the returned iterable might be lazy, so it is always iterated to make sure the batch is written
+        manager.update(batch).forEach(updated);
+        return batch.size();
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.assertj.core.api.Assertions;
+import org.eclipse.jnosql.communication.Settings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachedDatabaseManagerTest {
+
+    private DatabaseManager delegate;
+
+    private AtomicLong clock;
+
+    private CachedDatabaseManager manager;
+
+    @BeforeEach
+    void setUp() {
+        this.delegate = Mockito.mock(DatabaseManager.class);
+        this.clock = new AtomicLong();
+        this.manager = new CachedDatabaseManager(delegate, 2, 3, Duration.ofSeconds(10), Set.of(), clock::get);
+        when(delegate.select(any(SelectQuery.class))).thenAnswer(i -> Stream.of(person("Ada")));
+    }
+
+    @Test
+    void shouldReturnFromCache() {
+        SelectQuery query = SelectQuery.select().from("person").where("name").eq("Ada").build();
+
+        Assertions.assertThat(manager.select(query)).hasSize(1);
+        Assertions.assertThat(manager.select(query)).hasSize(1);
+
+        verify(delegate, times(1)).select(query);
+        assertSoftly(soft -> {
+            QueryCacheMetrics metrics = manager.metrics();
+            soft.assertThat(metrics.hits()).isEqualTo(1L);
+            soft.assertThat(metrics.misses()).isEqualTo(1L);
+            soft.assertThat(metrics.size()).isEqualTo(1L);
+            soft.assertThat(metrics.hitRatio()).isEqualTo(0.5D);
+        });
+    }
+
+    @Test
+    void shouldUseCanonicalKey() {
+        SelectQuery query = SelectQuery.select().from("person").where("name").eq("Ada").build();
+        SelectQuery same = SelectQuery.builder().from("person").where(CriteriaCondition.eq("name", "Ada")).build();
+
+        manager.select(query).toList();
+        manager.select(same).toList();
+
+        verify(delegate, times(1)).select(any(SelectQuery.class));
+    }
+
+    @Test
+    void shouldNotShareMutableEntities() {
+        SelectQuery query = SelectQuery.select().from("person").build();
+
+        manager.select(query).forEach(e -> e.add("age", 10));
+        CommunicationEntity entity = manager.select(query).findFirst().orElseThrow();
+
+        Assertions.assertThat(entity.contains("age")).isFalse();
+    }
+
+    @Test
+    void shouldInvalidateWhenInsert() {
+        SelectQuery query = SelectQuery.select().from("person").build();
+        manager.select(query).toList();
+
+        manager.insert(person("Grace"));
+        manager.select(query).toList();
+
+        verify(delegate, times(2)).select(query);
+        Assertions.assertThat(manager.metrics().invalidations()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldInvalidateWhenDelete() {
+        SelectQuery query = SelectQuery.select().from("person").build();
+        manager.select(query).toList();
+
+        manager.delete(DeleteQuery.delete().from("person").build());
+        manager.select(query).toList();
+
+        verify(delegate, times(2)).select(query);
+    }
+
+    @Test
+    void shouldKeepCacheOfOtherEntities() {
+        SelectQuery query = SelectQuery.select().from("person").build();
+        manager.select(query).toList();
+
+        manager.update(CommunicationEntity.of("book"));
+        manager.select(query).toList();
+
+        verify(delegate, times(1)).select(query);
+    }
+
+    @Test
+    void shouldEvictWhenExpired() {
+        SelectQuery query = SelectQuery.select().from("person").build();
+        manager.select(query).toList();
+
+        clock.addAndGet(Duration.ofSeconds(11).toNanos());
+        manager.select(query).toList();
+
+        verify(delegate, times(2)).select(query);
+        Assertions.assertThat(manager.metrics().evictions()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        SelectQuery first = SelectQuery.select().from("person").where("name").eq("A").build();
+        SelectQuery second = SelectQuery.select().from("person").where("name").eq("B").build();
+        SelectQuery third = SelectQuery.select().from("person").where("name").eq("C").build();
+
+        manager.select(first).toList();
+        manager.select(second).toList();
+        manager.select(third).toList();
+        manager.select(first).toList();
+
+        verify(delegate, times(2)).select(first);
+        assertSoftly(soft -> {
+            soft.assertThat(manager.metrics().evictions()).isEqualTo(2L);
+            soft.assertThat(manager.metrics().size()).isEqualTo(2L);
+        });
+    }
+
+    @Test
+    void shouldStreamWithoutCachingWhenResultExceedsMaxRows() {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(delegate.select(any(SelectQuery.class))).thenAnswer(i -> Stream.of("Ada", "Grace", "Alan", "Linus")
+                .map(CachedDatabaseManagerTest::person).onClose(() -> closed.set(true)));
+        SelectQuery query = SelectQuery.select().from("person").build();
+
+        try (Stream<CommunicationEntity> entities = manager.select(query)) {
+            Assertions.assertThat(entities).hasSize(4);
+        }
+        manager.select(query).toList();
+
+        verify(delegate, times(2)).select(query);
+        assertSoftly(soft -> {
+            soft.assertThat(closed).isTrue();
+            soft.assertThat(manager.metrics().misses()).isEqualTo(2L);
+            soft.assertThat(manager.metrics().size()).isZero();
+        });
+    }
+
+    @Test
+    void shouldCacheResultUpToMaxRows() {
+        when(delegate.select(any(SelectQuery.class))).thenAnswer(i -> Stream.of("Ada", "Grace", "Alan")
+                .map(CachedDatabaseManagerTest::person));
+        SelectQuery query = SelectQuery.select().from("person").build();
+
+        Assertions.assertThat(manager.select(query)).hasSize(3);
+        Assertions.assertThat(manager.select(query)).hasSize(3);
+
+        verify(delegate, times(1)).select(query);
+    }
+
+    @Test
+    void shouldIgnoreEntitiesNotOptedIn() {
+        var cached = new CachedDatabaseManager(delegate, 10, 3, Duration.ofSeconds(10), Set.of("book"),
+                clock::get);
+        SelectQuery query = SelectQuery.select().from("person").build();
+
+        cached.select(query).toList();
+        cached.select(query).toList();
+
+        verify(delegate, times(2)).select(query);
+        Assertions.assertThat(cached.metrics().misses()).isZero();
+    }
+
+    @Test
+    void shouldCreateFromSettings() {
+        Settings settings = Settings.of(Map.<String, Object>of(QueryCacheConfigurations.MAX_SIZE.get(), 5,
+                QueryCacheConfigurations.MAX_ROWS.get(), 50, QueryCacheConfigurations.TTL.get(), 30,
+                QueryCacheConfigurations.ENTITIES.get(), "person, book"));
+
+        CachedDatabaseManager cached = CachedDatabaseManager.of(delegate, settings);
+
+        Assertions.assertThat(cached.toString()).contains("maxSize=5", "maxRows=50", "PT30S", "person", "book");
+    }
+
+    @Test
+    void shouldReturnErrorWhenMaxSizeIsInvalid() {
+        Assertions.assertThatThrownBy(() -> CachedDatabaseManager.of(delegate, 0, Duration.ofSeconds(1), Set.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldReturnErrorWhenMaxRowsIsInvalid() {
+        Assertions.assertThatThrownBy(() -> CachedDatabaseManager.of(delegate, 10, 0, Duration.ofSeconds(1), Set.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldCloseDelegate() {
+        manager.close();
+        verify(delegate).close();
+    }
+
+    private static CommunicationEntity person(String name) {
+        return CommunicationEntity.of("person", List.of(Element.of("name", name)));
+    }
+}
@@ -429,4 +429,100 @@ class CommunicationEntityTest {
         });
     }
 
+    @Test
+    void shouldCreateCompactEntity() {
+        EntityShape shape = EntityShape.of("name", "age");
+        CommunicationEntity entity = CommunicationEntity.of("entity", shape, new Object[]{"Ada", 36});
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(EntityShape.of(List.of("name", "age"))).isSameAs(shape);
+            softly.assertThat(entity.size()).isEqualTo(2);
+            softly.assertThat(entity.find("name")).contains(Element.of("name", "Ada"));
+            softly.assertThat(entity.find("age", Integer.class)).contains(36);
+            softly.assertThat(entity.find("city")).isEmpty();
+            softly.assertThat(entity.contains("age")).isTrue();
+            softly.assertThat(entity.elementNames()).containsExactlyInAnyOrder("name", "age");
+            softly.assertThat(entity.elements()).containsExactly(Element.of("name", "Ada"), Element.of("age", 36));
+            softly.assertThat(entity.toMap()).containsEntry("name", "Ada").containsEntry("age", 36);
+            softly.assertThat(entity).isEqualTo(CommunicationEntity.of("entity",
+                    List.of(Element.of("age", 36), Element.of("name", "Ada"))));
+            softly.assertThat(entity.hashCode()).isEqualTo(CommunicationEntity.of("entity",
+                    List.of(Element.of("age", 36), Element.of("name", "Ada"))).hashCode());
+        });
+    }
+
+    @Test
+    void shouldCopyCompactEntityToMapOnChange() {
+        EntityShape shape = EntityShape.of("name", "age");
+        CommunicationEntity entity = CommunicationEntity.of("entity", shape, new Object[]{"Ada", 36});
+        CommunicationEntity copy = entity.copy();
+
+        entity.add("city", "London");
+        entity.remove("age");
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(entity.elementNames()).containsExactlyInAnyOrder("name", "city");
+            softly.assertThat(copy.elementNames()).containsExactlyInAnyOrder("name", "age");
+            softly.assertThat(copy.remove("city")).isFalse();
+        });
+    }
+
+    @Test
+    void shouldCreateTheElementOfCompactFormOnce() {
+        CommunicationEntity entity = CommunicationEntity.of("entity", EntityShape.of("name", "age"),
+                new Object[]{"Ada", 36});
+        Element name = entity.find("name").orElseThrow();
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(entity.find("name")).containsSame(name);
+            softly.assertThat(entity.elements()).first().isSameAs(name);
+        });
+    }
+
+    @Test
+    void shouldCompareCompactFormsBySlots() {
+        CommunicationEntity entity = CommunicationEntity.of("entity", EntityShape.of("name", "age"),
+                new Object[]{"Ada", 36});
+        CommunicationEntity reversed = CommunicationEntity.of("entity", EntityShape.of("age", "name"),
+                new Object[]{Value.of(36), "Ada"});
+        CommunicationEntity other = CommunicationEntity.of("entity", EntityShape.of("name", "age"),
+                new Object[]{"Ada", 37});
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(entity).isEqualTo(reversed);
+            softly.assertThat(entity.hashCode()).isEqualTo(reversed.hashCode());
+            softly.assertThat(entity).isNotEqualTo(other);
+            softly.assertThat(entity).isNotEqualTo(CommunicationEntity.of("entity",
+                    List.of(Element.of("name", "Ada"))));
+            softly.assertThat(entity).isNotEqualTo(CommunicationEntity.of("other", EntityShape.of("name", "age"),
+                    new Object[]{"Ada", 36}));
+        });
+    }
+
+    @Test
+    void shouldCompareCompactFormWithMapForm() {
+        CommunicationEntity compact = CommunicationEntity.of("entity", EntityShape.of("name", "age", "active"),
+                new Object[]{"Ada", Value.ofLong(36L), true});
+        CommunicationEntity map = CommunicationEntity.of("entity", List.of(Element.of("active", Value.ofBoolean(true)),
+                Element.of("age", 36L), Element.of("name", "Ada")));
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(compact).isEqualTo(map);
+            softly.assertThat(map).isEqualTo(compact);
+            softly.assertThat(compact.hashCode()).isEqualTo(map.hashCode());
+            softly.assertThat(compact.find("age")).contains(Element.of("age", 36L));
+            softly.assertThat(Element.of("age", 36L)).isEqualTo(compact.find("age").orElseThrow())
+                    .hasSameHashCodeAs(compact.find("age").orElseThrow());
+            softly.assertThat(map).isNotEqualTo(CommunicationEntity.of("entity", EntityShape.of("name", "age", "active"),
+                    new Object[]{"Ada", Value.ofLong(37L), true}));
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenValuesDoNotMatchShape() {
+        EntityShape shape = EntityShape.of("name", "age");
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThatThrownBy(() -> CommunicationEntity.of("entity", shape, new Object[]{"Ada"}))
+                    .isInstanceOf(IllegalArgumentException.class);
+            softly.assertThatThrownBy(() -> EntityShape.of("name", "name"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        });
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.assertj.core.api.Assertions;
+import org.eclipse.jnosql.communication.Params;
+import org.eclipse.jnosql.communication.Value;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class ConditionCompilerTest {
+
+    private final CommunicationEntity ada = CommunicationEntity.of("Person", List.of(Element.of("name", "Ada"),
+            Element.of("age", 36), Element.of("salary", new BigDecimal("10.50")),
+            Element.of("birthday", LocalDate.of(1815, 12, 10)), Element.of("day", "MONDAY"),
+            Element.of("address", List.of(Element.of("city", "London"), Element.of("zip", "NW1")))));
+
+    private final CommunicationEntity grace = CommunicationEntity.of("Person", List.of(Element.of("name", "Grace"),
+            Element.of("age", 85L), Element.of("day", "FRIDAY")));
+
+    @Test
+    void shouldCompareNumbersWhateverTheirType() {
+        assertSoftly(soft -> {
+            soft.assertThat(CriteriaCondition.eq("age", 36L).toPredicate()).accepts(ada).rejects(grace);
+            soft.assertThat(CriteriaCondition.eq("age", 36.0).toPredicate()).accepts(ada);
+            soft.assertThat(CriteriaCondition.gt("age", 40).toPredicate()).accepts(grace).rejects(ada);
+            soft.assertThat(CriteriaCondition.gte("age", 36).toPredicate()).accepts(ada, grace);
+            soft.assertThat(CriteriaCondition.lt("salary", 11).toPredicate()).accepts(ada).rejects(grace);
+            soft.assertThat(CriteriaCondition.lte("salary", 10.5).toPredicate()).accepts(ada);
+        });
+    }
+
+    @Test
+    void shouldConvertConstantToTheEntityType() {
+        assertSoftly(soft -> {
+            soft.assertThat(CriteriaCondition.eq("age", "36").toPredicate()).accepts(ada);
+            soft.assertThat(CriteriaCondition.gt("birthday", "1800-01-01").toPredicate()).accepts(ada).rejects(grace);
+            soft.assertThat(CriteriaCondition.eq("day", DayOfWeek.MONDAY).toPredicate()).accepts(ada).rejects(grace);
+        });
+    }
+
+    @Test
+    void shouldCheckInWithHashSet() {
+        Predicate<CommunicationEntity> ages = CriteriaCondition.in("age", List.of(10, 85)).toPredicate();
+        Predicate<CommunicationEntity> days = CriteriaCondition.in("day", List.of(DayOfWeek.MONDAY, DayOfWeek.SUNDAY))
+                .toPredicate();
+
+        assertSoftly(soft -> {
+            soft.assertThat(ages).accepts(grace).rejects(ada);
+            soft.assertThat(days).accepts(ada).rejects(grace);
+        });
+    }
+
+    @Test
+    void shouldMatchLike() {
+        assertSoftly(soft -> {
+            soft.assertThat(CriteriaCondition.like("name", "A%").toPredicate()).accepts(ada).rejects(grace);
+            soft.assertThat(CriteriaCondition.like("name", "Gr_ce").toPredicate()).accepts(grace).rejects(ada);
+            soft.assertThat(CriteriaCondition.like("name", "A.a").toPredicate()).rejects(ada);
+        });
+    }
+
+    @Test
+    void shouldCheckBetween() {
+        Predicate<CommunicationEntity> between = CriteriaCondition.between("age", List.of(30, 40)).toPredicate();
+        Assertions.assertThat(between).accepts(ada).rejects(grace);
+    }
+
+    @Test
+    void shouldCombineConditions() {
+        CriteriaCondition name = CriteriaCondition.eq("name", "Ada");
+        CriteriaCondition age = CriteriaCondition.gt("age", 80);
+
+        assertSoftly(soft -> {
+            soft.assertThat(CriteriaCondition.and(name, age).toPredicate()).rejects(ada, grace);
+            soft.assertThat(CriteriaCondition.or(name, age).toPredicate()).accepts(ada, grace);
+            soft.assertThat(CriteriaCondition.not(name).toPredicate()).accepts(grace).rejects(ada);
+        });
+    }
+
+    @Test
+    void shouldReadSubDocument() {
+        Predicate<CommunicationEntity> city = CriteriaCondition.eq("address.city", "London").toPredicate();
+        Assertions.assertThat(city).accepts(ada).rejects(grace);
+    }
+
+    @Test
+    void shouldNotMatchAbsentValue() {
+        assertSoftly(soft -> {
+            soft.assertThat(CriteriaCondition.eq("salary", 10.5).toPredicate()).rejects(grace);
+            soft.assertThat(CriteriaCondition.not(CriteriaCondition.eq("salary", 10.5)).toPredicate())
+                    .rejects(grace, ada);
+            soft.assertThat(CriteriaCondition.not(CriteriaCondition.gt("salary", 11)).toPredicate())
+                    .accepts(ada).rejects(grace);
+        });
+    }
+
+    @Test
+    void shouldNegateOnlyPresentValues() {
+        CommunicationEntity unknown = CommunicationEntity.of("Person", List.of(Element.of("name", "Alan"),
+                Element.of("age", null)));
+        CriteriaCondition salary = CriteriaCondition.lt("salary", 11);
+        CriteriaCondition name = CriteriaCondition.eq("name", "Ada");
+
+        assertSoftly(soft -> {
+            soft.assertThat(CriteriaCondition.not(CriteriaCondition.gt("age", 40)).toPredicate())
+                    .accepts(ada).rejects(grace, unknown);
+            soft.assertThat(CriteriaCondition.not(CriteriaCondition.in("age", List.of(85))).toPredicate())
+                    .accepts(ada).rejects(grace, unknown);
+            soft.assertThat(CriteriaCondition.not(CriteriaCondition.between("age", List.of(30, 40))).toPredicate())
+                    .accepts(grace).rejects(ada, unknown);
+            soft.assertThat(CriteriaCondition.not(CriteriaCondition.like("name", "A%")).toPredicate())
+                    .accepts(grace).rejects(ada, unknown);
+            soft.assertThat(CriteriaCondition.not(CriteriaCondition.and(name, salary)).toPredicate())
+                    .accepts(grace, unknown).rejects(ada);
+            soft.assertThat(CriteriaCondition.not(CriteriaCondition.or(name, salary)).toPredicate())
+                    .rejects(ada, grace, unknown);
+            soft.assertThat(CriteriaCondition.not(CriteriaCondition.not(salary)).toPredicate())
+                    .accepts(ada).rejects(grace, unknown);
+        });
+    }
+
+    @Test
+    void shouldResolveParameters() {
+        Params params = Params.newParams();
+        Value value = params.add("age");
+        params.bind("age", 85);
+
+        Assertions.assertThat(CriteriaCondition.eq(Element.of("age", value)).toPredicate()).accepts(grace)
+                .rejects(ada);
+    }
+}
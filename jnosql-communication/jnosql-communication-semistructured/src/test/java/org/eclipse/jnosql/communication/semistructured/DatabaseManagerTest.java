@@ -28,7 +28,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.junit.jupiter.api.Assertions.*;
@@ -493,6 +495,66 @@ class DatabaseManagerTest {
         Assertions.assertThat(exists).isFalse();
     }
 
+    @Test
+    void shouldCountSelectingOnlyKeys(){
+        SelectQuery query = SelectQuery.select().from("person").where("name").eq("Ada").build();
+        Mockito.when(databaseManager.select(Mockito.any())).thenReturn(stream());
+
+        databaseManager.count(SelectQuery.countBy(query, "_id"));
+
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        Mockito.verify(databaseManager).select(captor.capture());
+        Assertions.assertThat(captor.getValue().columns()).containsExactly("_id");
+    }
+
+    @Test
+    void shouldCountSelectingOnlyTheQueryKeys(){
+        SelectQuery query = SelectQuery.select().from("person").where("name").eq("Ada").orderBy("name").asc()
+                .build();
+        Mockito.when(databaseManager.select(Mockito.any())).thenReturn(stream());
+
+        long count = databaseManager.count(SelectQuery.withKeys(query, "_id"));
+
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        Mockito.verify(databaseManager).select(captor.capture());
+        assertSoftly(soft -> {
+            soft.assertThat(count).isEqualTo(2L);
+            soft.assertThat(captor.getValue().columns()).containsExactly("_id");
+            soft.assertThat(captor.getValue().sorts()).isEmpty();
+            soft.assertThat(captor.getValue().condition()).isEqualTo(query.condition());
+        });
+    }
+
+    @Test
+    void shouldExistsSelectingOnlyTheQueryKeys(){
+        SelectQuery query = SelectQuery.select().from("person").where("name").eq("Ada").build();
+        Mockito.when(databaseManager.select(Mockito.any())).thenReturn(stream());
+
+        databaseManager.exists(SelectQuery.withKeys(query, "_id"));
+
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        Mockito.verify(databaseManager).select(captor.capture());
+        assertSoftly(soft -> {
+            soft.assertThat(captor.getValue().columns()).containsExactly("_id");
+            soft.assertThat(captor.getValue().limit()).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    void shouldExistsSelectingOnlyKeys(){
+        SelectQuery query = SelectQuery.select().from("person").where("name").eq("Ada").build();
+        Mockito.when(databaseManager.select(Mockito.any())).thenReturn(stream());
+
+        databaseManager.exists(SelectQuery.existsBy(query, "_id"));
+
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        Mockito.verify(databaseManager).select(captor.capture());
+        assertSoftly(soft -> {
+            soft.assertThat(captor.getValue().columns()).containsExactly("_id");
+            soft.assertThat(captor.getValue().limit()).isEqualTo(1L);
+        });
+    }
+
     @Test
     void shouldQuery(){
         SelectQuery query = SelectQuery.select().from("person").build();
@@ -537,28 +599,63 @@ class DatabaseManagerTest {
     }
 
     @Test
-    void shouldExecuteUpdate(){
+    @SuppressWarnings("unchecked")
+    void shouldUpdateByQuery(){
         List<Element> elements = List.of(Element.of("name", "Ada"), Element.of("age", 10));
         var updateQuery = new DefaultUpdateQuery("person", elements, CriteriaCondition.eq("id", "id"));
         var select = SelectQuery.select().from("person").where("id").eq("id").build();
         var entity = CommunicationEntity.of("person");
         entity.add("name", "Poliana");
         Mockito.when(databaseManager.select(select)).thenReturn(Stream.of(entity));
+        Mockito.when(databaseManager.update(Mockito.<Iterable<CommunicationEntity>>any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
 
-        databaseManager.update(updateQuery);
+        Iterable<CommunicationEntity> updated = databaseManager.update(updateQuery);
 
-        ArgumentCaptor<CommunicationEntity> captor = ArgumentCaptor.forClass(CommunicationEntity.class);
+        ArgumentCaptor<Iterable<CommunicationEntity>> captor = ArgumentCaptor.forClass(Iterable.class);
         Mockito.verify(databaseManager).update(captor.capture());
+        Mockito.verify(databaseManager, Mockito.never()).update(Mockito.any(CommunicationEntity.class));
 
-        CommunicationEntity communication = captor.getValue();
+        List<CommunicationEntity> batch = StreamSupport.stream(captor.getValue().spliterator(), false).toList();
 
         SoftAssertions.assertSoftly(soft ->{
+            soft.assertThat(batch).hasSize(1);
+            CommunicationEntity communication = batch.get(0);
             soft.assertThat(communication.find("name").orElseThrow().get()).isEqualTo("Ada");
             soft.assertThat(communication.find("age").orElseThrow().get()).isEqualTo(10);
             soft.assertThat(communication.name()).isEqualTo("person");
+            soft.assertThat(updated).containsExactly(communication);
         });
+    }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldExecuteUpdate(){
+        List<Element> elements = List.of(Element.of("age", 10));
+        var updateQuery = new DefaultUpdateQuery("person", elements, CriteriaCondition.eq("name", "Ada"));
+        var select = SelectQuery.select().from("person").where("name").eq("Ada").build();
+        List<CommunicationEntity> entities = IntStream.range(0, 501).mapToObj(index -> {
+            var entity = CommunicationEntity.of("person");
+            entity.add("name", "Ada");
+            return entity;
+        }).toList();
+        Mockito.when(databaseManager.select(select)).thenReturn(entities.stream());
+        Mockito.when(databaseManager.update(Mockito.<Iterable<CommunicationEntity>>any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        long count = databaseManager.executeUpdate(updateQuery);
+
+        ArgumentCaptor<Iterable<CommunicationEntity>> captor = ArgumentCaptor.forClass(Iterable.class);
+        Mockito.verify(databaseManager, Mockito.times(2)).update(captor.capture());
+        Mockito.verify(databaseManager, Mockito.never()).update(Mockito.any(CommunicationEntity.class));
 
+        SoftAssertions.assertSoftly(soft ->{
+            soft.assertThat(count).isEqualTo(501L);
+            soft.assertThat(captor.getAllValues().get(0)).hasSize(500);
+            soft.assertThat(captor.getAllValues().get(1)).hasSize(1);
+            soft.assertThat(entities).allSatisfy(e -> soft.assertThat(e.find("age").orElseThrow().get())
+                    .isEqualTo(10));
+        });
     }
 
 
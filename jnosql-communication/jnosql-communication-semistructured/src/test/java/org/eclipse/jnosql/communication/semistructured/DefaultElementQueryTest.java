@@ -82,6 +82,32 @@ class DefaultElementQueryTest {
         Assertions.assertEquals(Condition.EQUALS, condition.condition());
     }
 
+    @Test
+    void shouldConvertCountByWithKeys() {
+        SelectQuery query = SelectQuery.select("name", "age").from("entity")
+                .where("name").eq("predicate")
+                .orderBy("name").asc().skip(2).limit(10).build();
+
+        SelectQuery countQuery = SelectQuery.countBy(query, "_id");
+        assertEquals(List.of("_id"), countQuery.columns());
+        assertEquals(0, countQuery.limit());
+        assertEquals(0, countQuery.skip());
+        assertTrue(countQuery.isCount());
+        assertTrue(countQuery.sorts().isEmpty());
+        assertEquals(List.of("name", "age"), SelectQuery.countBy(query).columns());
+    }
+
+    @Test
+    void shouldConvertExistsByWithKeys() {
+        SelectQuery query = SelectQuery.select().from("entity")
+                .where("name").eq("predicate").build();
+
+        SelectQuery existsQuery = SelectQuery.existsBy(query, "_id");
+        assertEquals(List.of("_id"), existsQuery.columns());
+        assertEquals(1, existsQuery.limit());
+        assertEquals(query.condition(), existsQuery.condition());
+    }
+
     @Test
     void shouldHasCode(){
         SelectQuery query = SelectQuery.select().from("entity")
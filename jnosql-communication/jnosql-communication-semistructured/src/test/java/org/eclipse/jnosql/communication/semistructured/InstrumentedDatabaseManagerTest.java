@@ -0,0 +1,192 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.assertj.core.api.Assertions;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.metrics.DatabaseMetrics;
+import org.eclipse.jnosql.communication.metrics.DatabaseOperation;
+import org.eclipse.jnosql.communication.metrics.FlightRecorderEvents;
+import org.eclipse.jnosql.communication.metrics.HistogramDatabaseMetrics;
+import org.eclipse.jnosql.communication.metrics.MetricsConfigurations;
+import org.eclipse.jnosql.communication.metrics.OperationStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+class InstrumentedDatabaseManagerTest {
+
+    private DatabaseManager delegate;
+
+    private HistogramDatabaseMetrics metrics;
+
+    private DatabaseManager manager;
+
+    @BeforeEach
+    void setUp() {
+        this.delegate = Mockito.mock(DatabaseManager.class);
+        this.metrics = new HistogramDatabaseMetrics();
+        this.manager = InstrumentedDatabaseManager.of(delegate, metrics);
+        when(delegate.name()).thenReturn("db");
+        when(delegate.insert(Mockito.<Iterable<CommunicationEntity>>any())).thenAnswer(i -> read(i.getArgument(0)));
+        when(delegate.update(Mockito.<Iterable<CommunicationEntity>>any())).thenAnswer(i -> read(i.getArgument(0)));
+    }
+
+    @Test
+    void shouldReturnSameManagerWhenDisabled() {
+        DatabaseManager decorated = InstrumentedDatabaseManager.of(delegate, DatabaseMetrics.noop());
+        Assertions.assertThat(decorated).isSameAs(delegate);
+    }
+
+    @Test
+    void shouldDecorateWhenFlightRecorderIsEnabled() {
+        Settings settings = Settings.builder().put(MetricsConfigurations.JFR_ENABLED, true).build();
+        DatabaseManager decorated = InstrumentedDatabaseManager.of(delegate, DatabaseMetrics.noop(), settings);
+        if (FlightRecorderEvents.isAvailable()) {
+            Assertions.assertThat(decorated).isInstanceOf(InstrumentedDatabaseManager.class);
+        } else {
+            Assertions.assertThat(decorated).isSameAs(delegate);
+        }
+    }
+
+    @Test
+    void shouldRecordSelectWhenConsumed() {
+        when(delegate.select(any(SelectQuery.class))).thenReturn(Stream.of(person("Ada"), person("Grace")));
+        SelectQuery query = SelectQuery.select().from("person").build();
+
+        Stream<CommunicationEntity> entities = manager.select(query);
+        Assertions.assertThat(metrics.statistics()).isEmpty();
+        Assertions.assertThat(entities).hasSize(2);
+
+        OperationStatistics statistics = statistics("person", DatabaseOperation.SELECT);
+        assertSoftly(soft -> {
+            soft.assertThat(statistics.count()).isEqualTo(1L);
+            soft.assertThat(statistics.totalRows()).isEqualTo(2L);
+        });
+    }
+
+    @Test
+    void shouldRecordSelectWhenClosed() {
+        when(delegate.select(any(SelectQuery.class))).thenReturn(Stream.of(person("Ada"), person("Grace")));
+        SelectQuery query = SelectQuery.select().from("person").build();
+
+        try (Stream<CommunicationEntity> entities = manager.select(query)) {
+            Assertions.assertThat(entities.findFirst()).isPresent();
+        }
+
+        Assertions.assertThat(statistics("person", DatabaseOperation.SELECT).totalRows()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldRecordSingleResult() {
+        when(delegate.select(any(SelectQuery.class))).thenReturn(Stream.of(person("Ada")));
+        SelectQuery query = SelectQuery.select().from("person").build();
+
+        Assertions.assertThat(manager.singleResult(query)).isPresent();
+        Assertions.assertThat(statistics("person", DatabaseOperation.SELECT).count()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldRecordInsertBatchByEntity() {
+        manager.insert(List.of(person("Ada"), person("Grace"), CommunicationEntity.of("book")));
+
+        assertSoftly(soft -> {
+            soft.assertThat(statistics("person", DatabaseOperation.INSERT).totalRows()).isEqualTo(2L);
+            soft.assertThat(statistics("book", DatabaseOperation.INSERT).totalRows()).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    void shouldGiveLazyBatchToTheDriver() {
+        Iterable<CommunicationEntity> entities = () -> Stream.of(person("Ada"), person("Grace")).iterator();
+
+        Iterable<CommunicationEntity> updated = manager.update(entities);
+
+        Assertions.assertThat(updated).hasSize(2);
+        Assertions.assertThat(statistics("person", DatabaseOperation.UPDATE).totalRows()).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldRecordCount() {
+        when(delegate.count("person")).thenReturn(10L);
+
+        Assertions.assertThat(manager.count("person")).isEqualTo(10L);
+        Assertions.assertThat(statistics("person", DatabaseOperation.COUNT).count()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldRecordDelete() {
+        manager.delete(DeleteQuery.delete().from("person").build());
+        Assertions.assertThat(statistics("person", DatabaseOperation.DELETE).count()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldRecordWhenFails() {
+        when(delegate.update(any(CommunicationEntity.class))).thenThrow(new IllegalStateException("timeout"));
+
+        Assertions.assertThatThrownBy(() -> manager.update(person("Ada"))).isInstanceOf(IllegalStateException.class);
+
+        OperationStatistics statistics = statistics("person", DatabaseOperation.UPDATE);
+        assertSoftly(soft -> {
+            soft.assertThat(statistics.count()).isEqualTo(1L);
+            soft.assertThat(statistics.failures()).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    void shouldRecordWhenSelectFails() {
+        when(delegate.select(any(SelectQuery.class))).thenThrow(new IllegalStateException("timeout"));
+        SelectQuery query = SelectQuery.select().from("person").build();
+
+        Assertions.assertThatThrownBy(() -> manager.select(query)).isInstanceOf(IllegalStateException.class);
+
+        OperationStatistics statistics = statistics("person", DatabaseOperation.SELECT);
+        assertSoftly(soft -> {
+            soft.assertThat(statistics.failures()).isEqualTo(1L);
+            soft.assertThat(statistics.totalRows()).isZero();
+        });
+    }
+
+    @Test
+    void shouldRecordWhenBatchFails() {
+        Mockito.doAnswer(i -> {
+            i.<Iterable<CommunicationEntity>>getArgument(0).iterator().next();
+            throw new IllegalStateException("timeout");
+        }).when(delegate).insert(Mockito.<Iterable<CommunicationEntity>>any());
+
+        Assertions.assertThatThrownBy(() -> manager.insert(List.of(person("Ada"), person("Grace"))))
+                .isInstanceOf(IllegalStateException.class);
+
+        Assertions.assertThat(statistics("person", DatabaseOperation.INSERT).failures()).isEqualTo(1L);
+    }
+
+    private OperationStatistics statistics(String entity, DatabaseOperation operation) {
+        return metrics.statistics("db", entity, operation).orElseThrow();
+    }
+
+    private static List<CommunicationEntity> read(Iterable<CommunicationEntity> entities) {
+        List<CommunicationEntity> values = new ArrayList<>();
+        entities.forEach(values::add);
+        return values;
+    }
+
+    private static CommunicationEntity person(String name) {
+        return CommunicationEntity.of("person", List.of(Element.of("name", name)));
+    }
+}
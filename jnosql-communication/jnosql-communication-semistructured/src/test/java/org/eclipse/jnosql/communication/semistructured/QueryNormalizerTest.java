@@ -0,0 +1,164 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.assertj.core.api.Assertions;
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.Params;
+import org.eclipse.jnosql.communication.Value;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class QueryNormalizerTest {
+
+    private final CriteriaCondition name = CriteriaCondition.eq("name", "Ada");
+
+    private final CriteriaCondition city = CriteriaCondition.eq("city", "London");
+
+    private final CriteriaCondition age = CriteriaCondition.gt("age", 10);
+
+    @Test
+    void shouldFlattenNestedJunctions() {
+        CriteriaCondition condition = CriteriaCondition.and(CriteriaCondition.and(name, city), age);
+
+        Assertions.assertThat(condition.normalize()).isEqualTo(CriteriaCondition.and(name, city, age));
+    }
+
+    @Test
+    void shouldRemoveDuplicatedConditions() {
+        assertSoftly(soft -> {
+            soft.assertThat(CriteriaCondition.or(name, city, name).normalize())
+                    .isEqualTo(CriteriaCondition.or(name, city));
+            soft.assertThat(CriteriaCondition.and(name, name).normalize()).isEqualTo(name);
+        });
+    }
+
+    @Test
+    void shouldRemoveDoubleNegation() {
+        CriteriaCondition condition = CriteriaCondition.of(Element.of(Condition.NOT.getNameField(),
+                CriteriaCondition.of(Element.of(Condition.NOT.getNameField(), name), Condition.NOT)), Condition.NOT);
+
+        Assertions.assertThat(condition.normalize()).isEqualTo(name);
+    }
+
+    @Test
+    void shouldSimplifyIn() {
+        assertSoftly(soft -> {
+            soft.assertThat(CriteriaCondition.in("name", List.of("Ada", "Ada")).normalize()).isEqualTo(name);
+            soft.assertThat(CriteriaCondition.in("name", List.of("Ada", "Grace", "Ada")).normalize())
+                    .isEqualTo(CriteriaCondition.in("name", List.of("Ada", "Grace")));
+        });
+    }
+
+    @Test
+    void shouldKeepRangesWhenNormalizing() {
+        CriteriaCondition condition = CriteriaCondition.and(name, CriteriaCondition.gte("age", 10),
+                CriteriaCondition.lte("age", 20), CriteriaCondition.gt("age", 5));
+        SelectQuery query = SelectQuery.builder().from("Person").where(condition).build();
+
+        assertSoftly(soft -> {
+            soft.assertThat(condition.normalize()).isSameAs(condition);
+            soft.assertThat(SelectQuery.normalize(query)).isSameAs(query);
+        });
+    }
+
+    @Test
+    void shouldMergeRangeIntoBetween() {
+        CriteriaCondition condition = CriteriaCondition.and(name, CriteriaCondition.gte("age", 10),
+                CriteriaCondition.lte("age", 20));
+        SelectQuery query = SelectQuery.builder().from("Person").where(condition).build();
+
+        assertSoftly(soft -> {
+            soft.assertThat(condition.mergeRanges())
+                    .isEqualTo(CriteriaCondition.and(name, CriteriaCondition.between("age", List.of(10, 20))));
+            soft.assertThat(SelectQuery.mergeRanges(query).condition().orElseThrow())
+                    .isEqualTo(CriteriaCondition.and(name, CriteriaCondition.between("age", List.of(10, 20))));
+        });
+    }
+
+    @Test
+    void shouldKeepTheTightestBound() {
+        CriteriaCondition condition = CriteriaCondition.and(CriteriaCondition.gt("age", 10),
+                CriteriaCondition.gt("age", 20L), CriteriaCondition.lt("age", 50), CriteriaCondition.lte("age", 30));
+
+        Assertions.assertThat(condition.mergeRanges()).isEqualTo(CriteriaCondition.and(
+                CriteriaCondition.gt("age", 20L), CriteriaCondition.lte("age", 30)));
+    }
+
+    @Test
+    void shouldKeepEveryTextBound() {
+        CriteriaCondition condition = CriteriaCondition.and(CriteriaCondition.gt("name", "a"),
+                CriteriaCondition.gt("name", "B"));
+
+        Assertions.assertThat(condition.mergeRanges()).isSameAs(condition);
+    }
+
+    @Test
+    void shouldTurnEqualBoundsIntoEquals() {
+        assertSoftly(soft -> {
+            soft.assertThat(CriteriaCondition.between("age", List.of(10, 10)).normalize())
+                    .isEqualTo(CriteriaCondition.eq("age", 10));
+            soft.assertThat(CriteriaCondition.and(CriteriaCondition.gte("age", 10), CriteriaCondition.lte("age", 10))
+                    .mergeRanges()).isEqualTo(CriteriaCondition.eq("age", 10));
+        });
+    }
+
+    @Test
+    void shouldReturnSameInstanceWhenThereIsNothingToSimplify() {
+        CriteriaCondition condition = CriteriaCondition.or(name, CriteriaCondition.and(city, age));
+        SelectQuery query = SelectQuery.builder().from("Person").where(condition).build();
+
+        assertSoftly(soft -> {
+            soft.assertThat(condition.normalize()).isSameAs(condition);
+            soft.assertThat(SelectQuery.normalize(query)).isSameAs(query);
+        });
+    }
+
+    @Test
+    void shouldNotReadUnboundParameters() {
+        Params params = Params.newParams();
+        Value first = params.add("first");
+        Value second = params.add("second");
+        CriteriaCondition condition = CriteriaCondition.and(CriteriaCondition.gte(Element.of("age", first)),
+                CriteriaCondition.lte(Element.of("age", second)));
+
+        Assertions.assertThat(condition.mergeRanges()).isSameAs(condition);
+    }
+
+    @Test
+    void shouldNormalizeDeleteQuery() {
+        DeleteQuery query = DeleteQuery.builder().from("Person")
+                .where(CriteriaCondition.and(CriteriaCondition.and(name, city), age)).build();
+
+        Assertions.assertThat(DeleteQuery.normalize(query).condition())
+                .contains(CriteriaCondition.and(name, city, age));
+    }
+
+    @Test
+    void shouldIgnoreOrderInQueryKey() {
+        SelectQuery first = SelectQuery.builder().from("Person")
+                .where(CriteriaCondition.and(name, CriteriaCondition.in("age", List.of(10, 20)))).build();
+        SelectQuery second = SelectQuery.builder().from("Person")
+                .where(CriteriaCondition.and(CriteriaCondition.in("age", List.of(20, 10, 20)), name)).build();
+        SelectQuery other = SelectQuery.builder().from("Person").where(name).build();
+
+        assertSoftly(soft -> {
+            soft.assertThat(QueryKey.of(first)).isEqualTo(QueryKey.of(second))
+                    .hasSameHashCodeAs(QueryKey.of(second));
+            soft.assertThat(QueryKey.of(first)).isNotEqualTo(QueryKey.of(other));
+            soft.assertThat(QueryKey.of(DeleteQuery.builder().from("Person").where(name).build()))
+                    .isNotEqualTo(QueryKey.of(other));
+        });
+    }
+}
@@ -17,6 +17,8 @@ import org.eclipse.jnosql.communication.QueryException;
 import jakarta.data.Sort;
 import jakarta.data.Direction;
 import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.query.Aggregate;
+import org.eclipse.jnosql.communication.query.AggregateFunction;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
@@ -461,6 +463,44 @@ class SelectQueryParserTest {
         assertThrows(UnsupportedOperationException.class, prepare::singleResult);
     }
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"SELECT department, SUM(salary), COUNT(THIS) FROM entity WHERE age > 10 " +
+            "GROUP BY department ORDER BY SUM(salary) DESC"})
+    void shouldRunAggregateQuery(String query) {
+        var captor = ArgumentCaptor.forClass(SelectQuery.class);
+        parser.query(query, null, manager, observer);
+        Mockito.verify(manager).aggregate(captor.capture());
+        Mockito.verify(manager, Mockito.never()).select(Mockito.any(SelectQuery.class));
+        var selectQuery = captor.getValue();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(selectQuery.isAggregate()).isTrue();
+            soft.assertThat(selectQuery.isCount()).isFalse();
+            soft.assertThat(selectQuery.columns()).containsExactly("department");
+            soft.assertThat(selectQuery.groupBy()).containsExactly("department");
+            soft.assertThat(selectQuery.aggregates()).containsExactly(Aggregate.of(AggregateFunction.SUM, "salary"),
+                    Aggregate.count());
+            soft.assertThat(selectQuery.sorts()).containsExactly(Sort.of("sum(salary)", Direction.DESC, false));
+            soft.assertThat(selectQuery.condition()).isPresent();
+        });
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"SELECT AVG(age) FROM entity WHERE name = ?1"})
+    void shouldPrepareAggregateQuery(String query) {
+        var captor = ArgumentCaptor.forClass(SelectQuery.class);
+        CommunicationPreparedStatement prepare = parser.prepare(query, null, manager, observer);
+        prepare.bind(1, "Ada");
+        prepare.result();
+        Mockito.verify(manager).aggregate(captor.capture());
+        var selectQuery = captor.getValue();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(selectQuery.aggregates()).containsExactly(Aggregate.of(AggregateFunction.AVG, "age"));
+            soft.assertThat(selectQuery.groupBy()).isEmpty();
+            soft.assertThat(selectQuery.condition()).map(c -> c.element().name()).contains("name");
+        });
+    }
 
     private void checkBaseQuery(SelectQuery selectQuery) {
         assertTrue(selectQuery.columns().isEmpty());
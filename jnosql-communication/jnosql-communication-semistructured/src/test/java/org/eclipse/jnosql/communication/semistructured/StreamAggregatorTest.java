@@ -0,0 +1,200 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import jakarta.data.Sort;
+import org.assertj.core.api.Assertions;
+import org.eclipse.jnosql.communication.query.Aggregate;
+import org.eclipse.jnosql.communication.query.AggregateFunction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StreamAggregatorTest {
+
+    private DatabaseManager manager;
+
+    private AtomicBoolean closed;
+
+    @BeforeEach
+    void setUp() {
+        this.manager = Mockito.mock(DatabaseManager.class, Answers.CALLS_REAL_METHODS);
+        this.closed = new AtomicBoolean();
+        when(manager.select(any(SelectQuery.class))).thenAnswer(i -> Stream.of(
+                        employee("Ada", "IT", 10, 100.5),
+                        employee("Grace", "IT", 30, 200.5),
+                        employee("Alan", "Sales", 20, 50D),
+                        CommunicationEntity.of("Employee", List.of(Element.of("name", "Linus"),
+                                Element.of("department", "Sales"))))
+                .onClose(() -> closed.set(true)));
+    }
+
+    @Test
+    void shouldAggregateByGroup() {
+        SelectQuery query = aggregate(List.of(Aggregate.count(), Aggregate.of(AggregateFunction.COUNT, "age"),
+                        Aggregate.of(AggregateFunction.SUM, "age"), Aggregate.of(AggregateFunction.AVG, "age"),
+                        Aggregate.of(AggregateFunction.MIN, "name"), Aggregate.of(AggregateFunction.MAX, "salary")),
+                List.of("department"), Collections.emptyList());
+
+        List<Map<String, Object>> result = manager.aggregate(query).map(CommunicationEntity::toMap).toList();
+
+        assertSoftly(soft -> {
+            soft.assertThat(result).hasSize(2);
+            soft.assertThat(result.get(0)).containsEntry("department", "IT")
+                    .containsEntry("count(this)", 2L)
+                    .containsEntry("count(age)", 2L)
+                    .containsEntry("sum(age)", 40L)
+                    .containsEntry("avg(age)", 20D)
+                    .containsEntry("min(name)", "Ada")
+                    .containsEntry("max(salary)", 200.5);
+            soft.assertThat(result.get(1)).containsEntry("department", "Sales")
+                    .containsEntry("count(this)", 2L)
+                    .containsEntry("count(age)", 1L)
+                    .containsEntry("sum(age)", 20L)
+                    .containsEntry("avg(age)", 20D)
+                    .containsEntry("min(name)", "Alan")
+                    .containsEntry("max(salary)", 50D);
+            soft.assertThat(closed).isTrue();
+        });
+    }
+
+    @Test
+    void shouldSelectOnlyAggregatedColumns() {
+        SelectQuery query = aggregate(List.of(Aggregate.count(), Aggregate.of(AggregateFunction.SUM, "salary")),
+                List.of("department"), List.of(Sort.asc("department")));
+
+        manager.aggregate(query).toList();
+
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        verify(manager).select(captor.capture());
+        SelectQuery source = captor.getValue();
+        assertSoftly(soft -> {
+            soft.assertThat(source.columns()).containsExactly("department", "salary");
+            soft.assertThat(source.sorts()).isEmpty();
+            soft.assertThat(source.isAggregate()).isFalse();
+            soft.assertThat(source.condition()).isEqualTo(query.condition());
+        });
+    }
+
+    @Test
+    void shouldSumAsDoubleWhenThereIsDecimal() {
+        SelectQuery query = aggregate(List.of(Aggregate.of(AggregateFunction.SUM, "salary")),
+                Collections.emptyList(), Collections.emptyList());
+
+        List<CommunicationEntity> result = manager.aggregate(query).toList();
+
+        Assertions.assertThat(result).singleElement()
+                .extracting(e -> e.find("sum(salary)").orElseThrow().get())
+                .isEqualTo(351D);
+    }
+
+    @Test
+    void shouldReturnSingleRowWhenThereIsNoEntity() {
+        when(manager.select(any(SelectQuery.class))).thenAnswer(i -> Stream.empty());
+        SelectQuery query = aggregate(List.of(Aggregate.count(), Aggregate.of(AggregateFunction.AVG, "age")),
+                Collections.emptyList(), Collections.emptyList());
+
+        List<Map<String, Object>> result = manager.aggregate(query).map(CommunicationEntity::toMap).toList();
+
+        Assertions.assertThat(result).singleElement().satisfies(row -> {
+            Assertions.assertThat(row).containsEntry("count(this)", 0L);
+            Assertions.assertThat(row.get("avg(age)")).isNull();
+        });
+    }
+
+    @Test
+    void shouldSortAndPaginateTheGroups() {
+        SelectQuery query = new DefaultSelectQuery(1, 1, "Employee", List.of("department"),
+                List.of(Sort.desc("sum(age)")), null, false,
+                List.of(Aggregate.of(AggregateFunction.SUM, "age")), List.of("name"));
+
+        List<CommunicationEntity> result = manager.aggregate(query).toList();
+
+        Assertions.assertThat(result).singleElement()
+                .extracting(e -> e.find("name").orElseThrow().get())
+                .isEqualTo("Alan");
+    }
+
+    @Test
+    void shouldKeepBigDecimalPrecision() {
+        when(manager.select(any(SelectQuery.class))).thenAnswer(i -> Stream.of(
+                price(new BigDecimal("0.1")), price(new BigDecimal("0.2")), price(new BigDecimal("0.3"))));
+        SelectQuery query = aggregate(List.of(Aggregate.of(AggregateFunction.SUM, "price"),
+                        Aggregate.of(AggregateFunction.AVG, "price")),
+                Collections.emptyList(), Collections.emptyList());
+
+        Map<String, Object> result = manager.aggregate(query).map(CommunicationEntity::toMap).findFirst().orElseThrow();
+
+        assertSoftly(soft -> {
+            soft.assertThat(result.get("sum(price)")).isEqualTo(new BigDecimal("0.6"));
+            soft.assertThat((BigDecimal) result.get("avg(price)")).isEqualByComparingTo("0.2");
+        });
+    }
+
+    @Test
+    void shouldSumBeyondLongAsBigInteger() {
+        when(manager.select(any(SelectQuery.class))).thenAnswer(i -> Stream.of(
+                price(Long.MAX_VALUE), price(Long.MAX_VALUE), price(BigInteger.TWO)));
+        SelectQuery query = aggregate(List.of(Aggregate.of(AggregateFunction.SUM, "price")),
+                Collections.emptyList(), Collections.emptyList());
+
+        Map<String, Object> result = manager.aggregate(query).map(CommunicationEntity::toMap).findFirst().orElseThrow();
+
+        Assertions.assertThat(result.get("sum(price)"))
+                .isEqualTo(BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.TWO).add(BigInteger.TWO));
+    }
+
+    @Test
+    void shouldCompareLongsExactly() {
+        long big = 1L << 53;
+        when(manager.select(any(SelectQuery.class))).thenAnswer(i -> Stream.of(
+                price(big), price(big + 1), price(10)));
+        SelectQuery query = aggregate(List.of(Aggregate.of(AggregateFunction.MIN, "price"),
+                        Aggregate.of(AggregateFunction.MAX, "price")),
+                Collections.emptyList(), Collections.emptyList());
+
+        Map<String, Object> result = manager.aggregate(query).map(CommunicationEntity::toMap).findFirst().orElseThrow();
+
+        assertSoftly(soft -> {
+            soft.assertThat(result.get("min(price)")).isEqualTo(10);
+            soft.assertThat(result.get("max(price)")).isEqualTo(big + 1);
+        });
+    }
+
+    private static SelectQuery aggregate(List<Aggregate> aggregates, List<String> groupBy, List<Sort<?>> sorts) {
+        return new DefaultSelectQuery(0, 0, "Employee", groupBy, sorts, CriteriaCondition.gt("age", 5), false,
+                aggregates, groupBy);
+    }
+
+    private static CommunicationEntity price(Object price) {
+        return CommunicationEntity.of("Employee", List.of(Element.of("price", price)));
+    }
+
+    private static CommunicationEntity employee(String name, String department, int age, double salary) {
+        return CommunicationEntity.of("Employee", List.of(Element.of("name", name),
+                Element.of("department", department), Element.of("age", age), Element.of("salary", salary)));
+    }
+}
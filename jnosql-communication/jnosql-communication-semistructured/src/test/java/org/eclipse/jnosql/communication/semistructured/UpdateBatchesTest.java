@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UpdateBatchesTest {
+
+    private DatabaseManager manager;
+
+    private AtomicBoolean closed;
+
+    private UpdateQuery query;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        this.manager = Mockito.mock(DatabaseManager.class, Answers.CALLS_REAL_METHODS);
+        this.closed = new AtomicBoolean();
+        this.query = new DefaultUpdateQuery("person", List.of(Element.of("active", true)),
+                CriteriaCondition.eq("name", "Ada"));
+        when(manager.select(any(SelectQuery.class))).thenAnswer(i -> IntStream.range(0, 1_200)
+                .mapToObj(index -> CommunicationEntity.of("person", List.of(Element.of("_id", index))))
+                .onClose(() -> closed.set(true)));
+        when(manager.update(any(Iterable.class))).thenAnswer(i -> i.getArgument(0));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldExecuteUpdateInBatches() {
+        long updated = manager.executeUpdate(query);
+
+        ArgumentCaptor<Iterable<CommunicationEntity>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(manager, times(3)).update(captor.capture());
+        List<Integer> sizes = captor.getAllValues().stream().map(b -> ((List<?>) b).size()).toList();
+        assertSoftly(soft -> {
+            soft.assertThat(updated).isEqualTo(1_200L);
+            soft.assertThat(sizes).containsExactly(500, 500, 200);
+            soft.assertThat(captor.getValue()).allMatch(e -> e.find("active").isPresent());
+            soft.assertThat(closed).isTrue();
+        });
+        verify(manager, Mockito.never()).update(any(CommunicationEntity.class));
+    }
+
+    @Test
+    void shouldReturnEntitiesWhenUpdateQuery() {
+        List<CommunicationEntity> entities = new ArrayList<>();
+        manager.update(query).forEach(entities::add);
+
+        Assertions.assertThat(entities).hasSize(1_200).allMatch(e -> e.find("active").isPresent());
+    }
+
+    @Test
+    void shouldSelectByUpdateCondition() {
+        manager.executeUpdate(query);
+
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        verify(manager).select(captor.capture());
+        Assertions.assertThat(captor.getValue().condition().map(CriteriaCondition::element))
+                .contains(Element.of("name", "Ada"));
+    }
+}
@@ -66,4 +66,24 @@ public interface PreparedStatement {
      */
     boolean isCount();
 
+    /**
+     * Checks if the operation is an update operation.
+     *
+     * @return {@code true} if the operation is an update operation, otherwise {@code false}
+     */
+    default boolean isUpdate() {
+        return false;
+    }
+
+    /**
+     * Executes an update operation without returning the updated entities.
+     *
+     * @return the number of updated entities
+     * @throws QueryException if there are parameters left to bind
+     * @throws UnsupportedOperationException if the operation is not an update operation
+     */
+    default long executeUpdate() {
+        throw new UnsupportedOperationException("The executeUpdate operation is only allowed for update operations");
+    }
+
 }
\ No newline at end of file
@@ -36,6 +36,19 @@ public interface FieldMetadata extends FieldParameterMetadata {
      */
     Object read(Object bean);
 
+    /**
+     * Reads the field information through the bean as a {@link Value}. A primitive field might be read without
+     * boxing its value, e.g., as {@link Value#ofLong(long)}.
+     *
+     * @param bean the bean
+     * @return the property value
+     * @throws NullPointerException when bean is null
+     * @see FieldMetadata#read(Object)
+     */
+    default Value readValue(Object bean) {
+        return Value.of(read(bean));
+    }
+
     /**
      * Writes the field information through the bean.
      *
@@ -45,6 +58,19 @@ public interface FieldMetadata extends FieldParameterMetadata {
      */
     void write(Object bean, Object value);
 
+    /**
+     * Converts the {@link Value} to the field type and writes it through the bean. A primitive field might be
+     * set without boxing its value, e.g., from {@link Value#getAsLong()}.
+     *
+     * @param bean  the bean
+     * @param value the value to convert and write
+     * @throws NullPointerException when there is a null parameter
+     * @see FieldMetadata#value(Value)
+     */
+    default void writeValue(Object bean, Value value) {
+        write(bean, value(value));
+    }
+
     /**
      * Returns the Java Field's name.
      *
@@ -16,8 +16,12 @@ package org.eclipse.jnosql.mapping.column.configuration;
 
 import jakarta.data.exceptions.MappingException;
 import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.metrics.DatabaseMetrics;
+import org.eclipse.jnosql.communication.semistructured.CachedDatabaseManager;
 import org.eclipse.jnosql.communication.semistructured.DatabaseConfiguration;
 import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.InstrumentedDatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.QueryCacheConfigurations;
 import org.eclipse.jnosql.mapping.Database;
 import org.eclipse.jnosql.mapping.DatabaseType;
 import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
@@ -59,10 +63,15 @@ class ColumnManagerSupplier implements Supplier<DatabaseManager> {
         Optional<String> database = settings.get(COLUMN_DATABASE, String.class);
         String db = database.orElseThrow(() -> new MappingException("Please, inform the database filling up the property "
                 + COLUMN_DATABASE.get()));
-        DatabaseManager manager = managerFactory.apply(db);
+        DatabaseManager manager = InstrumentedDatabaseManager.of(managerFactory.apply(db),
+                DatabaseMetrics.getMetrics(), settings);
 
         LOGGER.log(Level.FINEST, "Starting  a DatabaseManager instance using Eclipse MicroProfile Config," +
                 " database name: " + db);
+        if (settings.get(QueryCacheConfigurations.ENABLED, Boolean.class).orElse(false)) {
+            LOGGER.log(Level.FINEST, "Enabling the query result cache, database name: " + db);
+            return CachedDatabaseManager.of(manager, settings);
+        }
         return manager;
     }
 
@@ -19,6 +19,7 @@ import jakarta.enterprise.event.Observes;
 import jakarta.enterprise.inject.spi.AfterBeanDiscovery;
 import jakarta.enterprise.inject.spi.Extension;
 import jakarta.enterprise.inject.spi.ProcessProducer;
+import org.eclipse.jnosql.communication.query.QueryParsers;
 import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
 import org.eclipse.jnosql.mapping.DatabaseMetadata;
 import org.eclipse.jnosql.mapping.Databases;
@@ -57,6 +58,9 @@ public class ColumnExtension implements Extension {
         LOGGER.info(String.format("Processing Column extension: %d databases crud %d found, custom repositories: %d",
                 databases.size(), crudTypes.size(), customRepositories.size()));
         LOGGER.info("Processing repositories as a Column implementation: " + crudTypes);
+        if (!crudTypes.isEmpty() || !customRepositories.isEmpty()) {
+            QueryParsers.warmUp();
+        }
 
         databases.forEach(type -> {
             if (!type.getProvider().isBlank()) {
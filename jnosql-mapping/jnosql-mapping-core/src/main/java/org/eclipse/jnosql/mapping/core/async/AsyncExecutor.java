@@ -0,0 +1,253 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.async;
+
+import org.eclipse.jnosql.communication.Settings;
+
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.ASYNC_MAX_CONCURRENCY;
+
+/**
+ * Runs blocking database calls on an {@link Executor}, completing a {@link CompletionStage} with the result.
+ *
+ * <p>At most {@code maxConcurrency} calls run at the same time; the others wait in a queue without holding
+ * a thread, so a slow database never exhausts the executor. By default, each call runs on its own virtual thread
+ * when the JVM supports them, Java 21 or higher; otherwise, on a cached pool of daemon threads.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+public final class AsyncExecutor implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(AsyncExecutor.class.getName());
+
+    private static final int DEFAULT_MAX_CONCURRENCY = 64;
+
+    private final Executor executor;
+
+    private final boolean owner;
+
+    private final int maxConcurrency;
+
+    private final Queue<Task<?>> pending = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger running = new AtomicInteger();
+
+    private AsyncExecutor(Executor executor, boolean owner, int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("The max concurrency must be positive, value: " + maxConcurrency);
+        }
+        this.executor = executor;
+        this.owner = owner;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Runs the supplier asynchronously.
+     *
+     * @param supplier the blocking call
+     * @param <T>      the result type
+     * @return the stage completed with either the result or the exception of the call
+     * @throws NullPointerException when supplier is null
+     */
+    public <T> CompletionStage<T> supply(Supplier<T> supplier) {
+        Objects.requireNonNull(supplier, "supplier is required");
+        Task<T> task = new Task<>(supplier);
+        pending.add(task);
+        drain();
+        return task.future;
+    }
+
+    /**
+     * Runs the action asynchronously.
+     *
+     * @param action the blocking call
+     * @return the stage completed when the action is done
+     * @throws NullPointerException when action is null
+     */
+    public CompletionStage<Void> run(Runnable action) {
+        Objects.requireNonNull(action, "action is required");
+        return supply(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Returns the maximum number of calls running at the same time.
+     *
+     * @return the max concurrency
+     */
+    public int maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Returns the number of calls running at this moment.
+     *
+     * @return the running calls
+     */
+    public int running() {
+        return running.get();
+    }
+
+    /**
+     * Shuts the executor down when it was created by this class; an executor given at {@link #of(Executor, int)}
+     * belongs to the caller and is left untouched.
+     */
+    @Override
+    public void close() {
+        if (owner && executor instanceof ExecutorService service) {
+            service.shutdown();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncExecutor{" +
+                "executor=" + executor +
+                ", maxConcurrency=" + maxConcurrency +
+                ", running=" + running +
+                '}';
+    }
+
+    private void drain() {
+        while (!pending.isEmpty()) {
+            int current = running.get();
+            if (current >= maxConcurrency) {
+                return;
+            }
+            if (!running.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            Task<?> task = pending.poll();
+            if (task == null) {
+                running.decrementAndGet();
+                continue;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        running.decrementAndGet();
+                        drain();
+                    }
+                });
+            } catch (RejectedExecutionException exception) {
+                running.decrementAndGet();
+                task.future.completeExceptionally(exception);
+            }
+        }
+    }
+
+    /**
+     * Creates an executor that runs each call on a virtual thread when available.
+     *
+     * @param maxConcurrency the maximum number of calls running at the same time
+     * @return a new {@link AsyncExecutor}
+     * @throws IllegalArgumentException when maxConcurrency is not positive
+     */
+    public static AsyncExecutor of(int maxConcurrency) {
+        return new AsyncExecutor(newDefaultExecutor(), true, maxConcurrency);
+    }
+
+    /**
+     * Creates an executor on top of the given one.
+     *
+     * @param executor       the executor that runs the calls
+     * @param maxConcurrency the maximum number of calls running at the same time
+     * @return a new {@link AsyncExecutor}
+     * @throws NullPointerException     when executor is null
+     * @throws IllegalArgumentException when maxConcurrency is not positive
+     */
+    public static AsyncExecutor of(Executor executor, int maxConcurrency) {
+        Objects.requireNonNull(executor, "executor is required");
+        return new AsyncExecutor(executor, false, maxConcurrency);
+    }
+
+    /**
+     * Creates an executor using the {@link org.eclipse.jnosql.mapping.core.config.MappingConfigurations#ASYNC_MAX_CONCURRENCY}
+     * property.
+     *
+     * @param settings the settings
+     * @return a new {@link AsyncExecutor}
+     * @throws NullPointerException when settings is null
+     */
+    public static AsyncExecutor of(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        int maxConcurrency = settings.get(ASYNC_MAX_CONCURRENCY, Integer.class).orElse(DEFAULT_MAX_CONCURRENCY);
+        return of(maxConcurrency);
+    }
+
+    private static Executor newDefaultExecutor() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (Executor) method.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException exception) {
+            LOGGER.log(Level.FINEST, "Virtual threads are not available, using a cached thread pool", exception);
+            return Executors.newCachedThreadPool(new DaemonThreadFactory());
+        }
+    }
+
+    private static final class Task<T> implements Runnable {
+
+        private final Supplier<T> supplier;
+
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private Task(Supplier<T> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public void run() {
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                future.complete(supplier.get());
+            } catch (Throwable exception) {
+                future.completeExceptionally(exception);
+            }
+        }
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "jnosql-async-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.async;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A cold {@link Flow.Publisher} on top of a lazy {@link Stream}: each subscriber opens its own stream, and the
+ * elements are pulled from it only as the subscriber requests them, so the memory is bounded by the demand
+ * instead of the result size.
+ *
+ * <p>The stream is opened and iterated on the executor, so a blocking driver never runs on the thread that
+ * calls {@link Flow.Subscription#request(long)}. The stream is closed when it is exhausted, when it fails, or
+ * when the subscription is cancelled.</p>
+ *
+ * @param <T> the element type
+ */
+public final class StreamPublisher<T> implements Flow.Publisher<T> {
+
+    private final Supplier<Stream<T>> supplier;
+
+    private final Executor executor;
+
+    private StreamPublisher(Supplier<Stream<T>> supplier, Executor executor) {
+        this.supplier = supplier;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber is required");
+        StreamSubscription<T> subscription = new StreamSubscription<>(supplier, executor, subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    /**
+     * Creates a {@link Flow.Publisher} that reads the stream on the executor.
+     *
+     * @param supplier the stream supplier, called once per subscriber
+     * @param executor the executor that opens and iterates the stream
+     * @param <T>      the element type
+     * @return a new {@link Flow.Publisher}
+     * @throws NullPointerException when either supplier or executor is null
+     */
+    public static <T> Flow.Publisher<T> of(Supplier<Stream<T>> supplier, Executor executor) {
+        Objects.requireNonNull(supplier, "supplier is required");
+        Objects.requireNonNull(executor, "executor is required");
+        return new StreamPublisher<>(supplier, executor);
+    }
+
+    private static final class StreamSubscription<T> implements Flow.Subscription, Runnable {
+
+        private final Supplier<Stream<T>> supplier;
+
+        private final Executor executor;
+
+        private final Flow.Subscriber<? super T> subscriber;
+
+        private final AtomicLong demand = new AtomicLong();
+
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        private volatile Throwable invalidRequest;
+
+        private Stream<T> stream;
+
+        private Iterator<T> iterator;
+
+        private boolean done;
+
+        private StreamSubscription(Supplier<Stream<T>> supplier, Executor executor,
+                                   Flow.Subscriber<? super T> subscriber) {
+            this.supplier = supplier;
+            this.executor = executor;
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("The request must be positive, value: " + n);
+            } else {
+                demand.accumulateAndGet(n, (current, added) -> {
+                    long sum = current + added;
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled.compareAndSet(false, true)) {
+                schedule();
+            }
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this);
+                } catch (RuntimeException exception) {
+                    done = true;
+                    cancelled.set(true);
+                    subscriber.onError(exception);
+                }
+            }
+        }
+
+        /**
+         * The drain loop, running on one thread at a time thanks to the work-in-progress counter.
+         */
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                drain();
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drain() {
+            if (done) {
+                return;
+            }
+            if (cancelled.get()) {
+                finish();
+                return;
+            }
+            if (invalidRequest != null) {
+                finish();
+                subscriber.onError(invalidRequest);
+                return;
+            }
+            try {
+                if (iterator == null) {
+                    stream = supplier.get();
+                    iterator = stream.iterator();
+                }
+                while (demand.get() > 0 && !cancelled.get()) {
+                    if (!iterator.hasNext()) {
+                        finish();
+                        subscriber.onComplete();
+                        return;
+                    }
+                    T element = iterator.next();
+                    demand.decrementAndGet();
+                    subscriber.onNext(element);
+                }
+                if (cancelled.get()) {
+                    finish();
+                } else if (!iterator.hasNext()) {
+                    finish();
+                    subscriber.onComplete();
+                }
+            } catch (Throwable exception) {
+                finish();
+                subscriber.onError(exception);
+            }
+        }
+
+        private void finish() {
+            done = true;
+            if (stream != null) {
+                stream.close();
+            }
+        }
+    }
+}
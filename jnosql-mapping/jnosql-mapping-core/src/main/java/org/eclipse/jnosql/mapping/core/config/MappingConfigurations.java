@@ -55,7 +55,23 @@ public enum MappingConfigurations implements Supplier<String> {
     /**
      * Activate the automatic transaction at Graph database. By default it is true.
      */
-    GRAPH_TRANSACTION_AUTOMATIC("jnosql.graph.transaction.automatic");
+    GRAPH_TRANSACTION_AUTOMATIC("jnosql.graph.transaction.automatic"),
+    /**
+     * Define the maximum number of operations the asynchronous templates run at the same time; the default is 64.
+     */
+    ASYNC_MAX_CONCURRENCY("jnosql.async.max.concurrency"),
+    /**
+     * Define the number of threads that convert the query results into entities; the default is 1, where the
+     * conversion runs on the caller thread while it reads the result. With more threads, the conversion runs on a
+     * pool shared by the templates, where the request scoped beans a converter depends on are not active; it stays
+     * on the caller thread while a template session is open.
+     */
+    CONVERSION_PARALLELISM("jnosql.conversion.parallelism"),
+    /**
+     * Define the number of results converted as a single task when the conversion parallelism is higher than 1;
+     * the default is 64.
+     */
+    CONVERSION_BATCH_SIZE("jnosql.conversion.batch.size");
 
 
     private final String value;
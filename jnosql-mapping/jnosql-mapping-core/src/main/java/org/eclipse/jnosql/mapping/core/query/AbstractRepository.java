@@ -143,6 +143,7 @@ public abstract class AbstractRepository<T, K> implements NoSQLRepository<T, K>
     public Stream<T> findByIdIn(Iterable<K> ids) {
         requireNonNull(ids, "ids is required");
         return stream(ids.spliterator(), false)
+                .distinct()
                 .flatMap(optionalToStream());
     }
 
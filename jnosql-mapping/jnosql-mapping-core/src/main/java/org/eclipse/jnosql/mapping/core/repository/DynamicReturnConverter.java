@@ -83,6 +83,9 @@ enum DynamicReturnConverter {
         if(prepare.isCount()){
             return prepare.count();
         }
+        if (prepare.isUpdate() && isUpdateCount(method.getReturnType())) {
+            return updateCount(prepare.executeUpdate(), method.getReturnType());
+        }
         Stream<?> entities = prepare.result();
 
         Supplier<Stream<?>> streamSupplier = () -> entities;
@@ -98,4 +101,19 @@ enum DynamicReturnConverter {
         return convert(dynamicReturn);
     }
 
+
+    private static boolean isUpdateCount(Class<?> returnType) {
+        return void.class.equals(returnType) || Void.class.equals(returnType)
+                || int.class.equals(returnType) || Integer.class.equals(returnType)
+                || long.class.equals(returnType) || Long.class.equals(returnType);
+    }
+
+    private static Object updateCount(long updated, Class<?> returnType) {
+        if (int.class.equals(returnType) || Integer.class.equals(returnType)) {
+            return (int) updated;
+        } else if (long.class.equals(returnType) || Long.class.equals(returnType)) {
+            return updated;
+        }
+        return null;
+    }
 }
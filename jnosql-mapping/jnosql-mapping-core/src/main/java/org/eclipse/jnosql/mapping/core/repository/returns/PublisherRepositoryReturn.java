@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.repository.returns;
+
+import org.eclipse.jnosql.mapping.core.async.AsyncExecutor;
+import org.eclipse.jnosql.mapping.core.async.StreamPublisher;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
+import org.eclipse.jnosql.mapping.core.repository.DynamicReturn;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+/**
+ * Supports {@link Flow.Publisher} as a repository return. The result is pulled from the database on demand
+ * and read on an {@link AsyncExecutor} bounded by the
+ * {@link org.eclipse.jnosql.mapping.core.config.MappingConfigurations#ASYNC_MAX_CONCURRENCY} property. Reactive
+ * libraries consume it directly, e.g. {@code JdkFlowAdapter.flowPublisherToFlux} at Reactor or
+ * {@code Multi.createFrom().publisher} at Mutiny.
+ */
+public class PublisherRepositoryReturn extends AbstractRepositoryReturn {
+
+    private final Executor executor;
+
+    public PublisherRepositoryReturn() {
+        this(task -> ExecutorHolder.EXECUTOR.run(task));
+    }
+
+    PublisherRepositoryReturn(Executor executor) {
+        super(Flow.Publisher.class);
+        this.executor = executor;
+    }
+
+    @Override
+    public <T> Object convert(DynamicReturn<T> dynamicReturn) {
+        return StreamPublisher.of(dynamicReturn::result, executor);
+    }
+
+    @Override
+    public <T> Object convertPageRequest(DynamicReturn<T> dynamicReturn) {
+        return StreamPublisher.of(dynamicReturn::streamPagination, executor);
+    }
+
+    private static final class ExecutorHolder {
+        private static final AsyncExecutor EXECUTOR = AsyncExecutor.of(MicroProfileSettings.INSTANCE);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.async;
+
+import org.assertj.core.api.Assertions;
+import org.eclipse.jnosql.communication.Settings;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class AsyncExecutorTest {
+
+    @Test
+    void shouldSupplyValue() {
+        try (AsyncExecutor executor = AsyncExecutor.of(2)) {
+            String value = executor.supply(() -> "Ada").toCompletableFuture().join();
+            Assertions.assertThat(value).isEqualTo("Ada");
+        }
+    }
+
+    @Test
+    void shouldCompleteExceptionally() {
+        try (AsyncExecutor executor = AsyncExecutor.of(2)) {
+            CompletableFuture<Object> future = executor.supply(() -> {
+                throw new IllegalStateException("error");
+            }).toCompletableFuture();
+            Assertions.assertThatThrownBy(future::join)
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    void shouldBoundConcurrency() throws InterruptedException {
+        ExecutorService service = Executors.newFixedThreadPool(8);
+        try {
+            AsyncExecutor executor = AsyncExecutor.of(service, 2);
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger max = new AtomicInteger();
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int index = 0; index < 6; index++) {
+                futures.add(executor.run(() -> {
+                    max.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                    }
+                    running.decrementAndGet();
+                }).toCompletableFuture());
+            }
+            Thread.sleep(100);
+            Assertions.assertThat(executor.running()).isEqualTo(2);
+            release.countDown();
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            Assertions.assertThat(max.get()).isEqualTo(2);
+        } finally {
+            service.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldNotShutdownExecutorOfCaller() {
+        ExecutorService service = Executors.newSingleThreadExecutor();
+        try {
+            AsyncExecutor.of(service, 1).close();
+            Assertions.assertThat(service.isShutdown()).isFalse();
+        } finally {
+            service.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldCreateFromSettings() {
+        Settings settings = Settings.of(Map.<String, Object>of("jnosql.async.max.concurrency", 5));
+        try (AsyncExecutor executor = AsyncExecutor.of(settings)) {
+            Assertions.assertThat(executor.maxConcurrency()).isEqualTo(5);
+        }
+    }
+
+    @Test
+    void shouldReturnErrorWhenConcurrencyIsInvalid() {
+        Assertions.assertThatThrownBy(() -> AsyncExecutor.of(Runnable::run, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.async;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+class StreamPublisherTest {
+
+    @Test
+    void shouldPullOnDemand() {
+        AtomicInteger pulled = new AtomicInteger();
+        Flow.Publisher<Integer> publisher = StreamPublisher.of(() -> IntStream.range(0, 1_000).boxed()
+                .peek(i -> pulled.incrementAndGet()), Runnable::run);
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(3);
+
+        Assertions.assertThat(subscriber.values).containsExactly(0, 1, 2);
+        Assertions.assertThat(pulled.get()).isLessThanOrEqualTo(4);
+        Assertions.assertThat(subscriber.completed).isFalse();
+    }
+
+    @Test
+    void shouldComplete() {
+        Flow.Publisher<String> publisher = StreamPublisher.of(() -> Stream.of("Ada", "Grace"), Runnable::run);
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>();
+
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        Assertions.assertThat(subscriber.values).containsExactly("Ada", "Grace");
+        Assertions.assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    void shouldCloseStreamWhenCancelled() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Flow.Publisher<Integer> publisher = StreamPublisher.of(() -> IntStream.range(0, 1_000).boxed()
+                .onClose(() -> closed.set(true)), Runnable::run);
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+
+        Assertions.assertThat(closed).isTrue();
+        Assertions.assertThat(subscriber.completed).isFalse();
+    }
+
+    @Test
+    void shouldNotOpenStreamBeforeRequest() {
+        AtomicBoolean opened = new AtomicBoolean();
+        Flow.Publisher<String> publisher = StreamPublisher.of(() -> {
+            opened.set(true);
+            return Stream.of("Ada");
+        }, Runnable::run);
+
+        publisher.subscribe(new RecordingSubscriber<>());
+
+        Assertions.assertThat(opened).isFalse();
+    }
+
+    @Test
+    void shouldReturnErrorWhenRequestIsNotPositive() {
+        Flow.Publisher<String> publisher = StreamPublisher.of(() -> Stream.of("Ada"), Runnable::run);
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>();
+
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(0);
+
+        Assertions.assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldPropagateStreamError() {
+        Flow.Publisher<String> publisher = StreamPublisher.of(() -> {
+            throw new IllegalStateException("driver");
+        }, Runnable::run);
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>();
+
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        Assertions.assertThat(subscriber.error).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldReadOnExecutor() throws Exception {
+        ExecutorService service = Executors.newSingleThreadExecutor();
+        try {
+            Flow.Publisher<Integer> publisher = StreamPublisher.of(() -> IntStream.range(0, 10_000).boxed(), service);
+            CompletableFuture<Integer> sum = new CompletableFuture<>();
+            publisher.subscribe(new Flow.Subscriber<>() {
+                private Flow.Subscription subscription;
+                private int total;
+
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    this.subscription = subscription;
+                    subscription.request(16);
+                }
+
+                @Override
+                public void onNext(Integer item) {
+                    total++;
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    sum.completeExceptionally(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    sum.complete(total);
+                }
+            });
+            Assertions.assertThat(sum.get(5, TimeUnit.SECONDS)).isEqualTo(10_000);
+        } finally {
+            service.shutdownNow();
+        }
+    }
+
+    private static final class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+
+        private final List<T> values = new ArrayList<>();
+
+        private Flow.Subscription subscription;
+
+        private boolean completed;
+
+        private Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            values.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
@@ -69,4 +69,22 @@ class MappingConfigurationsTest {
         String expectedValue = "jnosql.graph.transaction.automatic";
         assertEquals(expectedValue, MappingConfigurations.GRAPH_TRANSACTION_AUTOMATIC.get());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReturnValueForAsyncMaxConcurrency() {
+        String expectedValue = "jnosql.async.max.concurrency";
+        assertEquals(expectedValue, MappingConfigurations.ASYNC_MAX_CONCURRENCY.get());
+    }
+
+    @Test
+    void shouldReturnValueForConversionParallelism() {
+        String expectedValue = "jnosql.conversion.parallelism";
+        assertEquals(expectedValue, MappingConfigurations.CONVERSION_PARALLELISM.get());
+    }
+
+    @Test
+    void shouldReturnValueForConversionBatchSize() {
+        String expectedValue = "jnosql.conversion.batch.size";
+        assertEquals(expectedValue, MappingConfigurations.CONVERSION_BATCH_SIZE.get());
+    }
+}
@@ -258,6 +258,25 @@ class DynamicQueryMethodReturnTest {
         });
     }
 
+    @Test
+    void shouldExecuteUpdateWithoutResult() throws NoSuchMethodException {
+        var preparedStatement = Mockito.mock(PreparedStatement.class);
+        Mockito.when(preparedStatement.isUpdate()).thenReturn(true);
+        Mockito.when(preparedStatement.executeUpdate()).thenReturn(3L);
+        Method method = getMethod(PersonRepository.class, "update");
+
+        var dynamicReturn = DynamicQueryMethodReturn.builder()
+                .withTypeClass(Person.class)
+                .withMethod(method)
+                .withArgs(new Object[]{"Ada"})
+                .withPrepareConverter(s -> preparedStatement)
+                .build();
+
+        Object execute = dynamicReturn.execute();
+        Assertions.assertEquals(3, execute);
+        Mockito.verify(preparedStatement, Mockito.never()).result();
+    }
+
     private Method getMethod(Class<?> repository, String methodName) throws NoSuchMethodException {
         return Stream.of(repository.getDeclaredMethods())
                 .filter(m -> m.getName().equals(methodName))
@@ -300,6 +319,9 @@ class DynamicQueryMethodReturnTest {
 
         @Query("select count(this) from Person")
         long count();
+
+        @Query("update Person set name = :name")
+        int update(@Param("name") String name);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.repository.returns;
+
+import jakarta.data.page.Page;
+import jakarta.data.page.PageRequest;
+import org.eclipse.jnosql.mapping.core.repository.DynamicReturn;
+import org.eclipse.jnosql.mapping.core.repository.RepositoryReturn;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@ExtendWith(MockitoExtension.class)
+class PublisherRepositoryReturnTest {
+
+    private final RepositoryReturn repositoryReturn = new PublisherRepositoryReturn(Runnable::run);
+
+    @Mock
+    private Page<String> page;
+
+    @Test
+    void shouldReturnIsCompatible() {
+        Assertions.assertTrue(repositoryReturn.isCompatible(String.class, Flow.Publisher.class));
+        assertFalse(repositoryReturn.isCompatible(Object.class, String.class));
+        assertFalse(repositoryReturn.isCompatible(String.class, Stream.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldReturnPublisher() {
+        DynamicReturn<String> dynamic = DynamicReturn.builder()
+                .withSingleResult(Optional::empty)
+                .withClassSource(String.class)
+                .withResult(() -> Stream.of("Ada", "Grace"))
+                .withMethodSource(String.class.getDeclaredMethods()[0])
+                .build();
+        Flow.Publisher<String> publisher = (Flow.Publisher<String>) repositoryReturn.convert(dynamic);
+        assertEquals(List.of("Ada", "Grace"), readAll(publisher));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldReturnPublisherPage() {
+        DynamicReturn<String> dynamic = DynamicReturn.builder()
+                .withClassSource(String.class)
+                .withSingleResult(Optional::empty)
+                .withResult(Collections::emptyList)
+                .withSingleResultPagination(p -> Optional.empty())
+                .withStreamPagination(p -> Stream.of("Ada"))
+                .withMethodSource(String.class.getDeclaredMethods()[0])
+                .withPagination(PageRequest.ofPage(2).size(2))
+                .withPage(p -> page)
+                .build();
+        Flow.Publisher<String> publisher = (Flow.Publisher<String>) repositoryReturn.convertPageRequest(dynamic);
+        assertEquals(List.of("Ada"), readAll(publisher));
+    }
+
+    private static <T> List<T> readAll(Flow.Publisher<T> publisher) {
+        List<T> values = new ArrayList<>();
+        publisher.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(T item) {
+                values.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                Assertions.fail(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        return values;
+    }
+}
@@ -17,15 +17,20 @@ package org.eclipse.jnosql.communication.graph;
 import jakarta.data.exceptions.EmptyResultException;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.eclipse.jnosql.communication.CommunicationException;
 import org.eclipse.jnosql.communication.ValueUtil;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.EntityShape;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -130,26 +135,32 @@ public class DefaultGraphDatabaseManager implements GraphDatabaseManager {
     @Override
     public Stream<CommunicationEntity> select(SelectQuery query) {
         Objects.requireNonNull(query, "query is required");
-        GraphTraversal<Vertex, Vertex> traversal = graph.traversal().V().hasLabel(query.name());
-        query.condition().ifPresent(c ->{
-            GraphTraversal<Vertex, Vertex> predicate = TraversalExecutor.getPredicate(c);
-            traversal.filter(predicate);
-        });
-
-        if(query.limit()> 0) {
-            traversal.limit(query.limit());
-        } else if(query.skip() > 0) {
+        GraphTraversal<Vertex, Vertex> traversal = traversal(query);
+        if (!query.sorts().isEmpty()) {
+            traversal.order();
+            query.sorts().forEach(s -> traversal.by(s.property(), s.isAscending() ? asc : desc));
+        }
+        if (query.limit() > 0) {
+            traversal.range(query.skip(), query.skip() + query.limit());
+        } else if (query.skip() > 0) {
             traversal.skip(query.skip());
         }
-       query.sorts().forEach(
-               s -> {
-                   if (s.isAscending()) {
-                       traversal.order().by(s.property(), asc);
-                   } else {
-                       traversal.order().by(s.property(), desc);
-                   }
-               });
-        return traversal.toStream().map(CommunicationEntityConverter.INSTANCE);
+        if (query.columns().isEmpty()) {
+            return traversal.toStream().map(CommunicationEntityConverter.INSTANCE);
+        }
+        return traversal.elementMap(query.columns().toArray(String[]::new)).toStream().map(this::toEntity);
+    }
+
+    @Override
+    public long count(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return traversal(query).count().next();
+    }
+
+    @Override
+    public boolean exists(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return traversal(query).limit(1).count().next() > 0;
     }
 
     @Override
@@ -159,6 +170,36 @@ public class DefaultGraphDatabaseManager implements GraphDatabaseManager {
         return count.next();
     }
 
+    /**
+     * The traversal of the vertices of the query label that match the query condition; the condition runs in the
+     * engine as {@code has} steps, so it is able to use the indexes of the graph.
+     */
+    private GraphTraversal<Vertex, Vertex> traversal(SelectQuery query) {
+        GraphTraversal<Vertex, Vertex> traversal = graph.traversal().V().hasLabel(query.name());
+        query.condition().ifPresent(c -> traversal.filter(TraversalExecutor.getPredicate(c)));
+        return traversal;
+    }
+
+    /**
+     * The entity of an element map in the compact form: the vertices of a label share their property names, so
+     * the entities of a result share one {@link EntityShape}.
+     */
+    private CommunicationEntity toEntity(Map<Object, Object> properties) {
+        List<String> names = new ArrayList<>(properties.size());
+        List<Object> values = new ArrayList<>(properties.size());
+        properties.forEach((key, value) -> {
+            if (key instanceof String name) {
+                names.add(name);
+                values.add(value);
+            }
+        });
+        if (!names.contains(ID_PROPERTY)) {
+            names.add(ID_PROPERTY);
+            values.add(properties.get(T.id));
+        }
+        return CommunicationEntity.of(properties.get(T.label).toString(), EntityShape.of(names), values.toArray());
+    }
+
     @Override
     public void close() {
         try {
@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.graph;
+
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.metrics.DatabaseMetrics;
+import org.eclipse.jnosql.communication.semistructured.InstrumentedDatabaseManager;
+
+import java.util.Objects;
+
+/**
+ * The {@link InstrumentedDatabaseManager} of a {@link GraphDatabaseManager}. Only the calls through the
+ * {@link org.eclipse.jnosql.communication.semistructured.DatabaseManager} API are recorded; the traversals on
+ * the {@link Graph} returned by {@link #get()} are not.
+ */
+public final class InstrumentedGraphDatabaseManager extends InstrumentedDatabaseManager implements GraphDatabaseManager {
+
+    private final GraphDatabaseManager manager;
+
+    private InstrumentedGraphDatabaseManager(GraphDatabaseManager manager, DatabaseMetrics metrics) {
+        super(manager, metrics);
+        this.manager = manager;
+    }
+
+    @Override
+    public Graph get() {
+        return manager.get();
+    }
+
+    /**
+     * Decorates the manager when the metrics are enabled; otherwise, it returns the manager itself.
+     *
+     * @param manager the manager
+     * @param metrics the metrics
+     * @return either the decorated or the same manager
+     * @throws NullPointerException when any parameter is null
+     */
+    public static GraphDatabaseManager of(GraphDatabaseManager manager, DatabaseMetrics metrics) {
+        return of(manager, metrics, Settings.settings());
+    }
+
+    /**
+     * Decorates the manager when either the metrics are enabled or the
+     * {@link org.eclipse.jnosql.communication.metrics.MetricsConfigurations#JFR_ENABLED} property is true and the
+     * JDK Flight Recorder is available; otherwise, it returns the manager itself.
+     *
+     * @param manager  the manager
+     * @param metrics  the metrics
+     * @param settings the settings
+     * @return either the decorated or the same manager
+     * @throws NullPointerException when any parameter is null
+     */
+    public static GraphDatabaseManager of(GraphDatabaseManager manager, DatabaseMetrics metrics, Settings settings) {
+        Objects.requireNonNull(manager, "manager is required");
+        if (!isInstrumented(metrics, settings)) {
+            return manager;
+        }
+        return new InstrumentedGraphDatabaseManager(manager, metrics);
+    }
+}
@@ -30,12 +30,14 @@ abstract class AbstractEdgeTraversal {
     protected final Supplier<GraphTraversal<?, ?>> supplier;
     protected final Function<GraphTraversal<?, ?>, GraphTraversal<Vertex, Edge>> flow;
     protected final EntityConverter converter;
+    protected final TraversalMapping mapping;
 
     AbstractEdgeTraversal(Supplier<GraphTraversal<?, ?>> supplier,
                           Function<GraphTraversal<?, ?>, GraphTraversal<Vertex, Edge>> flow,
-                          EntityConverter converter) {
+                          EntityConverter converter, TraversalMapping mapping) {
         this.supplier = supplier;
         this.flow = flow;
         this.converter = converter;
+        this.mapping = mapping;
     }
 }
@@ -16,6 +16,8 @@ package org.eclipse.jnosql.mapping.graph;
 
 import jakarta.data.exceptions.EmptyResultException;
 import jakarta.data.exceptions.NonUniqueResultException;
+import jakarta.data.page.Page;
+import jakarta.data.page.PageRequest;
 import org.eclipse.jnosql.mapping.PreparedStatement;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
@@ -29,6 +31,7 @@ import org.eclipse.jnosql.communication.graph.CommunicationEntityConverter;
 import org.eclipse.jnosql.communication.graph.GraphDatabaseManager;
 import org.eclipse.jnosql.communication.graph.GraphTransactionUtil;
 import org.eclipse.jnosql.mapping.IdNotFoundException;
+import org.eclipse.jnosql.mapping.core.NoSQLPage;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 import org.eclipse.jnosql.mapping.semistructured.AbstractSemiStructuredTemplate;
@@ -151,7 +154,7 @@ abstract class AbstractGraphTemplate extends AbstractSemiStructuredTemplate impl
         if (vertices.hasNext()) {
             List<Edge> edges = new ArrayList<>();
             vertices.next().edges(direction, labels).forEachRemaining(edges::add);
-            return edges.stream().map(e ->EdgeEntity.of(converter(), e)).toList();
+            return EdgeEndpointLoader.load(converter(), edges, ids -> traversal().V(ids));
         }
         return Collections.emptyList();
     }
@@ -185,6 +188,42 @@ abstract class AbstractGraphTemplate extends AbstractSemiStructuredTemplate impl
         return edgesImpl(entity, direction);
     }
 
+    @Override
+    public <K> Stream<EdgeEntity> edgesStream(K id, Direction direction, String... labels) {
+        requireNonNull(id, "id is required");
+        requireNonNull(direction, "direction is required");
+        checkLabels(labels);
+        return traversal().V(id).toE(direction, labels).toStream().map(e -> EdgeEntity.of(converter(), e));
+    }
+
+    @Override
+    public <K> Page<EdgeEntity> edgesById(K id, Direction direction, PageRequest pageRequest, String... labels) {
+        requireNonNull(id, "id is required");
+        requireNonNull(direction, "direction is required");
+        requireNonNull(pageRequest, "pageRequest is required");
+        checkLabels(labels);
+        long skip = NoSQLPage.skip(pageRequest);
+        List<Edge> edges = traversal().V(id).toE(direction, labels).range(skip, skip + pageRequest.size()).toList();
+        return NoSQLPage.of(EdgeEndpointLoader.load(converter(), edges, ids -> traversal().V(ids)), pageRequest);
+    }
+
+    @Override
+    public <T> Page<EdgeEntity> edges(T entity, Direction direction, PageRequest pageRequest, String... labels) {
+        requireNonNull(entity, "entity is required");
+        EntityMetadata entityMetadata = entities().get(entity.getClass());
+        FieldMetadata field = entityMetadata.id().orElseThrow(() -> IdNotFoundException.newInstance(entity.getClass()));
+        Object id = field.read(entity);
+        if (isNull(id)) {
+            throw new IllegalStateException("Entity id is required");
+        }
+        return edgesById(id, direction, pageRequest, labels);
+    }
+
+    @Override
+    public GraphBulkLoader bulk(int batchSize) {
+        return new DefaultGraphBulkLoader(graph(), converter(), entities(), batchSize);
+    }
+
     @Override
     public <E> Optional<EdgeEntity> edge(E edgeId) {
         requireNonNull(edgeId, "edgeId is required");
@@ -204,7 +243,8 @@ abstract class AbstractGraphTemplate extends AbstractSemiStructuredTemplate impl
         if (Stream.of(vertexIds).anyMatch(Objects::isNull)) {
             throw new IllegalStateException("No one vertexId element cannot be null");
         }
-        return new DefaultVertexTraversal(() -> traversal().V(vertexIds), INITIAL_VERTEX, converter());
+        return new DefaultVertexTraversal(() -> traversal().V(vertexIds), INITIAL_VERTEX, converter(),
+                new TraversalMapping(entities(), converters()));
     }
 
     @Override
@@ -212,7 +252,8 @@ abstract class AbstractGraphTemplate extends AbstractSemiStructuredTemplate impl
         if (Stream.of(edgeIds).anyMatch(Objects::isNull)) {
             throw new IllegalStateException("No one edgeId element cannot be null");
         }
-        return new DefaultEdgeTraversal(() -> traversal().E(edgeIds), INITIAL_EDGE, converter());
+        return new DefaultEdgeTraversal(() -> traversal().E(edgeIds), INITIAL_EDGE, converter(),
+                new TraversalMapping(entities(), converters()));
     }
 
     @Override
@@ -285,6 +326,13 @@ abstract class AbstractGraphTemplate extends AbstractSemiStructuredTemplate impl
         }
     }
 
+    private void checkLabels(String[] labels) {
+        requireNonNull(labels, "labels is required");
+        if (Stream.of(labels).anyMatch(Objects::isNull)) {
+            throw new IllegalStateException("Item cannot be null");
+        }
+    }
+
     private <K> Collection<EdgeEntity> edgesByIdImpl(K id, Direction direction, String... labels) {
 
         requireNonNull(id, "id is required");
@@ -294,7 +342,7 @@ abstract class AbstractGraphTemplate extends AbstractSemiStructuredTemplate impl
         if (vertices.hasNext()) {
             List<Edge> edges = new ArrayList<>();
             vertices.next().edges(direction, labels).forEachRemaining(edges::add);
-            return edges.stream().map(e -> EdgeEntity.of(converter(), e)).toList();
+            return EdgeEndpointLoader.load(converter(), edges, ids -> traversal().V(ids));
         }
         return Collections.emptyList();
     }
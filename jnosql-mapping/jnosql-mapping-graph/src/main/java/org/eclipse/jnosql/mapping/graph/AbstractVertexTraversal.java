@@ -29,12 +29,14 @@ abstract class AbstractVertexTraversal {
     protected final Supplier<GraphTraversal<?, ?>> supplier;
     protected final Function<GraphTraversal<?, ?>, GraphTraversal<Vertex, Vertex>> flow;
     protected final EntityConverter converter;
+    protected final TraversalMapping mapping;
 
     AbstractVertexTraversal(Supplier<GraphTraversal<?, ?>> supplier,
                             Function<GraphTraversal<?, ?>, GraphTraversal<Vertex, Vertex>> flow,
-                            EntityConverter converter) {
+                            EntityConverter converter, TraversalMapping mapping) {
         this.supplier = supplier;
         this.flow = flow;
         this.converter = converter;
+        this.mapping = mapping;
     }
 }
@@ -25,6 +25,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.collectingAndThen;
@@ -32,16 +33,20 @@ import static java.util.stream.Collectors.toList;
 
 class DefaultEdgeEntity<O, I> implements EdgeEntity {
 
-    private final O outgoing;
+    private final Supplier<O> outgoing;
 
     private final Edge edge;
 
-    private final I incoming;
+    private final Supplier<I> incoming;
 
     DefaultEdgeEntity(Edge edge, I incoming, O outgoing) {
+        this(edge, () -> incoming, () -> outgoing, false);
+    }
+
+    private DefaultEdgeEntity(Edge edge, Supplier<I> incoming, Supplier<O> outgoing, boolean lazy) {
         this.edge = edge;
-        this.incoming = incoming;
-        this.outgoing = outgoing;
+        this.incoming = lazy ? new Endpoint<>(incoming) : incoming;
+        this.outgoing = lazy ? new Endpoint<>(outgoing) : outgoing;
     }
 
     @Override
@@ -62,12 +67,12 @@ class DefaultEdgeEntity<O, I> implements EdgeEntity {
 
     @Override
     public I incoming() {
-        return incoming;
+        return incoming.get();
     }
 
     @Override
     public O outgoing() {
-        return outgoing;
+        return outgoing.get();
     }
 
     @Override
@@ -144,9 +149,17 @@ class DefaultEdgeEntity<O, I> implements EdgeEntity {
 
     @Override
     public String toString() {
-        return outgoing +
+        return outgoing() +
                 "---" + edge.label() +
-                " --->" + incoming;
+                " --->" + incoming();
+    }
+
+    /**
+     * Creates an edge whose endpoints are resolved on the first call of either {@link #incoming()} or
+     * {@link #outgoing()}, and then reused.
+     */
+    static <O, I> DefaultEdgeEntity<O, I> lazy(Edge edge, Supplier<I> incoming, Supplier<O> outgoing) {
+        return new DefaultEdgeEntity<>(edge, incoming, outgoing, true);
     }
 
 
@@ -158,4 +171,23 @@ class DefaultEdgeEntity<O, I> implements EdgeEntity {
                 converter.toEntity(entityConverter.apply(edge.inVertex())));
     }
 
+    private static final class Endpoint<T> implements Supplier<T> {
+
+        private Supplier<T> loader;
+
+        private T value;
+
+        private Endpoint(Supplier<T> loader) {
+            this.loader = loader;
+        }
+
+        @Override
+        public synchronized T get() {
+            if (loader != null) {
+                value = loader.get();
+                loader = null;
+            }
+            return value;
+        }
+    }
 }
@@ -26,17 +26,17 @@ class DefaultEdgeRepeatStepTraversal extends AbstractEdgeTraversal implements Ed
 
     DefaultEdgeRepeatStepTraversal(Supplier<GraphTraversal<?, ?>> supplier,
                                    Function<GraphTraversal<?, ?>, GraphTraversal<Vertex, Edge>> flow,
-                                   EntityConverter converter) {
-        super(supplier, flow, converter);
+                                   EntityConverter converter, TraversalMapping mapping) {
+        super(supplier, flow, converter, mapping);
     }
 
     @Override
     public EdgeTraversal times(int times) {
-        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.times(times)), converter);
+        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.times(times)), converter, mapping);
     }
 
     @Override
     public EdgeUntilTraversal until() {
-        return new DefaultEdgeUntilTraversal(supplier, flow, converter);
+        return new DefaultEdgeUntilTraversal(supplier, flow, converter, mapping);
     }
 }
@@ -33,8 +33,8 @@ class DefaultEdgeRepeatTraversal extends AbstractEdgeTraversal implements EdgeRe
 
     DefaultEdgeRepeatTraversal(Supplier<GraphTraversal<?, ?>> supplier,
                                Function<GraphTraversal<?, ?>, GraphTraversal<Vertex, Edge>> flow,
-                               EntityConverter converter) {
-        super(supplier, flow, converter);
+                               EntityConverter converter, TraversalMapping mapping) {
+        super(supplier, flow, converter, mapping);
     }
 
     @Override
@@ -42,7 +42,7 @@ class DefaultEdgeRepeatTraversal extends AbstractEdgeTraversal implements EdgeRe
         requireNonNull(propertyKey, "propertyKey is required");
 
         Traversal<?, Edge> condition = __.has(propertyKey);
-        return new DefaultEdgeRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter);
+        return new DefaultEdgeRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter, mapping);
     }
 
     @Override
@@ -50,7 +50,7 @@ class DefaultEdgeRepeatTraversal extends AbstractEdgeTraversal implements EdgeRe
         requireNonNull(propertyKey, "propertyKey is required");
         requireNonNull(value, "value is required");
         Traversal<?, Edge> condition = __.has(propertyKey, value);
-        return new DefaultEdgeRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter);
+        return new DefaultEdgeRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter, mapping);
     }
 
     @Override
@@ -58,7 +58,7 @@ class DefaultEdgeRepeatTraversal extends AbstractEdgeTraversal implements EdgeRe
         requireNonNull(propertyKey, "propertyKey is required");
         requireNonNull(predicate, "predicate is required");
         Traversal<?, Edge> condition = __.has(propertyKey, predicate);
-        return new DefaultEdgeRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter);
+        return new DefaultEdgeRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter, mapping);
     }
 
     @Override
@@ -66,7 +66,7 @@ class DefaultEdgeRepeatTraversal extends AbstractEdgeTraversal implements EdgeRe
         requireNonNull(accessor, "accessor is required");
         requireNonNull(value, "value is required");
         Traversal<?, Edge> condition = __.has(accessor, value);
-        return new DefaultEdgeRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter);
+        return new DefaultEdgeRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter, mapping);
     }
 
     @Override
@@ -74,14 +74,14 @@ class DefaultEdgeRepeatTraversal extends AbstractEdgeTraversal implements EdgeRe
         requireNonNull(accessor, "accessor is required");
         requireNonNull(predicate, "predicate is required");
         Traversal<?, Edge> condition = __.has(accessor, predicate);
-        return new DefaultEdgeRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter);
+        return new DefaultEdgeRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter, mapping);
     }
 
     @Override
     public EdgeRepeatStepTraversal hasNot(String propertyKey) {
         requireNonNull(propertyKey, "propertyKey is required");
         Traversal<?, Edge> condition = __.hasNot(propertyKey);
-        return new DefaultEdgeRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter);
+        return new DefaultEdgeRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter, mapping);
     }
 }
 
@@ -37,14 +37,14 @@ class DefaultEdgeTraversal extends AbstractEdgeTraversal implements EdgeTraversa
 
     DefaultEdgeTraversal(Supplier<GraphTraversal<?, ?>> supplier,
                          Function<GraphTraversal<?, ?>, GraphTraversal<Vertex, Edge>> flow,
-                         EntityConverter converter) {
-        super(supplier, flow, converter);
+                         EntityConverter converter, TraversalMapping mapping) {
+        super(supplier, flow, converter, mapping);
     }
 
     @Override
     public EdgeTraversal has(String propertyKey) {
         requireNonNull(propertyKey, "propertyKey is required");
-        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.has(propertyKey)), converter);
+        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.has(propertyKey)), converter, mapping);
 
     }
 
@@ -53,34 +53,34 @@ class DefaultEdgeTraversal extends AbstractEdgeTraversal implements EdgeTraversa
         requireNonNull(propertyKey, "propertyKey is required");
         requireNonNull(value, "value is required");
 
-        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.has(propertyKey, value)), converter);
+        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.has(propertyKey, value)), converter, mapping);
     }
 
     @Override
     public EdgeTraversal has(String propertyKey, P<?> predicate) {
         requireNonNull(propertyKey, "propertyKey is required");
         requireNonNull(predicate, "predicate is required");
-        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.has(propertyKey, predicate)), converter);
+        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.has(propertyKey, predicate)), converter, mapping);
     }
 
     @Override
     public EdgeTraversal has(T accessor, Object value) {
         requireNonNull(accessor, "accessor is required");
         requireNonNull(value, "value is required");
-        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.has(accessor, value)), converter);
+        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.has(accessor, value)), converter, mapping);
     }
 
     @Override
     public EdgeTraversal has(T accessor, P<?> predicate) {
         requireNonNull(accessor, "accessor is required");
         requireNonNull(predicate, "predicate is required");
-        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.has(accessor, predicate)), converter);
+        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.has(accessor, predicate)), converter, mapping);
     }
 
     @Override
     public EdgeTraversal hasNot(String propertyKey) {
         requireNonNull(propertyKey, "propertyKey is required");
-        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.hasNot(propertyKey)), converter);
+        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.hasNot(propertyKey)), converter, mapping);
     }
 
     @Override
@@ -88,43 +88,49 @@ class DefaultEdgeTraversal extends AbstractEdgeTraversal implements EdgeTraversa
         requireNonNull(predicate, "predicate is required");
 
         Predicate<Traverser<Edge>> p = e -> predicate.test(EdgeEntity.of(converter, e.get()));
-        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.filter(p)), converter);
+        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.filter(p)), converter, mapping);
+    }
+
+    @Override
+    public EdgeTraversal where(GraphPredicate predicate) {
+        requireNonNull(predicate, "predicate is required");
+        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> predicate.apply(g)), converter, mapping);
     }
 
     @Override
     public EdgeTraversal limit(long limit) {
-        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.limit(limit)), converter);
+        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.limit(limit)), converter, mapping);
     }
 
     @Override
     public EdgeTraversal range(long start, long end) {
-        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.range(start, end)), converter);
+        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.range(start, end)), converter, mapping);
     }
 
     @Override
     public EdgeRepeatTraversal repeat() {
-        return new DefaultEdgeRepeatTraversal(supplier, flow, converter);
+        return new DefaultEdgeRepeatTraversal(supplier, flow, converter, mapping);
     }
 
 
     @Override
     public VertexTraversal inV() {
-        return new DefaultVertexTraversal(supplier, flow.andThen(GraphTraversal::inV), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(GraphTraversal::inV), converter, mapping);
     }
 
     @Override
     public VertexTraversal outV() {
-        return new DefaultVertexTraversal(supplier, flow.andThen(GraphTraversal::outV), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(GraphTraversal::outV), converter, mapping);
     }
 
     @Override
     public VertexTraversal bothV() {
-        return new DefaultVertexTraversal(supplier, flow.andThen(GraphTraversal::bothV), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(GraphTraversal::bothV), converter, mapping);
     }
 
     @Override
     public EdgeTraversal dedup(String... labels) {
-        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.dedup(labels)), converter);
+        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.dedup(labels)), converter, mapping);
     }
 
 
@@ -156,14 +162,12 @@ class DefaultEdgeTraversal extends AbstractEdgeTraversal implements EdgeTraversa
 
     @Override
     public Stream<EdgeEntity> stream() {
-        return flow.apply(supplier.get()).toList().stream()
-                .map(edge -> EdgeEntity.of(converter, edge));
+        return EdgeEndpointLoader.load(converter, flow.apply(supplier.get()).toList(), this::vertices).stream();
     }
 
     @Override
     public Stream<EdgeEntity> next(int limit) {
-        return flow.apply(supplier.get()).next(limit).stream()
-                .map(edge -> EdgeEntity.of(converter, edge));
+        return EdgeEndpointLoader.load(converter, flow.apply(supplier.get()).next(limit), this::vertices).stream();
     }
 
     @Override
@@ -174,7 +178,7 @@ class DefaultEdgeTraversal extends AbstractEdgeTraversal implements EdgeTraversa
     @Override
     public EdgeTraversalOrder orderBy(String property) {
         requireNonNull(property, "property is required");
-        return new DefaultEdgeTraversalOrder(supplier, flow, converter, property);
+        return new DefaultEdgeTraversalOrder(supplier, flow, converter, mapping, property);
     }
 
     @Override
@@ -182,5 +186,13 @@ class DefaultEdgeTraversal extends AbstractEdgeTraversal implements EdgeTraversa
         return flow.apply(supplier.get()).count().tryNext().orElse(0L);
     }
 
+    /**
+     * Fetches the vertices from the same source as the edges: the start of the traversal produced the edges, so it
+     * has at least one element, and the mid-traversal {@code V(ids...)} step loads all the vertices at once.
+     */
+    private Iterator<Vertex> vertices(Object[] ids) {
+        return supplier.get().limit(1).V(ids);
+    }
+
 
 }
@@ -31,18 +31,18 @@ final class DefaultEdgeTraversalOrder extends AbstractEdgeTraversal implements E
     private final String property;
 
     DefaultEdgeTraversalOrder(Supplier<GraphTraversal<?, ?>> supplier, Function<GraphTraversal<?, ?>,
-            GraphTraversal<Vertex, Edge>> flow, EntityConverter converter, String property) {
-        super(supplier, flow, converter);
+            GraphTraversal<Vertex, Edge>> flow, EntityConverter converter, TraversalMapping mapping, String property) {
+        super(supplier, flow, converter, mapping);
         this.property = property;
     }
 
     @Override
     public EdgeTraversal asc() {
-        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.order().by(property, asc)), converter);
+        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.order().by(property, asc)), converter, mapping);
     }
 
     @Override
     public EdgeTraversal desc() {
-        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.order().by(property, desc)), converter);
+        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.order().by(property, desc)), converter, mapping);
     }
 }
@@ -31,8 +31,8 @@ import static java.util.Objects.requireNonNull;
 class DefaultEdgeUntilTraversal  extends AbstractEdgeTraversal implements EdgeUntilTraversal {
 
     DefaultEdgeUntilTraversal(Supplier<GraphTraversal<?, ?>> supplier, Function<GraphTraversal<?, ?>,
-            GraphTraversal<Vertex, Edge>> flow, EntityConverter converter) {
-        super(supplier, flow, converter);
+            GraphTraversal<Vertex, Edge>> flow, EntityConverter converter, TraversalMapping mapping) {
+        super(supplier, flow, converter, mapping);
     }
 
     @Override
@@ -40,7 +40,7 @@ class DefaultEdgeUntilTraversal  extends AbstractEdgeTraversal implements EdgeUn
 
         requireNonNull(propertyKey, "propertyKey is required");
         Traversal<?, Edge> condition = __.has(propertyKey);
-        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.until(condition)), converter);
+        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.until(condition)), converter, mapping);
     }
 
     @Override
@@ -48,7 +48,7 @@ class DefaultEdgeUntilTraversal  extends AbstractEdgeTraversal implements EdgeUn
         requireNonNull(propertyKey, "propertyKey is required");
         requireNonNull(value, "value is required");
         Traversal<?, Edge> condition = __.has(propertyKey, value);
-        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.until(condition)), converter);
+        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.until(condition)), converter, mapping);
     }
 
     @Override
@@ -56,7 +56,7 @@ class DefaultEdgeUntilTraversal  extends AbstractEdgeTraversal implements EdgeUn
         requireNonNull(propertyKey, "propertyKey is required");
         requireNonNull(predicate, "predicate is required");
         Traversal<?, Edge> condition = __.has(propertyKey, predicate);
-        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.until(condition)), converter);
+        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.until(condition)), converter, mapping);
     }
 
     @Override
@@ -64,7 +64,7 @@ class DefaultEdgeUntilTraversal  extends AbstractEdgeTraversal implements EdgeUn
         requireNonNull(accessor, "accessor is required");
         requireNonNull(value, "value is required");
         Traversal<?, Edge> condition = __.has(accessor, value);
-        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.until(condition)), converter);
+        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.until(condition)), converter, mapping);
     }
 
     @Override
@@ -72,13 +72,13 @@ class DefaultEdgeUntilTraversal  extends AbstractEdgeTraversal implements EdgeUn
         requireNonNull(accessor, "accessor is required");
         requireNonNull(predicate, "predicate is required");
         Traversal<?, Edge> condition = __.has(accessor, predicate);
-        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.until(condition)), converter);
+        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.until(condition)), converter, mapping);
     }
 
     @Override
     public EdgeTraversal hasNot(String propertyKey) {
         requireNonNull(propertyKey, "propertyKey is required");
         Traversal<?, Edge> condition = __.hasNot(propertyKey);
-        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.until(condition)), converter);
+        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.until(condition)), converter, mapping);
     }
 }
@@ -0,0 +1,221 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.graph;
+
+import jakarta.data.exceptions.EmptyResultException;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.ValueUtil;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+import org.eclipse.jnosql.mapping.semistructured.EntityConverter;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import static org.eclipse.jnosql.communication.graph.DefaultGraphDatabaseManager.ID_PROPERTY;
+
+/**
+ * The {@link GraphBulkLoader} of {@link AbstractGraphTemplate}. The vertices are created as
+ * {@link org.eclipse.jnosql.communication.graph.DefaultGraphDatabaseManager#insert} does, without its commit per
+ * vertex. It keeps the vertex id of each loaded entity, but only the {@link Vertex} handles of the current batch: a
+ * commit might invalidate them, so the endpoints of the later edges are looked up again.
+ */
+final class DefaultGraphBulkLoader implements GraphBulkLoader {
+
+    private static final Logger LOGGER = Logger.getLogger(DefaultGraphBulkLoader.class.getName());
+
+    private final Graph graph;
+
+    private final EntityConverter converter;
+
+    private final EntitiesMetadata entities;
+
+    private final int batchSize;
+
+    private final Map<Object, Object> vertexIds = new HashMap<>();
+
+    private final Map<Object, Vertex> handles = new HashMap<>();
+
+    private final long start = System.nanoTime();
+
+    private long vertexCount;
+
+    private long edgeCount;
+
+    private long commits;
+
+    private int pending;
+
+    private boolean failed;
+
+    DefaultGraphBulkLoader(Graph graph, EntityConverter converter, EntitiesMetadata entities, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be greater than zero: " + batchSize);
+        }
+        this.graph = graph;
+        this.converter = converter;
+        this.entities = entities;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public <T> GraphBulkLoader vertices(Stream<T> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        load(() -> entities.forEach(this::vertex));
+        return this;
+    }
+
+    @Override
+    public GraphBulkLoader edges(Stream<Triple> edges) {
+        Objects.requireNonNull(edges, "edges is required");
+        load(() -> edges.forEach(t -> edge(t.outgoing(), t.label(), t.incoming())));
+        return this;
+    }
+
+    @Override
+    public GraphBulkLoader edge(Object outgoing, String label, Object incoming) {
+        Objects.requireNonNull(outgoing, "outgoing is required");
+        Objects.requireNonNull(label, "label is required");
+        Objects.requireNonNull(incoming, "incoming is required");
+        load(() -> {
+            endpoint(outgoing).addEdge(label, endpoint(incoming));
+            edgeCount++;
+            created();
+        });
+        return this;
+    }
+
+    @Override
+    public GraphBulkLoader flush() {
+        if (pending > 0) {
+            if (graph.features().graph().supportsTransactions()) {
+                load(() -> graph.tx().commit());
+            }
+            pending = 0;
+            handles.clear();
+            commits++;
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.fine("Bulk load: " + report());
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public Report report() {
+        return new Report(vertexCount, edgeCount, commits, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    @Override
+    public void close() {
+        if (failed) {
+            rollback();
+        } else {
+            flush();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultGraphBulkLoader{" +
+                "batchSize=" + batchSize +
+                ", report=" + report() +
+                '}';
+    }
+
+    private void vertex(Object entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        CommunicationEntity communication = converter.toCommunication(entity);
+        Vertex vertex = graph.addVertex(communication.name());
+        communication.elements().forEach(e -> vertex.property(e.name(), ValueUtil.convert(e.value())));
+        vertex.property(ID_PROPERTY, vertex.id());
+        entities.get(entity.getClass()).id().ifPresent(f -> {
+            f.writeValue(entity, Value.of(vertex.id()));
+            vertexIds.put(f.read(entity), vertex.id());
+        });
+        handles.put(vertex.id(), vertex);
+        vertexCount++;
+        created();
+    }
+
+    private Vertex endpoint(Object value) {
+        Object id = id(value);
+        Object vertexId = vertexIds.getOrDefault(id, id);
+        Vertex vertex = handles.get(vertexId);
+        if (vertex == null) {
+            Iterator<Vertex> found = graph.vertices(vertexId);
+            if (!found.hasNext()) {
+                throw new EmptyResultException("The vertex does not exist with the id: " + id);
+            }
+            vertex = found.next();
+            handles.put(vertexId, vertex);
+        }
+        return vertex;
+    }
+
+    private Object id(Object value) {
+        Optional<FieldMetadata> field = entities.findByClassName(value.getClass().getName())
+                .flatMap(EntityMetadata::id);
+        if (field.isEmpty()) {
+            return value;
+        }
+        Object id = field.get().read(value);
+        if (id == null) {
+            throw new IllegalStateException("The entity id is required: " + value);
+        }
+        return id;
+    }
+
+    /**
+     * Runs a load operation; once one fails, the loader rolls the pending elements back instead of committing them
+     * on {@link #close()}.
+     */
+    private void load(Runnable operation) {
+        try {
+            operation.run();
+        } catch (RuntimeException | Error exception) {
+            failed = true;
+            throw exception;
+        }
+    }
+
+    private void rollback() {
+        if (pending > 0 && graph.features().graph().supportsTransactions()) {
+            graph.tx().rollback();
+        }
+        pending = 0;
+        handles.clear();
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine("Bulk load rolled back after a failure: " + report());
+        }
+    }
+
+    private void created() {
+        if (++pending >= batchSize) {
+            flush();
+        }
+    }
+}
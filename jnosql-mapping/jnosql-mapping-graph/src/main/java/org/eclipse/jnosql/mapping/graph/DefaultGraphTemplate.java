@@ -20,8 +20,11 @@ import jakarta.inject.Inject;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.eclipse.jnosql.communication.graph.GraphDatabaseManager;
+import org.eclipse.jnosql.communication.graph.InstrumentedGraphDatabaseManager;
+import org.eclipse.jnosql.communication.metrics.DatabaseMetrics;
 import org.eclipse.jnosql.mapping.Database;
 import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.semistructured.EntityConverter;
 import org.eclipse.jnosql.mapping.semistructured.EventPersistManager;
@@ -54,7 +57,8 @@ class DefaultGraphTemplate extends AbstractGraphTemplate {
         this.eventManager = eventManager;
         this.entities = entities;
         this.converters = converters;
-        this.manager = GraphDatabaseManager.of(graph);
+        this.manager = InstrumentedGraphDatabaseManager.of(GraphDatabaseManager.of(graph),
+                DatabaseMetrics.getMetrics(), MicroProfileSettings.INSTANCE);
     }
 
     DefaultGraphTemplate() {
@@ -25,17 +25,17 @@ class DefaultVertexRepeatStepTraversal extends AbstractVertexTraversal implement
 
 
     DefaultVertexRepeatStepTraversal(Supplier<GraphTraversal<?, ?>> supplier, Function<GraphTraversal<?, ?>,
-            GraphTraversal<Vertex, Vertex>> flow, EntityConverter converter) {
-        super(supplier, flow, converter);
+            GraphTraversal<Vertex, Vertex>> flow, EntityConverter converter, TraversalMapping mapping) {
+        super(supplier, flow, converter, mapping);
     }
 
     @Override
     public VertexTraversal times(int times) {
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.times(times)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.times(times)), converter, mapping);
     }
 
     @Override
     public VertexUntilTraversal until() {
-        return new DefaultVertexUntilTraversal(supplier, flow, converter);
+        return new DefaultVertexUntilTraversal(supplier, flow, converter, mapping);
     }
 }
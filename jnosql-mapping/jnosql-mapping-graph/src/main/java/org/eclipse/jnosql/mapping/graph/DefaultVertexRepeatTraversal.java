@@ -33,8 +33,8 @@ class DefaultVertexRepeatTraversal extends AbstractVertexTraversal implements Ve
 
     DefaultVertexRepeatTraversal(Supplier<GraphTraversal<?, ?>> supplier,
                                  Function<GraphTraversal<?, ?>, GraphTraversal<Vertex, Vertex>> flow,
-                                 EntityConverter converter) {
-        super(supplier, flow, converter);
+                                 EntityConverter converter, TraversalMapping mapping) {
+        super(supplier, flow, converter, mapping);
     }
 
     @Override
@@ -42,7 +42,7 @@ class DefaultVertexRepeatTraversal extends AbstractVertexTraversal implements Ve
         requireNonNull(propertyKey, "propertyKey is required");
         requireNonNull(value, "value is required");
         Traversal<?, Vertex> condition = __.has(propertyKey, value);
-        return new DefaultVertexRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter);
+        return new DefaultVertexRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter, mapping);
     }
 
     @Override
@@ -50,7 +50,7 @@ class DefaultVertexRepeatTraversal extends AbstractVertexTraversal implements Ve
         requireNonNull(propertyKey, "propertyKey is required");
         requireNonNull(predicate, "predicate is required");
         Traversal<?, Vertex> condition = __.has(propertyKey, predicate);
-        return new DefaultVertexRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter);
+        return new DefaultVertexRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter, mapping);
     }
 
     @Override
@@ -58,7 +58,7 @@ class DefaultVertexRepeatTraversal extends AbstractVertexTraversal implements Ve
         requireNonNull(accessor, "accessor is required");
         requireNonNull(value, "value is required");
         Traversal<?, Vertex> condition = __.has(accessor, value);
-        return new DefaultVertexRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter);
+        return new DefaultVertexRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter, mapping);
     }
 
     @Override
@@ -66,34 +66,34 @@ class DefaultVertexRepeatTraversal extends AbstractVertexTraversal implements Ve
         requireNonNull(accessor, "accessor is required");
         requireNonNull(predicate, "predicate is required");
         Traversal<?, Vertex> condition = __.has(accessor, predicate);
-        return new DefaultVertexRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter);
+        return new DefaultVertexRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter, mapping);
     }
 
     @Override
     public VertexRepeatStepTraversal hasNot(String propertyKey) {
         requireNonNull(propertyKey, "propertyKey is required");
         Traversal<?, Vertex> condition = __.hasNot(propertyKey);
-        return new DefaultVertexRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter);
+        return new DefaultVertexRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter, mapping);
     }
 
     @Override
     public VertexRepeatStepTraversal out(String... labels) {
         Stream.of(labels).forEach(l -> Objects.requireNonNull(l, "label is required"));
         Traversal<?, Vertex> condition = __.out(labels);
-        return new DefaultVertexRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter);
+        return new DefaultVertexRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter, mapping);
     }
 
     @Override
     public VertexRepeatStepTraversal in(String... labels) {
         Stream.of(labels).forEach(l -> Objects.requireNonNull(l, "label is required"));
         Traversal<?, Vertex> condition = __.in(labels);
-        return new DefaultVertexRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter);
+        return new DefaultVertexRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter, mapping);
     }
 
     @Override
     public VertexRepeatStepTraversal both(String... labels) {
         Stream.of(labels).forEach(l -> Objects.requireNonNull(l, "label is required"));
         Traversal<?, Vertex> condition = __.both(labels);
-        return new DefaultVertexRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter);
+        return new DefaultVertexRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter, mapping);
     }
 }
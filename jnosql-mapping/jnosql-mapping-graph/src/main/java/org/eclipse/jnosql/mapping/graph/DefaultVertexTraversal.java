@@ -44,48 +44,48 @@ class DefaultVertexTraversal extends AbstractVertexTraversal implements VertexTr
 
     DefaultVertexTraversal(Supplier<GraphTraversal<?, ?>> supplier,
                            Function<GraphTraversal<?, ?>, GraphTraversal<Vertex, Vertex>> flow,
-                           EntityConverter converter) {
-        super(supplier, flow, converter);
+                           EntityConverter converter, TraversalMapping mapping) {
+        super(supplier, flow, converter, mapping);
     }
 
     @Override
     public VertexTraversal has(String propertyKey, Object value) {
         requireNonNull(propertyKey, "propertyKey is required");
         requireNonNull(value, "value is required");
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.has(propertyKey, value)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.has(propertyKey, value)), converter, mapping);
     }
 
     @Override
     public VertexTraversal has(String propertyKey) {
         requireNonNull(propertyKey, "propertyKey is required");
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.has(propertyKey)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.has(propertyKey)), converter, mapping);
     }
 
     @Override
     public VertexTraversal has(String propertyKey, P<?> predicate) {
         requireNonNull(propertyKey, "propertyKey is required");
         requireNonNull(predicate, "predicate is required");
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.has(propertyKey, predicate)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.has(propertyKey, predicate)), converter, mapping);
     }
 
     @Override
     public VertexTraversal has(T accessor, Object value) {
         requireNonNull(accessor, "accessor is required");
         requireNonNull(value, "value is required");
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.has(accessor, value)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.has(accessor, value)), converter, mapping);
     }
 
     @Override
     public VertexTraversal has(T accessor, P<?> predicate) {
         requireNonNull(accessor, "accessor is required");
         requireNonNull(predicate, "predicate is required");
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.has(accessor, predicate)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.has(accessor, predicate)), converter, mapping);
     }
 
     @Override
     public VertexTraversal out(String... labels) {
         Stream.of(labels).forEach(l -> requireNonNull(l, "label is required"));
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.out(labels)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.out(labels)), converter, mapping);
     }
 
     @Override
@@ -93,70 +93,78 @@ class DefaultVertexTraversal extends AbstractVertexTraversal implements VertexTr
         requireNonNull(predicate, "predicate is required");
 
         Predicate<Traverser<Vertex>> p = v -> predicate.test(GraphEntityConverter.INSTANCE.toEntity(converter, v.get()));
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.filter(p)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.filter(p)), converter, mapping);
+    }
+
+    @Override
+    public <T> VertexTraversal where(Class<T> type, GraphPredicate predicate) {
+        requireNonNull(type, "type is required");
+        requireNonNull(predicate, "predicate is required");
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> mapping.apply(g, type, predicate)),
+                converter, mapping);
     }
 
     @Override
     public EdgeTraversal outE(String... edgeLabels) {
         Stream.of(edgeLabels).forEach(l -> requireNonNull(l, "label is required"));
-        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.outE(edgeLabels)), converter);
+        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.outE(edgeLabels)), converter, mapping);
     }
 
     @Override
     public VertexTraversal in(String... labels) {
         Stream.of(labels).forEach(l -> requireNonNull(l, "label is required"));
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.in(labels)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.in(labels)), converter, mapping);
     }
 
     @Override
     public EdgeTraversal inE(String... edgeLabels) {
         Stream.of(edgeLabels).forEach(l -> requireNonNull(l, "edgeLabel is required"));
 
-        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.inE(edgeLabels)), converter);
+        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.inE(edgeLabels)), converter, mapping);
     }
 
     @Override
     public VertexTraversal both(String... labels) {
         Stream.of(labels).forEach(l -> requireNonNull(l, "labels is required"));
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.both(labels)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.both(labels)), converter, mapping);
     }
 
     @Override
     public EdgeTraversal bothE(String... edgeLabels) {
         Stream.of(edgeLabels).forEach(l -> requireNonNull(l, "edgeLabel is required"));
-        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.bothE(edgeLabels)), converter);
+        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.bothE(edgeLabels)), converter, mapping);
     }
 
     @Override
     public VertexTraversal dedup(String... labels) {
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.dedup(labels)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.dedup(labels)), converter, mapping);
     }
 
     @Override
     public VertexRepeatTraversal repeat() {
-        return new DefaultVertexRepeatTraversal(supplier, flow, converter);
+        return new DefaultVertexRepeatTraversal(supplier, flow, converter, mapping);
     }
 
     @Override
     public VertexTraversal limit(long limit) {
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.limit(limit)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.limit(limit)), converter, mapping);
     }
 
     @Override
     public VertexTraversal skip(long skip) {
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.skip(skip)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.skip(skip)), converter, mapping);
     }
 
     @Override
     public VertexTraversal range(long start, long end) {
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.range(start, end)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.range(start, end)), converter, mapping);
     }
 
 
     @Override
     public VertexTraversal hasLabel(String label) {
         requireNonNull(label, "label is required");
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.hasLabel(label)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.hasLabel(label)), converter, mapping);
     }
 
     @Override
@@ -166,19 +174,19 @@ class DefaultVertexTraversal extends AbstractVertexTraversal implements VertexTr
         String label = Optional.ofNullable(entity).map(Entity::value)
                 .filter(NOT_EMPTY)
                 .orElse(type.getSimpleName());
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.hasLabel(label)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.hasLabel(label)), converter, mapping);
     }
 
     @Override
     public <T> VertexTraversal hasLabel(P<String> predicate) {
         requireNonNull(predicate, "predicate is required");
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.hasLabel(predicate)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.hasLabel(predicate)), converter, mapping);
     }
 
     @Override
     public VertexTraversal hasNot(String propertyKey) {
         requireNonNull(propertyKey, "propertyKey is required");
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.hasNot(propertyKey)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.hasNot(propertyKey)), converter, mapping);
     }
 
     @Override
@@ -232,6 +240,6 @@ class DefaultVertexTraversal extends AbstractVertexTraversal implements VertexTr
     @Override
     public VertexTraversalOrder orderBy(String property) {
         requireNonNull(property, "property is required");
-        return new DefaultVertexTraversalOrder(supplier, flow, converter, property);
+        return new DefaultVertexTraversalOrder(supplier, flow, converter, mapping, property);
     }
 }
@@ -29,18 +29,18 @@ final class DefaultVertexTraversalOrder extends AbstractVertexTraversal implemen
     private final String property;
 
     DefaultVertexTraversalOrder(Supplier<GraphTraversal<?, ?>> supplier, Function<GraphTraversal<?, ?>,
-            GraphTraversal<Vertex, Vertex>> flow, EntityConverter converter, String property) {
-        super(supplier, flow, converter);
+            GraphTraversal<Vertex, Vertex>> flow, EntityConverter converter, TraversalMapping mapping, String property) {
+        super(supplier, flow, converter, mapping);
         this.property = property;
     }
 
     @Override
     public VertexTraversal asc() {
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.order().by(property, asc)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.order().by(property, asc)), converter, mapping);
     }
 
     @Override
     public VertexTraversal desc() {
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.order().by(property, desc)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.order().by(property, desc)), converter, mapping);
     }
 }
@@ -35,8 +35,8 @@ class DefaultVertexUntilTraversal extends AbstractVertexTraversal implements Ver
 
 
     DefaultVertexUntilTraversal(Supplier<GraphTraversal<?, ?>> supplier, Function<GraphTraversal<?, ?>,
-            GraphTraversal<Vertex, Vertex>> flow, EntityConverter converter) {
-        super(supplier, flow, converter);
+            GraphTraversal<Vertex, Vertex>> flow, EntityConverter converter, TraversalMapping mapping) {
+        super(supplier, flow, converter, mapping);
     }
 
     @Override
@@ -45,14 +45,14 @@ class DefaultVertexUntilTraversal extends AbstractVertexTraversal implements Ver
         requireNonNull(propertyKey, "propertyKey is required");
         requireNonNull(value, "value is required");
         Traversal<?, Vertex> condition = __.has(propertyKey, value);
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.until(condition)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.until(condition)), converter, mapping);
     }
 
     @Override
     public VertexTraversal has(String propertyKey) {
         requireNonNull(propertyKey, "propertyKey is required");
         Traversal<?, Vertex> condition = __.has(propertyKey);
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.until(condition)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.until(condition)), converter, mapping);
     }
 
     @Override
@@ -60,7 +60,7 @@ class DefaultVertexUntilTraversal extends AbstractVertexTraversal implements Ver
         requireNonNull(propertyKey, "propertyKey is required");
         requireNonNull(predicate, "predicate is required");
         Traversal<?, Vertex> condition = __.has(propertyKey, predicate);
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.until(condition)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.until(condition)), converter, mapping);
     }
 
     @Override
@@ -68,7 +68,7 @@ class DefaultVertexUntilTraversal extends AbstractVertexTraversal implements Ver
         requireNonNull(accessor, "accessor is required");
         requireNonNull(value, "value is required");
         Traversal<?, Vertex> condition = __.has(accessor, value);
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.until(condition)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.until(condition)), converter, mapping);
     }
 
     @Override
@@ -76,42 +76,42 @@ class DefaultVertexUntilTraversal extends AbstractVertexTraversal implements Ver
         requireNonNull(accessor, "accessor is required");
         requireNonNull(predicate, "predicate is required");
         Traversal<?, Vertex> condition = __.has(accessor, predicate);
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.until(condition)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.until(condition)), converter, mapping);
     }
 
     @Override
     public VertexTraversal hasNot(String propertyKey) {
         requireNonNull(propertyKey, "propertyKey is required");
         Traversal<?, Vertex> condition = __.hasNot(propertyKey);
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.until(condition)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.until(condition)), converter, mapping);
     }
 
     @Override
     public VertexTraversal out(String... labels) {
         Stream.of(labels).forEach(l -> Objects.requireNonNull(l, "label is required"));
         Traversal<?, Vertex> condition = __.out(labels);
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.until(condition)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.until(condition)), converter, mapping);
     }
 
     @Override
     public VertexTraversal in(String... labels) {
         Stream.of(labels).forEach(l -> Objects.requireNonNull(l, "label is required"));
         Traversal<?, Vertex> condition = __.in(labels);
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.until(condition)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.until(condition)), converter, mapping);
     }
 
     @Override
     public VertexTraversal both(String... labels) {
         Stream.of(labels).forEach(l -> Objects.requireNonNull(l, "label is required"));
         Traversal<?, Vertex> condition = __.both(labels);
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.until(condition)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.until(condition)), converter, mapping);
     }
 
     @Override
     public VertexTraversal hasLabel(String label) {
         requireNonNull(label, "label is required");
         Traversal<?, Vertex> condition = __.hasLabel(label);
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.until(condition)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.until(condition)), converter, mapping);
     }
 
     @Override
@@ -119,12 +119,12 @@ class DefaultVertexUntilTraversal extends AbstractVertexTraversal implements Ver
         requireNonNull(type, "type is required");
         Entity entity = type.getAnnotation(Entity.class);
         String label = Optional.ofNullable(entity).map(Entity::value).orElse(type.getName());
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.hasLabel(label)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.hasLabel(label)), converter, mapping);
     }
 
     @Override
     public <T> VertexTraversal hasLabel(P<String> predicate) {
         requireNonNull(predicate, "predicate is required");
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.hasLabel(predicate)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.hasLabel(predicate)), converter, mapping);
     }
 }
@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.graph;
+
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.eclipse.jnosql.communication.graph.CommunicationEntityConverter;
+import org.eclipse.jnosql.mapping.semistructured.EntityConverter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Resolves the endpoints of a page of edges. The edges are returned with lazy endpoints: the first time any of
+ * them reads either {@link EdgeEntity#incoming()} or {@link EdgeEntity#outgoing()}, the distinct vertices of the
+ * whole page are fetched with a single {@code V(ids...)} step, and each vertex is converted into an entity once,
+ * so two edges that share a vertex share the entity as well.
+ *
+ * <p>When only the edge properties are read, no vertex is loaded at all.</p>
+ */
+final class EdgeEndpointLoader {
+
+    private final EntityConverter converter;
+
+    private final Function<Object[], Iterator<Vertex>> vertices;
+
+    private final Set<Object> ids = new LinkedHashSet<>();
+
+    private final Map<Object, Object> entities = new HashMap<>();
+
+    private Map<Object, Vertex> loaded;
+
+    private EdgeEndpointLoader(EntityConverter converter, Function<Object[], Iterator<Vertex>> vertices) {
+        this.converter = converter;
+        this.vertices = vertices;
+    }
+
+    /**
+     * Returns the edges as {@link EdgeEntity} instances whose endpoints are loaded together on demand.
+     *
+     * @param converter the entity converter
+     * @param edges     the page of edges
+     * @param vertices  the function that fetches the vertices of the given ids in a single call
+     * @return the edges with lazy endpoints
+     * @throws NullPointerException when any parameter is null
+     */
+    static List<EdgeEntity> load(EntityConverter converter, List<Edge> edges,
+                                 Function<Object[], Iterator<Vertex>> vertices) {
+        Objects.requireNonNull(converter, "converter is required");
+        Objects.requireNonNull(edges, "edges is required");
+        Objects.requireNonNull(vertices, "vertices is required");
+        if (edges.isEmpty()) {
+            return List.of();
+        }
+        EdgeEndpointLoader loader = new EdgeEndpointLoader(converter, vertices);
+        List<EdgeEntity> entities = new ArrayList<>(edges.size());
+        for (Edge edge : edges) {
+            Vertex inVertex = edge.inVertex();
+            Vertex outVertex = edge.outVertex();
+            loader.ids.add(inVertex.id());
+            loader.ids.add(outVertex.id());
+            entities.add(DefaultEdgeEntity.lazy(edge, () -> loader.entity(inVertex), () -> loader.entity(outVertex)));
+        }
+        return entities;
+    }
+
+    private synchronized Object entity(Vertex vertex) {
+        Object id = vertex.id();
+        Object entity = entities.get(id);
+        if (entity == null) {
+            if (loaded == null) {
+                loaded = fetch();
+            }
+            Vertex source = loaded.getOrDefault(id, vertex);
+            entity = converter.toEntity(CommunicationEntityConverter.INSTANCE.apply(source));
+            entities.put(id, entity);
+        }
+        return entity;
+    }
+
+    private Map<Object, Vertex> fetch() {
+        Map<Object, Vertex> result = new HashMap<>(ids.size() * 2);
+        vertices.apply(ids.toArray()).forEachRemaining(v -> result.put(v.id(), v));
+        return result;
+    }
+}
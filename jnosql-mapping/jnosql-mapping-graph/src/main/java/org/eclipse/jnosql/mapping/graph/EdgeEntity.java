@@ -135,6 +135,8 @@ public interface EdgeEntity {
 
     /**
      * Creates an {@link EdgeEntity} instance from the provided {@link EntityConverter} and {@link Edge}.
+     * The incoming and outgoing entities are converted on the first call of either {@link #incoming()} or
+     * {@link #outgoing()}, so reading only the edge properties does not load any vertex.
      *
      * @param converter the entity converter to use
      * @param edge      the edge to create the entity from
@@ -145,8 +147,8 @@ public interface EdgeEntity {
         Objects.requireNonNull(converter, "converter is required");
         Objects.requireNonNull(edge, "edge is required");
         var entityConverter = CommunicationEntityConverter.INSTANCE;
-        return new DefaultEdgeEntity<>(edge, converter.toEntity(entityConverter.apply(edge.inVertex())),
-                converter.toEntity(entityConverter.apply(edge.outVertex())));
+        return DefaultEdgeEntity.lazy(edge, () -> converter.toEntity(entityConverter.apply(edge.inVertex())),
+                () -> converter.toEntity(entityConverter.apply(edge.outVertex())));
     }
 
 }
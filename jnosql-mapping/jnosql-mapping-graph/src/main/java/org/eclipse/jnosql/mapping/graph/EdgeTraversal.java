@@ -34,6 +34,16 @@ public interface EdgeTraversal extends EdgeConditionTraversal {
      */
      EdgeTraversal filter(Predicate<EdgeEntity> predicate);
 
+    /**
+     * Filters the edges with a {@link GraphPredicate} on their property keys. The predicate runs as native
+     * {@code has(...)} steps, so, unlike {@link #filter(Predicate)}, no edge is converted to be tested.
+     *
+     * @param predicate the predicate
+     * @return a {@link EdgeTraversal} with the predicate
+     * @throws NullPointerException when predicate is null
+     */
+    EdgeTraversal where(GraphPredicate predicate);
+
     /**
      * Filter the objects in the traversal by the number of them to pass through the next, where only the first
      * {@code n} objects are allowed as defined by the {@code limit} argument.
@@ -0,0 +1,159 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.graph;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Loads a large number of vertices and edges into the graph. Unlike {@link GraphTemplate#insert(Object)} and
+ * {@link GraphTemplate#edge(Object, String, Object)}, that commit each element and look up both endpoints of each
+ * edge with a traversal, the loader:
+ * <ul>
+ *     <li>commits once every {@code batchSize} elements, and once more at {@link #close()};</li>
+ *     <li>keeps the id of each loaded vertex in memory, so the endpoints of the edges are resolved without a
+ *     traversal; an endpoint that was not loaded by this loader is looked up once and then kept as well;</li>
+ *     <li>skips the entity events of the template.</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * try (GraphBulkLoader loader = template.bulk(50_000)) {
+ *     loader.vertices(people.stream())
+ *           .edges(friendships.stream().map(f -> GraphBulkLoader.Triple.of(f.from(), "knows", f.to())));
+ *     LOGGER.info("Loaded " + loader.report());
+ * }
+ * }</pre>
+ *
+ * <p>The endpoints of an edge are either entities, whose id is read, or vertex ids. The vertices of the entities
+ * are created with the id of the graph, which is written back into the entity id field. A loader is not
+ * thread-safe.</p>
+ */
+public interface GraphBulkLoader extends AutoCloseable {
+
+    /**
+     * The default number of elements between two commits.
+     */
+    int DEFAULT_BATCH_SIZE = 10_000;
+
+    /**
+     * Creates a vertex for each entity.
+     *
+     * @param entities the entities
+     * @param <T>      the entity type
+     * @return this loader
+     * @throws NullPointerException when entities is null
+     */
+    <T> GraphBulkLoader vertices(Stream<T> entities);
+
+    /**
+     * Creates an edge for each triple.
+     *
+     * @param edges the edges
+     * @return this loader
+     * @throws NullPointerException when edges is null
+     * @throws jakarta.data.exceptions.EmptyResultException when an endpoint does not exist
+     */
+    GraphBulkLoader edges(Stream<Triple> edges);
+
+    /**
+     * Creates an edge.
+     *
+     * @param outgoing the outgoing entity or vertex id
+     * @param label    the edge label
+     * @param incoming the incoming entity or vertex id
+     * @return this loader
+     * @throws NullPointerException when any parameter is null
+     * @throws jakarta.data.exceptions.EmptyResultException when an endpoint does not exist
+     */
+    GraphBulkLoader edge(Object outgoing, String label, Object incoming);
+
+    /**
+     * Commits the elements created since the last commit.
+     *
+     * @return this loader
+     */
+    GraphBulkLoader flush();
+
+    /**
+     * Returns what this loader has created so far.
+     *
+     * @return the report
+     */
+    Report report();
+
+    /**
+     * Commits the pending elements. When an operation of this loader failed, e.g., the stream of entities threw an
+     * exception, it rolls the pending elements back instead; the batches committed before stay.
+     */
+    @Override
+    void close();
+
+    /**
+     * An edge to load: the outgoing and incoming endpoints are either entities or vertex ids.
+     *
+     * @param outgoing the outgoing entity or vertex id
+     * @param label    the edge label
+     * @param incoming the incoming entity or vertex id
+     */
+    record Triple(Object outgoing, String label, Object incoming) {
+
+        public Triple {
+            Objects.requireNonNull(outgoing, "outgoing is required");
+            Objects.requireNonNull(label, "label is required");
+            Objects.requireNonNull(incoming, "incoming is required");
+        }
+
+        /**
+         * Creates a {@link Triple} instance.
+         *
+         * @param outgoing the outgoing entity or vertex id
+         * @param label    the edge label
+         * @param incoming the incoming entity or vertex id
+         * @return a {@link Triple} instance
+         * @throws NullPointerException when any parameter is null
+         */
+        public static Triple of(Object outgoing, String label, Object incoming) {
+            return new Triple(outgoing, label, incoming);
+        }
+    }
+
+    /**
+     * The progress of a {@link GraphBulkLoader}.
+     *
+     * @param vertices the number of vertices created
+     * @param edges    the number of edges created
+     * @param commits  the number of commits
+     * @param duration the time since the loader was created
+     */
+    record Report(long vertices, long edges, long commits, Duration duration) {
+
+        /**
+         * Returns the number of elements, vertices and edges, created per second.
+         *
+         * @return the throughput
+         */
+        public double throughput() {
+            long nanos = duration.toNanos();
+            return nanos == 0 ? 0D : (vertices + edges) * 1_000_000_000D / nanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d vertices and %d edges in %d commits and %d ms, %.1f elements/s",
+                    vertices, edges, commits, duration.toMillis(), throughput());
+        }
+    }
+}
@@ -0,0 +1,330 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.graph;
+
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.util.ConverterUtil;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * A predicate on the attributes of an element that runs inside the graph engine. Unlike the lambda of
+ * {@link VertexTraversal#filter(Predicate)}, that converts every vertex into an entity just to test it, the
+ * predicate is compiled into native {@code has(...)} steps with {@link P} predicates, so the backend can answer it
+ * with its indexes.
+ *
+ * <pre>{@code
+ * template.traversalVertex().hasLabel(Person.class)
+ *         .where(Person.class, GraphPredicate.attribute("age").gt(21)
+ *                 .and(GraphPredicate.attribute("name").in(List.of("Ada", "Grace"))))
+ *         .result();
+ * }</pre>
+ *
+ * <p>At {@link VertexTraversal#where(Class, GraphPredicate)}, the attributes are the Java fields of the entity:
+ * they are mapped to the column names, and the values are converted by the attribute converters, through the
+ * {@link EntityMetadata}. At {@link EdgeTraversal#where(GraphPredicate)}, they are the edge property keys.</p>
+ *
+ * <p>This class is immutable, so a predicate can be built once and reused.</p>
+ */
+public final class GraphPredicate {
+
+    private final Node node;
+
+    private GraphPredicate(Node node) {
+        this.node = node;
+    }
+
+    /**
+     * Returns a predicate that matches when both this and the other predicate match.
+     *
+     * @param predicate the other predicate
+     * @return the conjunction of both predicates
+     * @throws NullPointerException when predicate is null
+     */
+    public GraphPredicate and(GraphPredicate predicate) {
+        Objects.requireNonNull(predicate, "predicate is required");
+        return new GraphPredicate(new And(List.of(node, predicate.node)));
+    }
+
+    /**
+     * Returns a predicate that matches when either this or the other predicate matches.
+     *
+     * @param predicate the other predicate
+     * @return the disjunction of both predicates
+     * @throws NullPointerException when predicate is null
+     */
+    public GraphPredicate or(GraphPredicate predicate) {
+        Objects.requireNonNull(predicate, "predicate is required");
+        return new GraphPredicate(new Or(List.of(node, predicate.node)));
+    }
+
+    /**
+     * Returns a predicate that matches when this one does not.
+     *
+     * @return the negation of this predicate
+     */
+    public GraphPredicate negate() {
+        return new GraphPredicate(new Not(node));
+    }
+
+    @Override
+    public String toString() {
+        return node.toString();
+    }
+
+    /**
+     * Starts a predicate on the given attribute.
+     *
+     * @param name the attribute name
+     * @return the {@link Attribute} to define the condition
+     * @throws NullPointerException when name is null
+     */
+    public static Attribute attribute(String name) {
+        Objects.requireNonNull(name, "name is required");
+        return new Attribute(name);
+    }
+
+    /**
+     * Appends the steps of this predicate to the traversal, mapping the attributes through the entity metadata.
+     */
+    <S, E> GraphTraversal<S, E> apply(GraphTraversal<S, E> traversal, EntityMetadata metadata,
+                                      Converters converters) {
+        return apply(traversal, node, new Resolver(metadata, converters));
+    }
+
+    /**
+     * Appends the steps of this predicate to the traversal, using the attributes as property keys.
+     */
+    <S, E> GraphTraversal<S, E> apply(GraphTraversal<S, E> traversal) {
+        return apply(traversal, node, new Resolver(null, null));
+    }
+
+    private static <S, E> GraphTraversal<S, E> apply(GraphTraversal<S, E> traversal, Node node, Resolver resolver) {
+        if (node instanceof Has has && resolver.isId(has.attribute())) {
+            return traversal.has(T.id, has.predicate(resolver));
+        } else if (node instanceof Has has) {
+            return traversal.has(resolver.column(has.attribute()), has.predicate(resolver));
+        } else if (node instanceof And and) {
+            GraphTraversal<S, E> result = traversal;
+            for (Node child : and.nodes()) {
+                result = apply(result, child, resolver);
+            }
+            return result;
+        } else if (node instanceof Or or) {
+            Traversal<?, ?>[] traversals = or.nodes().stream()
+                    .map(n -> apply(__.start(), n, resolver))
+                    .toArray(Traversal<?, ?>[]::new);
+            return traversal.or(traversals);
+        }
+        Not not = (Not) node;
+        return traversal.not(apply(__.start(), not.node(), resolver));
+    }
+
+    /**
+     * The attribute of a {@link GraphPredicate} under construction.
+     */
+    public static final class Attribute {
+
+        private final String name;
+
+        private Attribute(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Matches when the attribute is equal to the value.
+         *
+         * @param value the value
+         * @return the predicate
+         * @throws NullPointerException when value is null
+         */
+        public GraphPredicate eq(Object value) {
+            return of(Operator.EQUALS, value);
+        }
+
+        /**
+         * Matches when the attribute is not equal to the value.
+         *
+         * @param value the value
+         * @return the predicate
+         * @throws NullPointerException when value is null
+         */
+        public GraphPredicate neq(Object value) {
+            return of(Operator.NOT_EQUALS, value);
+        }
+
+        /**
+         * Matches when the attribute is greater than the value.
+         *
+         * @param value the value
+         * @return the predicate
+         * @throws NullPointerException when value is null
+         */
+        public GraphPredicate gt(Object value) {
+            return of(Operator.GREATER_THAN, value);
+        }
+
+        /**
+         * Matches when the attribute is greater than or equal to the value.
+         *
+         * @param value the value
+         * @return the predicate
+         * @throws NullPointerException when value is null
+         */
+        public GraphPredicate gte(Object value) {
+            return of(Operator.GREATER_EQUALS_THAN, value);
+        }
+
+        /**
+         * Matches when the attribute is lesser than the value.
+         *
+         * @param value the value
+         * @return the predicate
+         * @throws NullPointerException when value is null
+         */
+        public GraphPredicate lt(Object value) {
+            return of(Operator.LESSER_THAN, value);
+        }
+
+        /**
+         * Matches when the attribute is lesser than or equal to the value.
+         *
+         * @param value the value
+         * @return the predicate
+         * @throws NullPointerException when value is null
+         */
+        public GraphPredicate lte(Object value) {
+            return of(Operator.LESSER_EQUALS_THAN, value);
+        }
+
+        /**
+         * Matches when the attribute is greater than or equal to the first value and lesser than the second one.
+         *
+         * @param start the inclusive start
+         * @param end   the exclusive end
+         * @return the predicate
+         * @throws NullPointerException when either start or end is null
+         */
+        public GraphPredicate between(Object start, Object end) {
+            Objects.requireNonNull(start, "start is required");
+            Objects.requireNonNull(end, "end is required");
+            return new GraphPredicate(new Has(name, Operator.BETWEEN, List.of(start, end)));
+        }
+
+        /**
+         * Matches when the attribute is equal to any of the values.
+         *
+         * @param values the values
+         * @return the predicate
+         * @throws NullPointerException when values is null or has a null element
+         */
+        public GraphPredicate in(Collection<?> values) {
+            Objects.requireNonNull(values, "values is required");
+            return new GraphPredicate(new Has(name, Operator.IN, List.copyOf(values)));
+        }
+
+        private GraphPredicate of(Operator operator, Object value) {
+            Objects.requireNonNull(value, "value is required");
+            return new GraphPredicate(new Has(name, operator, List.of(value)));
+        }
+    }
+
+    private enum Operator {
+        EQUALS, NOT_EQUALS, GREATER_THAN, GREATER_EQUALS_THAN, LESSER_THAN, LESSER_EQUALS_THAN, BETWEEN, IN
+    }
+
+    private sealed interface Node permits Has, And, Or, Not {
+    }
+
+    private record Has(String attribute, Operator operator, List<Object> values) implements Node {
+
+        P<?> predicate(Resolver resolver) {
+            List<Object> converted = new ArrayList<>(values.size());
+            for (Object value : values) {
+                converted.add(resolver.value(attribute, value));
+            }
+            Object value = converted.get(0);
+            return switch (operator) {
+                case EQUALS -> P.eq(value);
+                case NOT_EQUALS -> P.neq(value);
+                case GREATER_THAN -> P.gt(value);
+                case GREATER_EQUALS_THAN -> P.gte(value);
+                case LESSER_THAN -> P.lt(value);
+                case LESSER_EQUALS_THAN -> P.lte(value);
+                case BETWEEN -> P.between(value, converted.get(1));
+                case IN -> P.within(converted);
+            };
+        }
+
+        @Override
+        public String toString() {
+            return attribute + " " + operator + " " + (values.size() == 1 ? values.get(0) : values);
+        }
+    }
+
+    private record And(List<Node> nodes) implements Node {
+
+        @Override
+        public String toString() {
+            return "(" + nodes.get(0) + " AND " + nodes.get(1) + ")";
+        }
+    }
+
+    private record Or(List<Node> nodes) implements Node {
+
+        @Override
+        public String toString() {
+            return "(" + nodes.get(0) + " OR " + nodes.get(1) + ")";
+        }
+    }
+
+    private record Not(Node node) implements Node {
+
+        @Override
+        public String toString() {
+            return "NOT " + node;
+        }
+    }
+
+    private record Resolver(EntityMetadata metadata, Converters converters) {
+
+        /**
+         * The id of an entity is the id of its vertex, so it is matched with {@link T#id} instead of a property.
+         */
+        boolean isId(String attribute) {
+            return metadata != null && metadata.id()
+                    .filter(id -> id.fieldName().equals(attribute) || id.name().equals(attribute))
+                    .isPresent();
+        }
+
+        String column(String attribute) {
+            return metadata == null ? attribute : metadata.columnField(attribute);
+        }
+
+        Object value(String attribute, Object value) {
+            return metadata == null ? value : ConverterUtil.getValue(value, metadata, attribute, converters);
+        }
+    }
+}
@@ -14,6 +14,8 @@
  */
 package org.eclipse.jnosql.mapping.graph;
 
+import jakarta.data.page.Page;
+import jakarta.data.page.PageRequest;
 import org.eclipse.jnosql.mapping.PreparedStatement;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Transaction;
@@ -179,6 +181,67 @@ public interface GraphTemplate extends SemiStructuredTemplate {
      */
     <T> Collection<EdgeEntity> edges(T entity, Direction direction);
 
+    /**
+     * Returns the edges of a vertex id as a lazy stream: the edges are read from the traversal as the stream is
+     * consumed, and the incoming and outgoing entities of each edge are only loaded when they are read, so a vertex
+     * with a huge number of edges does not need to fit in memory.
+     *
+     * @param id        the vertex id
+     * @param direction the direction
+     * @param labels    the edge labels, when empty, all the labels
+     * @param <K>       the K type
+     * @return the stream of edges
+     * @throws NullPointerException where there is any parameter null
+     */
+    <K> Stream<EdgeEntity> edgesStream(K id, Direction direction, String... labels);
+
+    /**
+     * Returns a page of the edges of a vertex id. The labels and the page range are part of the traversal, so only
+     * the edges of the requested page are read, and their endpoints are loaded together on demand.
+     *
+     * @param id          the vertex id
+     * @param direction   the direction
+     * @param pageRequest the page request, the offset and size
+     * @param labels      the edge labels, when empty, all the labels
+     * @param <K>         the K type
+     * @return the page of edges
+     * @throws NullPointerException where there is any parameter null
+     */
+    <K> Page<EdgeEntity> edgesById(K id, Direction direction, PageRequest pageRequest, String... labels);
+
+    /**
+     * Returns a page of the edges of an entity. The labels and the page range are part of the traversal, so only
+     * the edges of the requested page are read, and their endpoints are loaded together on demand.
+     *
+     * @param entity      the entity
+     * @param direction   the direction
+     * @param pageRequest the page request, the offset and size
+     * @param labels      the edge labels, when empty, all the labels
+     * @param <T>         the entity type
+     * @return the page of edges
+     * @throws NullPointerException  where there is any parameter null
+     * @throws IllegalStateException when the entity id is null
+     */
+    <T> Page<EdgeEntity> edges(T entity, Direction direction, PageRequest pageRequest, String... labels);
+
+    /**
+     * Creates a {@link GraphBulkLoader} that commits every {@link GraphBulkLoader#DEFAULT_BATCH_SIZE} elements.
+     *
+     * @return a new {@link GraphBulkLoader} instance
+     */
+    default GraphBulkLoader bulk() {
+        return bulk(GraphBulkLoader.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a {@link GraphBulkLoader} that commits every {@code batchSize} elements.
+     *
+     * @param batchSize the number of elements, vertices and edges, between two commits
+     * @return a new {@link GraphBulkLoader} instance
+     * @throws IllegalArgumentException when batchSize is not greater than zero
+     */
+    GraphBulkLoader bulk(int batchSize);
+
     /**
      * Finds an {@link EdgeEntity} from the Edge Id
      *
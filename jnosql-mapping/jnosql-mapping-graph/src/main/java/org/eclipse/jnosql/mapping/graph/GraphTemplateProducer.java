@@ -20,8 +20,11 @@ import jakarta.inject.Inject;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.eclipse.jnosql.communication.graph.GraphDatabaseManager;
+import org.eclipse.jnosql.communication.graph.InstrumentedGraphDatabaseManager;
+import org.eclipse.jnosql.communication.metrics.DatabaseMetrics;
 import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
 import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.semistructured.EntityConverter;
 import org.eclipse.jnosql.mapping.semistructured.EventPersistManager;
@@ -77,7 +80,8 @@ public class GraphTemplateProducer implements Function<Graph, GraphTemplate> {
                                      EntitiesMetadata entities, Converters converters) {
             this.converter = converter;
             this.graph = graph;
-            this.manager = GraphDatabaseManager.of(graph);
+            this.manager = InstrumentedGraphDatabaseManager.of(GraphDatabaseManager.of(graph),
+                    DatabaseMetrics.getMetrics(), MicroProfileSettings.INSTANCE);
             this.eventManager = eventManager;
             this.entities = entities;
             this.converters = converters;
@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.graph;
+
+import org.eclipse.jnosql.communication.metrics.FlightRecorderEvents;
+
+/**
+ * A started evaluation by the {@link GremlinExecutor}, recorded as a {@link GremlinEvaluationEvent} when the JDK
+ * Flight Recorder is available. This type does not depend on the {@code jdk.jfr} module.
+ */
+interface GremlinEvaluation {
+
+    GremlinEvaluation NONE = (query, parameters, result) -> {
+    };
+
+    void commit(String query, int parameters, Object result);
+
+    static GremlinEvaluation start() {
+        return FlightRecorderEvents.isAvailable() ? GremlinEvaluationEvent.start() : NONE;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.graph;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The JDK Flight Recorder event of the evaluation of a Gremlin query by the {@link GremlinExecutor}. The
+ * traversal is lazy, so the event covers the parameter binding and the script evaluation, not the iteration. It is
+ * started through {@link GremlinEvaluation#start()}, so this class is never loaded when the {@code jdk.jfr} module
+ * is missing.
+ */
+@Name(GremlinEvaluationEvent.NAME)
+@Label("Gremlin Evaluation")
+@Category({"Eclipse JNoSQL", "Graph"})
+@Description("The evaluation of a Gremlin query")
+@StackTrace(false)
+final class GremlinEvaluationEvent extends Event implements GremlinEvaluation {
+
+    static final String NAME = "org.eclipse.jnosql.GremlinEvaluation";
+
+    @Label("Query")
+    @Description("The Gremlin query before the parameters binding")
+    private String query;
+
+    @Label("Parameters")
+    private int parameters;
+
+    @Label("Result")
+    @Description("The type returned by the evaluation")
+    private String result;
+
+    @Override
+    public void commit(String query, int parameters, Object result) {
+        if (shouldCommit()) {
+            this.query = query;
+            this.parameters = parameters;
+            this.result = result == null ? null : result.getClass().getName();
+            commit();
+        }
+    }
+
+    static GremlinEvaluationEvent start() {
+        GremlinEvaluationEvent event = new GremlinEvaluationEvent();
+        event.begin();
+        return event;
+    }
+}
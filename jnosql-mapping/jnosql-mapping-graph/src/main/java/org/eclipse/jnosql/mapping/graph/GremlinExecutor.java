@@ -45,6 +45,7 @@ final class GremlinExecutor {
 
     @SuppressWarnings({"rawtypes", "unchecked"})
     <T> Stream<T> executeGremlin(GraphTraversalSource traversalSource, String gremlin, Map<String, Object> params) {
+        GremlinEvaluation event = GremlinEvaluation.start();
         try {
             Bindings bindings = ENGINE.createBindings();
             bindings.put("g", traversalSource);
@@ -52,6 +53,7 @@ final class GremlinExecutor {
 
             String query = GremlinParamParser.INSTANCE.apply(gremlin, params);
             Object eval = ENGINE.eval(query, bindings);
+            event.commit(gremlin, params.size(), eval);
             if (eval instanceof GraphTraversal graphTraversal) {
                 return convertToStream(graphTraversal.toStream());
             }
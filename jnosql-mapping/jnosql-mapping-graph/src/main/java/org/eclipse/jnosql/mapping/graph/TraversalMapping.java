@@ -0,0 +1,30 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.graph;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+
+/**
+ * The entity metadata and the converters of the template that created a traversal, so the steps that map the
+ * attributes of an entity, e.g., {@link VertexTraversal#where(Class, GraphPredicate)}, do not look them up.
+ */
+record TraversalMapping(EntitiesMetadata entities, Converters converters) {
+
+    <S, E> GraphTraversal<S, E> apply(GraphTraversal<S, E> traversal, Class<?> type, GraphPredicate predicate) {
+        return predicate.apply(traversal, entities.get(type), converters);
+    }
+}
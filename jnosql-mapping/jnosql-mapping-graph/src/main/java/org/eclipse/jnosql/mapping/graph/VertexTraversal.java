@@ -40,6 +40,20 @@ public interface VertexTraversal extends VertexConditionTraversal {
      */
     <T> VertexTraversal filter(Predicate<T> predicate);
 
+    /**
+     * Filters the vertices with a {@link GraphPredicate} on the attributes of the entity. The attributes are mapped
+     * to their column names, the id to the vertex id, and the values are converted through the metadata of the
+     * type. The predicate runs as native {@code has(...)} steps, so, unlike {@link #filter(Predicate)}, no vertex is
+     * converted to be tested.
+     *
+     * @param type      the entity type whose attributes the predicate uses
+     * @param predicate the predicate
+     * @param <T>       the entity type
+     * @return a {@link VertexTraversal} with the predicate
+     * @throws NullPointerException when either type or predicate is null
+     */
+    <T> VertexTraversal where(Class<T> type, GraphPredicate predicate);
+
     /**
      * Map the {@link EdgeTraversal} to its outgoing incident edges given the edge labels.
      *
@@ -19,6 +19,7 @@ import jakarta.enterprise.inject.spi.AfterBeanDiscovery;
 import jakarta.enterprise.inject.spi.Extension;
 import jakarta.enterprise.inject.spi.ProcessProducer;
 import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.eclipse.jnosql.communication.query.QueryParsers;
 import org.eclipse.jnosql.mapping.DatabaseMetadata;
 import org.eclipse.jnosql.mapping.Databases;
 import org.eclipse.jnosql.mapping.graph.query.RepositoryGraphBean;
@@ -56,6 +57,9 @@ public class GraphExtension implements Extension {
                 databases.size(), crudTypes.size(), customRepositories.size()));
 
         LOGGER.info("Processing repositories as a Graph implementation: " + crudTypes);
+        if (!crudTypes.isEmpty() || !customRepositories.isEmpty()) {
+            QueryParsers.warmUp();
+        }
         databases.forEach(type -> {
             if (!type.getProvider().isBlank()) {
                 final TemplateBean bean = new TemplateBean(type.getProvider());
@@ -419,11 +419,59 @@ class DefaultGraphDatabaseManagerTest {
         List<CommunicationEntity> entities = entityManager.select(query).toList();
         assertFalse(entities.isEmpty());
         final CommunicationEntity entity = entities.get(0);
-        assertEquals(3, entity.size());
+        assertEquals(2, entity.size());
         SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(entity.name()).isEqualTo(COLLECTION_NAME);
             softly.assertThat(entity.find("name")).isPresent();
             softly.assertThat(entity.find("_id")).isPresent();
-            softly.assertThat(entity.find("city")).isPresent();
+            softly.assertThat(entity.find("city")).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldFindDocumentPage() {
+        entityManager.insert(getEntitiesWithValues());
+
+        SelectQuery query = select().from(COLLECTION_NAME)
+                .where("type").eq("V")
+                .orderBy("age").desc()
+                .skip(1L)
+                .limit(1L)
+                .build();
+
+        List<CommunicationEntity> entitiesFound = entityManager.select(query).toList();
+        assertEquals(1, entitiesFound.size());
+        assertThat(entitiesFound.get(0).find("age", Integer.class)).contains(23);
+    }
+
+    @Test
+    void shouldSortByMoreThanOneProperty() {
+        entityManager.insert(getEntitiesWithValues());
+
+        SelectQuery query = select().from(COLLECTION_NAME)
+                .where("type").eq("V")
+                .orderBy("location").asc()
+                .orderBy("age").desc()
+                .build();
+
+        List<String> names = entityManager.select(query)
+                .map(e -> e.find("name", String.class).orElseThrow())
+                .toList();
+        assertThat(names).containsExactly("Otavio", "Lucas", "Luna");
+    }
+
+    @Test
+    void shouldCountAndExists() {
+        entityManager.insert(getEntitiesWithValues());
+
+        SelectQuery query = select().from(COLLECTION_NAME).where("age").gt(22).build();
+        SelectQuery empty = select().from(COLLECTION_NAME).where("age").gt(100).build();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(entityManager.count(query)).isEqualTo(2L);
+            softly.assertThat(entityManager.exists(query)).isTrue();
+            softly.assertThat(entityManager.count(empty)).isZero();
+            softly.assertThat(entityManager.exists(empty)).isFalse();
         });
     }
 
@@ -16,6 +16,8 @@ package org.eclipse.jnosql.mapping.graph;
 
 import jakarta.data.exceptions.EmptyResultException;
 import jakarta.data.exceptions.NonUniqueResultException;
+import jakarta.data.page.Page;
+import jakarta.data.page.PageRequest;
 import org.eclipse.jnosql.mapping.PreparedStatement;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
@@ -39,6 +41,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static java.util.stream.Collectors.toList;
@@ -310,6 +313,98 @@ public abstract class AbstractGraphTemplateTest {
 
     }
 
+    @Test
+    void shouldStreamEdgesById() {
+        Person otavio = getGraphTemplate().insert(Person.builder().withAge()
+                .withName("Otavio").build());
+        Animal dog = getGraphTemplate().insert(new Animal("dog"));
+        Book cleanCode = getGraphTemplate().insert(Book.builder().withName("Clean code").build());
+
+        EdgeEntity likes = getGraphTemplate().edge(otavio, "likes", dog);
+        EdgeEntity reads = getGraphTemplate().edge(otavio, "reads", cleanCode);
+
+        List<EdgeEntity> edges = getGraphTemplate().edgesStream(otavio.getId(), Direction.OUT).toList();
+        List<EdgeEntity> readEdges = getGraphTemplate().edgesStream(otavio.getId(), Direction.OUT, "reads").toList();
+
+        assertThat(edges).containsExactlyInAnyOrder(likes, reads);
+        assertThat(readEdges).containsExactly(reads);
+        assertEquals(cleanCode, readEdges.get(0).incoming());
+        assertThat(getGraphTemplate().edgesStream(-10L, Direction.BOTH)).isEmpty();
+    }
+
+    @Test
+    void shouldReturnEdgesPage() {
+        Person otavio = getGraphTemplate().insert(Person.builder().withAge()
+                .withName("Otavio").build());
+        Book cleanCode = getGraphTemplate().insert(Book.builder().withName("Clean code").build());
+        Book effectiveJava = getGraphTemplate().insert(Book.builder().withName("Effective Java").build());
+        Book shack = getGraphTemplate().insert(Book.builder().withName("The Shack").build());
+        Animal dog = getGraphTemplate().insert(new Animal("dog"));
+
+        getGraphTemplate().edge(otavio, "reads", cleanCode);
+        getGraphTemplate().edge(otavio, "reads", effectiveJava);
+        getGraphTemplate().edge(otavio, "reads", shack);
+        getGraphTemplate().edge(otavio, "likes", dog);
+
+        Page<EdgeEntity> first = getGraphTemplate().edges(otavio, Direction.OUT, PageRequest.ofSize(2), "reads");
+        Page<EdgeEntity> second = getGraphTemplate().edgesById(otavio.getId(), Direction.OUT,
+                first.nextPageRequest(), "reads");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(first.content()).hasSize(2);
+            soft.assertThat(second.content()).hasSize(1);
+            soft.assertThat(first.content()).doesNotContainAnyElementsOf(second.content());
+            soft.assertThat(first.content()).extracting(EdgeEntity::label).containsOnly("reads");
+            soft.assertThat(first.content().get(0).<Person>outgoing()).isEqualTo(otavio);
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenPageRequestIsNull() {
+        Person otavio = getGraphTemplate().insert(Person.builder().withAge()
+                .withName("Otavio").build());
+        assertThrows(NullPointerException.class, () -> getGraphTemplate().edges(otavio, Direction.OUT,
+                (PageRequest) null));
+        assertThrows(NullPointerException.class, () -> getGraphTemplate().edgesById(otavio.getId(), null,
+                PageRequest.ofSize(2)));
+    }
+
+    @Test
+    void shouldBulkLoad() {
+        Person otavio = Person.builder().withAge().withName("Otavio").build();
+        Person poliana = Person.builder().withAge().withName("Poliana").build();
+        Book cleanCode = Book.builder().withName("Clean code").build();
+        Animal dog = getGraphTemplate().insert(new Animal("dog"));
+
+        GraphBulkLoader.Report report;
+        try (GraphBulkLoader loader = getGraphTemplate().bulk(2)) {
+            loader.vertices(Stream.of(otavio, poliana, cleanCode))
+                    .edges(Stream.of(GraphBulkLoader.Triple.of(otavio, "reads", cleanCode),
+                            GraphBulkLoader.Triple.of(poliana, "reads", cleanCode.getId())))
+                    .edge(otavio, "likes", dog);
+            report = loader.report();
+        }
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(report.vertices()).isEqualTo(3L);
+            soft.assertThat(report.edges()).isEqualTo(3L);
+            soft.assertThat(report.commits()).isEqualTo(3L);
+            soft.assertThat(cleanCode.getId()).isNotNull();
+            soft.assertThat(getGraphTemplate().<Person, Long>find(otavio.getId())).contains(otavio);
+            soft.assertThat(getGraphTemplate().edgesById(cleanCode.getId(), Direction.IN, "reads")).hasSize(2);
+            soft.assertThat(getGraphTemplate().edgesById(dog.getId(), Direction.IN, "likes"))
+                    .extracting(EdgeEntity::<Person>outgoing).containsExactly(otavio);
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenBulkEndpointDoesNotExist() {
+        try (GraphBulkLoader loader = getGraphTemplate().bulk()) {
+            assertThrows(EmptyResultException.class, () -> loader.edge(-10L, "knows", -20L));
+        }
+        assertThrows(IllegalArgumentException.class, () -> getGraphTemplate().bulk(0));
+    }
+
     @Test
     void shouldDeleteEdge() {
         Person otavio = getGraphTemplate().insert(Person.builder().withAge()
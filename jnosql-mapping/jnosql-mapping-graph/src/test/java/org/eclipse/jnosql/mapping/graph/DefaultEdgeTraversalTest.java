@@ -511,6 +511,24 @@ class DefaultEdgeTraversalTest extends AbstractTraversalTest {
         assertEquals(1L, count);
     }
 
+    @Test
+    void shouldReturnErrorWhenGraphPredicateIsNull() {
+        assertThrows(NullPointerException.class, () -> graphTemplate.traversalEdge().where(null));
+    }
+
+    @Test
+    void shouldReturnFromGraphPredicate() {
+        List<EdgeEntity> edges = graphTemplate.traversalEdge()
+                .where(GraphPredicate.attribute("motivation").in(List.of("love", "job")))
+                .result().toList();
+        long count = graphTemplate.traversalEdge()
+                .where(GraphPredicate.attribute("motivation").eq("hobby").negate())
+                .count();
+
+        assertThat(edges).containsExactlyInAnyOrder(reads2, reads3);
+        assertEquals(2L, count);
+    }
+
     @Test
     void shouldDedup() {
 
@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.graph;
+
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Transaction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.semistructured.EntityConverter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DefaultGraphBulkLoaderTest {
+
+    private Graph graph;
+
+    private Transaction transaction;
+
+    private EntityConverter converter;
+
+    private EntitiesMetadata entities;
+
+    @BeforeEach
+    void setUp() {
+        graph = Mockito.mock(Graph.class, Mockito.RETURNS_DEEP_STUBS);
+        transaction = Mockito.mock(Transaction.class);
+        when(graph.features().graph().supportsTransactions()).thenReturn(true);
+        when(graph.tx()).thenReturn(transaction);
+        converter = Mockito.mock(EntityConverter.class);
+        entities = Mockito.mock(EntitiesMetadata.class);
+        EntityMetadata metadata = Mockito.mock(EntityMetadata.class);
+        when(metadata.id()).thenReturn(Optional.empty());
+        when(entities.get(any())).thenReturn(metadata);
+        when(entities.findByClassName(anyString())).thenReturn(Optional.empty());
+        when(converter.toCommunication(any())).thenReturn(CommunicationEntity.of("Person"));
+    }
+
+    @Test
+    void shouldRollbackWhenLoadFails() {
+        Stream<Object> people = Stream.of("Ada").map(name -> {
+            throw new IllegalStateException("The source is not available");
+        });
+        Vertex vertex = vertex(1L);
+        when(graph.addVertex(anyString())).thenReturn(vertex);
+
+        assertThatThrownBy(() -> {
+            try (GraphBulkLoader loader = new DefaultGraphBulkLoader(graph, converter, entities, 10)) {
+                loader.vertices(Stream.of("Grace")).vertices(people);
+            }
+        }).isInstanceOf(IllegalStateException.class);
+
+        verify(transaction).rollback();
+        verify(transaction, never()).commit();
+    }
+
+    @Test
+    void shouldResolveEndpointsAgainAfterCommit() {
+        Vertex vertex = vertex(1L);
+        when(graph.addVertex(anyString())).thenReturn(vertex);
+        when(graph.vertices(1L)).thenAnswer(i -> List.of(vertex).iterator());
+
+        try (GraphBulkLoader loader = new DefaultGraphBulkLoader(graph, converter, entities, 1)) {
+            loader.vertices(Stream.of("Ada")).edge(1L, "knows", 1L);
+        }
+
+        verify(graph, times(1)).vertices(1L);
+        verify(vertex).addEdge("knows", vertex);
+        verify(transaction, times(2)).commit();
+        verify(transaction, never()).rollback();
+    }
+
+    private static Vertex vertex(Object id) {
+        Vertex vertex = Mockito.mock(Vertex.class);
+        when(vertex.id()).thenReturn(id);
+        return vertex;
+    }
+}
@@ -490,6 +490,53 @@ class DefaultVertexTraversalTest extends AbstractTraversalTest {
         assertEquals(3L, count);
     }
 
+    @Test
+    void shouldReturnErrorWhenGraphPredicateIsNull() {
+        assertThrows(NullPointerException.class, () -> graphTemplate.traversalVertex().where(Person.class, null));
+        assertThrows(NullPointerException.class, () -> graphTemplate.traversalVertex()
+                .where(null, GraphPredicate.attribute("age").gt(21)));
+    }
+
+    @Test
+    void shouldFilterWithGraphPredicate() {
+        List<Person> people = graphTemplate.traversalVertex()
+                .hasLabel(Person.class)
+                .where(Person.class, GraphPredicate.attribute("age").gt(26))
+                .<Person>result().toList();
+
+        assertThat(people).containsExactlyInAnyOrder(otavio, paulo);
+    }
+
+    @Test
+    void shouldFilterWithGraphPredicateOnColumnName() {
+        Optional<Person> person = graphTemplate.traversalVertex()
+                .where(Person.class, GraphPredicate.attribute("id").eq(poliana.getId()))
+                .next();
+
+        assertThat(person).contains(poliana);
+    }
+
+    @Test
+    void shouldFilterWithGraphPredicateOnVertexId() {
+        List<Person> people = graphTemplate.traversalVertex()
+                .where(Person.class, GraphPredicate.attribute("id").in(List.of(otavio.getId(), paulo.getId())))
+                .<Person>result().toList();
+
+        assertThat(people).containsExactlyInAnyOrder(otavio, paulo);
+    }
+
+    @Test
+    void shouldCombineGraphPredicates() {
+        GraphPredicate names = GraphPredicate.attribute("name").eq("Otavio")
+                .or(GraphPredicate.attribute("name").eq("Paulo"));
+        long count = graphTemplate.traversalVertex()
+                .hasLabel(Person.class)
+                .where(Person.class, names.and(GraphPredicate.attribute("age").between(20, 30).negate()))
+                .count();
+
+        assertEquals(1L, count);
+    }
+
     @Test
     void shouldDedup() {
 
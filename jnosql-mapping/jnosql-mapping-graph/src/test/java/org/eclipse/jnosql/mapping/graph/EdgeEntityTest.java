@@ -16,6 +16,7 @@ package org.eclipse.jnosql.mapping.graph;
 
 import jakarta.data.exceptions.EmptyResultException;
 import jakarta.inject.Inject;
+import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.semistructured.Element;
 import org.eclipse.jnosql.mapping.core.Converters;
@@ -31,6 +32,7 @@ import org.jboss.weld.junit5.auto.EnableAutoWeld;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -38,6 +40,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -350,6 +353,37 @@ class EdgeEntityTest {
         graphTemplate.deleteEdge(edge.id());
     }
 
+    @Test
+    void shouldLoadEndpointsOnDemand() {
+        Person person = graphTemplate.insert(Person.builder().withName("Poliana").withAge().build());
+        Book book = graphTemplate.insert(Book.builder().withAge(2007).withName("The Shack").build());
+        EdgeEntity edge = graphTemplate.edge(person, "reads", book);
+
+        EdgeEntity found = graphTemplate.edge(edge.id()).orElseThrow();
+
+        assertEquals(book, found.incoming());
+        assertEquals(person, found.outgoing());
+        assertSame(found.<Book>incoming(), found.incoming());
+        assertSame(found.<Person>outgoing(), found.outgoing());
+        graphTemplate.deleteEdge(edge.id());
+    }
+
+    @Test
+    void shouldShareEndpointsOfAPage() {
+        Person person = graphTemplate.insert(Person.builder().withName("Poliana").withAge().build());
+        Book shack = graphTemplate.insert(Book.builder().withAge(2007).withName("The Shack").build());
+        Book code = graphTemplate.insert(Book.builder().withAge(2008).withName("Clean Code").build());
+        graphTemplate.edge(person, "reads", shack);
+        graphTemplate.edge(person, "reads", code);
+
+        List<EdgeEntity> edges = List.copyOf(graphTemplate.edgesById(person.getId(), Direction.OUT, "reads"));
+
+        assertEquals(2, edges.size());
+        assertEquals(person, edges.get(0).outgoing());
+        assertSame(edges.get(0).<Person>outgoing(), edges.get(1).outgoing());
+        assertThat(edges.stream().map(EdgeEntity::<Book>incoming).toList()).containsExactlyInAnyOrder(shack, code);
+    }
+
     @Test
     void shouldNotFindAnEdge() {
         Optional<EdgeEntity> edgeEntity = graphTemplate.edge(-12L);
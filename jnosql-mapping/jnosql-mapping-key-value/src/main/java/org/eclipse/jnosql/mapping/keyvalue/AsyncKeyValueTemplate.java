@@ -0,0 +1,132 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import org.eclipse.jnosql.mapping.core.async.AsyncExecutor;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * The asynchronous counterpart of {@link KeyValueTemplate}, so a request might fan out several independent
+ * lookups and join them. Each method runs the blocking {@link KeyValueTemplate} operation on an
+ * {@link AsyncExecutor}, which bounds the calls running at the same time.
+ *
+ * <pre>{@code
+ * AsyncKeyValueTemplate async = AsyncKeyValueTemplate.of(template, executor);
+ * CompletionStage<Optional<User>> user = async.get("ada", User.class);
+ * CompletionStage<Optional<Cart>> cart = async.get("ada-cart", Cart.class);
+ * }</pre>
+ */
+public interface AsyncKeyValueTemplate {
+
+    /**
+     * Saves an entity.
+     *
+     * @param entity the entity
+     * @param <T>    the entity type
+     * @return the stage with the saved entity
+     * @throws NullPointerException when entity is null
+     */
+    <T> CompletionStage<T> put(T entity);
+
+    /**
+     * Saves an entity with time to live.
+     *
+     * @param entity the entity
+     * @param ttl    the time to live
+     * @param <T>    the entity type
+     * @return the stage with the saved entity
+     * @throws NullPointerException when either entity or ttl is null
+     */
+    <T> CompletionStage<T> put(T entity, Duration ttl);
+
+    /**
+     * Saves the entities.
+     *
+     * @param entities the entities
+     * @param <T>      the entity type
+     * @return the stage with the saved entities
+     * @throws NullPointerException when entities is null
+     */
+    <T> CompletionStage<Iterable<T>> put(Iterable<T> entities);
+
+    /**
+     * Finds the value associated with a key.
+     *
+     * @param key  the key
+     * @param type the entity class to convert the result
+     * @param <K>  the key type
+     * @param <T>  the entity type
+     * @return the stage with the value, if found
+     * @throws NullPointerException when either key or type is null
+     */
+    <K, T> CompletionStage<Optional<T>> get(K key, Class<T> type);
+
+    /**
+     * Finds the values associated with the keys.
+     *
+     * @param keys the keys
+     * @param type the entity class to convert the result
+     * @param <K>  the key type
+     * @param <T>  the entity type
+     * @return the stage with the values found
+     * @throws NullPointerException when either keys or type is null
+     */
+    <K, T> CompletionStage<Iterable<T>> get(Iterable<K> keys, Class<T> type);
+
+    /**
+     * Removes the entity associated with the key.
+     *
+     * @param key the key
+     * @param <K> the key type
+     * @return the stage completed when the entity is removed
+     * @throws NullPointerException when key is null
+     */
+    <K> CompletionStage<Void> delete(K key);
+
+    /**
+     * Removes the entities associated with the keys.
+     *
+     * @param keys the keys
+     * @param <K>  the key type
+     * @return the stage completed when the entities are removed
+     * @throws NullPointerException when keys is null
+     */
+    <K> CompletionStage<Void> delete(Iterable<K> keys);
+
+    /**
+     * Returns the blocking template used by this instance.
+     *
+     * @return the {@link KeyValueTemplate}
+     */
+    KeyValueTemplate template();
+
+    /**
+     * Creates an {@link AsyncKeyValueTemplate} that runs the template calls on the executor.
+     *
+     * @param template the blocking template
+     * @param executor the executor
+     * @return a new {@link AsyncKeyValueTemplate}
+     * @throws NullPointerException when either template or executor is null
+     */
+    static AsyncKeyValueTemplate of(KeyValueTemplate template, AsyncExecutor executor) {
+        Objects.requireNonNull(template, "template is required");
+        Objects.requireNonNull(executor, "executor is required");
+        return new DefaultAsyncKeyValueTemplate(template, executor);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.keyvalue;
+
+import org.eclipse.jnosql.mapping.core.async.AsyncExecutor;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+import static java.util.Objects.requireNonNull;
+
+final class DefaultAsyncKeyValueTemplate implements AsyncKeyValueTemplate {
+
+    private final KeyValueTemplate template;
+
+    private final AsyncExecutor executor;
+
+    DefaultAsyncKeyValueTemplate(KeyValueTemplate template, AsyncExecutor executor) {
+        this.template = template;
+        this.executor = executor;
+    }
+
+    @Override
+    public <T> CompletionStage<T> put(T entity) {
+        requireNonNull(entity, "entity is required");
+        return executor.supply(() -> template.put(entity));
+    }
+
+    @Override
+    public <T> CompletionStage<T> put(T entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        return executor.supply(() -> template.put(entity, ttl));
+    }
+
+    @Override
+    public <T> CompletionStage<Iterable<T>> put(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        return executor.supply(() -> template.put(entities));
+    }
+
+    @Override
+    public <K, T> CompletionStage<Optional<T>> get(K key, Class<T> type) {
+        requireNonNull(key, "key is required");
+        requireNonNull(type, "type is required");
+        return executor.supply(() -> template.get(key, type));
+    }
+
+    @Override
+    public <K, T> CompletionStage<Iterable<T>> get(Iterable<K> keys, Class<T> type) {
+        requireNonNull(keys, "keys is required");
+        requireNonNull(type, "type is required");
+        return executor.supply(() -> template.get(keys, type));
+    }
+
+    @Override
+    public <K> CompletionStage<Void> delete(K key) {
+        requireNonNull(key, "key is required");
+        return executor.run(() -> template.delete(key));
+    }
+
+    @Override
+    public <K> CompletionStage<Void> delete(Iterable<K> keys) {
+        requireNonNull(keys, "keys is required");
+        return executor.run(() -> template.delete(keys));
+    }
+
+    @Override
+    public KeyValueTemplate template() {
+        return template;
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultAsyncKeyValueTemplate{" +
+                "template=" + template +
+                ", executor=" + executor +
+                '}';
+    }
+}
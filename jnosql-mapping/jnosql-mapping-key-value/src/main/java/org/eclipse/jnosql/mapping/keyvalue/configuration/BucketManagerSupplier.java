@@ -18,7 +18,9 @@ import jakarta.data.exceptions.MappingException;
 import org.eclipse.jnosql.communication.Settings;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.BucketManagerFactory;
+import org.eclipse.jnosql.communication.keyvalue.InstrumentedBucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueConfiguration;
+import org.eclipse.jnosql.communication.metrics.DatabaseMetrics;
 import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
 import org.eclipse.jnosql.mapping.reflection.Reflections;
 
@@ -63,7 +65,7 @@ class BucketManagerSupplier implements Supplier<BucketManager> {
         LOGGER.log(Level.FINEST, "Starting  a BucketManager instance using Eclipse MicroProfile Config," +
                 " database name: " + db);
 
-        return manager;
+        return InstrumentedBucketManager.of(manager, DatabaseMetrics.getMetrics(), settings);
     }
 
     public void close(@Disposes BucketManager manager) {
@@ -102,6 +102,42 @@ abstract class AbstractFieldMetadata implements FieldMetadata {
         this.writer.write(bean, value);
     }
 
+    @Override
+    public Value readValue(Object bean) {
+        Objects.requireNonNull(bean, "bean is required");
+        if (!type.isPrimitive() || converter != null) {
+            return Value.of(this.reader.read(bean));
+        } else if (long.class.equals(type)) {
+            return Value.ofLong(this.reader.readLong(bean));
+        } else if (double.class.equals(type)) {
+            return Value.ofDouble(this.reader.readDouble(bean));
+        } else if (int.class.equals(type)) {
+            return Value.ofInt(this.reader.readInt(bean));
+        } else if (boolean.class.equals(type)) {
+            return Value.ofBoolean(this.reader.readBoolean(bean));
+        }
+        return Value.of(this.reader.read(bean));
+    }
+
+    @Override
+    public void writeValue(Object bean, Value value) {
+        Objects.requireNonNull(bean, "bean is required");
+        Objects.requireNonNull(value, "value is required");
+        if (!type.isPrimitive() || value.isNull() || converter != null) {
+            this.writer.write(bean, value(value));
+        } else if (long.class.equals(type)) {
+            this.writer.writeLong(bean, value.getAsLong());
+        } else if (double.class.equals(type)) {
+            this.writer.writeDouble(bean, value.getAsDouble());
+        } else if (int.class.equals(type)) {
+            this.writer.writeInt(bean, value.getAsInt());
+        } else if (boolean.class.equals(type)) {
+            this.writer.writeBoolean(bean, value.getAsBoolean());
+        } else {
+            this.writer.write(bean, value(value));
+        }
+    }
+
     @Override
     public Class<?> type() {
         return this.type;
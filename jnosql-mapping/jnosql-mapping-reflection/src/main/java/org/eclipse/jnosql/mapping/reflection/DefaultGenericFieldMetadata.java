@@ -15,6 +15,8 @@
 package org.eclipse.jnosql.mapping.reflection;
 
 import jakarta.nosql.Entity;
+import org.eclipse.jnosql.communication.TypeReferenceReader;
+import org.eclipse.jnosql.communication.TypeReferenceReaderDecorator;
 import org.eclipse.jnosql.communication.TypeSupplier;
 import org.eclipse.jnosql.communication.Value;
 import jakarta.nosql.AttributeConverter;
@@ -25,29 +27,58 @@ import org.eclipse.jnosql.mapping.metadata.MappingType;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.ServiceLoader;
+import java.util.function.Supplier;
 
+/**
+ * The {@link GenericFieldMetadata} of a collection or map field. The element type, the embeddable flag, the
+ * collection factory and the {@link TypeReferenceReader} are resolved once, when the metadata is built, so reading
+ * a row does neither inspect the generic type nor look up a service.
+ */
 final class DefaultGenericFieldMetadata  extends AbstractFieldMetadata implements GenericFieldMetadata {
 
+    private static final List<CollectionSupplier<?>> COLLECTION_SUPPLIERS = ServiceLoader
+            .load(CollectionSupplier.class)
+            .stream()
+            .map(ServiceLoader.Provider::get)
+            .<CollectionSupplier<?>>map(CollectionSupplier.class::cast)
+            .toList();
+
     private final TypeSupplier<?> typeSupplier;
 
+    private final Class<?> elementType;
+
+    private final boolean embeddable;
+
+    private final Supplier<Collection<?>> collectionFactory;
+
+    private final TypeReferenceReader reader;
+
     DefaultGenericFieldMetadata(MappingType type, Field field, String name, TypeSupplier<?> typeSupplier,
                          Class<? extends AttributeConverter<?, ?>> converter,
                                 FieldReader reader, FieldWriter writer, String udt) {
         super(type, field, name, converter, reader, writer, udt);
         this.typeSupplier = typeSupplier;
+        this.elementType = elementType(field);
+        this.embeddable = elementType.getAnnotation(Embeddable.class) != null
+                || elementType.getAnnotation(Entity.class) != null;
+        this.collectionFactory = collectionFactory(field.getType());
+        this.reader = TypeReferenceReaderDecorator.getInstance().reader(typeSupplier).orElse(null);
     }
 
     @Override
     public Object value(Value value) {
-        if(value.get() instanceof Iterable) {
-            return value.get(typeSupplier);
-        } else {
-            return Value.of(Collections.singletonList(value.get())).get(typeSupplier);
+        Object item = value.get();
+        Object values = item instanceof Iterable ? item : Collections.singletonList(item);
+        if (reader == null) {
+            return Value.of(values).get(typeSupplier);
         }
+        return reader.convert(typeSupplier, values);
     }
 
     @Override
@@ -77,42 +108,17 @@ final class DefaultGenericFieldMetadata  extends AbstractFieldMetadata implement
 
     @Override
     public boolean isEmbeddable() {
-        return isEmbeddableField() || isEntityField();
-    }
-
-    private boolean isEntityField() {
-        return hasFieldAnnotation(Entity.class);
-    }
-
-    private boolean isEmbeddableField() {
-        return hasFieldAnnotation(Embeddable.class);
-    }
-
-    private boolean hasFieldAnnotation(Class<?> annotation) {
-        return ((Class) ((ParameterizedType) this.field
-                .getGenericType())
-                .getActualTypeArguments()[0])
-                .getAnnotation(annotation) != null;
+        return embeddable;
     }
 
     @Override
     public Class<?> elementType() {
-        return (Class<?>) ((ParameterizedType) this.field
-                .getGenericType())
-                .getActualTypeArguments()[0];
+        return elementType;
     }
 
     @Override
     public Collection<?> collectionInstance() {
-        Class<?> type = type();
-        final CollectionSupplier supplier =  ServiceLoader.load(CollectionSupplier.class)
-                .stream()
-                .map(ServiceLoader.Provider::get)
-                .map(CollectionSupplier.class::cast)
-                .filter(c -> c.test(type))
-                .findFirst()
-                .orElseThrow(() -> new UnsupportedOperationException("This collection is not supported yet: " + type));
-        return (Collection<?>) supplier.get();
+        return collectionFactory.get();
     }
 
     @Override
@@ -125,4 +131,27 @@ final class DefaultGenericFieldMetadata  extends AbstractFieldMetadata implement
                 ", converter=" + converter +
                 '}';
     }
+
+    private static Class<?> elementType(Field field) {
+        if (field.getGenericType() instanceof ParameterizedType parameterized) {
+            Type argument = parameterized.getActualTypeArguments()[0];
+            if (argument instanceof Class<?> type) {
+                return type;
+            } else if (argument instanceof ParameterizedType type) {
+                return (Class<?>) type.getRawType();
+            }
+        }
+        return Object.class;
+    }
+
+    private static Supplier<Collection<?>> collectionFactory(Class<?> type) {
+        for (CollectionSupplier<?> supplier : COLLECTION_SUPPLIERS) {
+            if (supplier.test(type)) {
+                return supplier::get;
+            }
+        }
+        return () -> {
+            throw new UnsupportedOperationException("This collection is not supported yet: " + type);
+        };
+    }
 }
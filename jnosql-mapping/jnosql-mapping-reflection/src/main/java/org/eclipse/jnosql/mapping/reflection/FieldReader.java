@@ -29,4 +29,48 @@ public interface FieldReader {
      * @throws NullPointerException when bean is null
      */
     Object read(Object bean);
+
+    /**
+     * Reads a {@code long} field. By default, it calls {@link FieldReader#read(Object)} and unboxes the value.
+     *
+     * @param bean the entity that has the field
+     * @return the field value from the entity
+     * @throws NullPointerException when bean is null
+     */
+    default long readLong(Object bean) {
+        return ((Number) read(bean)).longValue();
+    }
+
+    /**
+     * Reads a {@code double} field. By default, it calls {@link FieldReader#read(Object)} and unboxes the value.
+     *
+     * @param bean the entity that has the field
+     * @return the field value from the entity
+     * @throws NullPointerException when bean is null
+     */
+    default double readDouble(Object bean) {
+        return ((Number) read(bean)).doubleValue();
+    }
+
+    /**
+     * Reads an {@code int} field. By default, it calls {@link FieldReader#read(Object)} and unboxes the value.
+     *
+     * @param bean the entity that has the field
+     * @return the field value from the entity
+     * @throws NullPointerException when bean is null
+     */
+    default int readInt(Object bean) {
+        return ((Number) read(bean)).intValue();
+    }
+
+    /**
+     * Reads a {@code boolean} field. By default, it calls {@link FieldReader#read(Object)} and unboxes the value.
+     *
+     * @param bean the entity that has the field
+     * @return the field value from the entity
+     * @throws NullPointerException when bean is null
+     */
+    default boolean readBoolean(Object bean) {
+        return (Boolean) read(bean);
+    }
 }
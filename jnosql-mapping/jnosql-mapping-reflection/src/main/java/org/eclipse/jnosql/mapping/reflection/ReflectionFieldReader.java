@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import java.lang.reflect.Field;
+
+/**
+ * The {@link FieldReader} of a {@link Field}, which gets a primitive field through its primitive getter, e.g.,
+ * {@link Field#getLong(Object)}, so the value is never boxed. When the primitive getter fails, it falls back to
+ * {@link Reflections#getValue(Object, Field)}.
+ */
+record ReflectionFieldReader(Reflections reflections, Field field) implements FieldReader {
+
+    @Override
+    public Object read(Object bean) {
+        return reflections.getValue(bean, field);
+    }
+
+    @Override
+    public long readLong(Object bean) {
+        try {
+            return field.getLong(bean);
+        } catch (IllegalAccessException | IllegalArgumentException exception) {
+            return FieldReader.super.readLong(bean);
+        }
+    }
+
+    @Override
+    public double readDouble(Object bean) {
+        try {
+            return field.getDouble(bean);
+        } catch (IllegalAccessException | IllegalArgumentException exception) {
+            return FieldReader.super.readDouble(bean);
+        }
+    }
+
+    @Override
+    public int readInt(Object bean) {
+        try {
+            return field.getInt(bean);
+        } catch (IllegalAccessException | IllegalArgumentException exception) {
+            return FieldReader.super.readInt(bean);
+        }
+    }
+
+    @Override
+    public boolean readBoolean(Object bean) {
+        try {
+            return field.getBoolean(bean);
+        } catch (IllegalAccessException | IllegalArgumentException exception) {
+            return FieldReader.super.readBoolean(bean);
+        }
+    }
+}
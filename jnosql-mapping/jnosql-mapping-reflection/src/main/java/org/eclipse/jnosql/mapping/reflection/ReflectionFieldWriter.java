@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import java.lang.reflect.Field;
+
+/**
+ * The {@link FieldWriter} of a {@link Field}, which sets a primitive field through its primitive setter, e.g.,
+ * {@link Field#setLong(Object, long)}, so the value is never boxed. When the primitive setter fails, e.g., the
+ * field is of another primitive type, it falls back to {@link Reflections#setValue(Object, Field, Object)}.
+ */
+record ReflectionFieldWriter(Reflections reflections, Field field) implements FieldWriter {
+
+    @Override
+    public void write(Object bean, Object value) {
+        reflections.setValue(bean, field, value);
+    }
+
+    @Override
+    public void writeLong(Object bean, long value) {
+        try {
+            field.setLong(bean, value);
+        } catch (IllegalAccessException | IllegalArgumentException exception) {
+            write(bean, value);
+        }
+    }
+
+    @Override
+    public void writeDouble(Object bean, double value) {
+        try {
+            field.setDouble(bean, value);
+        } catch (IllegalAccessException | IllegalArgumentException exception) {
+            write(bean, value);
+        }
+    }
+
+    @Override
+    public void writeInt(Object bean, int value) {
+        try {
+            field.setInt(bean, value);
+        } catch (IllegalAccessException | IllegalArgumentException exception) {
+            write(bean, value);
+        }
+    }
+
+    @Override
+    public void writeBoolean(Object bean, boolean value) {
+        try {
+            field.setBoolean(bean, value);
+        } catch (IllegalAccessException | IllegalArgumentException exception) {
+            write(bean, value);
+        }
+    }
+}
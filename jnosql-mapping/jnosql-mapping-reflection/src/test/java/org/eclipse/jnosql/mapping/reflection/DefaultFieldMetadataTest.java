@@ -17,6 +17,7 @@ package org.eclipse.jnosql.mapping.reflection;
 import org.assertj.core.api.Assertions;
 import jakarta.nosql.AttributeConverter;
 import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.mapping.metadata.ClassConverter;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
@@ -92,4 +93,39 @@ class DefaultFieldMetadataTest {
         });
     }
 
+    @Test
+    void shouldWritePrimitiveValue() {
+        EntityMetadata entityMetadata = converter.apply(Person.class);
+        Person person = entityMetadata.newInstance();
+        FieldMetadata id = entityMetadata.fieldMapping("id").orElseThrow();
+        FieldMetadata age = entityMetadata.fieldMapping("age").orElseThrow();
+
+        id.writeValue(person, Value.ofLong(10L));
+        age.writeValue(person, Value.of("36"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(person.getId()).isEqualTo(10L);
+            soft.assertThat(person.getAge()).isEqualTo(36);
+        });
+        age.writeValue(person, Value.ofLong(40L));
+        assertThat(person.getAge()).isEqualTo(40);
+    }
+
+    @Test
+    void shouldReadPrimitiveValue() {
+        EntityMetadata entityMetadata = converter.apply(Person.class);
+        Person person = entityMetadata.newInstance();
+        FieldMetadata id = entityMetadata.fieldMapping("id").orElseThrow();
+        FieldMetadata age = entityMetadata.fieldMapping("age").orElseThrow();
+        FieldMetadata name = entityMetadata.fieldMapping("name").orElseThrow();
+        id.writeValue(person, Value.ofLong(10L));
+        age.writeValue(person, Value.ofInt(36));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(id.readValue(person)).isInstanceOf(Value.ofLong(0L).getClass()).isEqualTo(Value.of(10L));
+            soft.assertThat(age.readValue(person)).isInstanceOf(Value.ofInt(0).getClass()).isEqualTo(Value.of(36));
+            soft.assertThat(name.readValue(person).isNull()).isTrue();
+        });
+    }
+
 }
@@ -20,6 +20,8 @@ import org.eclipse.jnosql.mapping.metadata.ClassConverter;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 import org.eclipse.jnosql.mapping.metadata.GenericFieldMetadata;
+import org.eclipse.jnosql.mapping.reflection.entities.AppointmentBook;
+import org.eclipse.jnosql.mapping.reflection.entities.Contact;
 import org.eclipse.jnosql.mapping.reflection.entities.Person;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,6 +30,7 @@ import java.util.Collection;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
 
 class DefaultGenericFieldMetaDataTest {
@@ -79,4 +82,29 @@ class DefaultGenericFieldMetaDataTest {
     void shouldNewConverter(){
         assertThat(fieldMetadata.newConverter()).isNotNull().isEmpty();
     }
+
+    @Test
+    void shouldValueFromSingleElement(){
+        Object value = fieldMetadata.value(Value.of("Ada"));
+        assertThat(value).isInstanceOf(List.class).asList().containsExactly("Ada");
+    }
+
+    @Test
+    void shouldCreateNewCollectionInstance(){
+        Collection<?> first = this.fieldMetadata.collectionInstance();
+        Collection<?> second = this.fieldMetadata.collectionInstance();
+        assertThat(first).isNotSameAs(second).isEmpty();
+    }
+
+    @Test
+    void shouldResolveEmbeddableElement(){
+        ClassConverter converter = new ReflectionClassConverter();
+        GenericFieldMetadata contacts = (GenericFieldMetadata) converter.apply(AppointmentBook.class)
+                .fieldMapping("contacts").orElseThrow();
+        assertSoftly(softly -> {
+            softly.assertThat(contacts.isEmbeddable()).isTrue();
+            softly.assertThat(contacts.elementType()).isEqualTo(Contact.class);
+            softly.assertThat(fieldMetadata.isEmbeddable()).isFalse();
+        });
+    }
 }
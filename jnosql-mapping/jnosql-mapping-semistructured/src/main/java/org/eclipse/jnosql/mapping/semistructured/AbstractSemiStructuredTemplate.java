@@ -28,7 +28,9 @@ import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.QueryParser;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
 import org.eclipse.jnosql.mapping.IdNotFoundException;
+import org.eclipse.jnosql.mapping.metadata.ClassInformationNotFoundException;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
@@ -38,8 +40,10 @@ import org.eclipse.jnosql.mapping.metadata.InheritanceMetadata;
 import java.time.Duration;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
@@ -97,6 +101,19 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
 
     private CommunicationObserverParser observer;
 
+    private final ThreadLocal<DefaultTemplateSession> session = new ThreadLocal<>();
+
+    /**
+     * The projection mappers of each projection class, by entity name; a {@link ClassValue} does not keep the
+     * projection class from being unloaded.
+     */
+    private final ClassValue<Map<String, ProjectionMapper<?>>> projections = new ClassValue<>() {
+        @Override
+        protected Map<String, ProjectionMapper<?>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
 
     private CommunicationObserverParser getObserver() {
         if (Objects.isNull(observer)) {
@@ -105,10 +122,25 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
         return observer;
     }
 
+    /**
+     * Returns the pipeline that converts the query results, configured by the
+     * {@link org.eclipse.jnosql.mapping.core.config.MappingConfigurations#CONVERSION_PARALLELISM} property and shared
+     * by the templates. While a {@link TemplateSession} is open, the conversion stays on the caller thread, where
+     * the session lives.
+     *
+     * @return the conversion pipeline
+     */
+    ConversionPipeline pipeline() {
+        if (hasSession()) {
+            return ConversionPipeline.sequential();
+        }
+        return ConversionPipeline.shared(MicroProfileSettings.INSTANCE);
+    }
+
     @Override
     public <T> T insert(T entity) {
         requireNonNull(entity, "entity is required");
-        return persist(entity, insert);
+        return register(persist(entity, insert));
     }
 
 
@@ -116,13 +148,17 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
     public <T> T insert(T entity, Duration ttl) {
         requireNonNull(entity, "entity is required");
         requireNonNull(ttl, "ttl is required");
-        return persist(entity, e -> manager().insert(e, ttl));
+        return register(persist(entity, e -> manager().insert(e, ttl)));
     }
 
 
     @Override
     public <T> T update(T entity) {
         requireNonNull(entity, "entity is required");
+        DefaultTemplateSession current = session.get();
+        if (current != null && current.update(entity)) {
+            return entity;
+        }
         return persist(entity, update);
     }
 
@@ -152,7 +188,9 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
     @Override
     public void delete(DeleteQuery query) {
         requireNonNull(query, "query is required");
-        manager().delete(query);
+        flushSession();
+        manager().delete(DeleteQuery.normalize(query));
+        evictSession(query.name());
     }
 
 
@@ -162,30 +200,42 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
         return executeQuery(query);
     }
 
+    @Override
+    public <T> Stream<T> select(SelectQuery query, Class<T> projection) {
+        requireNonNull(query, "query is required");
+        requireNonNull(projection, "projection is required");
+        ProjectionMapper<T> mapper = projection(query.name(), projection);
+        flushSession();
+        Stream<CommunicationEntity> entities = manager().select(mapper.select(SelectQuery.normalize(query)));
+        return pipeline().apply(entities, mapper);
+    }
+
     @Override
     public long count(SelectQuery query) {
-        return manager().count(query);
+        flushSession();
+        return manager().count(keyed(SelectQuery.normalize(query)));
     }
 
     @Override
     public boolean exists(SelectQuery query) {
-        return manager().exists(query);
+        flushSession();
+        return manager().exists(keyed(SelectQuery.normalize(query)));
     }
 
     @Override
     public <T> Optional<T> singleResult(SelectQuery query) {
         requireNonNull(query, "query is required");
-        final Stream<T> select = select(query);
-
-        final Iterator<T> iterator = select.iterator();
+        try (Stream<T> select = select(query)) {
+            final Iterator<T> iterator = select.iterator();
 
-        if (!iterator.hasNext()) {
-            return Optional.empty();
-        }
-        final T entity = iterator.next();
+            if (!iterator.hasNext()) {
+                return Optional.empty();
+            }
+            final T entity = iterator.next();
 
-        if (!iterator.hasNext()) {
-            return Optional.of(entity);
+            if (!iterator.hasNext()) {
+                return Optional.of(entity);
+            }
         }
         throw new NonUniqueResultException("No Unique result found to the query: " + query);
     }
@@ -199,10 +249,21 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
                 .orElseThrow(() -> IdNotFoundException.newInstance(type));
 
         Object value = ConverterUtil.getValue(id, entityMetadata, idField.fieldName(), converters());
+        DefaultTemplateSession current = session.get();
+        if (current != null) {
+            Optional<T> entity = current.find(type, entityMetadata.name(), value);
+            if (entity.isPresent()) {
+                return entity;
+            }
+        }
         SelectQuery query = SelectQuery.select().from(entityMetadata.name())
                 .where(idField.name()).eq(value).build();
 
-        return singleResult(query);
+        Optional<T> entity = singleResult(query);
+        if (current != null) {
+            entity.ifPresent(e -> current.register(entityMetadata.name(), value, e));
+        }
+        return entity;
     }
 
     @Override
@@ -214,6 +275,10 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
         FieldMetadata idField = entityMetadata.id()
                 .orElseThrow(() -> IdNotFoundException.newInstance(type));
         Object value = ConverterUtil.getValue(id, entityMetadata, idField.fieldName(), converters());
+        DefaultTemplateSession current = session.get();
+        if (current != null) {
+            current.evict(entityMetadata.name(), value);
+        }
 
         DeleteQuery query = DeleteQuery.delete().from(entityMetadata.name())
                 .where(idField.name()).eq(value).build();
@@ -224,14 +289,14 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
     @Override
     public <T> Stream<T> query(String query) {
         requireNonNull(query, "query is required");
-        return PARSER.query(query, null, manager(), getObserver()).map(c -> converter().toEntity(c));
+        return executeQuery(query, null);
     }
 
     @Override
     public <T> Stream<T> query(String query, String entity) {
         requireNonNull(query, "query is required");
         requireNonNull(entity, "entity is required");
-        return PARSER.query(query, entity, manager(), getObserver()).map(c -> converter().toEntity(c));
+        return executeQuery(query, entity);
     }
 
     @Override
@@ -247,31 +312,41 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
         } else {
             entities = query(query, entityName);
         }
-        final Iterator<T> iterator = entities.iterator();
+        try (entities) {
+            final Iterator<T> iterator = entities.iterator();
 
-        if (!iterator.hasNext()) {
-            return Optional.empty();
-        }
-        final T entity = iterator.next();
-        if (!iterator.hasNext()) {
-            return Optional.of(entity);
+            if (!iterator.hasNext()) {
+                return Optional.empty();
+            }
+            final T entity = iterator.next();
+            if (!iterator.hasNext()) {
+                return Optional.of(entity);
+            }
         }
         throw new NonUniqueResultException("No unique result found to the query: " + query);
     }
 
     @Override
     public org.eclipse.jnosql.mapping.PreparedStatement prepare(String query) {
-        return new PreparedStatement(PARSER.prepare(query, null, manager(), getObserver()), converter());
+        return prepare(query, null);
     }
 
     @Override
     public org.eclipse.jnosql.mapping.PreparedStatement prepare(String query, String entity) {
-        return new PreparedStatement(PARSER.prepare(query, entity, manager(), getObserver()), converter());
+        var observer = new EntityObserver(getObserver());
+        var prepare = PARSER.prepare(query, entity, manager(), observer);
+        prepare.setCountMapper(this::keyed);
+        return new PreparedStatement(prepare, converter(), this::flushSession, () -> {
+            if (prepare.select().isEmpty()) {
+                evictSession(observer.entity);
+            }
+        });
     }
 
 
     @Override
     public long count(String entity) {
+        flushSession();
         return manager().count(entity);
     }
 
@@ -279,14 +354,105 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
     @Override
     public <T> long count(Class<T> type) {
         requireNonNull(type, "entity class is required");
-        return manager().count(findAllQuery(type));
+        flushSession();
+        return manager().count(keyed(findAllQuery(type)));
+    }
+
+    @Override
+    public TemplateSession session() {
+        if (session.get() != null) {
+            throw new IllegalStateException("There is already an open session in the current thread");
+        }
+        DefaultTemplateSession current = new DefaultTemplateSession(this, session::remove);
+        session.set(current);
+        return current;
+    }
+
+    /**
+     * Checks whether the current thread has an open {@link TemplateSession}.
+     *
+     * @return true when a session is open in the current thread
+     */
+    boolean hasSession() {
+        return session.get() != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ProjectionMapper<T> projection(String entity, Class<T> projection) {
+        return (ProjectionMapper<T>) projections.get(projection).computeIfAbsent(entity,
+                k -> ProjectionMapper.of(projection, findByName(entity), converters()));
+    }
+
+    /**
+     * Returns the query given to a count or exists, with the id column as its {@link SelectQuery#keys()}: the
+     * default {@link DatabaseManager#count(SelectQuery)} then fetches only the id, while a driver that counts
+     * natively receives the query unchanged.
+     */
+    private SelectQuery keyed(SelectQuery query) {
+        return key(query).map(k -> SelectQuery.withKeys(query, k)).orElse(query);
+    }
+
+    /**
+     * Returns the id column of the entity of the query, when the query does not select any column.
+     */
+    private Optional<String> key(SelectQuery query) {
+        if (!query.columns().isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(findByName(query.name()))
+                .flatMap(EntityMetadata::id)
+                .map(FieldMetadata::name);
+    }
+
+    private EntityMetadata findByName(String entity) {
+        try {
+            return entities().findByName(entity);
+        } catch (ClassInformationNotFoundException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Runs a query in the JDQL text form. An update or delete runs at once, so it evicts the entities of its type from
+     * the session, that may no longer match the database.
+     */
+    private <T> Stream<T> executeQuery(String query, String entity) {
+        flushSession();
+        var observer = new EntityObserver(getObserver());
+        var prepare = PARSER.prepare(query, entity, manager(), observer);
+        Optional<SelectQuery> select = prepare.select();
+        select.ifPresent(AbstractSemiStructuredTemplate::requireEntityQuery);
+        // the prepared statement does not run a count query, so it runs as the parser does
+        Stream<CommunicationEntity> entities = select.filter(SelectQuery::isCount).isPresent()
+                ? PARSER.query(query, entity, manager(), observer) : prepare.result();
+        if (select.isEmpty()) {
+            evictSession(observer.entity);
+        }
+        return entities.map(c -> converter().toEntity(c));
     }
 
     private <T> Stream<T> executeQuery(SelectQuery query) {
         requireNonNull(query, "query is required");
-        Stream<CommunicationEntity> entities = manager().select(query);
+        requireEntityQuery(query);
+        flushSession();
+        Stream<CommunicationEntity> entities = manager().select(SelectQuery.normalize(query));
         Function<CommunicationEntity, T> function = e -> converter().toEntity(e);
-        return entities.map(function).peek(eventManager()::firePostEntity);
+        return pipeline().apply(entities, function).peek(eventManager()::firePostEntity);
+    }
+
+    /**
+     * Checks that the query returns entities: the rows of an aggregate query have the group by columns and a column
+     * per aggregate, which the converter would drop, so they are read through
+     * {@link DatabaseManager#aggregate(SelectQuery)} instead.
+     *
+     * @param query the query
+     * @throws UnsupportedOperationException when the query is an aggregate query
+     */
+    static void requireEntityQuery(SelectQuery query) {
+        if (query.isAggregate()) {
+            throw new UnsupportedOperationException("The aggregate query does not return entities, "
+                    + "run it through DatabaseManager#aggregate to read its rows: " + query);
+        }
     }
 
     @Override
@@ -313,6 +479,8 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
     public <T> void deleteAll(Class<T> type) {
         Objects.requireNonNull(type, "type is required");
         EntityMetadata metadata = entities().get(type);
+        flushSession();
+        evictSession(metadata.name());
         if(metadata.inheritance().isPresent()){
             InheritanceMetadata inheritanceMetadata = metadata.inheritance().orElseThrow();
             if(!inheritanceMetadata.parent().equals(metadata.type())){
@@ -329,7 +497,9 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
     public <T> CursoredPage<T> selectCursor(SelectQuery query, PageRequest pageRequest){
         Objects.requireNonNull(query, "query is required");
         Objects.requireNonNull(pageRequest, "pageRequest is required");
-        CursoredPage<CommunicationEntity> cursoredPage = this.manager().selectCursor(query, pageRequest);
+        flushSession();
+        CursoredPage<CommunicationEntity> cursoredPage = this.manager().selectCursor(SelectQuery.normalize(query),
+                pageRequest);
         List<T> entities = cursoredPage.stream().<T>map(c -> converter().toEntity(c)).toList();
         PageRequest nextPageRequest = cursoredPage.hasNext()? cursoredPage.nextPageRequest() : null;
         PageRequest beforePageRequest = cursoredPage.hasPrevious()? cursoredPage.previousPageRequest() : null;
@@ -348,6 +518,49 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
                 .orElseThrow();
     }
 
+    /**
+     * Updates the entities with a single call to {@link DatabaseManager#update(Iterable)}, and applies the returned
+     * entities back to them, as {@link #update(Object)} does.
+     * It is used by the {@link TemplateSession} to flush its pending updates.
+     *
+     * @param entities the entities to update
+     */
+    void flush(List<Object> entities) {
+        List<CommunicationEntity> communications = entities.stream()
+                .map(toUnary(eventManager()::firePreEntity))
+                .map(converter()::toCommunication)
+                .toList();
+        Iterator<CommunicationEntity> updated = manager().update(communications).iterator();
+        for (Object entity : entities) {
+            if (updated.hasNext()) {
+                converter().toEntity(entity, updated.next());
+            }
+            eventManager().firePostEntity(entity);
+        }
+    }
+
+    private <T> T register(T entity) {
+        DefaultTemplateSession current = session.get();
+        if (current != null) {
+            current.register(entity);
+        }
+        return entity;
+    }
+
+    private void flushSession() {
+        DefaultTemplateSession current = session.get();
+        if (current != null) {
+            current.flush();
+        }
+    }
+
+    private void evictSession(String entity) {
+        DefaultTemplateSession current = session.get();
+        if (current != null && entity != null) {
+            current.evict(entity);
+        }
+    }
+
     private <T> UnaryOperator<T> toUnary(Consumer<T> consumer) {
         return t -> {
             consumer.accept(t);
@@ -367,4 +580,29 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
         }
         return SelectQuery.select().from(metadata.name()).build();
     }
+
+    /**
+     * Keeps the entity name of the parsed query, as mapped by the wrapped observer.
+     */
+    private static final class EntityObserver implements CommunicationObserverParser {
+
+        private final CommunicationObserverParser observer;
+
+        private String entity;
+
+        private EntityObserver(CommunicationObserverParser observer) {
+            this.observer = observer;
+        }
+
+        @Override
+        public String fireEntity(String entity) {
+            this.entity = observer.fireEntity(entity);
+            return this.entity;
+        }
+
+        @Override
+        public String fireField(String entity, String field) {
+            return observer.fireField(entity, field);
+        }
+    }
 }
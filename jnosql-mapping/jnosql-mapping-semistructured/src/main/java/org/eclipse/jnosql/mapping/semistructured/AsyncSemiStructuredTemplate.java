@@ -0,0 +1,208 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.mapping.core.async.AsyncExecutor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * The asynchronous counterpart of {@link SemiStructuredTemplate}, so a request might fan out several independent
+ * calls and join them. Each method runs the blocking {@link SemiStructuredTemplate} operation on an
+ * {@link AsyncExecutor}, which bounds the calls running at the same time.
+ *
+ * <pre>{@code
+ * AsyncSemiStructuredTemplate async = AsyncSemiStructuredTemplate.of(template, executor);
+ * CompletionStage<Optional<Person>> person = async.find(Person.class, id);
+ * CompletionStage<List<Order>> orders = async.select(query);
+ * person.thenCombine(orders, Profile::new);
+ * }</pre>
+ *
+ * <p>The queries are fully read at the executor, so the stages complete with a {@link List} instead of a lazy
+ * stream. A {@link TemplateSession} is bound to a thread, so it does not apply to these calls: the executor would
+ * neither see the pending updates nor the identity map of the session. Thus, every method throws an
+ * {@link IllegalStateException} when the calling thread has an open session.</p>
+ */
+public interface AsyncSemiStructuredTemplate {
+
+    /**
+     * Inserts an entity.
+     *
+     * @param entity the entity
+     * @param <T>    the entity type
+     * @return the stage with the inserted entity
+     * @throws NullPointerException when entity is null
+     */
+    <T> CompletionStage<T> insert(T entity);
+
+    /**
+     * Inserts an entity with time to live.
+     *
+     * @param entity the entity
+     * @param ttl    the time to live
+     * @param <T>    the entity type
+     * @return the stage with the inserted entity
+     * @throws NullPointerException when either entity or ttl is null
+     */
+    <T> CompletionStage<T> insert(T entity, Duration ttl);
+
+    /**
+     * Inserts the entities.
+     *
+     * @param entities the entities
+     * @param <T>      the entity type
+     * @return the stage with the inserted entities
+     * @throws NullPointerException when entities is null
+     */
+    <T> CompletionStage<Iterable<T>> insert(Iterable<T> entities);
+
+    /**
+     * Updates an entity.
+     *
+     * @param entity the entity
+     * @param <T>    the entity type
+     * @return the stage with the updated entity
+     * @throws NullPointerException when entity is null
+     */
+    <T> CompletionStage<T> update(T entity);
+
+    /**
+     * Updates the entities.
+     *
+     * @param entities the entities
+     * @param <T>      the entity type
+     * @return the stage with the updated entities
+     * @throws NullPointerException when entities is null
+     */
+    <T> CompletionStage<Iterable<T>> update(Iterable<T> entities);
+
+    /**
+     * Finds an entity by id.
+     *
+     * @param type the entity type
+     * @param id   the id
+     * @param <T>  the entity type
+     * @param <K>  the id type
+     * @return the stage with the entity, if found
+     * @throws NullPointerException when either type or id is null
+     */
+    <T, K> CompletionStage<Optional<T>> find(Class<T> type, K id);
+
+    /**
+     * Deletes an entity by id.
+     *
+     * @param type the entity type
+     * @param id   the id
+     * @param <T>  the entity type
+     * @param <K>  the id type
+     * @return the stage completed when the entity is deleted
+     * @throws NullPointerException when either type or id is null
+     */
+    <T, K> CompletionStage<Void> delete(Class<T> type, K id);
+
+    /**
+     * Deletes the entities that match the query.
+     *
+     * @param query the query
+     * @return the stage completed when the entities are deleted
+     * @throws NullPointerException when query is null
+     */
+    CompletionStage<Void> delete(DeleteQuery query);
+
+    /**
+     * Executes the query and reads all its results.
+     *
+     * @param query the query
+     * @param <T>   the entity type
+     * @return the stage with the results
+     * @throws NullPointerException when query is null
+     */
+    <T> CompletionStage<List<T>> select(SelectQuery query);
+
+    /**
+     * Executes the query expecting a single result.
+     *
+     * @param query the query
+     * @param <T>   the entity type
+     * @return the stage with the result, if found
+     * @throws NullPointerException when query is null
+     */
+    <T> CompletionStage<Optional<T>> singleResult(SelectQuery query);
+
+    /**
+     * Executes a query as text and reads all its results.
+     *
+     * @param query the query
+     * @param <T>   the entity type
+     * @return the stage with the results
+     * @throws NullPointerException when query is null
+     */
+    <T> CompletionStage<List<T>> query(String query);
+
+    /**
+     * Counts the entities that match the query.
+     *
+     * @param query the query
+     * @return the stage with the number of entities
+     * @throws NullPointerException when query is null
+     */
+    CompletionStage<Long> count(SelectQuery query);
+
+    /**
+     * Counts all the entities of a type.
+     *
+     * @param type the entity type
+     * @param <T>  the entity type
+     * @return the stage with the number of entities
+     * @throws NullPointerException when type is null
+     */
+    <T> CompletionStage<Long> count(Class<T> type);
+
+    /**
+     * Checks whether any entity matches the query.
+     *
+     * @param query the query
+     * @return the stage with true when there is at least one entity
+     * @throws NullPointerException when query is null
+     */
+    CompletionStage<Boolean> exists(SelectQuery query);
+
+    /**
+     * Returns the blocking template used by this instance.
+     *
+     * @return the {@link SemiStructuredTemplate}
+     */
+    SemiStructuredTemplate template();
+
+    /**
+     * Creates an {@link AsyncSemiStructuredTemplate} that runs the template calls on the executor.
+     *
+     * @param template the blocking template
+     * @param executor the executor
+     * @return a new {@link AsyncSemiStructuredTemplate}
+     * @throws NullPointerException when either template or executor is null
+     */
+    static AsyncSemiStructuredTemplate of(SemiStructuredTemplate template, AsyncExecutor executor) {
+        Objects.requireNonNull(template, "template is required");
+        Objects.requireNonNull(executor, "executor is required");
+        return new DefaultAsyncSemiStructuredTemplate(template, executor);
+    }
+}
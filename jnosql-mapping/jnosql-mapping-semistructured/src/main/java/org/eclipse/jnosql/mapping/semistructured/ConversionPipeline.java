@@ -0,0 +1,228 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.CONVERSION_BATCH_SIZE;
+import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.CONVERSION_PARALLELISM;
+
+/**
+ * Converts the results of a query into entities. By default, each result is converted on the caller thread as it
+ * is read. With a parallelism higher than one, the caller thread reads the results from the driver in batches
+ * and hands each batch to a {@link ForkJoinPool}, so the driver iteration and the conversion overlap.
+ *
+ * <p>At most two batches per thread are in flight, so the memory stays bounded whatever the result size, and the
+ * batches are consumed in the order they were read, so the order of a sorted query is kept.</p>
+ *
+ * <p>The conversion then runs on the threads of the pool, where the request scoped beans a converter depends on are
+ * not active, so the templates keep it on the caller thread while a {@link TemplateSession} is open.</p>
+ *
+ * <p>The templates share one pipeline, {@link #shared(Settings)}, which {@link ConversionPipelineLifecycle} closes
+ * when the application shuts down; any other parallel pipeline owns its pool, so it should be closed once it is no
+ * longer used.</p>
+ */
+final class ConversionPipeline {
+
+    private static final int DEFAULT_BATCH_SIZE = 64;
+
+    private static final ConversionPipeline SEQUENTIAL = new ConversionPipeline(1, DEFAULT_BATCH_SIZE, null);
+
+    private static final Object LOCK = new Object();
+
+    private static volatile ConversionPipeline shared;
+
+    private final int parallelism;
+
+    private final int batchSize;
+
+    private final ExecutorService executor;
+
+    private ConversionPipeline(int parallelism, int batchSize, ExecutorService executor) {
+        this.parallelism = parallelism;
+        this.batchSize = batchSize;
+        this.executor = executor;
+    }
+
+    <T> Stream<T> apply(Stream<CommunicationEntity> entities, Function<CommunicationEntity, T> converter) {
+        if (executor == null) {
+            return entities.map(converter);
+        }
+        var iterator = new ConversionIterator<>(entities, converter);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(iterator::close);
+    }
+
+    /**
+     * Shuts down the pool of a parallel pipeline; the conversions already running are completed.
+     */
+    void close() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    int parallelism() {
+        return parallelism;
+    }
+
+    int batchSize() {
+        return batchSize;
+    }
+
+    static ConversionPipeline sequential() {
+        return SEQUENTIAL;
+    }
+
+    static ConversionPipeline of(int parallelism, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be positive, value: " + batchSize);
+        }
+        if (parallelism <= 1) {
+            return SEQUENTIAL;
+        }
+        return new ConversionPipeline(parallelism, batchSize, new ForkJoinPool(parallelism));
+    }
+
+    static ConversionPipeline of(Settings settings) {
+        int parallelism = settings.get(CONVERSION_PARALLELISM, Integer.class).orElse(1);
+        int batchSize = settings.get(CONVERSION_BATCH_SIZE, Integer.class).orElse(DEFAULT_BATCH_SIZE);
+        return of(parallelism, batchSize);
+    }
+
+    /**
+     * Returns the pipeline shared by the templates, created from the settings on the first call after either the
+     * start or {@link #closeShared()}.
+     */
+    static ConversionPipeline shared(Settings settings) {
+        ConversionPipeline current = shared;
+        if (current == null) {
+            synchronized (LOCK) {
+                current = shared;
+                if (current == null) {
+                    current = of(settings);
+                    shared = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Closes the shared pipeline, if any; the next {@link #shared(Settings)} call creates a new one.
+     */
+    static void closeShared() {
+        synchronized (LOCK) {
+            if (shared != null) {
+                shared.close();
+                shared = null;
+            }
+        }
+    }
+
+    private final class ConversionIterator<T> implements Iterator<T> {
+
+        private final Stream<CommunicationEntity> entities;
+
+        private final Iterator<CommunicationEntity> source;
+
+        private final Function<CommunicationEntity, T> converter;
+
+        private final Deque<CompletableFuture<List<T>>> window = new ArrayDeque<>();
+
+        private Iterator<T> current = Collections.emptyIterator();
+
+        private ConversionIterator(Stream<CommunicationEntity> entities, Function<CommunicationEntity, T> converter) {
+            this.entities = entities;
+            this.source = entities.iterator();
+            this.converter = converter;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext()) {
+                fill();
+                CompletableFuture<List<T>> next = window.poll();
+                if (next == null) {
+                    return false;
+                }
+                current = join(next).iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There is no more entity in the result");
+            }
+            return current.next();
+        }
+
+        private void fill() {
+            while (window.size() < parallelism * 2 && source.hasNext()) {
+                List<CommunicationEntity> batch = new ArrayList<>(batchSize);
+                while (batch.size() < batchSize && source.hasNext()) {
+                    batch.add(source.next());
+                }
+                window.add(CompletableFuture.supplyAsync(() -> convert(batch), executor));
+            }
+        }
+
+        private List<T> convert(List<CommunicationEntity> batch) {
+            List<T> result = new ArrayList<>(batch.size());
+            for (CommunicationEntity entity : batch) {
+                result.add(converter.apply(entity));
+            }
+            return result;
+        }
+
+        private List<T> join(CompletableFuture<List<T>> future) {
+            try {
+                return future.join();
+            } catch (CompletionException exception) {
+                close();
+                if (exception.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw exception;
+            }
+        }
+
+        private void close() {
+            window.forEach(f -> f.cancel(false));
+            window.clear();
+            entities.close();
+        }
+    }
+}
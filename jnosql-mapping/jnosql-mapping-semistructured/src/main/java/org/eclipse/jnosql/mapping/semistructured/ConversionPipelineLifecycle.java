@@ -0,0 +1,32 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.BeforeDestroyed;
+import jakarta.enterprise.event.Observes;
+
+/**
+ * Owns the {@link ConversionPipeline#shared(org.eclipse.jnosql.communication.Settings) shared conversion pipeline}:
+ * the templates that the producers create are not beans, so the container never destroys them, and the pool is
+ * closed with the application instead.
+ */
+@ApplicationScoped
+class ConversionPipelineLifecycle {
+
+    void close(@Observes @BeforeDestroyed(ApplicationScoped.class) Object event) {
+        ConversionPipeline.closeShared();
+    }
+}
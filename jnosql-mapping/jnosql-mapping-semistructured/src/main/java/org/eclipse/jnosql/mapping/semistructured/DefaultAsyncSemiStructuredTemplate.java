@@ -0,0 +1,168 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.mapping.core.async.AsyncExecutor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+final class DefaultAsyncSemiStructuredTemplate implements AsyncSemiStructuredTemplate {
+
+    private final SemiStructuredTemplate template;
+
+    private final AsyncExecutor executor;
+
+    DefaultAsyncSemiStructuredTemplate(SemiStructuredTemplate template, AsyncExecutor executor) {
+        this.template = template;
+        this.executor = executor;
+    }
+
+    @Override
+    public <T> CompletionStage<T> insert(T entity) {
+        requireNonNull(entity, "entity is required");
+        checkSession();
+        return executor.supply(() -> template.insert(entity));
+    }
+
+    @Override
+    public <T> CompletionStage<T> insert(T entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        checkSession();
+        return executor.supply(() -> template.insert(entity, ttl));
+    }
+
+    @Override
+    public <T> CompletionStage<Iterable<T>> insert(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        checkSession();
+        return executor.supply(() -> template.insert(entities));
+    }
+
+    @Override
+    public <T> CompletionStage<T> update(T entity) {
+        requireNonNull(entity, "entity is required");
+        checkSession();
+        return executor.supply(() -> template.update(entity));
+    }
+
+    @Override
+    public <T> CompletionStage<Iterable<T>> update(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        checkSession();
+        return executor.supply(() -> template.update(entities));
+    }
+
+    @Override
+    public <T, K> CompletionStage<Optional<T>> find(Class<T> type, K id) {
+        requireNonNull(type, "type is required");
+        requireNonNull(id, "id is required");
+        checkSession();
+        return executor.supply(() -> template.find(type, id));
+    }
+
+    @Override
+    public <T, K> CompletionStage<Void> delete(Class<T> type, K id) {
+        requireNonNull(type, "type is required");
+        requireNonNull(id, "id is required");
+        checkSession();
+        return executor.run(() -> template.delete(type, id));
+    }
+
+    @Override
+    public CompletionStage<Void> delete(DeleteQuery query) {
+        requireNonNull(query, "query is required");
+        checkSession();
+        return executor.run(() -> template.delete(query));
+    }
+
+    @Override
+    public <T> CompletionStage<List<T>> select(SelectQuery query) {
+        requireNonNull(query, "query is required");
+        checkSession();
+        return executor.supply(() -> {
+            try (Stream<T> entities = template.select(query)) {
+                return entities.toList();
+            }
+        });
+    }
+
+    @Override
+    public <T> CompletionStage<Optional<T>> singleResult(SelectQuery query) {
+        requireNonNull(query, "query is required");
+        checkSession();
+        return executor.supply(() -> template.singleResult(query));
+    }
+
+    @Override
+    public <T> CompletionStage<List<T>> query(String query) {
+        requireNonNull(query, "query is required");
+        checkSession();
+        return executor.supply(() -> {
+            try (Stream<T> entities = template.query(query)) {
+                return entities.toList();
+            }
+        });
+    }
+
+    @Override
+    public CompletionStage<Long> count(SelectQuery query) {
+        requireNonNull(query, "query is required");
+        checkSession();
+        return executor.supply(() -> template.count(query));
+    }
+
+    @Override
+    public <T> CompletionStage<Long> count(Class<T> type) {
+        requireNonNull(type, "type is required");
+        checkSession();
+        return executor.supply(() -> template.count(type));
+    }
+
+    @Override
+    public CompletionStage<Boolean> exists(SelectQuery query) {
+        requireNonNull(query, "query is required");
+        checkSession();
+        return executor.supply(() -> template.exists(query));
+    }
+
+    @Override
+    public SemiStructuredTemplate template() {
+        return template;
+    }
+
+    private void checkSession() {
+        if (template instanceof AbstractSemiStructuredTemplate blocking && blocking.hasSession()) {
+            throw new IllegalStateException("The asynchronous calls run outside the session open in the current "
+                    + "thread; close the session before calling the asynchronous template");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultAsyncSemiStructuredTemplate{" +
+                "template=" + template +
+                ", executor=" + executor +
+                '}';
+    }
+}
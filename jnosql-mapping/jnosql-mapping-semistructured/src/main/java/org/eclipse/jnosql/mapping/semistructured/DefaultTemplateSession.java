@@ -0,0 +1,142 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import org.eclipse.jnosql.mapping.core.util.ConverterUtil;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The {@link TemplateSession} used by {@link AbstractSemiStructuredTemplate}. The identity map is keyed by the
+ * entity name and the id in the database format, so the same entity is found whatever the id type used in
+ * the {@code find} call.
+ */
+final class DefaultTemplateSession implements TemplateSession {
+
+    private final AbstractSemiStructuredTemplate template;
+
+    private final Runnable unbind;
+
+    private final Map<EntityKey, Object> entities = new HashMap<>();
+
+    private final Map<EntityKey, Object> updates = new LinkedHashMap<>();
+
+    DefaultTemplateSession(AbstractSemiStructuredTemplate template, Runnable unbind) {
+        this.template = template;
+        this.unbind = unbind;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> Optional<T> find(Class<T> type, String entity, Object id) {
+        Object value = entities.get(new EntityKey(entity, id));
+        if (type.isInstance(value)) {
+            return Optional.of((T) value);
+        }
+        return Optional.empty();
+    }
+
+    void register(String entity, Object id, Object value) {
+        entities.put(new EntityKey(entity, id), value);
+    }
+
+    void register(Object value) {
+        key(value).ifPresent(k -> entities.put(k, value));
+    }
+
+    boolean update(Object value) {
+        Optional<EntityKey> key = key(value);
+        key.ifPresent(k -> {
+            entities.put(k, value);
+            updates.put(k, value);
+        });
+        return key.isPresent();
+    }
+
+    void evict(String entity, Object id) {
+        EntityKey key = new EntityKey(entity, id);
+        entities.remove(key);
+        updates.remove(key);
+    }
+
+    void evict(String entity) {
+        entities.keySet().removeIf(k -> k.entity().equals(entity));
+        updates.keySet().removeIf(k -> k.entity().equals(entity));
+    }
+
+    @Override
+    public void flush() {
+        if (updates.isEmpty()) {
+            return;
+        }
+        List<Object> pending = new ArrayList<>(updates.values());
+        updates.clear();
+        template.flush(pending);
+    }
+
+    @Override
+    public void clear() {
+        entities.clear();
+        updates.clear();
+    }
+
+    @Override
+    public boolean contains(Class<?> type, Object id) {
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(id, "id is required");
+        EntityMetadata metadata = template.entities().get(type);
+        return metadata.id()
+                .map(f -> ConverterUtil.getValue(id, metadata, f.fieldName(), template.converters()))
+                .map(v -> entities.get(new EntityKey(metadata.name(), v)))
+                .filter(type::isInstance)
+                .isPresent();
+    }
+
+    @Override
+    public int size() {
+        return entities.size();
+    }
+
+    @Override
+    public void close() {
+        try {
+            flush();
+        } finally {
+            clear();
+            unbind.run();
+        }
+    }
+
+    private Optional<EntityKey> key(Object value) {
+        EntityMetadata metadata = template.entities().get(value.getClass());
+        Optional<FieldMetadata> idField = metadata.id();
+        if (idField.isEmpty()) {
+            return Optional.empty();
+        }
+        FieldMetadata field = idField.get();
+        Object id = field.read(value);
+        if (id == null) {
+            return Optional.empty();
+        }
+        Object databaseId = ConverterUtil.getValue(id, metadata, field.fieldName(), template.converters());
+        return Optional.of(new EntityKey(metadata.name(), databaseId));
+    }
+
+    private record EntityKey(String entity, Object id) {
+    }
+}
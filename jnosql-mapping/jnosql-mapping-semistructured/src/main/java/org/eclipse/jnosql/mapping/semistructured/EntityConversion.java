@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import org.eclipse.jnosql.communication.metrics.FlightRecorderEvents;
+
+/**
+ * A started conversion by the {@link EntityConverter}, recorded as an {@link EntityConversionEvent} when the JDK
+ * Flight Recorder is available. This type does not depend on the {@code jdk.jfr} module.
+ */
+interface EntityConversion {
+
+    String TO_ENTITY = "toEntity";
+
+    String TO_COMMUNICATION = "toCommunication";
+
+    EntityConversion NONE = (direction, entity, fields) -> {
+    };
+
+    void commit(String direction, String entity, int fields);
+
+    static EntityConversion start() {
+        return FlightRecorderEvents.isAvailable() ? EntityConversionEvent.start() : NONE;
+    }
+}
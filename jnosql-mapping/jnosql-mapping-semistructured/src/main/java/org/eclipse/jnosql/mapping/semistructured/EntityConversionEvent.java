@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The JDK Flight Recorder event of a conversion by the {@link EntityConverter}, either from an entity to a
+ * {@link org.eclipse.jnosql.communication.semistructured.CommunicationEntity} or the other way around. It is started
+ * through {@link EntityConversion#start()}, so this class is never loaded when the {@code jdk.jfr} module is missing.
+ */
+@Name(EntityConversionEvent.NAME)
+@Label("Entity Conversion")
+@Category({"Eclipse JNoSQL", "Mapping"})
+@Description("The conversion between an entity and a communication entity")
+@StackTrace(false)
+final class EntityConversionEvent extends Event implements EntityConversion {
+
+    static final String NAME = "org.eclipse.jnosql.EntityConversion";
+
+    @Label("Direction")
+    private String direction;
+
+    @Label("Entity")
+    private String entity;
+
+    @Label("Fields")
+    @Description("The number of elements of the communication entity")
+    private int fields;
+
+    @Override
+    public void commit(String direction, String entity, int fields) {
+        if (shouldCommit()) {
+            this.direction = direction;
+            this.entity = entity;
+            this.fields = fields;
+            commit();
+        }
+    }
+
+    static EntityConversionEvent start() {
+        EntityConversionEvent event = new EntityConversionEvent();
+        event.begin();
+        return event;
+    }
+}
@@ -69,16 +69,17 @@ public abstract class EntityConverter {
      */
     public CommunicationEntity toCommunication(Object entity) {
         requireNonNull(entity, "entity is required");
+        EntityConversion event = EntityConversion.start();
         EntityMetadata mapping = entities().get(entity.getClass());
         CommunicationEntity communication = CommunicationEntity.of(mapping.name());
         mapping.fields().stream()
-                .map(f -> to(f, entity))
-                .map(f -> f.toElements(this, converters()))
+                .map(f -> toElements(f, entity))
                 .flatMap(List::stream)
                 .forEach(communication::add);
 
         mapping.inheritance().ifPresent(i -> communication.add(i.discriminatorColumn(),
                 i.discriminatorValue()));
+        event.commit(EntityConversion.TO_COMMUNICATION, communication.name(), communication.size());
         return communication;
     }
 
@@ -94,7 +95,10 @@ public abstract class EntityConverter {
     public <T> T toEntity(Class<T> type, CommunicationEntity entity) {
         requireNonNull(entity, "entity is required");
         requireNonNull(type, "type is required");
-        return toEntity(type, entity.elements());
+        EntityConversion event = EntityConversion.start();
+        T value = toEntity(type, entity.elements());
+        event.commit(EntityConversion.TO_ENTITY, entity.name(), entity.size());
+        return value;
     }
 
     /**
@@ -112,11 +116,16 @@ public abstract class EntityConverter {
         requireNonNull(entity, "entity is required");
         requireNonNull(type, "type is required");
 
+        EntityConversion event = EntityConversion.start();
+        T value;
         if (type.getClass().isRecord()) {
-            return (T) toEntity(type.getClass(), entity.elements());
+            value = (T) toEntity(type.getClass(), entity.elements());
+        } else {
+            EntityMetadata mapping = entities().get(type.getClass());
+            value = convertEntity(entity.elements(), mapping, type);
         }
-        EntityMetadata mapping = entities().get(type.getClass());
-        return convertEntity(entity.elements(), mapping, type);
+        event.commit(EntityConversion.TO_ENTITY, entity.name(), entity.size());
+        return value;
     }
 
     /**
@@ -129,17 +138,31 @@ public abstract class EntityConverter {
      */
     public <T> T toEntity(CommunicationEntity entity) {
         requireNonNull(entity, "entity is required");
+        EntityConversion event = EntityConversion.start();
         EntityMetadata mapping = entities().findByName(entity.name());
+        T value;
         if (mapping.isInheritance()) {
-            return mapInheritanceEntity(entity, mapping.type());
-        }
-        ConstructorMetadata constructor = mapping.constructor();
-        if (constructor.isDefault()) {
+            value = mapInheritanceEntity(entity, mapping.type());
+        } else if (mapping.constructor().isDefault()) {
             T instance = mapping.newInstance();
-            return convertEntity(entity.elements(), mapping, instance);
+            value = convertEntity(entity.elements(), mapping, instance);
         } else {
-            return convertEntityByConstructor(entity.elements(), mapping);
+            value = convertEntityByConstructor(entity.elements(), mapping);
+        }
+        event.commit(EntityConversion.TO_ENTITY, entity.name(), entity.size());
+        return value;
+    }
+
+    /**
+     * The elements of a field; a primitive field without a converter becomes a single element that holds the
+     * primitive value, e.g., {@link org.eclipse.jnosql.communication.Value#ofLong(long)}, read without boxing.
+     */
+    private List<Element> toElements(FieldMetadata field, Object entity) {
+        if (MappingType.DEFAULT.equals(field.mappingType()) && field.type().isPrimitive()
+                && field.converter().isEmpty()) {
+            return List.of(Element.of(field.name(), field.readValue(entity)));
         }
+        return to(field, entity).toElements(this, converters());
     }
 
     protected AttributeFieldValue to(FieldMetadata field, Object entity) {
@@ -37,10 +37,27 @@ public final class PreparedStatement implements org.eclipse.jnosql.mapping.Prepa
 
     private final EntityConverter converter;
 
+    private final Runnable beforeExecution;
+
+    private final Runnable afterExecution;
+
     PreparedStatement(org.eclipse.jnosql.communication.semistructured.CommunicationPreparedStatement preparedStatement,
                       EntityConverter converter) {
+        this(preparedStatement, converter, () -> {}, () -> {});
+    }
+
+    /**
+     * @param beforeExecution runs before the statement, e.g. to flush the pending updates of a
+     *                        {@link TemplateSession}
+     * @param afterExecution  runs after the statement, e.g. to evict from the session the entities an update or
+     *                        delete changed
+     */
+    PreparedStatement(org.eclipse.jnosql.communication.semistructured.CommunicationPreparedStatement preparedStatement,
+                      EntityConverter converter, Runnable beforeExecution, Runnable afterExecution) {
         this.preparedStatement = preparedStatement;
         this.converter = converter;
+        this.beforeExecution = beforeExecution;
+        this.afterExecution = afterExecution;
     }
 
     @Override
@@ -49,19 +66,33 @@ public final class PreparedStatement implements org.eclipse.jnosql.mapping.Prepa
         return this;
     }
 
+    /**
+     * @throws UnsupportedOperationException when the query is an aggregate query, whose rows are not entities
+     */
     @Override
     public <T> Stream<T> result() {
-        return preparedStatement.result().map(converter::toEntity);
+        selectQuery().ifPresent(AbstractSemiStructuredTemplate::requireEntityQuery);
+        beforeExecution.run();
+        Stream<CommunicationEntity> result = preparedStatement.result();
+        afterExecution.run();
+        return result.map(converter::toEntity);
     }
 
+    /**
+     * @throws UnsupportedOperationException when the query is an aggregate query, whose rows are not entities
+     */
     @Override
     public <T> Optional<T> singleResult() {
+        selectQuery().ifPresent(AbstractSemiStructuredTemplate::requireEntityQuery);
+        beforeExecution.run();
         Optional<CommunicationEntity> singleResult = preparedStatement.singleResult();
+        afterExecution.run();
         return singleResult.map(converter::toEntity);
     }
 
     @Override
     public long count() {
+        beforeExecution.run();
         return preparedStatement.count();
     }
 
@@ -70,6 +101,19 @@ public final class PreparedStatement implements org.eclipse.jnosql.mapping.Prepa
         return selectQuery().map(SelectQuery::isCount).orElse(false);
     }
 
+    @Override
+    public boolean isUpdate() {
+        return preparedStatement.isUpdate();
+    }
+
+    @Override
+    public long executeUpdate() {
+        beforeExecution.run();
+        long updated = preparedStatement.executeUpdate();
+        afterExecution.run();
+        return updated;
+    }
+
     /**
      * Optionally returns the underlying {@link SelectQuery} associated with this PreparedStatement,
      * if applicable.
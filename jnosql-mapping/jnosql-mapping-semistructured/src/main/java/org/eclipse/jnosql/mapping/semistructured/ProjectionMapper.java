@@ -0,0 +1,291 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import jakarta.data.Sort;
+import jakarta.data.exceptions.MappingException;
+import jakarta.nosql.AttributeConverter;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+import org.eclipse.jnosql.mapping.metadata.MappingType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Builds a projection, either a Java record or an interface with getters, directly from the elements of a
+ * {@link CommunicationEntity}, without converting the whole entity first.
+ *
+ * <p>Each record component, or getter, is matched by name to a field of the entity: its column is the one
+ * selected from the database, and its {@link AttributeConverter}, if any, is applied. A component without a
+ * matching field reads the column of the same name. The mapper is built once per entity and projection: the
+ * record constructor is resolved as a {@link MethodHandle} that takes the values in component order.</p>
+ *
+ * @param <T> the projection type
+ */
+final class ProjectionMapper<T> implements Function<CommunicationEntity, T> {
+
+    private static final Map<Class<?>, Object> PRIMITIVE_DEFAULTS = Map.of(boolean.class, false,
+            byte.class, (byte) 0, short.class, (short) 0, char.class, '\u0000', int.class, 0,
+            long.class, 0L, float.class, 0F, double.class, 0D);
+
+    private final Class<T> type;
+
+    private final List<Property> properties;
+
+    private final List<String> columns;
+
+    private final Function<Object[], T> factory;
+
+    private ProjectionMapper(Class<T> type, List<Property> properties, Function<Object[], T> factory) {
+        this.type = type;
+        this.properties = properties;
+        this.columns = properties.stream().map(Property::column).toList();
+        this.factory = factory;
+    }
+
+    @Override
+    public T apply(CommunicationEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        Object[] values = new Object[properties.size()];
+        for (int index = 0; index < values.length; index++) {
+            Property property = properties.get(index);
+            values[index] = entity.find(property.column()).map(property::value).orElseGet(property::empty);
+        }
+        return factory.apply(values);
+    }
+
+    /**
+     * Returns the query with only the projection columns selected.
+     *
+     * @param query the query
+     * @return the query that selects the projection columns
+     */
+    SelectQuery select(SelectQuery query) {
+        return new ProjectionQuery(query, columns);
+    }
+
+    List<String> columns() {
+        return columns;
+    }
+
+    @Override
+    public String toString() {
+        return "ProjectionMapper{" +
+                "type=" + type.getName() +
+                ", columns=" + columns +
+                '}';
+    }
+
+    /**
+     * Creates the mapper of the projection type.
+     *
+     * @param type       the record or interface type
+     * @param metadata   the entity metadata, it might be null when the query entity is not mapped
+     * @param converters the converters
+     * @param <T>        the projection type
+     * @return a new {@link ProjectionMapper} instance
+     * @throws MappingException when the type is neither a record nor an interface with getters
+     */
+    static <T> ProjectionMapper<T> of(Class<T> type, EntityMetadata metadata, Converters converters) {
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(converters, "converters is required");
+        if (type.isRecord()) {
+            return record(type, metadata, converters);
+        } else if (type.isInterface()) {
+            return proxy(type, metadata, converters);
+        }
+        throw new MappingException("The projection must be either a record or an interface: " + type.getName());
+    }
+
+    private static <T> ProjectionMapper<T> record(Class<T> type, EntityMetadata metadata, Converters converters) {
+        RecordComponent[] components = type.getRecordComponents();
+        List<Property> properties = new ArrayList<>(components.length);
+        for (RecordComponent component : components) {
+            properties.add(Property.of(component.getName(), component.getType(), metadata, converters));
+        }
+        Class<?>[] parameters = Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new);
+        try {
+            Constructor<T> constructor = type.getDeclaredConstructor(parameters);
+            constructor.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor)
+                    .asSpreader(Object[].class, parameters.length);
+            return new ProjectionMapper<>(type, properties, values -> invoke(handle, type, values));
+        } catch (ReflectiveOperationException | RuntimeException exception) {
+            throw new MappingException("It cannot access the record constructor of the projection: "
+                    + type.getName(), exception);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T invoke(MethodHandle handle, Class<T> type, Object[] values) {
+        try {
+            return (T) handle.invoke(values);
+        } catch (RuntimeException exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new MappingException("It cannot create the projection: " + type.getName(), throwable);
+        }
+    }
+
+    private static <T> ProjectionMapper<T> proxy(Class<T> type, EntityMetadata metadata, Converters converters) {
+        Map<Method, Integer> indexes = new HashMap<>();
+        List<Property> properties = new ArrayList<>();
+        for (Method method : type.getMethods()) {
+            if (!Modifier.isAbstract(method.getModifiers())) {
+                continue;
+            }
+            if (method.getParameterCount() > 0 || void.class.equals(method.getReturnType())) {
+                throw new MappingException("The projection method must be a getter: " + method);
+            }
+            indexes.put(method, properties.size());
+            properties.add(Property.of(property(method.getName()), method.getReturnType(), metadata, converters));
+        }
+        List<Property> immutable = Collections.unmodifiableList(properties);
+        ClassLoader loader = type.getClassLoader();
+        Class<?>[] interfaces = {type};
+        return new ProjectionMapper<>(type, immutable, values -> type.cast(Proxy.newProxyInstance(loader, interfaces,
+                new ProjectionHandler(type, immutable, indexes, values))));
+    }
+
+    private static String property(String method) {
+        if (method.startsWith("get") && method.length() > 3) {
+            return Character.toLowerCase(method.charAt(3)) + method.substring(4);
+        } else if (method.startsWith("is") && method.length() > 2) {
+            return Character.toLowerCase(method.charAt(2)) + method.substring(3);
+        }
+        return method;
+    }
+
+    private record Property(String name, String column, Class<?> type, FieldMetadata field,
+                            AttributeConverter<Object, Object> converter) {
+
+        Object value(Element element) {
+            Value value = element.value();
+            if (converter != null) {
+                Object attribute = converter.convertToEntityAttribute(value.isInstanceOf(List.class) ? element
+                        : value.get());
+                return cast(Value.of(attribute));
+            } else if (field != null && MappingType.DEFAULT.equals(field.mappingType())
+                    && type.isAssignableFrom(field.type())) {
+                return field.value(value);
+            }
+            return cast(value);
+        }
+
+        Object empty() {
+            return PRIMITIVE_DEFAULTS.get(type);
+        }
+
+        private Object cast(Value value) {
+            Object result = value.get();
+            if (result == null || type.isInstance(result)) {
+                return result;
+            }
+            return value.get(type);
+        }
+
+        @SuppressWarnings("unchecked")
+        static Property of(String name, Class<?> type, EntityMetadata metadata, Converters converters) {
+            Optional<FieldMetadata> field = Optional.ofNullable(metadata).flatMap(m -> m.fieldMapping(name));
+            String column = field.map(FieldMetadata::name).orElse(name);
+            AttributeConverter<Object, Object> converter = field.filter(f -> f.converter().isPresent())
+                    .map(f -> (AttributeConverter<Object, Object>) converters.get(f))
+                    .orElse(null);
+            return new Property(name, column, type, field.orElse(null), converter);
+        }
+    }
+
+    private record ProjectionHandler(Class<?> type, List<Property> properties, Map<Method, Integer> indexes,
+                                     Object[] values) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Integer index = indexes.get(method);
+            if (index != null) {
+                return values[index];
+            } else if (method.isDefault()) {
+                return InvocationHandler.invokeDefault(proxy, method, args);
+            }
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0] || args[0] != null && Proxy.isProxyClass(args[0].getClass())
+                        && Proxy.getInvocationHandler(args[0]) instanceof ProjectionHandler other
+                        && type.equals(other.type) && Arrays.equals(values, other.values);
+                case "hashCode" -> Arrays.hashCode(values);
+                case "toString" -> toString(proxy);
+                default -> throw new UnsupportedOperationException("The projection does not support the method: "
+                        + method);
+            };
+        }
+
+        private String toString(Object proxy) {
+            Map<String, Object> fields = new LinkedHashMap<>();
+            for (int index = 0; index < values.length; index++) {
+                fields.put(properties.get(index).name(), values[index]);
+            }
+            return type.getSimpleName() + fields;
+        }
+    }
+
+    private record ProjectionQuery(SelectQuery query, List<String> columns) implements SelectQuery {
+
+        @Override
+        public long limit() {
+            return query.limit();
+        }
+
+        @Override
+        public long skip() {
+            return query.skip();
+        }
+
+        @Override
+        public String name() {
+            return query.name();
+        }
+
+        @Override
+        public Optional<CriteriaCondition> condition() {
+            return query.condition();
+        }
+
+        @Override
+        public List<Sort<?>> sorts() {
+            return query.sorts();
+        }
+    }
+}
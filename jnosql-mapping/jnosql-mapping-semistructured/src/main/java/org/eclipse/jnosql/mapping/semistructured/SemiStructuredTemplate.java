@@ -158,6 +158,27 @@ public interface SemiStructuredTemplate extends Template {
      */
     <T> Stream<T> select(SelectQuery query);
 
+    /**
+     * Finds the results of the query as a projection: a Java record or an interface with getters whose
+     * components are a subset of the entity fields. Only the projection columns are selected from the database,
+     * and the projection is built directly from them without converting the entity.
+     *
+     * <pre>{@code
+     * record PersonSummary(String name, int age) {}
+     *
+     * Stream<PersonSummary> summaries = template.select(SelectQuery.select().from("Person").build(),
+     *         PersonSummary.class);
+     * }</pre>
+     *
+     * @param query      the query, its columns are replaced by the projection ones
+     * @param projection the record or interface type
+     * @param <T>        the projection type
+     * @return the projections found by query
+     * @throws NullPointerException when either query or projection is null
+     * @throws jakarta.data.exceptions.MappingException when the projection is neither a record nor an interface
+     */
+    <T> Stream<T> select(SelectQuery query, Class<T> projection);
+
     /**
      * Returns the number of items in the column family that match a specified query.
      * @param query the query
@@ -222,4 +243,13 @@ public interface SemiStructuredTemplate extends Template {
      * @throws IllegalStateException    if the cursor-based pagination is used without any order key specified
      */
     <T> CursoredPage<T> selectCursor(SelectQuery query, PageRequest pageRequest);
+
+    /**
+     * Opens a {@link TemplateSession} bound to the current thread. Until the session is closed, this template
+     * returns the already loaded instances on {@code find} by id and batches the updates.
+     *
+     * @return a new {@link TemplateSession} instance
+     * @throws IllegalStateException when there is already an open session in the current thread
+     */
+    TemplateSession session();
 }
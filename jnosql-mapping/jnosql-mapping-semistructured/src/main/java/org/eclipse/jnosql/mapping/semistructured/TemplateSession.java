@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+/**
+ * A unit of work bound to the current thread, opened by {@link SemiStructuredTemplate#session()}.
+ *
+ * <p>While the session is open, the template keeps an identity map of the entities it has loaded or written:
+ * a {@code find} by an id already in the map returns the same instance without querying the database, and
+ * repeated ids within a single request are fetched only once.</p>
+ *
+ * <p>The updates through the template are not sent to the database immediately; they are tracked, coalesced
+ * by id, and written as one batch at {@link #flush()}, before any query that might read them, or when the
+ * session is closed. Inserts and deletes are executed immediately.</p>
+ *
+ * <pre>{@code
+ * try (TemplateSession session = template.session()) {
+ *     Person person = template.find(Person.class, id).orElseThrow();
+ *     person.setName("Ada");
+ *     template.update(person);
+ * }
+ * }</pre>
+ *
+ * <p>A session is not thread-safe, and it must be closed by the thread that opened it.</p>
+ */
+public interface TemplateSession extends AutoCloseable {
+
+    /**
+     * Writes every pending update to the database as a single batch.
+     */
+    void flush();
+
+    /**
+     * Discards the identity map and every pending update, without writing them.
+     */
+    void clear();
+
+    /**
+     * Checks whether the entity of the given type and id is in the identity map.
+     *
+     * @param type the entity type
+     * @param id   the entity id
+     * @return true if the entity was loaded or written in this session
+     * @throws NullPointerException when either type or id is null
+     */
+    boolean contains(Class<?> type, Object id);
+
+    /**
+     * Returns the number of entities in the identity map.
+     *
+     * @return the number of managed entities
+     */
+    int size();
+
+    /**
+     * Flushes the pending updates and unbinds the session from the current thread.
+     */
+    @Override
+    void close();
+}
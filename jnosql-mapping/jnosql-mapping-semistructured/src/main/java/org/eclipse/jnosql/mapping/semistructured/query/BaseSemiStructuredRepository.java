@@ -39,11 +39,14 @@ import org.eclipse.jnosql.mapping.semistructured.MappingQuery;
 import org.eclipse.jnosql.mapping.semistructured.SemiStructuredTemplate;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 /**
@@ -137,6 +140,10 @@ public abstract class BaseSemiStructuredRepository<T, K> extends AbstractReposit
 
     @SuppressWarnings("unchecked")
     protected Object executeFindByQuery(Method method, Object[] args, Class<?> typeClass, org.eclipse.jnosql.communication.semistructured.SelectQuery query) {
+        Optional<Class<?>> projection = projection(method, typeClass);
+        if (projection.isPresent()) {
+            return executeProjection(method, args, projection.orElseThrow(), query);
+        }
         DynamicReturn<?> dynamicReturn = DynamicReturn.builder()
                 .withClassSource(typeClass)
                 .withMethodSource(method)
@@ -150,6 +157,37 @@ public abstract class BaseSemiStructuredRepository<T, K> extends AbstractReposit
         return dynamicReturn.execute();
     }
 
+    /**
+     * Executes the query returning a projection, a record or an interface with a subset of the entity fields,
+     * through {@link SemiStructuredTemplate#select(org.eclipse.jnosql.communication.semistructured.SelectQuery, Class)}.
+     *
+     * @param method     the repository method
+     * @param args       the method arguments
+     * @param projection the projection type
+     * @param query      the query
+     * @return the method result
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected Object executeProjection(Method method, Object[] args, Class<?> projection,
+                                       org.eclipse.jnosql.communication.semistructured.SelectQuery query) {
+        Supplier<Stream<?>> result = () -> template().select(query, projection);
+        Supplier<Optional<?>> singleResult = DynamicReturn.toSingleResult(method).apply(result);
+        Function<PageRequest, Stream<?>> streamPagination = p -> template().select(query, projection);
+        Function<PageRequest, Optional<?>> singleResultPagination = p -> singleResult.get();
+        Function<PageRequest, Page<?>> page = p -> NoSQLPage.of(template().select(query, projection).toList(), p);
+        DynamicReturn<?> dynamicReturn = DynamicReturn.builder()
+                .withClassSource(projection)
+                .withMethodSource(method)
+                .withResult(result)
+                .withSingleResult(singleResult)
+                .withPagination(DynamicReturn.findPageRequest(args))
+                .withStreamPagination(streamPagination)
+                .withSingleResultPagination(singleResultPagination)
+                .withPage(page)
+                .build();
+        return dynamicReturn.execute();
+    }
+
     private org.eclipse.jnosql.communication.semistructured.SelectQuery includeInheritance(org.eclipse.jnosql.communication.semistructured.SelectQuery query){
         EntityMetadata metadata = this.entityMetadata();
         if(metadata.inheritance().isPresent()){
@@ -241,6 +279,21 @@ public abstract class BaseSemiStructuredRepository<T, K> extends AbstractReposit
         }).orElse(documentQuery);
     }
 
+    private static Optional<Class<?>> projection(Method method, Class<?> entity) {
+        Type type = method.getGenericReturnType();
+        if (type instanceof ParameterizedType parameterized && parameterized.getActualTypeArguments().length > 0) {
+            type = parameterized.getActualTypeArguments()[0];
+        } else if (type instanceof Class<?> array && array.isArray()) {
+            type = array.getComponentType();
+        }
+        if (type instanceof Class<?> projection && !projection.isAssignableFrom(entity)
+                && !projection.getName().startsWith("java.") && !projection.getName().startsWith("jakarta.")
+                && (projection.isRecord() || projection.isInterface() && !projection.isAnnotation())) {
+            return Optional.of(projection);
+        }
+        return Optional.empty();
+    }
+
     protected Function<String, String> sortParser() {
         return property -> parser().fireField(entityMetadata().name(), property);
     }
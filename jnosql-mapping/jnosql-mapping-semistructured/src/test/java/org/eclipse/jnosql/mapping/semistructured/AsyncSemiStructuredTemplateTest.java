@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import org.assertj.core.api.Assertions;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.mapping.core.async.AsyncExecutor;
+import org.eclipse.jnosql.mapping.semistructured.entities.Person;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AsyncSemiStructuredTemplateTest {
+
+    private SemiStructuredTemplate template;
+
+    private AsyncExecutor executor;
+
+    private AsyncSemiStructuredTemplate async;
+
+    @BeforeEach
+    void setUp() {
+        this.template = Mockito.mock(SemiStructuredTemplate.class);
+        this.executor = AsyncExecutor.of(4);
+        this.async = AsyncSemiStructuredTemplate.of(template, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    void shouldInsert() {
+        Person person = Person.builder().withId(10L).withName("Ada").build();
+        when(template.insert(person)).thenReturn(person);
+
+        Assertions.assertThat(async.insert(person).toCompletableFuture().join()).isSameAs(person);
+    }
+
+    @Test
+    void shouldFind() {
+        Person person = Person.builder().withId(10L).withName("Ada").build();
+        when(template.find(Person.class, 10L)).thenReturn(Optional.of(person));
+
+        Assertions.assertThat(async.find(Person.class, 10L).toCompletableFuture().join()).contains(person);
+    }
+
+    @Test
+    void shouldReadSelectAtExecutor() {
+        SelectQuery query = SelectQuery.select().from("Person").build();
+        Person person = Person.builder().withId(10L).withName("Ada").build();
+        when(template.select(query)).thenReturn(Stream.of(person));
+
+        List<Person> people = async.<Person>select(query).toCompletableFuture().join();
+
+        Assertions.assertThat(people).containsExactly(person);
+    }
+
+    @Test
+    void shouldDelete() {
+        async.delete(Person.class, 10L).toCompletableFuture().join();
+        verify(template).delete(Person.class, 10L);
+    }
+
+    @Test
+    void shouldPropagateError() {
+        SelectQuery query = SelectQuery.select().from("Person").build();
+        when(template.count(query)).thenThrow(new UnsupportedOperationException("count"));
+
+        Assertions.assertThatThrownBy(() -> async.count(query).toCompletableFuture().join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        Assertions.assertThatThrownBy(() -> async.insert(null)).isInstanceOf(NullPointerException.class);
+        Assertions.assertThatThrownBy(() -> AsyncSemiStructuredTemplate.of(null, executor))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
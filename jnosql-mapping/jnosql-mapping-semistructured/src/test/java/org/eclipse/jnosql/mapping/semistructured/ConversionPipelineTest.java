@@ -0,0 +1,126 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import org.assertj.core.api.Assertions;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class ConversionPipelineTest {
+
+    private static final Function<CommunicationEntity, Integer> CONVERTER =
+            e -> e.find("index").orElseThrow().get(Integer.class);
+
+    @Test
+    void shouldBeSequentialByDefault() {
+        ConversionPipeline pipeline = ConversionPipeline.of(Settings.builder().build());
+        Assertions.assertThat(pipeline).isSameAs(ConversionPipeline.sequential());
+    }
+
+    @Test
+    void shouldCreateFromSettings() {
+        ConversionPipeline pipeline = ConversionPipeline.of(Settings.of(Map.<String, Object>of(
+                "jnosql.conversion.parallelism", 4, "jnosql.conversion.batch.size", 10)));
+        assertSoftly(soft -> {
+            soft.assertThat(pipeline.parallelism()).isEqualTo(4);
+            soft.assertThat(pipeline.batchSize()).isEqualTo(10);
+        });
+    }
+
+    @Test
+    void shouldKeepOrder() {
+        ConversionPipeline pipeline = ConversionPipeline.of(4, 7);
+        List<Integer> result = pipeline.apply(entities(1_000), CONVERTER).toList();
+        Assertions.assertThat(result).containsExactlyElementsOf(IntStream.range(0, 1_000).boxed().toList());
+    }
+
+    @Test
+    void shouldConvertOnPool() {
+        ConversionPipeline pipeline = ConversionPipeline.of(4, 8);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        pipeline.apply(entities(500), e -> {
+            threads.add(Thread.currentThread().getName());
+            return CONVERTER.apply(e);
+        }).toList();
+        Assertions.assertThat(threads).doesNotContain(Thread.currentThread().getName());
+    }
+
+    @Test
+    void shouldBeLazy() {
+        ConversionPipeline pipeline = ConversionPipeline.of(2, 4);
+        AtomicBoolean read = new AtomicBoolean();
+        Stream<Integer> result = pipeline.apply(entities(10).peek(e -> read.set(true)), CONVERTER);
+        Assertions.assertThat(read).isFalse();
+        Assertions.assertThat(result.findFirst()).contains(0);
+    }
+
+    @Test
+    void shouldPropagateError() {
+        ConversionPipeline pipeline = ConversionPipeline.of(2, 4);
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Integer> result = pipeline.apply(entities(10).onClose(() -> closed.set(true)), e -> {
+            throw new IllegalStateException("conversion");
+        });
+        Assertions.assertThatThrownBy(result::toList).isInstanceOf(IllegalStateException.class);
+        Assertions.assertThat(closed).isTrue();
+    }
+
+    @Test
+    void shouldShutDownPoolOnClose() {
+        ConversionPipeline pipeline = ConversionPipeline.of(2, 4);
+        pipeline.close();
+        Stream<Integer> result = pipeline.apply(entities(10), CONVERTER);
+        Assertions.assertThatThrownBy(result::toList).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void shouldShareThePipelineUntilClosed() {
+        Settings settings = Settings.of(Map.<String, Object>of("jnosql.conversion.parallelism", 2));
+        try {
+            ConversionPipeline pipeline = ConversionPipeline.shared(settings);
+            Assertions.assertThat(ConversionPipeline.shared(settings)).isSameAs(pipeline);
+
+            new ConversionPipelineLifecycle().close(new Object());
+
+            Stream<Integer> result = pipeline.apply(entities(10), CONVERTER);
+            Assertions.assertThatThrownBy(result::toList).isInstanceOf(RejectedExecutionException.class);
+            Assertions.assertThat(ConversionPipeline.shared(settings)).isNotSameAs(pipeline)
+                    .extracting(ConversionPipeline::parallelism).isEqualTo(2);
+        } finally {
+            ConversionPipeline.closeShared();
+        }
+    }
+
+    @Test
+    void shouldReturnErrorWhenBatchSizeIsInvalid() {
+        Assertions.assertThatThrownBy(() -> ConversionPipeline.of(2, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Stream<CommunicationEntity> entities(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> CommunicationEntity.of("Person", List.of(Element.of("index", i))));
+    }
+}
@@ -275,6 +275,66 @@ class DefaultSemiStructuredTemplateTest {
         verify(managerMock).exists(query);
     }
 
+    @Test
+    void shouldCountWithIdAsKey() {
+        SelectQuery query = select().from("Person").where("name").eq("Ada").orderBy("name").asc().build();
+        template.count(query);
+        var captor = ArgumentCaptor.forClass(SelectQuery.class);
+        verify(managerMock).count(captor.capture());
+        SoftAssertions.assertSoftly(soft -> {
+            var count = captor.getValue();
+            soft.assertThat(count).isEqualTo(query);
+            soft.assertThat(count.keys()).containsExactly("_id");
+            soft.assertThat(count.columns()).isEmpty();
+            soft.assertThat(count.sorts()).isEqualTo(query.sorts());
+        });
+    }
+
+    @Test
+    void shouldCheckExistsWithIdAsKey() {
+        SelectQuery query = select().from("Person").where("name").eq("Ada").build();
+        template.exists(query);
+        var captor = ArgumentCaptor.forClass(SelectQuery.class);
+        verify(managerMock).exists(captor.capture());
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(captor.getValue()).isEqualTo(query);
+            soft.assertThat(captor.getValue().keys()).containsExactly("_id");
+        });
+    }
+
+    @Test
+    void shouldGiveNativeCountTheOriginalQuery() {
+        SelectQuery query = select().from("Person").where("name").eq("Ada").orderBy("name").asc().limit(10)
+                .build();
+        Mockito.when(managerMock.count(any(SelectQuery.class))).thenReturn(3L);
+        Mockito.when(managerMock.exists(any(SelectQuery.class))).thenReturn(true);
+
+        long count = template.count(query);
+        boolean exists = template.exists(query);
+
+        var captor = ArgumentCaptor.forClass(SelectQuery.class);
+        verify(managerMock).count(captor.capture());
+        verify(managerMock).exists(captor.capture());
+        verify(managerMock, Mockito.never()).select(any(SelectQuery.class));
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(count).isEqualTo(3L);
+            soft.assertThat(exists).isTrue();
+            soft.assertThat(captor.getAllValues()).allSatisfy(q -> {
+                soft.assertThat(q).isEqualTo(query);
+                soft.assertThat(q.columns()).isEmpty();
+                soft.assertThat(q.sorts()).isEqualTo(query.sorts());
+                soft.assertThat(q.limit()).isEqualTo(10L);
+            });
+        });
+    }
+
+    @Test
+    void shouldKeepColumnsWhenCount() {
+        SelectQuery query = select("name").from("Person").build();
+        template.count(query);
+        verify(managerMock).count(query);
+    }
+
     @Test
     void shouldReturnSingleResult() {
         CommunicationEntity columnEntity = CommunicationEntity.of("Person");
@@ -459,6 +519,54 @@ class DefaultSemiStructuredTemplateTest {
         assertEquals("Person", query.name());
     }
 
+    @Test
+    void shouldRejectAggregateQuery() {
+        String query = "SELECT name, SUM(age) FROM Person GROUP BY name";
+        PreparedStatement preparedStatement = template.prepare(query);
+        SelectQuery aggregate = Mockito.mock(SelectQuery.class);
+        Mockito.when(aggregate.isAggregate()).thenReturn(true);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(() -> template.query(query)).isInstanceOf(UnsupportedOperationException.class)
+                    .hasMessageContaining("DatabaseManager#aggregate");
+            soft.assertThatThrownBy(preparedStatement::result).isInstanceOf(UnsupportedOperationException.class);
+            soft.assertThatThrownBy(preparedStatement::singleResult)
+                    .isInstanceOf(UnsupportedOperationException.class);
+            soft.assertThatThrownBy(() -> template.select(aggregate)).isInstanceOf(UnsupportedOperationException.class);
+        });
+        Mockito.verifyNoInteractions(managerMock);
+    }
+
+    @Test
+    void shouldNormalizeConditionBeforeTheManager() {
+        CriteriaCondition name = CriteriaCondition.eq("name", "Ada");
+        CriteriaCondition age = CriteriaCondition.gt("age", 10);
+        CriteriaCondition nested = CriteriaCondition.and(CriteriaCondition.and(name, age), name);
+        CriteriaCondition normalized = CriteriaCondition.and(name, age);
+        SelectQuery query = SelectQuery.builder().from("Person").where(nested).build();
+        Mockito.when(managerMock.select(any(SelectQuery.class))).thenReturn(Stream.empty());
+
+        template.select(query).toList();
+        template.count(query);
+        template.exists(query);
+        template.delete(DeleteQuery.builder().from("Person").where(nested).build());
+
+        var select = ArgumentCaptor.forClass(SelectQuery.class);
+        var count = ArgumentCaptor.forClass(SelectQuery.class);
+        var exists = ArgumentCaptor.forClass(SelectQuery.class);
+        var delete = ArgumentCaptor.forClass(DeleteQuery.class);
+        verify(managerMock).select(select.capture());
+        verify(managerMock).count(count.capture());
+        verify(managerMock).exists(exists.capture());
+        verify(managerMock).delete(delete.capture());
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(select.getValue().condition()).contains(normalized);
+            soft.assertThat(count.getValue().condition()).contains(normalized);
+            soft.assertThat(exists.getValue().condition()).contains(normalized);
+            soft.assertThat(delete.getValue().condition()).contains(normalized);
+        });
+    }
+
     @Test
     void shouldCount() {
         template.count("Person");
@@ -473,6 +581,8 @@ class DefaultSemiStructuredTemplateTest {
         var query = captor.getValue();
         SoftAssertions.assertSoftly(soft ->{
             soft.assertThat(query.condition()).isEmpty();
+            soft.assertThat(query.columns()).isEmpty();
+            soft.assertThat(query.keys()).containsExactly("_id");
         });
     }
 
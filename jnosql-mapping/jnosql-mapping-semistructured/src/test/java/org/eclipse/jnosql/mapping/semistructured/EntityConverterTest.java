@@ -115,6 +115,23 @@ class EntityConverterTest {
 
     }
 
+    @Test
+    void shouldConvertPrimitiveFieldsToPrimitiveValues() {
+        Person person = Person.builder().withAge(36)
+                .withId(12)
+                .withName("Otavio").build();
+
+        CommunicationEntity entity = converter.toCommunication(person);
+        Value id = entity.find("_id").orElseThrow().value();
+        Value age = entity.find("age").orElseThrow().value();
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(id).isInstanceOf(Value.ofLong(0L).getClass()).isEqualTo(Value.of(12L));
+            softly.assertThat(id.getAsLong()).isEqualTo(12L);
+            softly.assertThat(age).isInstanceOf(Value.ofInt(0).getClass()).isEqualTo(Value.of(36));
+            softly.assertThat(entity.find("name").orElseThrow().value()).isEqualTo(Value.of("Otavio"));
+        });
+    }
+
     @Test
     void shouldConvertColumnEntityFromEntity() {
 
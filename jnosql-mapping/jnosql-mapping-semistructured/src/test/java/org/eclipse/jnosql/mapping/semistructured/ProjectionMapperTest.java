@@ -0,0 +1,180 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import jakarta.data.exceptions.MappingException;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import org.assertj.core.api.Assertions;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.eclipse.jnosql.mapping.semistructured.entities.Money;
+import org.eclipse.jnosql.mapping.semistructured.entities.Person;
+import org.eclipse.jnosql.mapping.semistructured.entities.Worker;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, EntityConverter.class})
+@AddPackages(MockProducer.class)
+@AddPackages(Reflections.class)
+@AddExtensions({EntityMetadataExtension.class})
+class ProjectionMapperTest {
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    @Inject
+    private Converters converters;
+
+    @Inject
+    private EntityConverter converter;
+
+    @Test
+    void shouldMapRecord() {
+        var mapper = ProjectionMapper.of(PersonSummary.class, entities.get(Person.class), converters);
+        var entity = CommunicationEntity.of("Person", List.of(Element.of("_id", 10L),
+                Element.of("name", "Ada"), Element.of("age", "20")));
+
+        PersonSummary summary = mapper.apply(entity);
+
+        assertSoftly(soft -> {
+            soft.assertThat(summary).isEqualTo(new PersonSummary(10L, "Ada", 20));
+            soft.assertThat(mapper.columns()).containsExactly("_id", "name", "age");
+        });
+    }
+
+    @Test
+    void shouldUseDefaultValueWhenPrimitiveIsMissing() {
+        var mapper = ProjectionMapper.of(PersonSummary.class, entities.get(Person.class), converters);
+
+        PersonSummary summary = mapper.apply(CommunicationEntity.of("Person", List.of(Element.of("name", "Ada"))));
+
+        Assertions.assertThat(summary).isEqualTo(new PersonSummary(0L, "Ada", 0));
+    }
+
+    @Test
+    void shouldMapInterface() {
+        var mapper = ProjectionMapper.of(PersonName.class, entities.get(Person.class), converters);
+
+        PersonName name = mapper.apply(CommunicationEntity.of("Person", List.of(Element.of("name", "Ada"))));
+        PersonName same = mapper.apply(CommunicationEntity.of("Person", List.of(Element.of("name", "Ada"))));
+
+        assertSoftly(soft -> {
+            soft.assertThat(name.getName()).isEqualTo("Ada");
+            soft.assertThat(name.greeting()).isEqualTo("Hello, Ada");
+            soft.assertThat(name).isEqualTo(same).hasSameHashCodeAs(same);
+            soft.assertThat(name.toString()).contains("name=Ada");
+            soft.assertThat(mapper.columns()).containsExactly("name");
+        });
+    }
+
+    @Test
+    void shouldApplyAttributeConverter() {
+        var mapper = ProjectionMapper.of(WorkerSalary.class, entities.get(Worker.class), converters);
+
+        WorkerSalary salary = mapper.apply(CommunicationEntity.of("Worker",
+                List.of(Element.of("name", "Ada"), Element.of("money", "USD 10"))));
+
+        assertSoftly(soft -> {
+            soft.assertThat(salary.salary()).isEqualTo(new Money("USD", BigDecimal.TEN));
+            soft.assertThat(mapper.columns()).containsExactly("name", "money");
+        });
+    }
+
+    @Test
+    void shouldUseComponentNameWhenEntityIsNotMapped() {
+        var mapper = ProjectionMapper.of(PersonName.class, null, converters);
+        Assertions.assertThat(mapper.columns()).containsExactly("name");
+    }
+
+    @Test
+    void shouldSelectOnlyProjectionColumns() {
+        var mapper = ProjectionMapper.of(PersonName.class, entities.get(Person.class), converters);
+        SelectQuery query = SelectQuery.select().from("Person").where("age").gt(10).orderBy("name").asc()
+                .limit(5).build();
+
+        SelectQuery projection = mapper.select(query);
+
+        assertSoftly(soft -> {
+            soft.assertThat(projection.columns()).containsExactly("name");
+            soft.assertThat(projection.name()).isEqualTo("Person");
+            soft.assertThat(projection.condition()).isEqualTo(query.condition());
+            soft.assertThat(projection.sorts()).isEqualTo(query.sorts());
+            soft.assertThat(projection.limit()).isEqualTo(5L);
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenTypeIsNotProjection() {
+        Assertions.assertThatThrownBy(() -> ProjectionMapper.of(Person.class, entities.get(Person.class), converters))
+                .isInstanceOf(MappingException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldSelectProjectionFromTemplate() {
+        DatabaseManager manager = Mockito.mock(DatabaseManager.class);
+        Instance<DatabaseManager> instance = Mockito.mock(Instance.class);
+        Mockito.when(instance.get()).thenReturn(manager);
+        Mockito.when(manager.select(any(SelectQuery.class))).thenAnswer(i -> Stream.of(CommunicationEntity.of("Person",
+                List.of(Element.of("_id", 10L), Element.of("name", "Ada"), Element.of("age", 20)))));
+        var template = new DefaultSemiStructuredTemplate(converter, instance,
+                Mockito.mock(EventPersistManager.class), entities, converters);
+
+        List<PersonSummary> summaries = template.select(SelectQuery.select().from("Person").build(),
+                PersonSummary.class).toList();
+
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        verify(manager).select(captor.capture());
+        assertSoftly(soft -> {
+            soft.assertThat(summaries).containsExactly(new PersonSummary(10L, "Ada", 20));
+            soft.assertThat(captor.getValue().columns()).containsExactly("_id", "name", "age");
+        });
+    }
+
+    record PersonSummary(long id, String name, int age) {
+    }
+
+    record WorkerSalary(String name, Money salary) {
+    }
+
+    interface PersonName {
+
+        String getName();
+
+        default String greeting() {
+            return "Hello, " + getName();
+        }
+    }
+}
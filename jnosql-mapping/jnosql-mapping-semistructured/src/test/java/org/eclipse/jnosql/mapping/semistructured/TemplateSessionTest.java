@@ -0,0 +1,220 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import org.assertj.core.api.Assertions;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.async.AsyncExecutor;
+import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.eclipse.jnosql.mapping.semistructured.entities.Person;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, EntityConverter.class})
+@AddPackages(MockProducer.class)
+@AddPackages(Reflections.class)
+@AddExtensions({EntityMetadataExtension.class})
+class TemplateSessionTest {
+
+    @Inject
+    private EntityConverter converter;
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    @Inject
+    private Converters converters;
+
+    private DatabaseManager managerMock;
+
+    private DefaultSemiStructuredTemplate template;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        managerMock = Mockito.mock(DatabaseManager.class);
+        EventPersistManager eventPersistManager = Mockito.mock(EventPersistManager.class);
+        Instance<DatabaseManager> instance = Mockito.mock(Instance.class);
+        Mockito.when(instance.get()).thenReturn(managerMock);
+        Mockito.when(managerMock.select(any(SelectQuery.class)))
+                .thenAnswer(i -> Stream.of(CommunicationEntity.of("Person",
+                        List.of(Element.of("_id", 10L), Element.of("name", "Ada")))));
+        this.template = new DefaultSemiStructuredTemplate(converter, instance,
+                eventPersistManager, entities, converters);
+    }
+
+    @Test
+    void shouldReturnSameInstanceInSession() {
+        try (TemplateSession session = template.session()) {
+            Person first = template.find(Person.class, 10L).orElseThrow();
+            Person second = template.find(Person.class, "10").orElseThrow();
+
+            Assertions.assertThat(second).isSameAs(first);
+            Assertions.assertThat(session.contains(Person.class, 10L)).isTrue();
+            Assertions.assertThat(session.size()).isEqualTo(1);
+        }
+        verify(managerMock, times(1)).select(any(SelectQuery.class));
+    }
+
+    @Test
+    void shouldQueryWithoutSession() {
+        template.find(Person.class, 10L);
+        template.find(Person.class, 10L);
+        verify(managerMock, times(2)).select(any(SelectQuery.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldFlushUpdatesAsBatch() {
+        try (TemplateSession session = template.session()) {
+            Person person = template.find(Person.class, 10L).orElseThrow();
+            template.update(person);
+            template.update(person);
+            template.update(Person.builder().withId(20L).withName("Grace").build());
+            verify(managerMock, never()).update(any(Iterable.class));
+        }
+        ArgumentCaptor<Iterable<CommunicationEntity>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(managerMock).update(captor.capture());
+        verify(managerMock, never()).update(any(CommunicationEntity.class));
+        Assertions.assertThat(captor.getValue()).hasSize(2);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldFlushBeforeQuery() {
+        try (TemplateSession session = template.session()) {
+            template.update(Person.builder().withId(20L).withName("Grace").build());
+            template.select(SelectQuery.select().from("Person").build()).toList();
+            verify(managerMock).update(any(Iterable.class));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldFlushBeforePreparedStatement() {
+        try (TemplateSession session = template.session()) {
+            template.update(Person.builder().withId(20L).withName("Grace").build());
+            template.prepare("FROM Person WHERE name = :name").bind("name", "Ada").result().toList();
+            verify(managerMock).update(any(Iterable.class));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldApplyFlushResultToEntities() {
+        Mockito.when(managerMock.update(any(Iterable.class)))
+                .thenReturn(List.of(CommunicationEntity.of("Person",
+                        List.of(Element.of("_id", 20L), Element.of("name", "Grace Hopper")))));
+        Person person = Person.builder().withId(20L).withName("Grace").build();
+        try (TemplateSession session = template.session()) {
+            template.update(person);
+        }
+        Assertions.assertThat(person.getName()).isEqualTo("Grace Hopper");
+    }
+
+    @Test
+    void shouldEvictOnQueryDelete() {
+        try (TemplateSession session = template.session()) {
+            template.find(Person.class, 10L);
+            template.query("DELETE FROM Person");
+            Assertions.assertThat(session.contains(Person.class, 10L)).isFalse();
+        }
+    }
+
+    @Test
+    void shouldEvictOnQueryDeleteAfterWhitespace() {
+        try (TemplateSession session = template.session()) {
+            template.find(Person.class, 10L);
+            template.query("\n  delete FROM Person");
+            Assertions.assertThat(session.contains(Person.class, 10L)).isFalse();
+        }
+        verify(managerMock).delete(any(DeleteQuery.class));
+    }
+
+    @Test
+    void shouldConvertOnCallerThreadInSession() {
+        try (TemplateSession session = template.session()) {
+            Assertions.assertThat(template.pipeline()).isSameAs(ConversionPipeline.sequential());
+        }
+    }
+
+    @Test
+    void shouldEvictOnPreparedDelete() {
+        try (TemplateSession session = template.session()) {
+            template.find(Person.class, 10L);
+            template.prepare("DELETE FROM Person WHERE name = :name").bind("name", "Ada").result();
+            Assertions.assertThat(session.contains(Person.class, 10L)).isFalse();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldDiscardOnClear() {
+        try (TemplateSession session = template.session()) {
+            template.update(Person.builder().withId(20L).withName("Grace").build());
+            session.clear();
+            Assertions.assertThat(session.size()).isZero();
+        }
+        verify(managerMock, never()).update(any(Iterable.class));
+    }
+
+    @Test
+    void shouldEvictOnDelete() {
+        try (TemplateSession session = template.session()) {
+            template.find(Person.class, 10L);
+            template.delete(Person.class, 10L);
+            Assertions.assertThat(session.contains(Person.class, 10L)).isFalse();
+        }
+    }
+
+    @Test
+    void shouldRejectAsyncCallsInSession() {
+        try (AsyncExecutor executor = AsyncExecutor.of(1)) {
+            AsyncSemiStructuredTemplate async = AsyncSemiStructuredTemplate.of(template, executor);
+            try (TemplateSession session = template.session()) {
+                Assertions.assertThatThrownBy(() -> async.find(Person.class, 10L))
+                        .isInstanceOf(IllegalStateException.class);
+            }
+            Assertions.assertThat(async.find(Person.class, 10L).toCompletableFuture().join()).isPresent();
+        }
+    }
+
+    @Test
+    void shouldReturnErrorWhenSessionIsAlreadyOpen() {
+        try (TemplateSession session = template.session()) {
+            Assertions.assertThatThrownBy(template::session).isInstanceOf(IllegalStateException.class);
+        }
+        template.session().close();
+    }
+}
@@ -956,6 +956,37 @@ class RepositoryProxyTest {
         });
     }
 
+    @Test
+    void shouldFindProjection() {
+        when(template.select(any(SelectQuery.class), eq(PersonSummary.class)))
+                .thenReturn(Stream.of(new PersonSummary("Ada", 20)));
+
+        List<PersonSummary> summaries = personRepository.findByAgeGreaterThanEqual(20);
+
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        verify(template).select(captor.capture(), eq(PersonSummary.class));
+        verify(template, never()).select(any(SelectQuery.class));
+        SelectQuery query = captor.getValue();
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(summaries).containsExactly(new PersonSummary("Ada", 20));
+            softly.assertThat(query.name()).isEqualTo("Person");
+            var element = query.condition().orElseThrow().element();
+            softly.assertThat(element.name()).isEqualTo("age");
+            softly.assertThat(element.get()).isEqualTo(20);
+        });
+    }
+
+    @Test
+    void shouldFindInterfaceProjection() {
+        PersonName name = () -> "Ada";
+        when(template.select(any(SelectQuery.class), eq(PersonName.class))).thenReturn(Stream.of(name));
+
+        Optional<PersonName> result = personRepository.findByAgeLessThanEqualOrderByName(20);
+
+        assertThat(result).containsSame(name);
+        verify(template).select(any(SelectQuery.class), eq(PersonName.class));
+    }
+
     public interface BaseQuery<T> {
 
         List<T> findByNameLessThan(String name);
@@ -1085,6 +1116,18 @@ class RepositoryProxyTest {
         @OrderBy(value = "name")
         @OrderBy(value = "age", descending = true)
         List<Person> find3(@By("name") String name);
+
+        List<PersonSummary> findByAgeGreaterThanEqual(Integer age);
+
+        Optional<PersonName> findByAgeLessThanEqualOrderByName(Integer age);
+    }
+
+    public record PersonSummary(String name, int age) {
+    }
+
+    public interface PersonName {
+
+        String getName();
     }
 
     public interface VendorRepository extends BasicRepository<Vendor, String> {